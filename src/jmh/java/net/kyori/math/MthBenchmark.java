@@ -0,0 +1,314 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MthBenchmark {
+  private static final int SIZE = 1024;
+  private double[] doubles;
+  private float[] floats;
+  private int[] ints;
+  private long[] longs;
+  private int[] results;
+
+  // random values, so that branches on the sign and on the bounds do not predict well
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    this.doubles = new double[SIZE];
+    this.floats = new float[SIZE];
+    this.ints = new int[SIZE];
+    this.longs = new long[SIZE];
+    this.results = new int[SIZE];
+    for(int i = 0; i < SIZE; i++) {
+      this.doubles[i] = random.nextDouble() * 2000d - 1000d;
+      this.floats[i] = random.nextFloat() * 2000f - 1000f;
+      this.ints[i] = random.nextInt(2000) - 1000;
+      this.longs[i] = random.nextInt(2000) - 1000L;
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void floorDouble(final Blackhole blackhole) {
+    final double[] doubles = this.doubles;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.floor(doubles[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void floorFloat(final Blackhole blackhole) {
+    final float[] floats = this.floats;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.floor(floats[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void floorDoubleJdk(final Blackhole blackhole) {
+    final double[] doubles = this.doubles;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume((int) Math.floor(doubles[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void ceilDouble(final Blackhole blackhole) {
+    final double[] doubles = this.doubles;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.ceil(doubles[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void ceilFloat(final Blackhole blackhole) {
+    final float[] floats = this.floats;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.ceil(floats[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void ceilDoubleJdk(final Blackhole blackhole) {
+    final double[] doubles = this.doubles;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume((int) Math.ceil(doubles[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void clampDouble(final Blackhole blackhole) {
+    final double[] doubles = this.doubles;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.clamp(doubles[i], -500d, 500d));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void clampFloat(final Blackhole blackhole) {
+    final float[] floats = this.floats;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.clamp(floats[i], -500f, 500f));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void clampInt(final Blackhole blackhole) {
+    final int[] ints = this.ints;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.clamp(ints[i], -500, 500));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void clampLong(final Blackhole blackhole) {
+    final long[] longs = this.longs;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.clamp(longs[i], -500L, 500L));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void sqrt(final Blackhole blackhole) {
+    final float[] floats = this.floats;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.sqrt(Math.abs(floats[i])));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void sinDouble(final Blackhole blackhole) {
+    final double[] doubles = this.doubles;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.fastSin(doubles[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void sinDoubleJdk(final Blackhole blackhole) {
+    final double[] doubles = this.doubles;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Math.sin(doubles[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void cosDouble(final Blackhole blackhole) {
+    final double[] doubles = this.doubles;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.fastCos(doubles[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void cosDoubleJdk(final Blackhole blackhole) {
+    final double[] doubles = this.doubles;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Math.cos(doubles[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void atan2Double(final Blackhole blackhole) {
+    final double[] doubles = this.doubles;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.fastAtan2(doubles[i], doubles[SIZE - 1 - i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void atan2DoubleJdk(final Blackhole blackhole) {
+    final double[] doubles = this.doubles;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Math.atan2(doubles[i], doubles[SIZE - 1 - i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void invSqrt(final Blackhole blackhole) {
+    final float[] floats = this.floats;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.fastInvSqrt(Math.abs(floats[i])));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void invSqrtJdk(final Blackhole blackhole) {
+    final float[] floats = this.floats;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(1f / (float) Math.sqrt(Math.abs(floats[i])));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void roundDouble(final Blackhole blackhole) {
+    final double[] doubles = this.doubles;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.round(doubles[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void roundDoubleJdk(final Blackhole blackhole) {
+    final double[] doubles = this.doubles;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume((int) Math.round(doubles[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void floorDiv(final Blackhole blackhole) {
+    final int[] ints = this.ints;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.floorDiv(ints[i], 16));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void floorDivJdk(final Blackhole blackhole) {
+    final int[] ints = this.ints;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Math.floorDiv(ints[i], 16));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void floorMod(final Blackhole blackhole) {
+    final int[] ints = this.ints;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Mth.floorMod(ints[i], 16));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void floorModJdk(final Blackhole blackhole) {
+    final int[] ints = this.ints;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(Math.floorMod(ints[i], 16));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public int[] floorArray() {
+    return Mth.floor(this.doubles, this.results);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public int[] floorArrayJdk() {
+    final double[] doubles = this.doubles;
+    final int[] results = this.results;
+    for(int i = 0; i < SIZE; i++) {
+      results[i] = (int) Math.floor(doubles[i]);
+    }
+    return results;
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.aabb;
+
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AabbdBufferBenchmark {
+  @Param({"1024", "65536"})
+  public int size;
+  private Vector3d[] mins;
+  private Vector3d[] maxs;
+  private Aabbd[] boxes;
+  private AabbdBuffer buffer;
+  private Aabbd query;
+  private long[] mask;
+  private int[] hits;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    this.mins = new Vector3d[this.size];
+    this.maxs = new Vector3d[this.size];
+    this.boxes = new Aabbd[this.size];
+    this.buffer = AabbdBuffer.create(this.size);
+    for(int i = 0; i < this.size; i++) {
+      final Vector3d a = ImVector3d.of(random.nextDouble() * 256d, random.nextDouble() * 256d, random.nextDouble() * 256d);
+      final Vector3d b = a.add(random.nextDouble() * 2d, random.nextDouble() * 2d, random.nextDouble() * 2d);
+      this.mins[i] = a.minimum(b);
+      this.maxs[i] = a.maximum(b);
+      this.boxes[i] = Aabbd.corners(a, b);
+      this.buffer.set(i, this.boxes[i]);
+    }
+    this.query = Aabbd.of(100d, 100d, 100d, 150d, 150d, 150d);
+    this.mask = new long[(this.size + 63) >>> 6];
+    this.hits = new int[this.size];
+  }
+
+  // the vector pair representation this replaces
+  @Benchmark
+  public int vectorPairs() {
+    final Vector3d min = ImVector3d.of(this.query.minX(), this.query.minY(), this.query.minZ());
+    final Vector3d max = ImVector3d.of(this.query.maxX(), this.query.maxY(), this.query.maxZ());
+    int count = 0;
+    for(int i = 0; i < this.mins.length; i++) {
+      final Vector3d otherMin = this.mins[i];
+      final Vector3d otherMax = this.maxs[i];
+      if(otherMin.x() <= max.x() && otherMax.x() >= min.x()
+        && otherMin.y() <= max.y() && otherMax.y() >= min.y()
+        && otherMin.z() <= max.z() && otherMax.z() >= min.z()) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int objects() {
+    final Aabbd query = this.query;
+    int count = 0;
+    for(final Aabbd box : this.boxes) {
+      if(query.intersects(box)) count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int bufferMask() {
+    return this.buffer.intersects(this.query, 0, this.size, this.mask);
+  }
+
+  @Benchmark
+  public int bufferHits() {
+    return this.buffer.intersects(this.query, 0, this.size, this.hits);
+  }
+
+  @Benchmark
+  public int bufferNearest() {
+    return this.buffer.nearest(0d, 0d, 0d, 1d, 1d, 1d, 256d, 0, this.size);
+  }
+}
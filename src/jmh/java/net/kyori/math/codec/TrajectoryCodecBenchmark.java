@@ -0,0 +1,173 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.codec;
+
+import net.kyori.math.vector.d.MutVector3d;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// per sample, over the positions of players walking and jumping about, sampled every tick
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TrajectoryCodecBenchmark {
+  private static final int PLAYERS = 16;
+  private static final int TICKS = 1000;
+  private static final int SAMPLES = PLAYERS * TICKS;
+  @Param({"0.000244140625", "0.001953125"})
+  private double precision;
+  @Param({"20", "200"})
+  private int keyframeInterval;
+  private double[][] positions;
+  private ByteBuffer encoded;
+  private ByteBuffer buffer;
+  private MutVector3d position;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    this.positions = new double[PLAYERS][];
+    for(int i = 0; i < PLAYERS; i++) {
+      this.positions[i] = walk(random, TICKS);
+    }
+    this.encoded = ByteBuffer.allocate(SAMPLES * TrajectoryEncoder.MAX_SAMPLE_BYTES);
+    this.encode(this.encoded);
+    this.encoded.flip();
+    this.buffer = ByteBuffer.allocate(SAMPLES * TrajectoryEncoder.MAX_SAMPLE_BYTES);
+    this.position = MutVector3d.zero();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SAMPLES)
+  public ByteBuffer encode(final Compression compression) {
+    this.buffer.clear();
+    this.encode(this.buffer);
+    compression.record(this.buffer.position());
+    return this.buffer;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SAMPLES)
+  public MutVector3d decode() {
+    final ByteBuffer src = this.encoded.duplicate();
+    for(int i = 0; i < PLAYERS; i++) {
+      final TrajectoryDecoder decoder = TrajectoryDecoder.create(this.precision);
+      for(int tick = 0; tick < TICKS; tick++) {
+        decoder.decode(src, this.position);
+      }
+      decoder.align();
+    }
+    return this.position;
+  }
+
+  // the uncompressed baseline: three doubles per sample
+  @Benchmark
+  @OperationsPerInvocation(SAMPLES)
+  public ByteBuffer raw() {
+    this.buffer.clear();
+    for(int i = 0; i < PLAYERS; i++) {
+      final double[] positions = this.positions[i];
+      for(int j = 0; j < positions.length; j++) {
+        this.buffer.putDouble(positions[j]);
+      }
+    }
+    return this.buffer;
+  }
+
+  private void encode(final ByteBuffer dst) {
+    for(int i = 0; i < PLAYERS; i++) {
+      final TrajectoryEncoder encoder = TrajectoryEncoder.create(this.precision, this.keyframeInterval);
+      final double[] positions = this.positions[i];
+      for(int j = 0; j < positions.length; j += 3) {
+        encoder.encode(dst, positions[j], positions[j + 1], positions[j + 2]);
+      }
+      encoder.flush(dst);
+    }
+  }
+
+  // the compression ratio is a property of the data rather than a timing, so it is reported next to the encode timings
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Compression {
+    public double bytesPerSample;
+    private int iterations;
+
+    @Setup
+    public void setup(final BenchmarkParams params) {
+      this.iterations = params.getMeasurement().getCount();
+    }
+
+    // events are summed over the measurement iterations, so each reports its share of the ratio
+    void record(final int bytes) {
+      this.bytesPerSample = (double) bytes / SAMPLES / this.iterations;
+    }
+  }
+
+  private static double[] walk(final Random random, final int count) {
+    final double[] positions = new double[count * 3];
+    double x = random.nextDouble() * 10000d - 5000d;
+    double y = 64d;
+    double z = random.nextDouble() * 10000d - 5000d;
+    double yaw = random.nextDouble() * Math.PI * 2d;
+    double vy = 0d;
+    for(int i = 0; i < count; i++) {
+      // walking and sprinting with small turns, standing still a quarter of the time
+      yaw += random.nextGaussian() * 0.1d;
+      final int phase = i % 200;
+      final double speed = phase < 100 ? 0.216d : phase < 150 ? 0.281d : 0d;
+      x += Math.cos(yaw) * speed;
+      z += Math.sin(yaw) * speed;
+      if(y <= 64d && random.nextInt(40) == 0) vy = 0.42d;
+      y += vy;
+      vy = (vy - 0.08d) * 0.98d;
+      if(y < 64d) {
+        y = 64d;
+        vy = 0d;
+      }
+      positions[i * 3] = x;
+      positions[i * 3 + 1] = y;
+      positions[i * 3 + 2] = z;
+    }
+    return positions;
+  }
+}
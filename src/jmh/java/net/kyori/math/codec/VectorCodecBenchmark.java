@@ -0,0 +1,116 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.codec;
+
+import net.kyori.math.vector.i.MutVector3i;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// per vector, for block coordinates: small x and z, and y within the height of a world
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VectorCodecBenchmark {
+  private static final int SIZE = 1024;
+  @Param({"FIXED", "VARINT", "ZIGZAG"})
+  private VectorCodec.Encoding encoding;
+  @Param({"heap", "direct"})
+  private String buffer;
+  private VectorCodec codec;
+  private int[] ints;
+  private double[] doubles;
+  private ByteBuffer bytes;
+  private MutVector3i vector;
+
+  @Setup
+  public void setup() {
+    this.codec = VectorCodec.of(this.encoding);
+    final Random random = new Random(42L);
+    this.ints = new int[SIZE * 3];
+    this.doubles = new double[SIZE * 3];
+    for(int i = 0; i < SIZE * 3; i++) {
+      this.ints[i] = i % 3 == 1 ? random.nextInt(256) : random.nextInt(2000) - 1000;
+      this.doubles[i] = random.nextDouble() * 2000d - 1000d;
+    }
+    final int capacity = SIZE * 3 * Double.BYTES;
+    this.bytes = this.buffer.equals("heap") ? ByteBuffer.allocate(capacity) : ByteBuffer.allocateDirect(capacity);
+    this.vector = MutVector3i.zero();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public ByteBuffer writeInts() {
+    this.bytes.clear();
+    this.codec.write(this.bytes, this.ints, 0, SIZE);
+    return this.bytes;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public int[] readInts() {
+    this.bytes.clear();
+    this.codec.write(this.bytes, this.ints, 0, SIZE);
+    this.bytes.flip();
+    return this.codec.read(this.bytes, this.ints, 0, SIZE);
+  }
+
+  // one vector at a time, through the buffer's own accessors
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public MutVector3i readVectors() {
+    this.bytes.clear();
+    this.codec.write(this.bytes, this.ints, 0, SIZE);
+    this.bytes.flip();
+    for(int i = 0; i < SIZE; i++) {
+      this.codec.read(this.bytes, this.vector);
+    }
+    return this.vector;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public double[] roundTripDoubles() {
+    this.bytes.clear();
+    this.codec.write(this.bytes, this.doubles, 0, SIZE);
+    this.bytes.flip();
+    return this.codec.read(this.bytes, this.doubles, 0, SIZE);
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.codec;
+
+import net.kyori.math.vector.d.DirectVector3dBuffer;
+import net.kyori.math.vector.d.ImVector3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// loading a dataset of vectors from a warm page cache: mapped in place, or parsed into objects from a stream.
+// a dataset is loaded once, and a mapping is only released when it is collected, so each load is timed alone
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Thread)
+public class VectorFileBenchmark {
+  @Param({"100000", "1000000"})
+  private int size;
+  private Path mapped;
+  private Path streamed;
+
+  @Setup
+  public void setup() throws IOException {
+    this.mapped = Files.createTempFile("vectors", ".bin");
+    this.streamed = Files.createTempFile("vectors", ".dat");
+    final Random random = new Random(42L);
+    try(final VectorFile file = VectorFile.create(this.mapped, VectorFile.Type.DOUBLE, this.size);
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(this.streamed)))) {
+      for(int i = 0; i < this.size; i++) {
+        final double x = random.nextGaussian();
+        final double y = random.nextGaussian();
+        final double z = random.nextGaussian();
+        file.append(x, y, z);
+        out.writeDouble(x);
+        out.writeDouble(y);
+        out.writeDouble(z);
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.delete(this.mapped);
+    Files.delete(this.streamed);
+  }
+
+  // time to the first vector, the cost of opening before any of the data is touched
+  @Benchmark
+  public double openMapped() throws IOException {
+    try(final VectorFile file = VectorFile.openReadOnly(this.mapped)) {
+      return file.doubles().x(this.size - 1);
+    }
+  }
+
+  @Benchmark
+  public double scanMapped() throws IOException {
+    try(final VectorFile file = VectorFile.openReadOnly(this.mapped)) {
+      final DirectVector3dBuffer doubles = file.doubles();
+      double sum = 0;
+      for(int i = 0; i < this.size; i++) {
+        sum += doubles.x(i) + doubles.y(i) + doubles.z(i);
+      }
+      return sum;
+    }
+  }
+
+  @Benchmark
+  public double scanParsed() throws IOException {
+    final ImVector3d[] vectors = new ImVector3d[this.size];
+    try(final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.streamed)))) {
+      for(int i = 0; i < this.size; i++) {
+        vectors[i] = ImVector3d.of(in.readDouble(), in.readDouble(), in.readDouble());
+      }
+    }
+    double sum = 0;
+    for(final ImVector3d vector : vectors) {
+      sum += vector.x() + vector.y() + vector.z();
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.curve;
+
+import net.kyori.math.vector.i.Vector3iBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CurveBenchmark {
+  private static final int GRID_BITS = 8;
+  private static final int GRID = 1 << GRID_BITS;
+  private static final int GRID_MASK = GRID - 1;
+  @Param({"1024", "262144"})
+  public int size;
+  private Vector3iBuffer unsorted;
+  private Vector3iBuffer mortonSorted;
+  private Vector3iBuffer hilbertSorted;
+  private long[] keys;
+  private byte[] grid;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    this.unsorted = Vector3iBuffer.create(this.size);
+    this.keys = new long[this.size];
+    for(int i = 0; i < this.size; i++) {
+      this.unsorted.set(i, random.nextInt(GRID), random.nextInt(GRID), random.nextInt(GRID));
+      this.keys[i] = Morton3.encode(this.unsorted.x(i), this.unsorted.y(i), this.unsorted.z(i));
+    }
+    this.mortonSorted = copy(this.unsorted);
+    CurveSort.sort(this.mortonSorted, Curve.MORTON);
+    this.hilbertSorted = copy(this.unsorted);
+    CurveSort.sort(this.hilbertSorted, Curve.HILBERT);
+    this.grid = new byte[GRID * GRID * GRID];
+    random.nextBytes(this.grid);
+  }
+
+  private static Vector3iBuffer copy(final Vector3iBuffer buffer) {
+    return Vector3iBuffer.wrap(buffer.xs().clone(), buffer.ys().clone(), buffer.zs().clone());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(1024)
+  public void encodeMorton(final Blackhole blackhole) {
+    final Vector3iBuffer buffer = this.unsorted;
+    for(int i = 0; i < 1024; i++) {
+      blackhole.consume(Morton3.encode(buffer.x(i), buffer.y(i), buffer.z(i)));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(1024)
+  public void encodeHilbert(final Blackhole blackhole) {
+    final Vector3iBuffer buffer = this.unsorted;
+    for(int i = 0; i < 1024; i++) {
+      blackhole.consume(Hilbert3.encode(buffer.x(i), buffer.y(i), buffer.z(i)));
+    }
+  }
+
+  @Benchmark
+  public int[] radixOrder() {
+    return CurveSort.order(this.keys);
+  }
+
+  @Benchmark
+  public long[] arraysSort() {
+    final long[] keys = this.keys.clone();
+    Arrays.sort(keys);
+    return keys;
+  }
+
+  @Benchmark
+  public int neighboursUnsorted() {
+    return this.neighbours(this.unsorted);
+  }
+
+  @Benchmark
+  public int neighboursMorton() {
+    return this.neighbours(this.mortonSorted);
+  }
+
+  @Benchmark
+  public int neighboursHilbert() {
+    return this.neighbours(this.hilbertSorted);
+  }
+
+  // reads the six neighbours of every position from a dense grid, as a lighting or physics pass would
+  private int neighbours(final Vector3iBuffer buffer) {
+    final int[] xs = buffer.xs();
+    final int[] ys = buffer.ys();
+    final int[] zs = buffer.zs();
+    final byte[] grid = this.grid;
+    int sum = 0;
+    for(int i = 0; i < xs.length; i++) {
+      final int x = xs[i];
+      final int y = ys[i];
+      final int z = zs[i];
+      sum += grid[index(x - 1, y, z)] + grid[index(x + 1, y, z)]
+        + grid[index(x, y - 1, z)] + grid[index(x, y + 1, z)]
+        + grid[index(x, y, z - 1)] + grid[index(x, y, z + 1)];
+    }
+    return sum;
+  }
+
+  private static int index(final int x, final int y, final int z) {
+    return ((x & GRID_MASK) << (2 * GRID_BITS)) | ((y & GRID_MASK) << GRID_BITS) | (z & GRID_MASK);
+  }
+}
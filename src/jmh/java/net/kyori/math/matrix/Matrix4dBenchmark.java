@@ -0,0 +1,123 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.matrix;
+
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Matrix4dBenchmark {
+  @Param({"1024", "262144"})
+  public int size;
+  private Matrix4d matrix;
+  private Vector3d[] vectors;
+  private Vector3d[] transformed;
+  private double[] array;
+  private double[] arrayDst;
+  private Vector3dBuffer buffer;
+  private Vector3dBuffer bufferDst;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    this.matrix = Matrix4d.translation(1d, 2d, 3d).rotate(0.5d, 1d, 1d, 0d).scale(2d);
+    this.vectors = new Vector3d[this.size];
+    this.transformed = new Vector3d[this.size];
+    this.array = new double[this.size * 3];
+    this.arrayDst = new double[this.size * 3];
+    this.buffer = Vector3dBuffer.create(this.size);
+    this.bufferDst = Vector3dBuffer.create(this.size);
+    for(int i = 0; i < this.size; i++) {
+      final double x = random.nextDouble();
+      final double y = random.nextDouble();
+      final double z = random.nextDouble();
+      this.vectors[i] = ImVector3d.of(x, y, z);
+      this.array[i * 3] = x;
+      this.array[i * 3 + 1] = y;
+      this.array[i * 3 + 2] = z;
+      this.buffer.set(i, x, y, z);
+    }
+  }
+
+  // the allocating approach this replaces: a new vector per point
+  @Benchmark
+  public Vector3d[] allocating() {
+    final Matrix4d matrix = this.matrix;
+    final Vector3d[] vectors = this.vectors;
+    final Vector3d[] transformed = this.transformed;
+    for(int i = 0; i < vectors.length; i++) {
+      final Vector3d vector = vectors[i];
+      transformed[i] = ImVector3d.of(
+        matrix.m00() * vector.x() + matrix.m01() * vector.y() + matrix.m02() * vector.z() + matrix.m03(),
+        matrix.m10() * vector.x() + matrix.m11() * vector.y() + matrix.m12() * vector.z() + matrix.m13(),
+        matrix.m20() * vector.x() + matrix.m21() * vector.y() + matrix.m22() * vector.z() + matrix.m23()
+      );
+    }
+    return transformed;
+  }
+
+  @Benchmark
+  public MutVector3d destination() {
+    final Matrix4d matrix = this.matrix;
+    final Vector3d[] vectors = this.vectors;
+    final MutVector3d dst = MutVector3d.zero();
+    for(int i = 0; i < vectors.length; i++) {
+      matrix.transformPosition(vectors[i], dst);
+    }
+    return dst;
+  }
+
+  @Benchmark
+  public double[] array() {
+    this.matrix.transformPositions(this.array, 0, this.arrayDst, 0, this.size);
+    return this.arrayDst;
+  }
+
+  @Benchmark
+  public Vector3dBuffer buffer() {
+    this.matrix.transformPositions(this.buffer, 0, this.size, this.bufferDst);
+    return this.bufferDst;
+  }
+}
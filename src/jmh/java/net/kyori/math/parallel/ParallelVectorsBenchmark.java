@@ -0,0 +1,113 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.parallel;
+
+import net.kyori.math.aabb.Aabbd;
+import net.kyori.math.matrix.Matrix4d;
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// scaling of the parallel bulk operations with the size of the pool; "max" uses every available processor
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelVectorsBenchmark {
+  private static final int SIZE = 4_000_000;
+  @Param({"1", "2", "4", "max"})
+  private String threads;
+  private ForkJoinPool pool;
+  private ParallelVectors parallel;
+  private Vector3dBuffer src;
+  private Vector3dBuffer dst;
+  private Matrix4d matrix;
+  private MutVector3d result;
+  private Aabbd bounds;
+
+  @Setup
+  public void setup() {
+    this.pool = new ForkJoinPool(this.threads.equals("max") ? Runtime.getRuntime().availableProcessors() : Integer.parseInt(this.threads));
+    this.parallel = ParallelVectors.of(this.pool);
+    final Random random = new Random(42L);
+    this.src = Vector3dBuffer.create(SIZE);
+    for(int i = 0; i < SIZE; i++) {
+      this.src.set(i, random.nextDouble() * 1000d, random.nextDouble() * 256d, random.nextDouble() * 1000d);
+    }
+    this.dst = Vector3dBuffer.create(SIZE);
+    this.matrix = Matrix4d.rotationY(0.5d).translate(1d, 2d, 3d);
+    this.result = MutVector3d.zero();
+    this.bounds = Aabbd.of(0d, 0d, 0d, 0d, 0d, 0d);
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.pool.shutdown();
+  }
+
+  @Benchmark
+  public Vector3dBuffer transformSequential() {
+    this.matrix.transformPositions(this.src, 0, SIZE, this.dst);
+    return this.dst;
+  }
+
+  @Benchmark
+  public Vector3dBuffer transform() {
+    this.parallel.transformPositions(this.matrix, this.src, 0, SIZE, this.dst);
+    return this.dst;
+  }
+
+  @Benchmark
+  public Vector3dBuffer map() {
+    this.parallel.map(this.src, 0, SIZE, this.dst, (x, y, z, result) -> result.set(x, y, z).normalize());
+    return this.dst;
+  }
+
+  @Benchmark
+  public MutVector3d sum() {
+    return this.parallel.sum(this.src, 0, SIZE, this.result);
+  }
+
+  @Benchmark
+  public Aabbd bounds() {
+    return this.parallel.bounds(this.src, 0, SIZE, this.bounds);
+  }
+}
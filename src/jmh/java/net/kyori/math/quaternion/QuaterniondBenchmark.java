@@ -0,0 +1,133 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.quaternion;
+
+import net.kyori.math.vector.d.MutVector3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QuaterniondBenchmark {
+  @Param({"1024", "65536"})
+  public int size;
+  private double yaw;
+  private double pitch;
+  private double roll;
+  private double[] vectors;
+  private double[] rotated;
+  private double[] orientations;
+  private Quaterniond rotation;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    this.yaw = random.nextDouble();
+    this.pitch = random.nextDouble();
+    this.roll = random.nextDouble();
+    this.rotation = Quaterniond.yawPitchRoll(this.yaw, this.pitch, this.roll);
+    this.vectors = new double[this.size * 3];
+    this.rotated = new double[this.size * 3];
+    for(int i = 0; i < this.vectors.length; i++) {
+      this.vectors[i] = random.nextDouble();
+    }
+    this.orientations = new double[this.size * 4];
+    for(int i = 0; i < this.size; i++) {
+      final Quaterniond orientation = Quaterniond.yawPitchRoll(random.nextDouble(), random.nextDouble(), random.nextDouble());
+      this.orientations[i * 4] = orientation.x();
+      this.orientations[i * 4 + 1] = orientation.y();
+      this.orientations[i * 4 + 2] = orientation.z();
+      this.orientations[i * 4 + 3] = orientation.w();
+    }
+  }
+
+  // roll, pitch and yaw applied one after another, recomputing the trig for every vector
+  @Benchmark
+  public double[] euler() {
+    final double[] vectors = this.vectors;
+    final double[] rotated = this.rotated;
+    for(int i = 0; i < vectors.length; i += 3) {
+      double x = vectors[i];
+      double y = vectors[i + 1];
+      double z = vectors[i + 2];
+      final double sr = Math.sin(this.roll);
+      final double cr = Math.cos(this.roll);
+      double t = x * cr - y * sr;
+      y = x * sr + y * cr;
+      x = t;
+      final double sp = Math.sin(this.pitch);
+      final double cp = Math.cos(this.pitch);
+      t = y * cp - z * sp;
+      z = y * sp + z * cp;
+      y = t;
+      final double sy = Math.sin(this.yaw);
+      final double cy = Math.cos(this.yaw);
+      t = x * cy + z * sy;
+      z = -x * sy + z * cy;
+      rotated[i] = t;
+      rotated[i + 1] = y;
+      rotated[i + 2] = z;
+    }
+    return rotated;
+  }
+
+  @Benchmark
+  public MutVector3d destination() {
+    final Quaterniond rotation = this.rotation;
+    final double[] vectors = this.vectors;
+    final MutVector3d dst = MutVector3d.zero();
+    for(int i = 0; i < vectors.length; i += 3) {
+      rotation.rotate(vectors[i], vectors[i + 1], vectors[i + 2], dst);
+    }
+    return dst;
+  }
+
+  @Benchmark
+  public double[] array() {
+    this.rotation.rotate(this.vectors, 0, this.rotated, 0, this.size);
+    return this.rotated;
+  }
+
+  @Benchmark
+  public double[] orientations() {
+    this.rotation.premul(this.orientations, 0, this.size);
+    return this.orientations;
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.spatial;
+
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KdTree3dBenchmark {
+  private static final int QUERIES = 64;
+  private static final int K = 8;
+  @Param({"1000", "100000"})
+  private int size;
+  private Vector3d[] points;
+  private Vector3d[] queries;
+  private KdTree3d tree;
+  private int[] indices;
+  private double[] distances;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    this.points = new Vector3d[this.size];
+    for(int i = 0; i < this.size; i++) {
+      this.points[i] = ImVector3d.of(random.nextDouble() * 1000d, random.nextDouble() * 256d, random.nextDouble() * 1000d);
+    }
+    this.queries = new Vector3d[QUERIES];
+    for(int i = 0; i < QUERIES; i++) {
+      this.queries[i] = ImVector3d.of(random.nextDouble() * 1000d, random.nextDouble() * 256d, random.nextDouble() * 1000d);
+    }
+    this.tree = KdTree3d.build(this.points);
+    this.indices = new int[K];
+    this.distances = new double[K];
+  }
+
+  @Benchmark
+  public KdTree3d build() {
+    return KdTree3d.build(this.points);
+  }
+
+  // a linear scan for the nearest point, allocating a vector per comparison as the code this replaces does
+  @Benchmark
+  @OperationsPerInvocation(QUERIES)
+  public int scanNearest() {
+    int sum = 0;
+    for(final Vector3d query : this.queries) {
+      int best = -1;
+      double distance = Double.POSITIVE_INFINITY;
+      for(int i = 0; i < this.points.length; i++) {
+        final double candidate = this.points[i].sub(query).lengthSquared();
+        if(candidate < distance) {
+          distance = candidate;
+          best = i;
+        }
+      }
+      sum += best;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(QUERIES)
+  public int treeNearest() {
+    int sum = 0;
+    for(final Vector3d query : this.queries) {
+      sum += this.tree.nearest(query);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(QUERIES)
+  public int treeNearestK() {
+    int sum = 0;
+    for(final Vector3d query : this.queries) {
+      sum += this.tree.nearest(query, K, this.indices, this.distances);
+      sum += this.indices[K - 1];
+    }
+    return sum;
+  }
+}
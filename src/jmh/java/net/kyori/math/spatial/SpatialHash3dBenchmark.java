@@ -0,0 +1,116 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.spatial;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// throughput across all cores by default; pass -t to measure how it scales with fewer threads
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class SpatialHash3dBenchmark {
+  private static final int ENTITIES = 1024;
+  private static final double EXTENT = 256d;
+  private final SpatialHash3d hash = SpatialHash3d.create(8d);
+  private final AtomicInteger threads = new AtomicInteger();
+
+  @Benchmark
+  public boolean move(final Entities entities) {
+    return entities.move(this.hash);
+  }
+
+  @Benchmark
+  public int radius(final Entities entities) {
+    return entities.radius(this.hash);
+  }
+
+  // nine moves for every query, as an entity system ticking and then looking around would
+  @Benchmark
+  public int mixed(final Entities entities) {
+    return entities.counter++ % 10 == 0 ? entities.radius(this.hash) : entities.move(this.hash) ? 1 : 0;
+  }
+
+  @State(Scope.Thread)
+  public static class Entities {
+    private final double[] positions = new double[ENTITIES * 3];
+    private final int[] ids = new int[256];
+    private Random random;
+    private int first;
+    int counter;
+
+    @Setup
+    public void setup(final SpatialHash3dBenchmark benchmark) {
+      final int thread = benchmark.threads.getAndIncrement();
+      this.random = new Random(42L + thread);
+      this.first = thread * ENTITIES;
+      for(int i = 0; i < ENTITIES; i++) {
+        this.positions[i * 3] = this.random.nextDouble() * EXTENT;
+        this.positions[i * 3 + 1] = this.random.nextDouble() * EXTENT;
+        this.positions[i * 3 + 2] = this.random.nextDouble() * EXTENT;
+        benchmark.hash.insert(this.first + i, this.positions[i * 3], this.positions[i * 3 + 1], this.positions[i * 3 + 2]);
+      }
+    }
+
+    boolean move(final SpatialHash3d hash) {
+      final int i = this.random.nextInt(ENTITIES);
+      final double x = this.positions[i * 3];
+      final double y = this.positions[i * 3 + 1];
+      final double z = this.positions[i * 3 + 2];
+      final double toX = wrap(x + this.random.nextDouble() * 2d - 1d);
+      final double toY = wrap(y + this.random.nextDouble() * 2d - 1d);
+      final double toZ = wrap(z + this.random.nextDouble() * 2d - 1d);
+      this.positions[i * 3] = toX;
+      this.positions[i * 3 + 1] = toY;
+      this.positions[i * 3 + 2] = toZ;
+      return hash.move(this.first + i, x, y, z, toX, toY, toZ);
+    }
+
+    // keeps entities inside the extent, stepping off one side onto the other
+    private static double wrap(final double coordinate) {
+      return coordinate < 0d ? coordinate + EXTENT : coordinate >= EXTENT ? coordinate - EXTENT : coordinate;
+    }
+
+    int radius(final SpatialHash3d hash) {
+      return hash.radius(this.random.nextDouble() * EXTENT, this.random.nextDouble() * EXTENT, this.random.nextDouble() * EXTENT, 16d, this.ids);
+    }
+  }
+}
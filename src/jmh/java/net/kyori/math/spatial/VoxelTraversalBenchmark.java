@@ -0,0 +1,112 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.spatial;
+
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.i.ImVector3i;
+import net.kyori.math.vector.i.Vector3i;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VoxelTraversalBenchmark {
+  private static final int RAYS = 256;
+  private static final double DISTANCE = 64d;
+  private Vector3d[] origins;
+  private Vector3d[] directions;
+  private VoxelTraversal traversal;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    this.origins = new Vector3d[RAYS];
+    this.directions = new Vector3d[RAYS];
+    for(int i = 0; i < RAYS; i++) {
+      this.origins[i] = ImVector3d.of(random.nextDouble() * 100d, random.nextDouble() * 100d, random.nextDouble() * 100d);
+      this.directions[i] = ImVector3d.of(random.nextGaussian(), random.nextGaussian(), random.nextGaussian()).normalize();
+    }
+    this.traversal = VoxelTraversal.create();
+  }
+
+  // fixed steps along the ray, allocating a vector at each of them as the code this replaces does
+  @Benchmark
+  @OperationsPerInvocation(RAYS)
+  public int sampling() {
+    int sum = 0;
+    for(int i = 0; i < RAYS; i++) {
+      final Vector3d origin = this.origins[i];
+      final Vector3d direction = this.directions[i];
+      for(double t = 0d; t <= DISTANCE; t += 0.1d) {
+        final Vector3i voxel = ImVector3i.of(origin.x() + direction.x() * t, origin.y() + direction.y() * t, origin.z() + direction.z() * t);
+        sum += voxel.x() ^ voxel.y() ^ voxel.z();
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RAYS)
+  public int cursor() {
+    final VoxelTraversal traversal = this.traversal;
+    int sum = 0;
+    for(int i = 0; i < RAYS; i++) {
+      traversal.reset(this.origins[i], this.directions[i], DISTANCE);
+      while(traversal.next()) {
+        sum += traversal.x() ^ traversal.y() ^ traversal.z();
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RAYS)
+  public int visitor() {
+    final int[] sum = new int[1];
+    for(int i = 0; i < RAYS; i++) {
+      VoxelTraversal.traverse(this.origins[i], this.directions[i], DISTANCE, (x, y, z, face, distance) -> {
+        sum[0] += x ^ y ^ z;
+        return true;
+      });
+    }
+    return sum[0];
+  }
+}
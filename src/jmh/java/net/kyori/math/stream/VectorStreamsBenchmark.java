@@ -0,0 +1,108 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.stream;
+
+import net.kyori.math.aabb.Aabbd;
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// summing and bounding a million vectors; run with -prof gc to compare the garbage per stream
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VectorStreamsBenchmark {
+  private static final int SIZE = 1_000_000;
+  @Param({"false", "true"})
+  private boolean parallel;
+  private Vector3dBuffer buffer;
+  private ImVector3d[] vectors;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    this.buffer = Vector3dBuffer.create(SIZE);
+    this.vectors = new ImVector3d[SIZE];
+    for(int i = 0; i < SIZE; i++) {
+      this.buffer.set(i, random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+      this.vectors[i] = this.buffer.get(i);
+    }
+  }
+
+  // the usual way to sum objects in a stream, creating a vector per element
+  @Benchmark
+  public Vector3d reduceObjects() {
+    return (this.parallel ? Arrays.<Vector3d>stream(this.vectors).parallel() : Arrays.<Vector3d>stream(this.vectors)).reduce(ImVector3d.zero(), Vector3d::add);
+  }
+
+  @Benchmark
+  public ImVector3d collectObjects() {
+    return (this.parallel ? Arrays.stream(this.vectors).parallel() : Arrays.stream(this.vectors)).collect(VectorCollectors.sum3d());
+  }
+
+  @Benchmark
+  public ImVector3d collectBuffer() {
+    return (this.parallel ? VectorStreams.streamReusing(this.buffer).parallel() : VectorStreams.streamReusing(this.buffer)).collect(VectorCollectors.sum3d());
+  }
+
+  @Benchmark
+  public Aabbd boundsBuffer() {
+    return (this.parallel ? VectorStreams.streamReusing(this.buffer).parallel() : VectorStreams.streamReusing(this.buffer)).collect(VectorCollectors.bounds3d());
+  }
+
+  // a plain loop over the components, for reference
+  @Benchmark
+  public double loop() {
+    final double[] xs = this.buffer.xs();
+    final double[] ys = this.buffer.ys();
+    final double[] zs = this.buffer.zs();
+    double x = 0d;
+    double y = 0d;
+    double z = 0d;
+    for(int i = 0; i < SIZE; i++) {
+      x += xs[i];
+      y += ys[i];
+      z += zs[i];
+    }
+    return x + y + z;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector;
+
+import net.kyori.math.vector.d.MutVector3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// per tick, over entities whose temporary vectors outlive a single expression, so escape analysis cannot
+// remove them; run with -prof gc to compare the garbage per tick
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VectorArenaBenchmark {
+  private static final int ENTITIES = 1024;
+  private final MutVector3d[] temporaries = new MutVector3d[ENTITIES];
+  private double[] positions;
+  private VectorArena arena;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    this.positions = new double[3 * ENTITIES];
+    for(int i = 0; i < this.positions.length; i++) {
+      this.positions[i] = random.nextDouble() * 100d;
+    }
+    this.arena = VectorArena.create();
+  }
+
+  @Benchmark
+  public double heap() {
+    for(int i = 0; i < ENTITIES; i++) {
+      this.temporaries[i] = MutVector3d.of(this.positions[3 * i], this.positions[3 * i + 1], this.positions[3 * i + 2]).sub(50d).normalize();
+    }
+    return this.sum(MutVector3d.zero());
+  }
+
+  @Benchmark
+  public double arena() {
+    for(int i = 0; i < ENTITIES; i++) {
+      this.temporaries[i] = this.arena.vector3d(this.positions[3 * i], this.positions[3 * i + 1], this.positions[3 * i + 2]).sub(50d).normalize();
+    }
+    final double sum = this.sum(this.arena.vector3d());
+    this.arena.reset();
+    return sum;
+  }
+
+  private double sum(final MutVector3d sum) {
+    for(int i = 0; i < ENTITIES; i++) {
+      sum.add(this.temporaries[i]);
+    }
+    return sum.length();
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector;
+
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.i.ImVector3i;
+import net.kyori.math.vector.i.Vector3i;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VectorHashMapBenchmark {
+  private static final int LOOKUPS = 1024;
+  @Param({"1024", "65536"})
+  public int size;
+  private Map<Vector3i, Object> intMap;
+  private Map<Vector3d, Object> doubleMap;
+  private Vector3i[] intKeys;
+  private Vector3i[] intLookups;
+  private Vector3i[] intMisses;
+  private Vector3d[] doubleLookups;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    this.intMap = new HashMap<>();
+    this.doubleMap = new HashMap<>();
+    this.intKeys = new Vector3i[this.size];
+    for(int i = 0; i < this.size; i++) {
+      final int x = random.nextInt(512) - 256;
+      final int y = random.nextInt(256);
+      final int z = random.nextInt(512) - 256;
+      this.intKeys[i] = ImVector3i.of(x, y, z);
+      this.intMap.put(this.intKeys[i], this.intKeys[i]);
+      this.doubleMap.put(ImVector3d.of(x, y, z), this.intKeys[i]);
+    }
+    this.intLookups = new Vector3i[LOOKUPS];
+    this.intMisses = new Vector3i[LOOKUPS];
+    this.doubleLookups = new Vector3d[LOOKUPS];
+    for(int i = 0; i < LOOKUPS; i++) {
+      // equal, but not identical, keys - as they would be when computed by the caller
+      final Vector3i key = this.intKeys[random.nextInt(this.size)];
+      this.intLookups[i] = ImVector3i.of(key.x(), key.y(), key.z());
+      this.intMisses[i] = ImVector3i.of(key.x(), key.y() + 1024, key.z());
+      this.doubleLookups[i] = ImVector3d.of(key.x(), key.y(), key.z());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOOKUPS)
+  public void getVector3i(final Blackhole blackhole) {
+    final Map<Vector3i, Object> map = this.intMap;
+    final Vector3i[] lookups = this.intLookups;
+    for(int i = 0; i < LOOKUPS; i++) {
+      blackhole.consume(map.get(lookups[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOOKUPS)
+  public void getMissVector3i(final Blackhole blackhole) {
+    final Map<Vector3i, Object> map = this.intMap;
+    final Vector3i[] misses = this.intMisses;
+    for(int i = 0; i < LOOKUPS; i++) {
+      blackhole.consume(map.get(misses[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOOKUPS)
+  public void getVector3d(final Blackhole blackhole) {
+    final Map<Vector3d, Object> map = this.doubleMap;
+    final Vector3d[] lookups = this.doubleLookups;
+    for(int i = 0; i < LOOKUPS; i++) {
+      blackhole.consume(map.get(lookups[i]));
+    }
+  }
+
+  @Benchmark
+  public Map<Vector3i, Object> putVector3i() {
+    final Map<Vector3i, Object> map = new HashMap<>();
+    final Vector3i[] keys = this.intKeys;
+    for(int i = 0, length = keys.length; i < length; i++) {
+      map.put(keys[i], keys[i]);
+    }
+    return map;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOOKUPS)
+  public void hashCodeVector3i(final Blackhole blackhole) {
+    final Vector3i[] lookups = this.intLookups;
+    for(int i = 0; i < LOOKUPS; i++) {
+      blackhole.consume(lookups[i].hashCode());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOOKUPS)
+  public void hashCodeVector3d(final Blackhole blackhole) {
+    final Vector3d[] lookups = this.doubleLookups;
+    for(int i = 0; i < LOOKUPS; i++) {
+      blackhole.consume(lookups[i].hashCode());
+    }
+  }
+}
@@ -0,0 +1,544 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.d;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vector3dBenchmark {
+  private static final int SIZE = 1024;
+  @Param({"monomorphic", "bimorphic", "megamorphic"})
+  public String callSite;
+  // not final, so the JIT cannot fold operations on it
+  private double one = 1d;
+  private Vector3d[] vectors;
+  private Vector3d[] others;
+  private Vector3d[] ones;
+  private double[] initial;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(42L);
+    this.vectors = new Vector3d[SIZE];
+    this.others = new Vector3d[SIZE];
+    this.ones = new Vector3d[SIZE];
+    this.initial = new double[SIZE * 3];
+    for(int i = 0; i < SIZE; i++) {
+      this.vectors[i] = this.create(i, random.nextDouble() * 100d - 50d, random.nextDouble() * 100d - 50d, random.nextDouble() * 100d - 50d);
+      this.others[i] = this.create(i, random.nextDouble() * 100d - 50d, random.nextDouble() * 100d - 50d, random.nextDouble() * 100d - 50d);
+      this.ones[i] = this.create(i, 1d, 1d, 1d);
+      this.initial[3 * i] = this.vectors[i].x();
+      this.initial[3 * i + 1] = this.vectors[i].y();
+      this.initial[3 * i + 2] = this.vectors[i].z();
+    }
+  }
+
+  // mutable receivers are updated in place, so every invocation restores them before running
+  @Setup(Level.Invocation)
+  public void reset() {
+    final Vector3d[] vectors = this.vectors;
+    final double[] initial = this.initial;
+    for(int i = 0; i < SIZE; i++) {
+      if(vectors[i] instanceof MutVector3d) {
+        ((MutVector3d) vectors[i]).set(initial[3 * i], initial[3 * i + 1], initial[3 * i + 2]);
+      }
+    }
+  }
+
+  private Vector3d create(final int index, final double x, final double y, final double z) {
+    switch(this.callSite) {
+      case "monomorphic":
+        return ImVector3d.of(x, y, z);
+      case "bimorphic":
+        return index % 2 == 0 ? ImVector3d.of(x, y, z) : MutVector3d.of(x, y, z);
+      default:
+        switch(index % 4) {
+          case 0: return ImVector3d.of(x, y, z);
+          case 1: return MutVector3d.of(x, y, z);
+          case 2: return new OtherImVector3d(x, y, z);
+          default: return new OtherMutVector3d(x, y, z);
+        }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void x(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].x());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void withX(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].x(this.one));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void y(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].y());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void withY(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].y(this.one));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void z(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].z());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void withZ(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].z(this.one));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void isZero(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].isZero());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void add(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    final Vector3d[] others = this.others;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].add(others[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void addComponents(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].add(this.one, this.one, this.one));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void addScalar(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].add(this.one));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void sub(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    final Vector3d[] others = this.others;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].sub(others[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void subComponents(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].sub(this.one, this.one, this.one));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void subScalar(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].sub(this.one));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void mul(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    final Vector3d[] ones = this.ones;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].mul(ones[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void mulComponents(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].mul(this.one, this.one, this.one));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void mulScalar(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].mul(this.one));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void div(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    final Vector3d[] ones = this.ones;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].div(ones[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void divComponents(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].div(this.one, this.one, this.one));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void divScalar(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].div(this.one));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void abs(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].abs());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void ceil(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].ceil());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void floor(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].floor());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void negate(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].negate());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void normalize(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].normalize());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void pow(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].pow(this.one));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void round(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].round());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void lengthSquared(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].lengthSquared());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void distanceSquared(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    final Vector3d[] others = this.others;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].distanceSquared(others[i]));
+    }
+  }
+
+  // the chain distanceSquared replaces, which allocates an intermediate vector for immutable receivers
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void distanceSquaredChained(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    final Vector3d[] others = this.others;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].copy().sub(others[i]).lengthSquared());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void cross(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    final Vector3d[] others = this.others;
+    final MutVector3d dst = MutVector3d.zero();
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].cross(others[i], dst).x());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void length(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].length());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void minimum(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    final Vector3d[] others = this.others;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].minimum(others[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void maximum(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    final Vector3d[] others = this.others;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].maximum(others[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void array(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].array());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void stream(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].stream().sum());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void map(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].map(Math::abs));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void mapBinary(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    final Vector3d[] others = this.others;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].map(others[i], Math::max));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void mapComponents(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].map(Math::abs, Math::abs, Math::abs));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void allMatch(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].allMatch(value -> value != 0d));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void anyMatch(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].anyMatch(value -> value != 0d));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void allFinite(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].allFinite());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void copy(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].copy());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void hash(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].hashCode());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void equality(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    final Vector3d[] others = this.others;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(vectors[i].equals((Object) others[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void immutableOf(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(ImVector3d.of(vectors[i].x(), vectors[i].y(), vectors[i].z()));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void mutableOf(final Blackhole blackhole) {
+    final Vector3d[] vectors = this.vectors;
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(MutVector3d.of(vectors[i].x(), vectors[i].y(), vectors[i].z()));
+    }
+  }
+
+  private static final class OtherImVector3d extends ImVector3d {
+    OtherImVector3d(final double x, final double y, final double z) {
+      super(x, y, z);
+    }
+  }
+
+  private static final class OtherMutVector3d extends MutVector3d {
+    OtherMutVector3d(final double x, final double y, final double z) {
+      super(x, y, z);
+    }
+  }
+}
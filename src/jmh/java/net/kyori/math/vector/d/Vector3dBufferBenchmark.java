@@ -0,0 +1,141 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.d;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vector3dBufferBenchmark {
+  @Param({"1024", "262144"})
+  public int size;
+  private Vector3d[] positions;
+  private Vector3d[] velocities;
+  private Vector3dBuffer positionBuffer;
+  private Vector3dBuffer velocityBuffer;
+  private double[] lengths;
+  private Vector3d[] initialPositions;
+  private Vector3d[] initialVelocities;
+  private Vector3dBuffer initialPositionBuffer;
+  private Vector3dBuffer initialVelocityBuffer;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(42L);
+    this.positions = new Vector3d[this.size];
+    this.velocities = new Vector3d[this.size];
+    this.positionBuffer = Vector3dBuffer.create(this.size);
+    this.velocityBuffer = Vector3dBuffer.create(this.size);
+    this.lengths = new double[this.size];
+    for(int i = 0; i < this.size; i++) {
+      this.positions[i] = ImVector3d.of(random.nextDouble() * 1000d, random.nextDouble() * 256d, random.nextDouble() * 1000d);
+      this.velocities[i] = ImVector3d.of(random.nextDouble() - 0.5d, random.nextDouble() - 0.5d, random.nextDouble() - 0.5d);
+      this.positionBuffer.set(i, this.positions[i]);
+      this.velocityBuffer.set(i, this.velocities[i]);
+    }
+    this.initialPositions = this.positions.clone();
+    this.initialVelocities = this.velocities.clone();
+    this.initialPositionBuffer = Vector3dBuffer.create(this.size);
+    this.initialVelocityBuffer = Vector3dBuffer.create(this.size);
+    copy(this.positionBuffer, this.initialPositionBuffer);
+    copy(this.velocityBuffer, this.initialVelocityBuffer);
+  }
+
+  // add and normalize update the receivers in place, so every invocation restores them before running
+  @Setup(Level.Invocation)
+  public void reset() {
+    System.arraycopy(this.initialPositions, 0, this.positions, 0, this.size);
+    System.arraycopy(this.initialVelocities, 0, this.velocities, 0, this.size);
+    copy(this.initialPositionBuffer, this.positionBuffer);
+    copy(this.initialVelocityBuffer, this.velocityBuffer);
+  }
+
+  private static void copy(final Vector3dBuffer src, final Vector3dBuffer dst) {
+    System.arraycopy(src.xs(), 0, dst.xs(), 0, src.size());
+    System.arraycopy(src.ys(), 0, dst.ys(), 0, src.size());
+    System.arraycopy(src.zs(), 0, dst.zs(), 0, src.size());
+  }
+
+  @Benchmark
+  public Vector3d[] addObjects() {
+    final Vector3d[] positions = this.positions;
+    final Vector3d[] velocities = this.velocities;
+    for(int i = 0; i < positions.length; i++) {
+      positions[i] = positions[i].add(velocities[i]);
+    }
+    return positions;
+  }
+
+  @Benchmark
+  public Vector3dBuffer addBuffer() {
+    return this.positionBuffer.add(0, this.size, this.velocityBuffer);
+  }
+
+  @Benchmark
+  public double[] lengthSquaredObjects() {
+    final Vector3d[] velocities = this.velocities;
+    final double[] lengths = this.lengths;
+    for(int i = 0; i < velocities.length; i++) {
+      lengths[i] = velocities[i].lengthSquared();
+    }
+    return lengths;
+  }
+
+  @Benchmark
+  public double[] lengthSquaredBuffer() {
+    return this.velocityBuffer.lengthSquared(0, this.size, this.lengths);
+  }
+
+  @Benchmark
+  public Vector3d[] normalizeObjects() {
+    final Vector3d[] velocities = this.velocities;
+    for(int i = 0; i < velocities.length; i++) {
+      velocities[i] = velocities[i].normalize();
+    }
+    return velocities;
+  }
+
+  @Benchmark
+  public Vector3dBuffer normalizeBuffer() {
+    return this.velocityBuffer.normalize(0, this.size);
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.d;
+
+import net.kyori.math.vector.i.Vector3iBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// scalar against SIMD kernels; the SIMD ones are only picked on Java 22 with --add-modules jdk.incubator.vector
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vector3dBufferKernelBenchmark {
+  @Param({"scalar", "simd"})
+  public String kernels;
+  @Param({"1024", "262144"})
+  public int size;
+  private Vector3dBuffer positions;
+  private Vector3dBuffer velocities;
+  private Vector3iBuffer blocks;
+  private double[] results;
+  private Vector3dBuffer initialPositions;
+  private Vector3dBuffer initialVelocities;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    // every set of parameters runs in a fresh fork, so this is read before the kernels are first picked
+    System.setProperty("net.kyori.math.vector.simd", Boolean.toString(this.kernels.equals("simd")));
+    final Random random = new Random(42L);
+    this.positions = Vector3dBuffer.create(this.size);
+    this.velocities = Vector3dBuffer.create(this.size);
+    this.blocks = Vector3iBuffer.create(this.size);
+    this.results = new double[this.size];
+    for(int i = 0; i < this.size; i++) {
+      this.positions.set(i, random.nextDouble() * 1000d, random.nextDouble() * 256d, random.nextDouble() * 1000d);
+      this.velocities.set(i, random.nextDouble() - 0.5d, random.nextDouble() - 0.5d, random.nextDouble() - 0.5d);
+    }
+    this.initialPositions = Vector3dBuffer.create(this.size);
+    this.initialVelocities = Vector3dBuffer.create(this.size);
+    copy(this.positions, this.initialPositions);
+    copy(this.velocities, this.initialVelocities);
+  }
+
+  // add, mul, normalize and clamp update the receivers in place, so every invocation restores them before running
+  @Setup(Level.Invocation)
+  public void reset() {
+    copy(this.initialPositions, this.positions);
+    copy(this.initialVelocities, this.velocities);
+  }
+
+  private static void copy(final Vector3dBuffer src, final Vector3dBuffer dst) {
+    System.arraycopy(src.xs(), 0, dst.xs(), 0, src.size());
+    System.arraycopy(src.ys(), 0, dst.ys(), 0, src.size());
+    System.arraycopy(src.zs(), 0, dst.zs(), 0, src.size());
+  }
+
+  @Benchmark
+  public Vector3dBuffer add() {
+    return this.positions.add(0, this.size, this.velocities);
+  }
+
+  @Benchmark
+  public Vector3dBuffer mul() {
+    return this.velocities.mul(0, this.size, -1d, 1d, -1d);
+  }
+
+  @Benchmark
+  public double[] dot() {
+    return this.positions.dot(0, this.size, this.velocities, this.results);
+  }
+
+  @Benchmark
+  public double[] lengthSquared() {
+    return this.velocities.lengthSquared(0, this.size, this.results);
+  }
+
+  @Benchmark
+  public Vector3dBuffer normalize() {
+    return this.velocities.normalize(0, this.size);
+  }
+
+  @Benchmark
+  public Vector3iBuffer floor() {
+    return this.positions.floor(0, this.size, this.blocks);
+  }
+
+  @Benchmark
+  public Vector3dBuffer clamp() {
+    return this.velocities.clamp(0, this.size, -0.25d, 0.25d);
+  }
+}
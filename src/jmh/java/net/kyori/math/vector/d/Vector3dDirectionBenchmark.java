@@ -0,0 +1,107 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.d;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vector3dDirectionBenchmark {
+  private static final int SIZE = 1024;
+  private double[] yaws;
+  private double[] pitches;
+  private MutVector3d direction;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    this.yaws = new double[SIZE];
+    this.pitches = new double[SIZE];
+    for(int i = 0; i < SIZE; i++) {
+      this.yaws[i] = random.nextDouble() * Math.PI * 2d - Math.PI;
+      this.pitches[i] = random.nextDouble() * Math.PI - Math.PI / 2d;
+    }
+    this.direction = MutVector3d.zero();
+  }
+
+  // the direction from java.lang.Math, as computed before the lookup tables
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void directionJdk(final Blackhole blackhole) {
+    for(int i = 0; i < SIZE; i++) {
+      final double yaw = this.yaws[i];
+      final double pitch = this.pitches[i];
+      final double horizontal = Math.cos(pitch);
+      blackhole.consume(this.direction.set(Math.sin(yaw) * horizontal, -Math.sin(pitch), Math.cos(yaw) * horizontal));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void direction(final Blackhole blackhole) {
+    for(int i = 0; i < SIZE; i++) {
+      blackhole.consume(this.direction.setDirection(this.yaws[i], this.pitches[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void yawPitchJdk(final Blackhole blackhole) {
+    final MutVector3d direction = this.direction;
+    for(int i = 0; i < SIZE; i++) {
+      direction.set(this.yaws[i], this.pitches[i], 1d);
+      blackhole.consume(Math.atan2(direction.x(), direction.z()));
+      blackhole.consume(Math.atan2(-direction.y(), Math.sqrt(direction.x() * direction.x() + direction.z() * direction.z())));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void yawPitch(final Blackhole blackhole) {
+    final MutVector3d direction = this.direction;
+    for(int i = 0; i < SIZE; i++) {
+      direction.set(this.yaws[i], this.pitches[i], 1d);
+      blackhole.consume(direction.yaw());
+      blackhole.consume(direction.pitch());
+    }
+  }
+}
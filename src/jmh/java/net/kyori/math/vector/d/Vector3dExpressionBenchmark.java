@@ -0,0 +1,154 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.d;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// per vector, over a.sub(b).mul(s).add(c).normalize(); run with -prof gc to compare the garbage per vector.
+// escape analysis removes the intermediate vectors of an eager chain only while its calls inline, so the inputs
+// are either all immutable, or a mix of implementations as they come from different sources
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vector3dExpressionBenchmark {
+  private static final int SIZE = 1024;
+  private final ImVector3d b = ImVector3d.of(0.5d, -1d, 2d);
+  private final ImVector3d c = ImVector3d.of(3d, 1d, -4d);
+  private final double s = 1.5d;
+  @Param({"false", "true"})
+  private boolean mixed;
+  private Vector3d[] vectors;
+  private double[] interleaved;
+  private double[] results;
+  private Vector3dExpression expression;
+  private MutVector3d result;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    this.vectors = new Vector3d[SIZE];
+    this.interleaved = new double[3 * SIZE];
+    final DirectVector3dBuffer direct = DirectVector3dBuffer.create(SIZE);
+    for(int i = 0; i < SIZE; i++) {
+      final double x = random.nextGaussian();
+      final double y = random.nextGaussian();
+      final double z = random.nextGaussian();
+      if(!this.mixed || i % 3 == 0) {
+        this.vectors[i] = ImVector3d.of(x, y, z);
+      } else if(i % 3 == 1) {
+        this.vectors[i] = MutVector3d.of(x, y, z);
+      } else {
+        this.vectors[i] = direct.set(i, x, y, z).view(i);
+      }
+      this.interleaved[3 * i] = this.vectors[i].x();
+      this.interleaved[3 * i + 1] = this.vectors[i].y();
+      this.interleaved[3 * i + 2] = this.vectors[i].z();
+    }
+    this.results = new double[3 * SIZE];
+    this.expression = Vector3dExpression.create().sub(this.b).mul(this.s).add(this.c).normalize();
+    this.result = MutVector3d.zero();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public double eager() {
+    double sum = 0;
+    for(final Vector3d a : this.vectors) {
+      final Vector3d result = a.sub(this.b).mul(this.s).add(this.c).normalize();
+      sum += result.x() + result.y() + result.z();
+    }
+    return sum;
+  }
+
+  // recorded once, and applied into a new immutable vector, as a drop-in for the eager chain
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public double fused() {
+    double sum = 0;
+    for(final Vector3d a : this.vectors) {
+      final Vector3d result = this.expression.apply(a);
+      sum += result.x() + result.y() + result.z();
+    }
+    return sum;
+  }
+
+  // recorded once, and applied into a reused vector
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public double fusedApply() {
+    double sum = 0;
+    for(final Vector3d a : this.vectors) {
+      final Vector3d result = this.expression.apply(a, this.result);
+      sum += result.x() + result.y() + result.z();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public double[] eagerArray() {
+    for(int i = 0; i < 3 * SIZE; i += 3) {
+      final Vector3d result = ImVector3d.of(this.interleaved[i], this.interleaved[i + 1], this.interleaved[i + 2]).sub(this.b).mul(this.s).add(this.c).normalize();
+      this.results[i] = result.x();
+      this.results[i + 1] = result.y();
+      this.results[i + 2] = result.z();
+    }
+    return this.results;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public double[] fusedArray() {
+    return this.expression.apply(this.interleaved, 0, this.results, 0, SIZE);
+  }
+
+  // the chain fused by hand on a mutable vector, for reference
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public double mutable() {
+    double sum = 0;
+    for(final Vector3d a : this.vectors) {
+      final Vector3d result = this.result.setFrom(a).sub(this.b).mul(this.s).add(this.c).normalize();
+      sum += result.x() + result.y() + result.z();
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vector3iMapBenchmark {
+  private static final int LOOKUPS = 1024;
+  @Param({"1024", "65536", "1048576"})
+  public int size;
+  private int[] keys;
+  private int[] lookups;
+  private Vector3i[] vectorLookups;
+  private Map<Vector3i, Object> hashMap;
+  private Set<Vector3i> hashSet;
+  private Vector3iMap<Object> map;
+  private Vector3iIntMap intMap;
+  private Vector3iSet set;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    this.keys = new int[this.size * 3];
+    this.hashMap = new HashMap<>();
+    this.hashSet = new HashSet<>();
+    this.map = new Vector3iMap<>();
+    this.intMap = new Vector3iIntMap();
+    this.set = new Vector3iSet();
+    for(int i = 0; i < this.size; i++) {
+      final int x = random.nextInt(4096) - 2048;
+      final int y = random.nextInt(256);
+      final int z = random.nextInt(4096) - 2048;
+      this.keys[i * 3] = x;
+      this.keys[i * 3 + 1] = y;
+      this.keys[i * 3 + 2] = z;
+      this.hashMap.put(ImVector3i.of(x, y, z), this);
+      this.hashSet.add(ImVector3i.of(x, y, z));
+      this.map.put(x, y, z, this);
+      this.intMap.put(x, y, z, i);
+      this.set.add(x, y, z);
+    }
+    // half of the lookups hit, half miss
+    this.lookups = new int[LOOKUPS * 3];
+    this.vectorLookups = new Vector3i[LOOKUPS];
+    for(int i = 0; i < LOOKUPS; i++) {
+      final int key = random.nextInt(this.size) * 3;
+      this.lookups[i * 3] = this.keys[key];
+      this.lookups[i * 3 + 1] = this.keys[key + 1] + (i % 2 == 0 ? 0 : 256);
+      this.lookups[i * 3 + 2] = this.keys[key + 2];
+      this.vectorLookups[i] = ImVector3i.of(this.lookups[i * 3], this.lookups[i * 3 + 1], this.lookups[i * 3 + 2]);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOOKUPS)
+  public void getHashMap(final Blackhole blackhole) {
+    final Map<Vector3i, Object> map = this.hashMap;
+    final int[] lookups = this.lookups;
+    for(int i = 0; i < LOOKUPS * 3; i += 3) {
+      blackhole.consume(map.get(ImVector3i.of(lookups[i], lookups[i + 1], lookups[i + 2])));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOOKUPS)
+  public void getHashMapPrebuiltKeys(final Blackhole blackhole) {
+    final Map<Vector3i, Object> map = this.hashMap;
+    final Vector3i[] lookups = this.vectorLookups;
+    for(int i = 0; i < LOOKUPS; i++) {
+      blackhole.consume(map.get(lookups[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOOKUPS)
+  public void getVector3iMap(final Blackhole blackhole) {
+    final Vector3iMap<Object> map = this.map;
+    final int[] lookups = this.lookups;
+    for(int i = 0; i < LOOKUPS * 3; i += 3) {
+      blackhole.consume(map.get(lookups[i], lookups[i + 1], lookups[i + 2]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOOKUPS)
+  public void getVector3iIntMap(final Blackhole blackhole) {
+    final Vector3iIntMap map = this.intMap;
+    final int[] lookups = this.lookups;
+    for(int i = 0; i < LOOKUPS * 3; i += 3) {
+      blackhole.consume(map.get(lookups[i], lookups[i + 1], lookups[i + 2]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOOKUPS)
+  public void containsHashSet(final Blackhole blackhole) {
+    final Set<Vector3i> set = this.hashSet;
+    final int[] lookups = this.lookups;
+    for(int i = 0; i < LOOKUPS * 3; i += 3) {
+      blackhole.consume(set.contains(ImVector3i.of(lookups[i], lookups[i + 1], lookups[i + 2])));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOOKUPS)
+  public void containsVector3iSet(final Blackhole blackhole) {
+    final Vector3iSet set = this.set;
+    final int[] lookups = this.lookups;
+    for(int i = 0; i < LOOKUPS * 3; i += 3) {
+      blackhole.consume(set.contains(lookups[i], lookups[i + 1], lookups[i + 2]));
+    }
+  }
+
+  @Benchmark
+  public Map<Vector3i, Object> putHashMap() {
+    final Map<Vector3i, Object> map = new HashMap<>();
+    final int[] keys = this.keys;
+    for(int i = 0; i < keys.length; i += 3) {
+      map.put(ImVector3i.of(keys[i], keys[i + 1], keys[i + 2]), this);
+    }
+    return map;
+  }
+
+  @Benchmark
+  public Vector3iMap<Object> putVector3iMap() {
+    final Vector3iMap<Object> map = new Vector3iMap<>();
+    final int[] keys = this.keys;
+    for(int i = 0; i < keys.length; i += 3) {
+      map.put(keys[i], keys[i + 1], keys[i + 2], this);
+    }
+    return map;
+  }
+
+  @Benchmark
+  public Map<Vector3i, Object> putRemoveHashMap() {
+    final Map<Vector3i, Object> map = this.hashMap;
+    final int[] lookups = this.lookups;
+    for(int i = 0; i < LOOKUPS * 3; i += 3) {
+      final Vector3i key = ImVector3i.of(lookups[i], lookups[i + 1] + 512, lookups[i + 2]);
+      map.put(key, this);
+      map.remove(key);
+    }
+    return map;
+  }
+
+  @Benchmark
+  public Vector3iMap<Object> putRemoveVector3iMap() {
+    final Vector3iMap<Object> map = this.map;
+    final int[] lookups = this.lookups;
+    for(int i = 0; i < LOOKUPS * 3; i += 3) {
+      map.put(lookups[i], lookups[i + 1] + 512, lookups[i + 2], this);
+      map.remove(lookups[i], lookups[i + 1] + 512, lookups[i + 2]);
+    }
+    return map;
+  }
+}
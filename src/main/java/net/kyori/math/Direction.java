@@ -0,0 +1,73 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math;
+
+import net.kyori.math.vector.i.ImVector3i;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+public enum Direction {
+  DOWN(0, -1, 0),
+  UP(0, 1, 0),
+  NORTH(0, 0, -1),
+  SOUTH(0, 0, 1),
+  WEST(-1, 0, 0),
+  EAST(1, 0, 0);
+
+  private final int x;
+  private final int y;
+  private final int z;
+
+  Direction(final int x, final int y, final int z) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+  }
+
+  public int x() {
+    return this.x;
+  }
+
+  public int y() {
+    return this.y;
+  }
+
+  public int z() {
+    return this.z;
+  }
+
+  public @NonNull ImVector3i offset() {
+    return ImVector3i.of(this.x, this.y, this.z);
+  }
+
+  public @NonNull Direction opposite() {
+    switch(this) {
+      case DOWN: return UP;
+      case UP: return DOWN;
+      case NORTH: return SOUTH;
+      case SOUTH: return NORTH;
+      case WEST: return EAST;
+      default: return WEST;
+    }
+  }
+}
@@ -24,6 +24,12 @@
 package net.kyori.math;
 
 public final class Mth {
+  private static final int SIN_BITS = 16;
+  private static final int SIN_MASK = (1 << SIN_BITS) - 1;
+  private static final double SIN_SCALE = (1 << SIN_BITS) / (Math.PI * 2d);
+  private static final int COS_OFFSET = 1 << (SIN_BITS - 2);
+  private static final double HALF_PI = Math.PI / 2d;
+
   public static double clamp(final double value, final double min, final double max) {
     if(value < min) return min;
     if(value > max) return max;
@@ -48,27 +54,314 @@ public final class Mth {
     return value;
   }
 
-  public static int floor(final double dv) {
-    final int iv = (int) dv;
-    return dv < iv ? iv - 1 : iv;
+  /**
+   * Gets the largest int that is not greater than a value, saturating at the bounds of an int.
+   *
+   * @param value the value
+   * @return the floor, or zero for NaN
+   */
+  public static int floor(final double value) {
+    return (int) Math.floor(value);
+  }
+
+  public static int floor(final float value) {
+    return (int) Math.floor(value);
+  }
+
+  public static long floorLong(final double value) {
+    return (long) Math.floor(value);
+  }
+
+  /**
+   * Gets the smallest int that is not less than a value, saturating at the bounds of an int.
+   *
+   * @param value the value
+   * @return the ceiling, or zero for NaN
+   */
+  public static int ceil(final double value) {
+    return (int) Math.ceil(value);
+  }
+
+  public static int ceil(final float value) {
+    return (int) Math.ceil(value);
+  }
+
+  public static long ceilLong(final double value) {
+    return (long) Math.ceil(value);
+  }
+
+  /**
+   * Gets the int closest to a value, rounding halves up as {@link Math#round(double)} does, and saturating
+   * at the bounds of an int.
+   *
+   * @param value the value
+   * @return the rounded value, or zero for NaN
+   */
+  public static int round(final double value) {
+    return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, Math.round(value)));
+  }
+
+  public static int round(final float value) {
+    return Math.round(value);
+  }
+
+  public static long roundLong(final double value) {
+    return Math.round(value);
+  }
+
+  /**
+   * Divides, rounding the quotient towards negative infinity as {@link Math#floorDiv(int, int)} does, without
+   * branching on the signs.
+   *
+   * @param x the dividend
+   * @param y the divisor
+   * @return the quotient
+   * @throws ArithmeticException if the divisor is zero
+   */
+  public static int floorDiv(final int x, final int y) {
+    final int remainder = x % y;
+    return x / y + adjustment(remainder, y);
+  }
+
+  public static long floorDiv(final long x, final long y) {
+    final long remainder = x % y;
+    return x / y + adjustment(remainder, y);
+  }
+
+  /**
+   * Gets the remainder of {@link #floorDiv(int, int)}, which has the sign of the divisor, as
+   * {@link Math#floorMod(int, int)} does.
+   *
+   * @param x the dividend
+   * @param y the divisor
+   * @return the remainder
+   * @throws ArithmeticException if the divisor is zero
+   */
+  public static int floorMod(final int x, final int y) {
+    final int remainder = x % y;
+    return remainder + (y & adjustment(remainder, y));
+  }
+
+  public static long floorMod(final long x, final long y) {
+    final long remainder = x % y;
+    return remainder + (y & adjustment(remainder, y));
+  }
+
+  // -1 when a remainder is non-zero and its sign differs from the divisor, so truncation rounded up, otherwise 0
+  private static int adjustment(final int remainder, final int divisor) {
+    return ((remainder ^ divisor) & (remainder | -remainder)) >> 31;
+  }
+
+  private static long adjustment(final long remainder, final long divisor) {
+    return ((remainder ^ divisor) & (remainder | -remainder)) >> 63;
+  }
+
+  /**
+   * Floors a range of values into ints, as {@link #floor(double)}.
+   *
+   * @param src the values
+   * @param srcOffset the index of the first value
+   * @param dst the array to write into
+   * @param dstOffset the index to write the first result to
+   * @param count the number of values
+   * @return {@code dst}
+   */
+  public static int[] floor(final double[] src, final int srcOffset, final int[] dst, final int dstOffset, final int count) {
+    checkArrays(src.length, srcOffset, dst.length, dstOffset, count);
+    for(int i = 0; i < count; i++) {
+      dst[dstOffset + i] = floor(src[srcOffset + i]);
+    }
+    return dst;
+  }
+
+  public static int[] floor(final double[] src, final int[] dst) {
+    return floor(src, 0, dst, 0, src.length);
+  }
+
+  public static int[] floor(final float[] src, final int srcOffset, final int[] dst, final int dstOffset, final int count) {
+    checkArrays(src.length, srcOffset, dst.length, dstOffset, count);
+    for(int i = 0; i < count; i++) {
+      dst[dstOffset + i] = floor(src[srcOffset + i]);
+    }
+    return dst;
+  }
+
+  public static int[] floor(final float[] src, final int[] dst) {
+    return floor(src, 0, dst, 0, src.length);
+  }
+
+  public static int[] ceil(final double[] src, final int srcOffset, final int[] dst, final int dstOffset, final int count) {
+    checkArrays(src.length, srcOffset, dst.length, dstOffset, count);
+    for(int i = 0; i < count; i++) {
+      dst[dstOffset + i] = ceil(src[srcOffset + i]);
+    }
+    return dst;
+  }
+
+  public static int[] ceil(final double[] src, final int[] dst) {
+    return ceil(src, 0, dst, 0, src.length);
+  }
+
+  public static int[] ceil(final float[] src, final int srcOffset, final int[] dst, final int dstOffset, final int count) {
+    checkArrays(src.length, srcOffset, dst.length, dstOffset, count);
+    for(int i = 0; i < count; i++) {
+      dst[dstOffset + i] = ceil(src[srcOffset + i]);
+    }
+    return dst;
+  }
+
+  public static int[] ceil(final float[] src, final int[] dst) {
+    return ceil(src, 0, dst, 0, src.length);
+  }
+
+  /**
+   * Clamps a range of values in place, as {@link #clamp(double, double, double)}.
+   *
+   * @param values the values
+   * @param from the index of the first value, inclusive
+   * @param to the index of the last value, exclusive
+   * @param min the minimum
+   * @param max the maximum
+   * @return {@code values}
+   */
+  public static double[] clamp(final double[] values, final int from, final int to, final double min, final double max) {
+    checkRange(values.length, from, to);
+    for(int i = from; i < to; i++) {
+      values[i] = clamp(values[i], min, max);
+    }
+    return values;
+  }
+
+  public static double[] clamp(final double[] values, final double min, final double max) {
+    return clamp(values, 0, values.length, min, max);
+  }
+
+  public static float[] clamp(final float[] values, final int from, final int to, final float min, final float max) {
+    checkRange(values.length, from, to);
+    for(int i = from; i < to; i++) {
+      values[i] = clamp(values[i], min, max);
+    }
+    return values;
+  }
+
+  public static float[] clamp(final float[] values, final float min, final float max) {
+    return clamp(values, 0, values.length, min, max);
+  }
+
+  public static int[] clamp(final int[] values, final int from, final int to, final int min, final int max) {
+    checkRange(values.length, from, to);
+    for(int i = from; i < to; i++) {
+      values[i] = clamp(values[i], min, max);
+    }
+    return values;
   }
 
-  public static int floor(final float fv) {
-    final int iv = (int) fv;
-    return fv < iv ? iv - 1 : iv;
+  public static int[] clamp(final int[] values, final int min, final int max) {
+    return clamp(values, 0, values.length, min, max);
   }
 
-  public static int ceil(final double dv) {
-    final int iv = (int) dv;
-    return dv > iv ? iv + 1 : iv;
+  private static void checkArrays(final int srcLength, final int srcOffset, final int dstLength, final int dstOffset, final int count) {
+    if(count < 0 || srcOffset < 0 || dstOffset < 0 || srcOffset > srcLength - count || dstOffset > dstLength - count) {
+      throw new IndexOutOfBoundsException("cannot round " + count + " values from offset " + srcOffset + " of " + srcLength + " into offset " + dstOffset + " of " + dstLength);
+    }
   }
 
-  public static int ceil(final float fv) {
-    final int iv = (int) fv;
-    return fv > iv ? iv + 1 : iv;
+  private static void checkRange(final int size, final int from, final int to) {
+    if(from < 0 || from > to || to > size) {
+      throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for size " + size);
+    }
   }
 
   public static float sqrt(final float value) {
     return (float) Math.sqrt(value);
   }
+
+  /**
+   * Gets the sine of an angle from a table of 65536 steps around the circle.
+   *
+   * <p>The result is within {@code 5e-5} of {@link Math#sin(double)} for angles below {@code 1e9} radians in
+   * magnitude, and within {@code 1e-4} below {@code 1e11}. Past that, the table index loses its low bits and
+   * the error grows with the angle.</p>
+   *
+   * @param radians the angle
+   * @return the approximate sine
+   */
+  public static float fastSin(final float radians) {
+    return SinTable.SIN[(int) (long) Math.floor(radians * SIN_SCALE + 0.5d) & SIN_MASK];
+  }
+
+  public static double fastSin(final double radians) {
+    return SinTable.SIN[(int) (long) Math.floor(radians * SIN_SCALE + 0.5d) & SIN_MASK];
+  }
+
+  /**
+   * Gets the cosine of an angle from the same table as {@link #fastSin(float)}, and within the same bound.
+   *
+   * @param radians the angle
+   * @return the approximate cosine
+   */
+  public static float fastCos(final float radians) {
+    return SinTable.SIN[((int) (long) Math.floor(radians * SIN_SCALE + 0.5d) + COS_OFFSET) & SIN_MASK];
+  }
+
+  public static double fastCos(final double radians) {
+    return SinTable.SIN[((int) (long) Math.floor(radians * SIN_SCALE + 0.5d) + COS_OFFSET) & SIN_MASK];
+  }
+
+  /**
+   * Gets the angle of a point from the positive x axis, as {@link Math#atan2(double, double)} does, with a
+   * polynomial approximation.
+   *
+   * <p>The result is within {@code 2e-6} radians of {@link Math#atan2(double, double)} for finite
+   * arguments. The angle of the origin is zero.</p>
+   *
+   * @param y the y coordinate
+   * @param x the x coordinate
+   * @return the approximate angle, in {@code [-pi, pi]}
+   */
+  public static double fastAtan2(final double y, final double x) {
+    final double ax = Math.abs(x);
+    final double ay = Math.abs(y);
+    final double max = Math.max(ax, ay);
+    if(max == 0d) return 0d;
+    // atan on [0, 1], folded out into the other octants
+    final double a = Math.min(ax, ay) / max;
+    final double s = a * a;
+    double r = a * (0.99997726d + s * (-0.33262347d + s * (0.19354346d + s * (-0.11643287d + s * (0.05265332d + s * -0.01172120d)))));
+    if(ay > ax) r = HALF_PI - r;
+    if(x < 0d) r = Math.PI - r;
+    return Math.copySign(r, y);
+  }
+
+  public static float fastAtan2(final float y, final float x) {
+    return (float) fastAtan2((double) y, (double) x);
+  }
+
+  /**
+   * Gets an approximation of {@code 1 / sqrt(value)}, refining an estimate made from the bits of the value
+   * with two steps of Newton's method.
+   *
+   * <p>The result is within a relative error of {@code 5e-6} for positive normal values.</p>
+   *
+   * @param value the value
+   * @return the approximate inverse square root
+   */
+  public static float fastInvSqrt(final float value) {
+    final float half = value * 0.5f;
+    float estimate = Float.intBitsToFloat(0x5f375a86 - (Float.floatToRawIntBits(value) >> 1));
+    estimate *= 1.5f - half * estimate * estimate;
+    estimate *= 1.5f - half * estimate * estimate;
+    return estimate;
+  }
+
+  // initialized on first use of fastSin or fastCos, so everything else in Mth avoids building the table
+  private static final class SinTable {
+    static final float[] SIN = new float[1 << SIN_BITS];
+
+    static {
+      for(int i = 0; i < SIN.length; i++) {
+        SIN[i] = (float) Math.sin(i / SIN_SCALE);
+      }
+    }
+  }
 }
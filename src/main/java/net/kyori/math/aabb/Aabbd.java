@@ -0,0 +1,259 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.aabb;
+
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A mutable axis-aligned bounding box of doubles.
+ *
+ * <p>The box is closed: points on its faces are contained, and boxes that only touch intersect. Every
+ * mutating method changes and returns this box.</p>
+ */
+public class Aabbd {
+  private double minX;
+  private double minY;
+  private double minZ;
+  private double maxX;
+  private double maxY;
+  private double maxZ;
+
+  public static @NonNull Aabbd of(final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ) {
+    return new Aabbd().set(minX, minY, minZ, maxX, maxY, maxZ);
+  }
+
+  public static @NonNull Aabbd of(final @NonNull Vector3d min, final @NonNull Vector3d max) {
+    return of(min.x(), min.y(), min.z(), max.x(), max.y(), max.z());
+  }
+
+  // the smallest box containing both corners, in any order
+  public static @NonNull Aabbd corners(final @NonNull Vector3d a, final @NonNull Vector3d b) {
+    return of(
+      Math.min(a.x(), b.x()), Math.min(a.y(), b.y()), Math.min(a.z(), b.z()),
+      Math.max(a.x(), b.x()), Math.max(a.y(), b.y()), Math.max(a.z(), b.z())
+    );
+  }
+
+  public static @NonNull Aabbd from(final @NonNull Aabbd that) {
+    return new Aabbd().set(that);
+  }
+
+  protected Aabbd() {
+  }
+
+  public double minX() {
+    return this.minX;
+  }
+
+  public double minY() {
+    return this.minY;
+  }
+
+  public double minZ() {
+    return this.minZ;
+  }
+
+  public double maxX() {
+    return this.maxX;
+  }
+
+  public double maxY() {
+    return this.maxY;
+  }
+
+  public double maxZ() {
+    return this.maxZ;
+  }
+
+  public double sizeX() {
+    return this.maxX - this.minX;
+  }
+
+  public double sizeY() {
+    return this.maxY - this.minY;
+  }
+
+  public double sizeZ() {
+    return this.maxZ - this.minZ;
+  }
+
+  public double volume() {
+    return this.sizeX() * this.sizeY() * this.sizeZ();
+  }
+
+  public @NonNull MutVector3d min(final @NonNull MutVector3d dst) {
+    return dst.set(this.minX, this.minY, this.minZ);
+  }
+
+  public @NonNull MutVector3d max(final @NonNull MutVector3d dst) {
+    return dst.set(this.maxX, this.maxY, this.maxZ);
+  }
+
+  public @NonNull MutVector3d center(final @NonNull MutVector3d dst) {
+    return dst.set((this.minX + this.maxX) / 2d, (this.minY + this.maxY) / 2d, (this.minZ + this.maxZ) / 2d);
+  }
+
+  public @NonNull Aabbd set(final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ) {
+    if(minX > maxX || minY > maxY || minZ > maxZ) {
+      throw new IllegalArgumentException("minimum exceeds maximum: (" + minX + ", " + minY + ", " + minZ + "), (" + maxX + ", " + maxY + ", " + maxZ + ")");
+    }
+    this.minX = minX;
+    this.minY = minY;
+    this.minZ = minZ;
+    this.maxX = maxX;
+    this.maxY = maxY;
+    this.maxZ = maxZ;
+    return this;
+  }
+
+  public @NonNull Aabbd set(final @NonNull Aabbd that) {
+    return this.set(that.minX, that.minY, that.minZ, that.maxX, that.maxY, that.maxZ);
+  }
+
+  public @NonNull Aabbd copy() {
+    return from(this);
+  }
+
+  public boolean contains(final double x, final double y, final double z) {
+    return x >= this.minX && x <= this.maxX
+      && y >= this.minY && y <= this.maxY
+      && z >= this.minZ && z <= this.maxZ;
+  }
+
+  public boolean contains(final @NonNull Vector3d vector) {
+    return this.contains(vector.x(), vector.y(), vector.z());
+  }
+
+  public boolean contains(final @NonNull Aabbd that) {
+    return that.minX >= this.minX && that.maxX <= this.maxX
+      && that.minY >= this.minY && that.maxY <= this.maxY
+      && that.minZ >= this.minZ && that.maxZ <= this.maxZ;
+  }
+
+  public boolean intersects(final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ) {
+    return minX <= this.maxX && maxX >= this.minX
+      && minY <= this.maxY && maxY >= this.minY
+      && minZ <= this.maxZ && maxZ >= this.minZ;
+  }
+
+  public boolean intersects(final @NonNull Aabbd that) {
+    return this.intersects(that.minX, that.minY, that.minZ, that.maxX, that.maxY, that.maxZ);
+  }
+
+  // grows this box to contain the point
+  public @NonNull Aabbd union(final double x, final double y, final double z) {
+    return this.set(
+      Math.min(this.minX, x), Math.min(this.minY, y), Math.min(this.minZ, z),
+      Math.max(this.maxX, x), Math.max(this.maxY, y), Math.max(this.maxZ, z)
+    );
+  }
+
+  public @NonNull Aabbd union(final @NonNull Aabbd that) {
+    return this.set(
+      Math.min(this.minX, that.minX), Math.min(this.minY, that.minY), Math.min(this.minZ, that.minZ),
+      Math.max(this.maxX, that.maxX), Math.max(this.maxY, that.maxY), Math.max(this.maxZ, that.maxZ)
+    );
+  }
+
+  // moves every face outwards, or inwards for negative amounts
+  public @NonNull Aabbd expand(final double x, final double y, final double z) {
+    return this.set(this.minX - x, this.minY - y, this.minZ - z, this.maxX + x, this.maxY + y, this.maxZ + z);
+  }
+
+  public @NonNull Aabbd expand(final double n) {
+    return this.expand(n, n, n);
+  }
+
+  public @NonNull Aabbd offset(final double x, final double y, final double z) {
+    return this.set(this.minX + x, this.minY + y, this.minZ + z, this.maxX + x, this.maxY + y, this.maxZ + z);
+  }
+
+  public @NonNull Aabbd offset(final @NonNull Vector3d vector) {
+    return this.offset(vector.x(), vector.y(), vector.z());
+  }
+
+  /**
+   * Finds where a ray enters this box, as a multiple of its direction.
+   *
+   * @return the distance, which is zero if the origin is inside this box, or -1 if the ray misses this box
+   *     within {@code maxDistance}
+   */
+  public double ray(final double ox, final double oy, final double oz, final double dx, final double dy, final double dz, final double maxDistance) {
+    return Slabs.ray(this.minX, this.minY, this.minZ, this.maxX, this.maxY, this.maxZ, ox, oy, oz, dx, dy, dz, maxDistance);
+  }
+
+  public double ray(final @NonNull Vector3d origin, final @NonNull Vector3d direction, final double maxDistance) {
+    return this.ray(origin.x(), origin.y(), origin.z(), direction.x(), direction.y(), direction.z(), maxDistance);
+  }
+
+  /**
+   * Finds when {@code moving}, translated by the motion, first touches this box.
+   *
+   * @return the fraction of the motion in {@code [0, 1]}, which is zero if the boxes already touch, or -1
+   *     if they never do
+   */
+  public double sweep(final @NonNull Aabbd moving, final double dx, final double dy, final double dz) {
+    // trace the minimum corner of moving against this box grown by the size of moving
+    return Slabs.ray(
+      this.minX - moving.sizeX(), this.minY - moving.sizeY(), this.minZ - moving.sizeZ(), this.maxX, this.maxY, this.maxZ,
+      moving.minX, moving.minY, moving.minZ, dx, dy, dz,
+      1d
+    );
+  }
+
+  public double sweep(final @NonNull Aabbd moving, final @NonNull Vector3d motion) {
+    return this.sweep(moving, motion.x(), motion.y(), motion.z());
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Double.hashCode(this.minX);
+    result = 31 * result + Double.hashCode(this.minY);
+    result = 31 * result + Double.hashCode(this.minZ);
+    result = 31 * result + Double.hashCode(this.maxX);
+    result = 31 * result + Double.hashCode(this.maxY);
+    result = 31 * result + Double.hashCode(this.maxZ);
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!(other instanceof Aabbd)) return false;
+    final Aabbd that = (Aabbd) other;
+    return Double.compare(this.minX, that.minX) == 0
+      && Double.compare(this.minY, that.minY) == 0
+      && Double.compare(this.minZ, that.minZ) == 0
+      && Double.compare(this.maxX, that.maxX) == 0
+      && Double.compare(this.maxY, that.maxY) == 0
+      && Double.compare(this.maxZ, that.maxZ) == 0;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{min=(%f, %f, %f), max=(%f, %f, %f)}", this.getClass().getSimpleName(), this.minX, this.minY, this.minZ, this.maxX, this.maxY, this.maxZ);
+  }
+}
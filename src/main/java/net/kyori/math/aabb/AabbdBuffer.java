@@ -0,0 +1,285 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.aabb;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A fixed-size array of boxes, stored as one array per bound.
+ *
+ * <p>Batch queries test a range {@code [from, to)} of the boxes against a single box, point or ray. They
+ * report hits either as a bitmask, where bit {@code i % 64} of {@code mask[i / 64]} is set if box
+ * {@code i} is hit and bits outside of the range are left untouched, or as a list of indices. Both return
+ * the number of hits.</p>
+ */
+public class AabbdBuffer {
+  private final double[] minX;
+  private final double[] minY;
+  private final double[] minZ;
+  private final double[] maxX;
+  private final double[] maxY;
+  private final double[] maxZ;
+
+  public static @NonNull AabbdBuffer create(final int size) {
+    return new AabbdBuffer(new double[size], new double[size], new double[size], new double[size], new double[size], new double[size]);
+  }
+
+  public static @NonNull AabbdBuffer wrap(final double[] minX, final double[] minY, final double[] minZ, final double[] maxX, final double[] maxY, final double[] maxZ) {
+    final int size = minX.length;
+    if(minY.length != size || minZ.length != size || maxX.length != size || maxY.length != size || maxZ.length != size) {
+      throw new IllegalArgumentException("bound arrays differ in length");
+    }
+    return new AabbdBuffer(minX, minY, minZ, maxX, maxY, maxZ);
+  }
+
+  protected AabbdBuffer(final double[] minX, final double[] minY, final double[] minZ, final double[] maxX, final double[] maxY, final double[] maxZ) {
+    this.minX = minX;
+    this.minY = minY;
+    this.minZ = minZ;
+    this.maxX = maxX;
+    this.maxY = maxY;
+    this.maxZ = maxZ;
+  }
+
+  public int size() {
+    return this.minX.length;
+  }
+
+  public double[] minXs() {
+    return this.minX;
+  }
+
+  public double[] minYs() {
+    return this.minY;
+  }
+
+  public double[] minZs() {
+    return this.minZ;
+  }
+
+  public double[] maxXs() {
+    return this.maxX;
+  }
+
+  public double[] maxYs() {
+    return this.maxY;
+  }
+
+  public double[] maxZs() {
+    return this.maxZ;
+  }
+
+  public @NonNull Aabbd get(final int index) {
+    return Aabbd.of(this.minX[index], this.minY[index], this.minZ[index], this.maxX[index], this.maxY[index], this.maxZ[index]);
+  }
+
+  public @NonNull Aabbd get(final int index, final @NonNull Aabbd dst) {
+    return dst.set(this.minX[index], this.minY[index], this.minZ[index], this.maxX[index], this.maxY[index], this.maxZ[index]);
+  }
+
+  public @NonNull AabbdBuffer set(final int index, final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ) {
+    if(minX > maxX || minY > maxY || minZ > maxZ) {
+      throw new IllegalArgumentException("minimum exceeds maximum: (" + minX + ", " + minY + ", " + minZ + "), (" + maxX + ", " + maxY + ", " + maxZ + ")");
+    }
+    this.minX[index] = minX;
+    this.minY[index] = minY;
+    this.minZ[index] = minZ;
+    this.maxX[index] = maxX;
+    this.maxY[index] = maxY;
+    this.maxZ[index] = maxZ;
+    return this;
+  }
+
+  public @NonNull AabbdBuffer set(final int index, final @NonNull Aabbd box) {
+    return this.set(index, box.minX(), box.minY(), box.minZ(), box.maxX(), box.maxY(), box.maxZ());
+  }
+
+  public int intersects(final @NonNull Aabbd box, final int from, final int to, final long[] mask) {
+    this.checkRange(from, to);
+    checkMask(mask, to);
+    final double bMinX = box.minX();
+    final double bMinY = box.minY();
+    final double bMinZ = box.minZ();
+    final double bMaxX = box.maxX();
+    final double bMaxY = box.maxY();
+    final double bMaxZ = box.maxZ();
+    final double[] minX = this.minX;
+    final double[] minY = this.minY;
+    final double[] minZ = this.minZ;
+    final double[] maxX = this.maxX;
+    final double[] maxY = this.maxY;
+    final double[] maxZ = this.maxZ;
+    int count = 0;
+    for(int start = from; start < to; ) {
+      final int end = Math.min(to, ((start >>> 6) + 1) << 6);
+      long bits = 0L;
+      for(int i = start; i < end; i++) {
+        // non-short-circuit, so that the loop body stays free of branches
+        final boolean hit = (minX[i] <= bMaxX) & (maxX[i] >= bMinX)
+          & (minY[i] <= bMaxY) & (maxY[i] >= bMinY)
+          & (minZ[i] <= bMaxZ) & (maxZ[i] >= bMinZ);
+        bits |= (hit ? 1L : 0L) << i;
+      }
+      count += store(mask, start, end, bits);
+      start = end;
+    }
+    return count;
+  }
+
+  // hits must have room for every box in the range
+  public int intersects(final @NonNull Aabbd box, final int from, final int to, final int[] hits) {
+    this.checkRange(from, to);
+    checkHits(hits, from, to);
+    final double bMinX = box.minX();
+    final double bMinY = box.minY();
+    final double bMinZ = box.minZ();
+    final double bMaxX = box.maxX();
+    final double bMaxY = box.maxY();
+    final double bMaxZ = box.maxZ();
+    final double[] minX = this.minX;
+    final double[] minY = this.minY;
+    final double[] minZ = this.minZ;
+    final double[] maxX = this.maxX;
+    final double[] maxY = this.maxY;
+    final double[] maxZ = this.maxZ;
+    int count = 0;
+    for(int i = from; i < to; i++) {
+      final boolean hit = (minX[i] <= bMaxX) & (maxX[i] >= bMinX)
+        & (minY[i] <= bMaxY) & (maxY[i] >= bMinY)
+        & (minZ[i] <= bMaxZ) & (maxZ[i] >= bMinZ);
+      // always written, and only kept by advancing the count
+      hits[count] = i;
+      count += hit ? 1 : 0;
+    }
+    return count;
+  }
+
+  public int contains(final double x, final double y, final double z, final int from, final int to, final long[] mask) {
+    this.checkRange(from, to);
+    checkMask(mask, to);
+    final double[] minX = this.minX;
+    final double[] minY = this.minY;
+    final double[] minZ = this.minZ;
+    final double[] maxX = this.maxX;
+    final double[] maxY = this.maxY;
+    final double[] maxZ = this.maxZ;
+    int count = 0;
+    for(int start = from; start < to; ) {
+      final int end = Math.min(to, ((start >>> 6) + 1) << 6);
+      long bits = 0L;
+      for(int i = start; i < end; i++) {
+        final boolean hit = (x >= minX[i]) & (x <= maxX[i])
+          & (y >= minY[i]) & (y <= maxY[i])
+          & (z >= minZ[i]) & (z <= maxZ[i]);
+        bits |= (hit ? 1L : 0L) << i;
+      }
+      count += store(mask, start, end, bits);
+      start = end;
+    }
+    return count;
+  }
+
+  public int contains(final double x, final double y, final double z, final int from, final int to, final int[] hits) {
+    this.checkRange(from, to);
+    checkHits(hits, from, to);
+    final double[] minX = this.minX;
+    final double[] minY = this.minY;
+    final double[] minZ = this.minZ;
+    final double[] maxX = this.maxX;
+    final double[] maxY = this.maxY;
+    final double[] maxZ = this.maxZ;
+    int count = 0;
+    for(int i = from; i < to; i++) {
+      final boolean hit = (x >= minX[i]) & (x <= maxX[i])
+        & (y >= minY[i]) & (y <= maxY[i])
+        & (z >= minZ[i]) & (z <= maxZ[i]);
+      hits[count] = i;
+      count += hit ? 1 : 0;
+    }
+    return count;
+  }
+
+  public int ray(final double ox, final double oy, final double oz, final double dx, final double dy, final double dz, final double maxDistance, final int from, final int to, final long[] mask) {
+    this.checkRange(from, to);
+    checkMask(mask, to);
+    int count = 0;
+    for(int start = from; start < to; ) {
+      final int end = Math.min(to, ((start >>> 6) + 1) << 6);
+      long bits = 0L;
+      for(int i = start; i < end; i++) {
+        final double distance = Slabs.ray(this.minX[i], this.minY[i], this.minZ[i], this.maxX[i], this.maxY[i], this.maxZ[i], ox, oy, oz, dx, dy, dz, maxDistance);
+        bits |= (distance >= 0d ? 1L : 0L) << i;
+      }
+      count += store(mask, start, end, bits);
+      start = end;
+    }
+    return count;
+  }
+
+  /**
+   * Finds the box that a ray enters first.
+   *
+   * @return the index of the box, or -1 if the ray misses every box in the range within
+   *     {@code maxDistance}
+   */
+  public int nearest(final double ox, final double oy, final double oz, final double dx, final double dy, final double dz, final double maxDistance, final int from, final int to) {
+    this.checkRange(from, to);
+    int nearest = -1;
+    double limit = maxDistance;
+    for(int i = from; i < to; i++) {
+      final double distance = Slabs.ray(this.minX[i], this.minY[i], this.minZ[i], this.maxX[i], this.maxY[i], this.maxZ[i], ox, oy, oz, dx, dy, dz, limit);
+      // later boxes only have to be tested up to the nearest hit so far
+      if(distance >= 0d && (nearest == -1 || distance < limit)) {
+        nearest = i;
+        limit = distance;
+      }
+    }
+    return nearest;
+  }
+
+  private static int store(final long[] mask, final int start, final int end, final long bits) {
+    final long range = (-1L >>> (Long.SIZE - (end - start))) << start;
+    final int word = start >>> 6;
+    mask[word] = (mask[word] & ~range) | bits;
+    return Long.bitCount(bits);
+  }
+
+  private static void checkMask(final long[] mask, final int to) {
+    if(mask.length < (to + 63) >>> 6) {
+      throw new IndexOutOfBoundsException("mask of " + mask.length + " words cannot hold " + to + " bits");
+    }
+  }
+
+  private static void checkHits(final int[] hits, final int from, final int to) {
+    if(hits.length < to - from) {
+      throw new IndexOutOfBoundsException("hits of length " + hits.length + " cannot hold " + (to - from) + " indices");
+    }
+  }
+
+  void checkRange(final int from, final int to) {
+    if(from < 0 || from > to || to > this.minX.length) {
+      throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for size " + this.minX.length);
+    }
+  }
+}
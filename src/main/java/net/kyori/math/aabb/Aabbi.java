@@ -0,0 +1,259 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.aabb;
+
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.i.MutVector3i;
+import net.kyori.math.vector.i.Vector3i;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A mutable axis-aligned box of integer positions, such as a region of blocks.
+ *
+ * <p>Both corners are inclusive. In continuous space, for ray and sweep tests, the box covers each of its
+ * positions as a unit cube, up to but not including {@code max + 1}. Every mutating method changes and
+ * returns this box.</p>
+ */
+public class Aabbi {
+  private int minX;
+  private int minY;
+  private int minZ;
+  private int maxX;
+  private int maxY;
+  private int maxZ;
+
+  public static @NonNull Aabbi of(final int minX, final int minY, final int minZ, final int maxX, final int maxY, final int maxZ) {
+    return new Aabbi().set(minX, minY, minZ, maxX, maxY, maxZ);
+  }
+
+  public static @NonNull Aabbi of(final @NonNull Vector3i min, final @NonNull Vector3i max) {
+    return of(min.x(), min.y(), min.z(), max.x(), max.y(), max.z());
+  }
+
+  // the smallest box containing both corners, in any order
+  public static @NonNull Aabbi corners(final @NonNull Vector3i a, final @NonNull Vector3i b) {
+    return of(
+      Math.min(a.x(), b.x()), Math.min(a.y(), b.y()), Math.min(a.z(), b.z()),
+      Math.max(a.x(), b.x()), Math.max(a.y(), b.y()), Math.max(a.z(), b.z())
+    );
+  }
+
+  public static @NonNull Aabbi from(final @NonNull Aabbi that) {
+    return new Aabbi().set(that);
+  }
+
+  protected Aabbi() {
+  }
+
+  public int minX() {
+    return this.minX;
+  }
+
+  public int minY() {
+    return this.minY;
+  }
+
+  public int minZ() {
+    return this.minZ;
+  }
+
+  public int maxX() {
+    return this.maxX;
+  }
+
+  public int maxY() {
+    return this.maxY;
+  }
+
+  public int maxZ() {
+    return this.maxZ;
+  }
+
+  public int sizeX() {
+    return this.maxX - this.minX + 1;
+  }
+
+  public int sizeY() {
+    return this.maxY - this.minY + 1;
+  }
+
+  public int sizeZ() {
+    return this.maxZ - this.minZ + 1;
+  }
+
+  // the number of positions
+  public long volume() {
+    return (long) this.sizeX() * this.sizeY() * this.sizeZ();
+  }
+
+  public @NonNull MutVector3i min(final @NonNull MutVector3i dst) {
+    return dst.set(this.minX, this.minY, this.minZ);
+  }
+
+  public @NonNull MutVector3i max(final @NonNull MutVector3i dst) {
+    return dst.set(this.maxX, this.maxY, this.maxZ);
+  }
+
+  public @NonNull Aabbi set(final int minX, final int minY, final int minZ, final int maxX, final int maxY, final int maxZ) {
+    if(minX > maxX || minY > maxY || minZ > maxZ) {
+      throw new IllegalArgumentException("minimum exceeds maximum: (" + minX + ", " + minY + ", " + minZ + "), (" + maxX + ", " + maxY + ", " + maxZ + ")");
+    }
+    this.minX = minX;
+    this.minY = minY;
+    this.minZ = minZ;
+    this.maxX = maxX;
+    this.maxY = maxY;
+    this.maxZ = maxZ;
+    return this;
+  }
+
+  public @NonNull Aabbi set(final @NonNull Aabbi that) {
+    return this.set(that.minX, that.minY, that.minZ, that.maxX, that.maxY, that.maxZ);
+  }
+
+  public @NonNull Aabbi copy() {
+    return from(this);
+  }
+
+  public @NonNull Aabbd toAabbd() {
+    return Aabbd.of(this.minX, this.minY, this.minZ, this.maxX + 1d, this.maxY + 1d, this.maxZ + 1d);
+  }
+
+  public boolean contains(final int x, final int y, final int z) {
+    return x >= this.minX && x <= this.maxX
+      && y >= this.minY && y <= this.maxY
+      && z >= this.minZ && z <= this.maxZ;
+  }
+
+  public boolean contains(final @NonNull Vector3i vector) {
+    return this.contains(vector.x(), vector.y(), vector.z());
+  }
+
+  public boolean contains(final @NonNull Aabbi that) {
+    return that.minX >= this.minX && that.maxX <= this.maxX
+      && that.minY >= this.minY && that.maxY <= this.maxY
+      && that.minZ >= this.minZ && that.maxZ <= this.maxZ;
+  }
+
+  public boolean intersects(final int minX, final int minY, final int minZ, final int maxX, final int maxY, final int maxZ) {
+    return minX <= this.maxX && maxX >= this.minX
+      && minY <= this.maxY && maxY >= this.minY
+      && minZ <= this.maxZ && maxZ >= this.minZ;
+  }
+
+  public boolean intersects(final @NonNull Aabbi that) {
+    return this.intersects(that.minX, that.minY, that.minZ, that.maxX, that.maxY, that.maxZ);
+  }
+
+  public @NonNull Aabbi union(final int x, final int y, final int z) {
+    return this.set(
+      Math.min(this.minX, x), Math.min(this.minY, y), Math.min(this.minZ, z),
+      Math.max(this.maxX, x), Math.max(this.maxY, y), Math.max(this.maxZ, z)
+    );
+  }
+
+  public @NonNull Aabbi union(final @NonNull Aabbi that) {
+    return this.set(
+      Math.min(this.minX, that.minX), Math.min(this.minY, that.minY), Math.min(this.minZ, that.minZ),
+      Math.max(this.maxX, that.maxX), Math.max(this.maxY, that.maxY), Math.max(this.maxZ, that.maxZ)
+    );
+  }
+
+  public @NonNull Aabbi expand(final int x, final int y, final int z) {
+    return this.set(this.minX - x, this.minY - y, this.minZ - z, this.maxX + x, this.maxY + y, this.maxZ + z);
+  }
+
+  public @NonNull Aabbi expand(final int n) {
+    return this.expand(n, n, n);
+  }
+
+  public @NonNull Aabbi offset(final int x, final int y, final int z) {
+    return this.set(this.minX + x, this.minY + y, this.minZ + z, this.maxX + x, this.maxY + y, this.maxZ + z);
+  }
+
+  public @NonNull Aabbi offset(final @NonNull Vector3i vector) {
+    return this.offset(vector.x(), vector.y(), vector.z());
+  }
+
+  /**
+   * Finds where a ray enters this box, as a multiple of its direction.
+   *
+   * @return the distance, which is zero if the origin is inside this box, or -1 if the ray misses this box
+   *     within {@code maxDistance}
+   * @see Aabbd#ray(double, double, double, double, double, double, double)
+   */
+  public double ray(final double ox, final double oy, final double oz, final double dx, final double dy, final double dz, final double maxDistance) {
+    return Slabs.ray(this.minX, this.minY, this.minZ, this.maxX + 1d, this.maxY + 1d, this.maxZ + 1d, ox, oy, oz, dx, dy, dz, maxDistance);
+  }
+
+  public double ray(final @NonNull Vector3d origin, final @NonNull Vector3d direction, final double maxDistance) {
+    return this.ray(origin.x(), origin.y(), origin.z(), direction.x(), direction.y(), direction.z(), maxDistance);
+  }
+
+  /**
+   * Finds when {@code moving}, translated by the motion, first touches this box.
+   *
+   * @see Aabbd#sweep(Aabbd, double, double, double)
+   */
+  public double sweep(final @NonNull Aabbd moving, final double dx, final double dy, final double dz) {
+    return Slabs.ray(
+      this.minX - moving.sizeX(), this.minY - moving.sizeY(), this.minZ - moving.sizeZ(), this.maxX + 1d, this.maxY + 1d, this.maxZ + 1d,
+      moving.minX(), moving.minY(), moving.minZ(), dx, dy, dz,
+      1d
+    );
+  }
+
+  public double sweep(final @NonNull Aabbd moving, final @NonNull Vector3d motion) {
+    return this.sweep(moving, motion.x(), motion.y(), motion.z());
+  }
+
+  @Override
+  public int hashCode() {
+    int result = this.minX;
+    result = 31 * result + this.minY;
+    result = 31 * result + this.minZ;
+    result = 31 * result + this.maxX;
+    result = 31 * result + this.maxY;
+    result = 31 * result + this.maxZ;
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!(other instanceof Aabbi)) return false;
+    final Aabbi that = (Aabbi) other;
+    return this.minX == that.minX
+      && this.minY == that.minY
+      && this.minZ == that.minZ
+      && this.maxX == that.maxX
+      && this.maxY == that.maxY
+      && this.maxZ == that.maxZ;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{min=(%d, %d, %d), max=(%d, %d, %d)}", this.getClass().getSimpleName(), this.minX, this.minY, this.minZ, this.maxX, this.maxY, this.maxZ);
+  }
+}
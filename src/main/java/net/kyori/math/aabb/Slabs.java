@@ -0,0 +1,72 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.aabb;
+
+final class Slabs {
+  static final double MISS = -1d;
+
+  /*
+   * Clips the segment from the origin along the direction, up to maxDistance multiples of it, against
+   * each pair of planes in turn. An axis the ray is parallel to only has to contain the origin.
+   */
+  static double ray(
+    final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ,
+    final double ox, final double oy, final double oz, final double dx, final double dy, final double dz,
+    final double maxDistance
+  ) {
+    double near = 0d;
+    double far = maxDistance;
+    if(dx == 0d) {
+      if(ox < minX || ox > maxX) return MISS;
+    } else {
+      final double inv = 1d / dx;
+      final double t0 = (minX - ox) * inv;
+      final double t1 = (maxX - ox) * inv;
+      near = Math.max(near, Math.min(t0, t1));
+      far = Math.min(far, Math.max(t0, t1));
+      if(near > far) return MISS;
+    }
+    if(dy == 0d) {
+      if(oy < minY || oy > maxY) return MISS;
+    } else {
+      final double inv = 1d / dy;
+      final double t0 = (minY - oy) * inv;
+      final double t1 = (maxY - oy) * inv;
+      near = Math.max(near, Math.min(t0, t1));
+      far = Math.min(far, Math.max(t0, t1));
+      if(near > far) return MISS;
+    }
+    if(dz == 0d) {
+      if(oz < minZ || oz > maxZ) return MISS;
+    } else {
+      final double inv = 1d / dz;
+      final double t0 = (minZ - oz) * inv;
+      final double t1 = (maxZ - oz) * inv;
+      near = Math.max(near, Math.min(t0, t1));
+      far = Math.min(far, Math.max(t0, t1));
+      if(near > far) return MISS;
+    }
+    return near;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.codec;
+
+import net.kyori.math.vector.d.MutVector3d;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes the samples written by a {@link TrajectoryEncoder} of the same precision.
+ *
+ * <p>A new or {@link #reset()} decoder has no position to apply residuals to, so it skips samples until
+ * the next keyframe.</p>
+ */
+public final class TrajectoryDecoder {
+  private final double precision;
+  private long x;
+  private long y;
+  private long z;
+  private boolean synced;
+  private long bits;
+  private int bitCount;
+
+  public static @NonNull TrajectoryDecoder create(final double precision) {
+    TrajectoryEncoder.checkPrecision(precision);
+    return new TrajectoryDecoder(precision);
+  }
+
+  private TrajectoryDecoder(final double precision) {
+    this.precision = precision;
+  }
+
+  public double precision() {
+    return this.precision;
+  }
+
+  /**
+   * Gets if this decoder has seen a keyframe since it was created or reset.
+   *
+   * @return if decoded samples are positions
+   */
+  public boolean synced() {
+    return this.synced;
+  }
+
+  /**
+   * Forgets the current position, after samples were lost, and waits for the next keyframe.
+   */
+  public void reset() {
+    this.synced = false;
+    this.align();
+  }
+
+  /**
+   * Reads the next sample from {@code src}.
+   *
+   * @param src the buffer
+   * @param dst the position to set
+   * @return {@code true} if {@code dst} was set, or {@code false} if the sample was skipped waiting for a keyframe
+   */
+  public boolean decode(final @NonNull ByteBuffer src, final @NonNull MutVector3d dst) {
+    final int header = (int) this.read(src, TrajectoryEncoder.HEADER_BITS);
+    if(header == TrajectoryEncoder.KEYFRAME) {
+      this.x = this.read(src, Long.SIZE);
+      this.y = this.read(src, Long.SIZE);
+      this.z = this.read(src, Long.SIZE);
+      this.synced = true;
+    } else {
+      final long dx = TrajectoryEncoder.unzigzag(this.read(src, header));
+      final long dy = TrajectoryEncoder.unzigzag(this.read(src, header));
+      final long dz = TrajectoryEncoder.unzigzag(this.read(src, header));
+      if(!this.synced) return false;
+      this.x += dx;
+      this.y += dy;
+      this.z += dz;
+    }
+    dst.set(this.x * this.precision, this.y * this.precision, this.z * this.precision);
+    return true;
+  }
+
+  /**
+   * Drops the padding bits of the current byte, at the end of a packet written by {@link TrajectoryEncoder#flush(ByteBuffer)}.
+   */
+  public void align() {
+    this.bits = 0L;
+    this.bitCount = 0;
+  }
+
+  private long read(final ByteBuffer src, final int count) {
+    if(count > 56) {
+      final long low = this.read(src, 32);
+      return low | (this.read(src, count - 32) << 32);
+    }
+    // fewer than 8 bits are ever held beyond count, so the bytes loaded always fit
+    while(this.bitCount < count) {
+      this.bits |= (src.get() & 0xffL) << this.bitCount;
+      this.bitCount += 8;
+    }
+    final long value = this.bits & ((1L << count) - 1L);
+    this.bits >>>= count;
+    this.bitCount -= count;
+    return value;
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.codec;
+
+import net.kyori.math.vector.d.Vector3d;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes a stream of positions as quantized, delta-compressed, bit-packed samples.
+ *
+ * <p>Each position is rounded to a multiple of the precision and stored as the difference from the one before.
+ * A sample is a 6-bit header holding the width {@code w} of its residuals, followed by the zigzag mapping of
+ * the three residuals in {@code w} bits each, so a position that has not moved takes six bits. A header of
+ * all ones marks a keyframe instead, holding the three quantized components in full: one is written
+ * every {@code keyframeInterval} samples, after {@link #reset()}, and whenever the residuals would not fit,
+ * so a {@link TrajectoryDecoder} that lost its place can resynchronize.</p>
+ *
+ * <p>Samples are packed back to back, least significant bit first. {@link #flush(ByteBuffer)} pads the last
+ * byte, ending a packet; a decoder must read packets as they were flushed.</p>
+ */
+public final class TrajectoryEncoder {
+  static final int HEADER_BITS = 6;
+  static final int KEYFRAME = (1 << HEADER_BITS) - 1;
+  // a keyframe header and its components, with a partial byte left from the sample before
+  static final int MAX_SAMPLE_BYTES = (7 + HEADER_BITS + 3 * Long.SIZE + 7) / 8;
+  private final double precision;
+  private final double scale;
+  private final int keyframeInterval;
+  private long x;
+  private long y;
+  private long z;
+  private long samples;
+  private boolean keyframe = true;
+  private long bits;
+  private int bitCount;
+
+  public static @NonNull TrajectoryEncoder create(final double precision, final int keyframeInterval) {
+    checkPrecision(precision);
+    if(keyframeInterval < 1) {
+      throw new IllegalArgumentException("keyframe interval must be positive: " + keyframeInterval);
+    }
+    return new TrajectoryEncoder(precision, keyframeInterval);
+  }
+
+  private TrajectoryEncoder(final double precision, final int keyframeInterval) {
+    this.precision = precision;
+    this.scale = 1d / precision;
+    this.keyframeInterval = keyframeInterval;
+  }
+
+  public double precision() {
+    return this.precision;
+  }
+
+  public int keyframeInterval() {
+    return this.keyframeInterval;
+  }
+
+  /**
+   * Gets the number of samples encoded so far.
+   *
+   * @return the number of samples
+   */
+  public long samples() {
+    return this.samples;
+  }
+
+  /**
+   * Makes the next sample a keyframe, for a decoder that has just joined the stream.
+   */
+  public void reset() {
+    this.keyframe = true;
+  }
+
+  /**
+   * Appends a position to {@code dst}, leaving any bits short of a byte to the next sample or flush.
+   *
+   * @param dst the buffer
+   * @param x the x position
+   * @param y the y position
+   * @param z the z position
+   * @throws BufferOverflowException if {@code dst} might not fit the sample, leaving this encoder unchanged
+   */
+  public void encode(final @NonNull ByteBuffer dst, final double x, final double y, final double z) {
+    if(dst.remaining() < MAX_SAMPLE_BYTES) throw new BufferOverflowException();
+    final long qx = Math.round(x * this.scale);
+    final long qy = Math.round(y * this.scale);
+    final long qz = Math.round(z * this.scale);
+    final long dx = zigzag(qx - this.x);
+    final long dy = zigzag(qy - this.y);
+    final long dz = zigzag(qz - this.z);
+    final int width = Long.SIZE - Long.numberOfLeadingZeros(dx | dy | dz);
+    if(this.keyframe || width >= KEYFRAME || this.samples % this.keyframeInterval == 0) {
+      this.write(dst, KEYFRAME, HEADER_BITS);
+      this.write(dst, qx, Long.SIZE);
+      this.write(dst, qy, Long.SIZE);
+      this.write(dst, qz, Long.SIZE);
+      this.keyframe = false;
+    } else {
+      this.write(dst, width, HEADER_BITS);
+      this.write(dst, dx, width);
+      this.write(dst, dy, width);
+      this.write(dst, dz, width);
+    }
+    this.x = qx;
+    this.y = qy;
+    this.z = qz;
+    this.samples++;
+  }
+
+  public void encode(final @NonNull ByteBuffer dst, final @NonNull Vector3d position) {
+    this.encode(dst, position.x(), position.y(), position.z());
+  }
+
+  /**
+   * Writes out the bits of the last byte, padded with zeroes, ending a packet.
+   *
+   * @param dst the buffer
+   */
+  public void flush(final @NonNull ByteBuffer dst) {
+    if(this.bitCount > 0) {
+      dst.put((byte) this.bits);
+      this.bits = 0L;
+      this.bitCount = 0;
+    }
+  }
+
+  private void write(final ByteBuffer dst, long value, int count) {
+    while(count > 0) {
+      // fewer than 8 bits are ever held, so 56 more always fit
+      final int chunk = Math.min(count, 56);
+      this.bits |= (value & ((1L << chunk) - 1L)) << this.bitCount;
+      this.bitCount += chunk;
+      value >>>= chunk;
+      count -= chunk;
+      while(this.bitCount >= 8) {
+        dst.put((byte) this.bits);
+        this.bits >>>= 8;
+        this.bitCount -= 8;
+      }
+    }
+  }
+
+  static long zigzag(final long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  static long unzigzag(final long value) {
+    return (value >>> 1) ^ -(value & 1L);
+  }
+
+  static void checkPrecision(final double precision) {
+    if(!(precision > 0d) || Double.isInfinite(precision)) {
+      throw new IllegalArgumentException("precision must be positive and finite: " + precision);
+    }
+  }
+}
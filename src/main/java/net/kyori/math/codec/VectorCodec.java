@@ -0,0 +1,432 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.codec;
+
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.f.MutVector3f;
+import net.kyori.math.vector.f.Vector3f;
+import net.kyori.math.vector.i.MutVector3i;
+import net.kyori.math.vector.i.Vector3i;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes vectors and arrays of vectors into {@link ByteBuffer}s and {@link DataOutput}s, and reads them back.
+ *
+ * <p>Vectors are written as their x, y and z components in turn, and arrays hold vectors the same way,
+ * interleaved. The {@link Encoding} applies to int components; float and double components are always written
+ * at their fixed width. Fixed-width values use the byte order of a {@link ByteBuffer}, and big-endian order
+ * for a {@link DataOutput}.</p>
+ *
+ * <p>Fixed-width arrays move through the typed views of a buffer, as one bulk copy whether it is on the heap
+ * or direct, and use the same layout as the direct vector buffers, which can wrap the bytes without decoding
+ * them. Varints are encoded and decoded directly on the array behind a heap buffer.</p>
+ */
+public final class VectorCodec {
+  private static final int MAX_VARINT_BYTES = 5;
+  // the shift of the last byte, which may only carry the top four bits of an int and no continuation
+  private static final int LAST_SHIFT = 7 * (MAX_VARINT_BYTES - 1);
+  private static final VectorCodec FIXED = new VectorCodec(Encoding.FIXED);
+  private static final VectorCodec VARINT = new VectorCodec(Encoding.VARINT);
+  private static final VectorCodec ZIGZAG = new VectorCodec(Encoding.ZIGZAG);
+  private final Encoding encoding;
+
+  public static @NonNull VectorCodec of(final @NonNull Encoding encoding) {
+    switch(encoding) {
+      case FIXED: return FIXED;
+      case VARINT: return VARINT;
+      default: return ZIGZAG;
+    }
+  }
+
+  public static @NonNull VectorCodec fixed() {
+    return FIXED;
+  }
+
+  public static @NonNull VectorCodec varint() {
+    return VARINT;
+  }
+
+  public static @NonNull VectorCodec zigzag() {
+    return ZIGZAG;
+  }
+
+  private VectorCodec(final Encoding encoding) {
+    this.encoding = encoding;
+  }
+
+  public @NonNull Encoding encoding() {
+    return this.encoding;
+  }
+
+  /**
+   * Gets the most bytes an int vector can take in this encoding.
+   *
+   * @return the most bytes per vector
+   */
+  public int maxBytes() {
+    return this.encoding == Encoding.FIXED ? 3 * Integer.BYTES : 3 * MAX_VARINT_BYTES;
+  }
+
+  public void write(final @NonNull ByteBuffer dst, final int x, final int y, final int z) {
+    this.putInt(dst, x);
+    this.putInt(dst, y);
+    this.putInt(dst, z);
+  }
+
+  public void write(final @NonNull ByteBuffer dst, final @NonNull Vector3i vector) {
+    this.write(dst, vector.x(), vector.y(), vector.z());
+  }
+
+  public @NonNull MutVector3i read(final @NonNull ByteBuffer src, final @NonNull MutVector3i dst) {
+    final int x = this.getInt(src);
+    final int y = this.getInt(src);
+    final int z = this.getInt(src);
+    return dst.set(x, y, z);
+  }
+
+  public void write(final @NonNull ByteBuffer dst, final int[] src, final int offset, final int count) {
+    checkArray(src.length, offset, count);
+    final int length = count * 3;
+    if(this.encoding == Encoding.FIXED) {
+      dst.asIntBuffer().put(src, offset, length);
+      dst.position(dst.position() + length * Integer.BYTES);
+    } else if(dst.hasArray() && dst.remaining() >= (long) length * MAX_VARINT_BYTES) {
+      final byte[] bytes = dst.array();
+      final int base = dst.arrayOffset();
+      int position = base + dst.position();
+      for(int i = offset, end = offset + length; i < end; i++) {
+        int value = this.encoding == Encoding.ZIGZAG ? zigzag(src[i]) : src[i];
+        while((value & ~0x7f) != 0) {
+          bytes[position++] = (byte) (value | 0x80);
+          value >>>= 7;
+        }
+        bytes[position++] = (byte) value;
+      }
+      dst.position(position - base);
+    } else {
+      for(int i = offset, end = offset + length; i < end; i++) {
+        this.putInt(dst, src[i]);
+      }
+    }
+  }
+
+  public int[] read(final @NonNull ByteBuffer src, final int[] dst, final int offset, final int count) {
+    checkArray(dst.length, offset, count);
+    final int length = count * 3;
+    if(this.encoding == Encoding.FIXED) {
+      src.asIntBuffer().get(dst, offset, length);
+      src.position(src.position() + length * Integer.BYTES);
+    } else if(src.hasArray()) {
+      final byte[] bytes = src.array();
+      final int base = src.arrayOffset();
+      final int limit = base + src.limit();
+      int position = base + src.position();
+      for(int i = offset, end = offset + length; i < end; i++) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+          if(position == limit) throw new BufferUnderflowException();
+          b = bytes[position++];
+          if(shift == LAST_SHIFT && (b & 0xf0) != 0) throw malformed();
+          value |= (b & 0x7f) << shift;
+          shift += 7;
+        } while(b < 0);
+        dst[i] = this.encoding == Encoding.ZIGZAG ? unzigzag(value) : value;
+      }
+      src.position(position - base);
+    } else {
+      for(int i = offset, end = offset + length; i < end; i++) {
+        dst[i] = this.getInt(src);
+      }
+    }
+    return dst;
+  }
+
+  public void write(final @NonNull DataOutput out, final int x, final int y, final int z) throws IOException {
+    this.writeInt(out, x);
+    this.writeInt(out, y);
+    this.writeInt(out, z);
+  }
+
+  public void write(final @NonNull DataOutput out, final @NonNull Vector3i vector) throws IOException {
+    this.write(out, vector.x(), vector.y(), vector.z());
+  }
+
+  public @NonNull MutVector3i read(final @NonNull DataInput in, final @NonNull MutVector3i dst) throws IOException {
+    final int x = this.readInt(in);
+    final int y = this.readInt(in);
+    final int z = this.readInt(in);
+    return dst.set(x, y, z);
+  }
+
+  public void write(final @NonNull DataOutput out, final int[] src, final int offset, final int count) throws IOException {
+    checkArray(src.length, offset, count);
+    for(int i = offset, end = offset + count * 3; i < end; i++) {
+      this.writeInt(out, src[i]);
+    }
+  }
+
+  public int[] read(final @NonNull DataInput in, final int[] dst, final int offset, final int count) throws IOException {
+    checkArray(dst.length, offset, count);
+    for(int i = offset, end = offset + count * 3; i < end; i++) {
+      dst[i] = this.readInt(in);
+    }
+    return dst;
+  }
+
+  public void write(final @NonNull ByteBuffer dst, final float x, final float y, final float z) {
+    dst.putFloat(x).putFloat(y).putFloat(z);
+  }
+
+  public void write(final @NonNull ByteBuffer dst, final @NonNull Vector3f vector) {
+    this.write(dst, vector.x(), vector.y(), vector.z());
+  }
+
+  public @NonNull MutVector3f read(final @NonNull ByteBuffer src, final @NonNull MutVector3f dst) {
+    final float x = src.getFloat();
+    final float y = src.getFloat();
+    final float z = src.getFloat();
+    return dst.set(x, y, z);
+  }
+
+  public void write(final @NonNull ByteBuffer dst, final float[] src, final int offset, final int count) {
+    checkArray(src.length, offset, count);
+    dst.asFloatBuffer().put(src, offset, count * 3);
+    dst.position(dst.position() + count * 3 * Float.BYTES);
+  }
+
+  public float[] read(final @NonNull ByteBuffer src, final float[] dst, final int offset, final int count) {
+    checkArray(dst.length, offset, count);
+    src.asFloatBuffer().get(dst, offset, count * 3);
+    src.position(src.position() + count * 3 * Float.BYTES);
+    return dst;
+  }
+
+  public void write(final @NonNull DataOutput out, final float x, final float y, final float z) throws IOException {
+    out.writeFloat(x);
+    out.writeFloat(y);
+    out.writeFloat(z);
+  }
+
+  public void write(final @NonNull DataOutput out, final @NonNull Vector3f vector) throws IOException {
+    this.write(out, vector.x(), vector.y(), vector.z());
+  }
+
+  public @NonNull MutVector3f read(final @NonNull DataInput in, final @NonNull MutVector3f dst) throws IOException {
+    final float x = in.readFloat();
+    final float y = in.readFloat();
+    final float z = in.readFloat();
+    return dst.set(x, y, z);
+  }
+
+  public void write(final @NonNull DataOutput out, final float[] src, final int offset, final int count) throws IOException {
+    checkArray(src.length, offset, count);
+    for(int i = offset, end = offset + count * 3; i < end; i++) {
+      out.writeFloat(src[i]);
+    }
+  }
+
+  public float[] read(final @NonNull DataInput in, final float[] dst, final int offset, final int count) throws IOException {
+    checkArray(dst.length, offset, count);
+    for(int i = offset, end = offset + count * 3; i < end; i++) {
+      dst[i] = in.readFloat();
+    }
+    return dst;
+  }
+
+  public void write(final @NonNull ByteBuffer dst, final double x, final double y, final double z) {
+    dst.putDouble(x).putDouble(y).putDouble(z);
+  }
+
+  public void write(final @NonNull ByteBuffer dst, final @NonNull Vector3d vector) {
+    this.write(dst, vector.x(), vector.y(), vector.z());
+  }
+
+  public @NonNull MutVector3d read(final @NonNull ByteBuffer src, final @NonNull MutVector3d dst) {
+    final double x = src.getDouble();
+    final double y = src.getDouble();
+    final double z = src.getDouble();
+    return dst.set(x, y, z);
+  }
+
+  public void write(final @NonNull ByteBuffer dst, final double[] src, final int offset, final int count) {
+    checkArray(src.length, offset, count);
+    dst.asDoubleBuffer().put(src, offset, count * 3);
+    dst.position(dst.position() + count * 3 * Double.BYTES);
+  }
+
+  public double[] read(final @NonNull ByteBuffer src, final double[] dst, final int offset, final int count) {
+    checkArray(dst.length, offset, count);
+    src.asDoubleBuffer().get(dst, offset, count * 3);
+    src.position(src.position() + count * 3 * Double.BYTES);
+    return dst;
+  }
+
+  public void write(final @NonNull DataOutput out, final double x, final double y, final double z) throws IOException {
+    out.writeDouble(x);
+    out.writeDouble(y);
+    out.writeDouble(z);
+  }
+
+  public void write(final @NonNull DataOutput out, final @NonNull Vector3d vector) throws IOException {
+    this.write(out, vector.x(), vector.y(), vector.z());
+  }
+
+  public @NonNull MutVector3d read(final @NonNull DataInput in, final @NonNull MutVector3d dst) throws IOException {
+    final double x = in.readDouble();
+    final double y = in.readDouble();
+    final double z = in.readDouble();
+    return dst.set(x, y, z);
+  }
+
+  public void write(final @NonNull DataOutput out, final double[] src, final int offset, final int count) throws IOException {
+    checkArray(src.length, offset, count);
+    for(int i = offset, end = offset + count * 3; i < end; i++) {
+      out.writeDouble(src[i]);
+    }
+  }
+
+  public double[] read(final @NonNull DataInput in, final double[] dst, final int offset, final int count) throws IOException {
+    checkArray(dst.length, offset, count);
+    for(int i = offset, end = offset + count * 3; i < end; i++) {
+      dst[i] = in.readDouble();
+    }
+    return dst;
+  }
+
+  private void putInt(final ByteBuffer dst, final int value) {
+    if(this.encoding == Encoding.FIXED) {
+      dst.putInt(value);
+      return;
+    }
+    int remaining = this.encoding == Encoding.ZIGZAG ? zigzag(value) : value;
+    // checked up front, so a varint is never left half written
+    if(dst.remaining() < varintSize(remaining)) throw new BufferOverflowException();
+    while((remaining & ~0x7f) != 0) {
+      dst.put((byte) (remaining | 0x80));
+      remaining >>>= 7;
+    }
+    dst.put((byte) remaining);
+  }
+
+  private int getInt(final ByteBuffer src) {
+    if(this.encoding == Encoding.FIXED) return src.getInt();
+    // the position is restored on failure, so a varint is never left half read
+    final int start = src.position();
+    int value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      if(!src.hasRemaining()) {
+        src.position(start);
+        throw new BufferUnderflowException();
+      }
+      b = src.get();
+      if(shift == LAST_SHIFT && (b & 0xf0) != 0) {
+        src.position(start);
+        throw malformed();
+      }
+      value |= (b & 0x7f) << shift;
+      shift += 7;
+    } while(b < 0);
+    return this.encoding == Encoding.ZIGZAG ? unzigzag(value) : value;
+  }
+
+  private void writeInt(final DataOutput out, final int value) throws IOException {
+    if(this.encoding == Encoding.FIXED) {
+      out.writeInt(value);
+      return;
+    }
+    int remaining = this.encoding == Encoding.ZIGZAG ? zigzag(value) : value;
+    while((remaining & ~0x7f) != 0) {
+      out.writeByte(remaining | 0x80);
+      remaining >>>= 7;
+    }
+    out.writeByte(remaining);
+  }
+
+  private int readInt(final DataInput in) throws IOException {
+    if(this.encoding == Encoding.FIXED) return in.readInt();
+    int value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = in.readByte();
+      if(shift == LAST_SHIFT && (b & 0xf0) != 0) throw malformed();
+      value |= (b & 0x7f) << shift;
+      shift += 7;
+    } while(b < 0);
+    return this.encoding == Encoding.ZIGZAG ? unzigzag(value) : value;
+  }
+
+  static int zigzag(final int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  static int unzigzag(final int value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  // the number of bytes the unsigned varint of value takes, from 1 to 5
+  static int varintSize(final int value) {
+    return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+  }
+
+  private static IllegalArgumentException malformed() {
+    return new IllegalArgumentException("malformed varint: longer than " + MAX_VARINT_BYTES + " bytes or past the range of an int");
+  }
+
+  private static void checkArray(final int length, final int offset, final int count) {
+    if(count < 0 || offset < 0 || offset + count * 3L > length) {
+      throw new IndexOutOfBoundsException("cannot code " + count + " vectors from offset " + offset + " of " + length);
+    }
+  }
+
+  /**
+   * How the components of int vectors are written.
+   */
+  public enum Encoding {
+    /**
+     * Four bytes per component.
+     */
+    FIXED,
+    /**
+     * An unsigned LEB128 varint per component: one byte below 128, up to five, so negative values take five.
+     */
+    VARINT,
+    /**
+     * A varint of the zigzag mapping of each component, so values near zero of either sign stay short.
+     */
+    ZIGZAG
+  }
+}
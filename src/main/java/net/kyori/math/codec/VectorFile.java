@@ -0,0 +1,315 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.codec;
+
+import net.kyori.math.memory.Memory;
+import net.kyori.math.vector.d.DirectVector3dBuffer;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.f.DirectVector3fBuffer;
+import net.kyori.math.vector.f.Vector3f;
+import net.kyori.math.vector.i.DirectVector3iBuffer;
+import net.kyori.math.vector.i.Vector3i;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A file of vectors, mapped into memory and read in place.
+ *
+ * <p>The file starts with a header of {@value #HEADER_BYTES} bytes: a magic number, the format version, the
+ * component type and the number of vectors. The vectors follow, with their components interleaved, in the
+ * layout of the direct vector buffers: {@link #doubles()}, {@link #floats()} and {@link #ints()} wrap the
+ * mapped bytes without copying or decoding them, and their views read straight from the file.</p>
+ *
+ * <p>Values are stored in native byte order, so a file opened on a machine of the other byte order is
+ * rejected rather than misread. Appending grows the file as needed, and {@link #force()} writes the vectors and
+ * the count to storage. A vector file is not safe for use by multiple threads.</p>
+ */
+public final class VectorFile implements Closeable {
+  static final int MAGIC = 0x4b564543; // "KVEC"
+  static final int VERSION = 1;
+  static final int HEADER_BYTES = 32;
+  static final int TYPE_OFFSET = 8;
+  static final int SIZE_OFFSET = 16;
+  private static final int MIN_CAPACITY = 64;
+  private final FileChannel channel;
+  private final Type type;
+  private final boolean writable;
+  private final Memory header;
+  private Memory data;
+  private int capacity;
+  private int size;
+
+  /**
+   * Creates a file for vectors of a type, replacing any file at the path.
+   *
+   * @param path the path
+   * @param type the component type
+   * @param capacity the number of vectors to make room for
+   * @return the file, open for reading and writing
+   * @throws IOException if the file cannot be created
+   */
+  public static @NonNull VectorFile create(final @NonNull Path path, final @NonNull Type type, final int capacity) throws IOException {
+    if(capacity < 0) throw new IllegalArgumentException("negative capacity: " + capacity);
+    final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      final Memory header = Memory.map(channel, FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+      header.putInt(0, MAGIC);
+      header.putInt(4, VERSION);
+      header.putInt(TYPE_OFFSET, type.ordinal());
+      header.putLong(SIZE_OFFSET, 0);
+      return new VectorFile(channel, type, true, header, capacity, 0);
+    } catch(final IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Opens an existing file for reading and writing.
+   *
+   * @param path the path
+   * @return the file
+   * @throws IOException if the file cannot be opened, or is not a vector file
+   */
+  public static @NonNull VectorFile open(final @NonNull Path path) throws IOException {
+    return open(path, true);
+  }
+
+  /**
+   * Opens an existing file for reading only.
+   *
+   * @param path the path
+   * @return the file
+   * @throws IOException if the file cannot be opened, or is not a vector file
+   */
+  public static @NonNull VectorFile openReadOnly(final @NonNull Path path) throws IOException {
+    return open(path, false);
+  }
+
+  private static VectorFile open(final Path path, final boolean writable) throws IOException {
+    final FileChannel channel = writable
+      ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+      : FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      final long length = channel.size();
+      if(length < HEADER_BYTES) throw new IOException(path + " is too short for a vector file: " + length + " bytes");
+      final Memory header = Memory.map(channel, writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+      final int magic = header.getInt(0);
+      if(magic != MAGIC) {
+        // the magic number reads reversed when the file was written in the other byte order
+        throw new IOException(path + (magic == Integer.reverseBytes(MAGIC) ? " was written in the other byte order" : " is not a vector file"));
+      }
+      final int version = header.getInt(4);
+      if(version != VERSION) throw new IOException(path + " has unsupported version " + version);
+      final int ordinal = header.getInt(TYPE_OFFSET);
+      if(ordinal < 0 || ordinal >= Type.VALUES.length) throw new IOException(path + " has unknown component type " + ordinal);
+      final Type type = Type.VALUES[ordinal];
+      final long size = header.getLong(SIZE_OFFSET);
+      final long capacity = Math.min(Integer.MAX_VALUE, (length - HEADER_BYTES) / type.bytes);
+      if(size < 0 || size > capacity) throw new IOException(path + " holds " + capacity + " vectors, but claims " + size);
+      return new VectorFile(channel, type, writable, header, (int) capacity, (int) size);
+    } catch(final IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private VectorFile(final FileChannel channel, final Type type, final boolean writable, final Memory header, final int capacity, final int size) throws IOException {
+    this.channel = channel;
+    this.type = type;
+    this.writable = writable;
+    this.header = header;
+    this.size = size;
+    this.map(capacity);
+  }
+
+  public @NonNull Type type() {
+    return this.type;
+  }
+
+  public int size() {
+    return this.size;
+  }
+
+  public int capacity() {
+    return this.capacity;
+  }
+
+  /**
+   * Gets a buffer over the vectors in a file of doubles.
+   *
+   * <p>The buffer holds the vectors in the file now; it sees later writes to them, but not later appends.</p>
+   *
+   * @return the buffer
+   * @throws IllegalStateException if the file does not hold doubles
+   */
+  public @NonNull DirectVector3dBuffer doubles() {
+    this.checkType(Type.DOUBLE);
+    return DirectVector3dBuffer.wrap(this.data, this.size);
+  }
+
+  /**
+   * Gets a buffer over the vectors in a file of floats.
+   *
+   * <p>The buffer holds the vectors in the file now; it sees later writes to them, but not later appends.</p>
+   *
+   * @return the buffer
+   * @throws IllegalStateException if the file does not hold floats
+   */
+  public @NonNull DirectVector3fBuffer floats() {
+    this.checkType(Type.FLOAT);
+    return DirectVector3fBuffer.wrap(this.data, this.size);
+  }
+
+  /**
+   * Gets a buffer over the vectors in a file of ints.
+   *
+   * <p>The buffer holds the vectors in the file now; it sees later writes to them, but not later appends.</p>
+   *
+   * @return the buffer
+   * @throws IllegalStateException if the file does not hold ints
+   */
+  public @NonNull DirectVector3iBuffer ints() {
+    this.checkType(Type.INT);
+    return DirectVector3iBuffer.wrap(this.data, this.size);
+  }
+
+  public int append(final double x, final double y, final double z) throws IOException {
+    this.checkType(Type.DOUBLE);
+    final long offset = this.grow();
+    this.data.putDouble(offset, x);
+    this.data.putDouble(offset + Double.BYTES, y);
+    this.data.putDouble(offset + 2 * Double.BYTES, z);
+    return this.commit();
+  }
+
+  public int append(final @NonNull Vector3d vector) throws IOException {
+    return this.append(vector.x(), vector.y(), vector.z());
+  }
+
+  public int append(final float x, final float y, final float z) throws IOException {
+    this.checkType(Type.FLOAT);
+    final long offset = this.grow();
+    this.data.putFloat(offset, x);
+    this.data.putFloat(offset + Float.BYTES, y);
+    this.data.putFloat(offset + 2 * Float.BYTES, z);
+    return this.commit();
+  }
+
+  public int append(final @NonNull Vector3f vector) throws IOException {
+    return this.append(vector.x(), vector.y(), vector.z());
+  }
+
+  public int append(final int x, final int y, final int z) throws IOException {
+    this.checkType(Type.INT);
+    final long offset = this.grow();
+    this.data.putInt(offset, x);
+    this.data.putInt(offset + Integer.BYTES, y);
+    this.data.putInt(offset + 2 * Integer.BYTES, z);
+    return this.commit();
+  }
+
+  public int append(final @NonNull Vector3i vector) throws IOException {
+    return this.append(vector.x(), vector.y(), vector.z());
+  }
+
+  /**
+   * Writes the vectors and the count of a writable file to storage.
+   */
+  public void force() {
+    if(!this.writable) return;
+    this.data.force();
+    this.header.force();
+  }
+
+  /**
+   * Forces and closes the file.
+   *
+   * <p>Buffers obtained from the file stay readable after it is closed, until they are no longer reachable.</p>
+   *
+   * @throws IOException if the file cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    if(!this.channel.isOpen()) return;
+    try {
+      this.force();
+    } finally {
+      this.channel.close();
+    }
+  }
+
+  // makes room for one more vector, returning where it goes
+  private long grow() throws IOException {
+    if(!this.writable) throw new IllegalStateException("file is open for reading only");
+    if(!this.channel.isOpen()) throw new IllegalStateException("file is closed");
+    if(this.size == this.capacity) {
+      if(this.capacity == Integer.MAX_VALUE) throw new IllegalStateException("file is full at " + this.capacity + " vectors");
+      // the file is only ever extended, never truncated: buffers over the old mapping stay valid
+      this.map((int) Math.min(Integer.MAX_VALUE, Math.max(MIN_CAPACITY, 2L * this.capacity)));
+    }
+    return (long) this.size * this.type.bytes;
+  }
+
+  // the count is written after the vector, so a crash between the two loses the vector, not the file
+  private int commit() {
+    this.header.putLong(SIZE_OFFSET, this.size + 1);
+    return this.size++;
+  }
+
+  private void map(final int capacity) throws IOException {
+    this.data = Memory.map(this.channel, this.writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, HEADER_BYTES, (long) capacity * this.type.bytes);
+    this.capacity = capacity;
+  }
+
+  private void checkType(final Type type) {
+    if(this.type != type) throw new IllegalStateException("file holds " + this.type + " vectors, not " + type);
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{type=%s, size=%d, capacity=%d}", this.getClass().getSimpleName(), this.type, this.size, this.capacity);
+  }
+
+  /**
+   * The component type of the vectors in a file.
+   */
+  public enum Type {
+    DOUBLE(3 * Double.BYTES),
+    FLOAT(3 * Float.BYTES),
+    INT(3 * Integer.BYTES);
+
+    static final Type[] VALUES = values();
+    final int bytes;
+
+    Type(final int bytes) {
+      this.bytes = bytes;
+    }
+  }
+}
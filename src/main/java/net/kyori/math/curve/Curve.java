@@ -0,0 +1,69 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.curve;
+
+import net.kyori.math.vector.i.ImVector3i;
+import net.kyori.math.vector.i.MutVector3i;
+import net.kyori.math.vector.i.Vector3i;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A space-filling curve over three-dimensional integer coordinates.
+ */
+public enum Curve {
+  MORTON {
+    @Override
+    public long encode(final int x, final int y, final int z) {
+      return Morton3.encode(x, y, z);
+    }
+
+    @Override
+    public @NonNull MutVector3i decode(final long code, final @NonNull MutVector3i dst) {
+      return Morton3.decode(code, dst);
+    }
+  },
+  HILBERT {
+    @Override
+    public long encode(final int x, final int y, final int z) {
+      return Hilbert3.encode(x, y, z);
+    }
+
+    @Override
+    public @NonNull MutVector3i decode(final long code, final @NonNull MutVector3i dst) {
+      return Hilbert3.decode(code, dst);
+    }
+  };
+
+  public abstract long encode(final int x, final int y, final int z);
+
+  public long encode(final @NonNull Vector3i vector) {
+    return this.encode(vector.x(), vector.y(), vector.z());
+  }
+
+  public abstract @NonNull MutVector3i decode(final long code, final @NonNull MutVector3i dst);
+
+  public @NonNull ImVector3i decode(final long code) {
+    return this.decode(code, MutVector3i.zero()).toImmutable();
+  }
+}
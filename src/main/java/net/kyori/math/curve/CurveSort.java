@@ -0,0 +1,204 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.curve;
+
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import net.kyori.math.vector.f.Vector3fBuffer;
+import net.kyori.math.vector.i.Vector3i;
+import net.kyori.math.vector.i.Vector3iBuffer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Reorders vectors along a {@link Curve}, so that vectors close to each other in space also end up close
+ * to each other in memory.
+ *
+ * <p>The sorting methods return the order that was applied: the element now at index {@code i} was
+ * previously at index {@code order[i]}. It can be passed to the {@code permute} methods to reorder any
+ * data kept alongside the vectors.</p>
+ */
+public final class CurveSort {
+  private static final int RADIX_BITS = 8;
+  private static final int RADIX = 1 << RADIX_BITS;
+  private static final int DIGITS = Long.SIZE / RADIX_BITS;
+
+  /**
+   * Computes the stable order that sorts {@code keys}, compared as unsigned numbers.
+   */
+  public static int[] order(final long[] keys) {
+    final int length = keys.length;
+    final int[] counts = new int[DIGITS * RADIX];
+    for(int i = 0; i < length; i++) {
+      final long key = keys[i];
+      for(int digit = 0; digit < DIGITS; digit++) {
+        counts[digit * RADIX + (int) ((key >>> (digit * RADIX_BITS)) & (RADIX - 1))]++;
+      }
+    }
+    int[] order = new int[length];
+    for(int i = 0; i < length; i++) {
+      order[i] = i;
+    }
+    if(length < 2) return order;
+    long[] sorted = keys.clone();
+    int[] orderBuffer = new int[length];
+    long[] sortedBuffer = new long[length];
+    for(int digit = 0; digit < DIGITS; digit++) {
+      final int shift = digit * RADIX_BITS;
+      final int base = digit * RADIX;
+      // a digit shared by every key leaves the order as it is
+      if(counts[base + (int) ((sorted[0] >>> shift) & (RADIX - 1))] == length) continue;
+      int offset = 0;
+      for(int bucket = 0; bucket < RADIX; bucket++) {
+        final int count = counts[base + bucket];
+        counts[base + bucket] = offset;
+        offset += count;
+      }
+      for(int i = 0; i < length; i++) {
+        final long key = sorted[i];
+        final int index = counts[base + (int) ((key >>> shift) & (RADIX - 1))]++;
+        sortedBuffer[index] = key;
+        orderBuffer[index] = order[i];
+      }
+      final long[] sortedSwap = sorted;
+      sorted = sortedBuffer;
+      sortedBuffer = sortedSwap;
+      final int[] orderSwap = order;
+      order = orderBuffer;
+      orderBuffer = orderSwap;
+    }
+    return order;
+  }
+
+  public static long[] keys(final @NonNull Vector3iBuffer buffer, final @NonNull Curve curve) {
+    final int[] xs = buffer.xs();
+    final int[] ys = buffer.ys();
+    final int[] zs = buffer.zs();
+    final long[] keys = new long[buffer.size()];
+    for(int i = 0; i < keys.length; i++) {
+      keys[i] = curve.encode(xs[i], ys[i], zs[i]);
+    }
+    return keys;
+  }
+
+  public static long[] keys(final @NonNull Vector3dBuffer buffer, final @NonNull Quantizer3d quantizer, final @NonNull Curve curve) {
+    final double[] xs = buffer.xs();
+    final double[] ys = buffer.ys();
+    final double[] zs = buffer.zs();
+    final long[] keys = new long[buffer.size()];
+    for(int i = 0; i < keys.length; i++) {
+      keys[i] = quantizer.encode(curve, xs[i], ys[i], zs[i]);
+    }
+    return keys;
+  }
+
+  public static long[] keys(final @NonNull Vector3fBuffer buffer, final @NonNull Quantizer3d quantizer, final @NonNull Curve curve) {
+    final float[] xs = buffer.xs();
+    final float[] ys = buffer.ys();
+    final float[] zs = buffer.zs();
+    final long[] keys = new long[buffer.size()];
+    for(int i = 0; i < keys.length; i++) {
+      keys[i] = quantizer.encode(curve, xs[i], ys[i], zs[i]);
+    }
+    return keys;
+  }
+
+  public static int[] sort(final @NonNull Vector3iBuffer buffer, final @NonNull Curve curve) {
+    final int[] order = order(keys(buffer, curve));
+    permute(order, buffer.xs());
+    permute(order, buffer.ys());
+    permute(order, buffer.zs());
+    return order;
+  }
+
+  public static int[] sort(final @NonNull Vector3dBuffer buffer, final @NonNull Quantizer3d quantizer, final @NonNull Curve curve) {
+    final int[] order = order(keys(buffer, quantizer, curve));
+    permute(order, buffer.xs());
+    permute(order, buffer.ys());
+    permute(order, buffer.zs());
+    return order;
+  }
+
+  public static int[] sort(final @NonNull Vector3fBuffer buffer, final @NonNull Quantizer3d quantizer, final @NonNull Curve curve) {
+    final int[] order = order(keys(buffer, quantizer, curve));
+    permute(order, buffer.xs());
+    permute(order, buffer.ys());
+    permute(order, buffer.zs());
+    return order;
+  }
+
+  public static <V extends Vector3i> int[] sort(final V[] vectors, final @NonNull Curve curve) {
+    final long[] keys = new long[vectors.length];
+    for(int i = 0; i < keys.length; i++) {
+      keys[i] = curve.encode(vectors[i]);
+    }
+    final int[] order = order(keys);
+    permute(order, vectors);
+    return order;
+  }
+
+  public static <V extends Vector3d> int[] sort(final V[] vectors, final @NonNull Quantizer3d quantizer, final @NonNull Curve curve) {
+    final long[] keys = new long[vectors.length];
+    for(int i = 0; i < keys.length; i++) {
+      keys[i] = quantizer.encode(curve, vectors[i]);
+    }
+    final int[] order = order(keys);
+    permute(order, vectors);
+    return order;
+  }
+
+  public static void permute(final int[] order, final int[] values) {
+    final int[] source = values.clone();
+    for(int i = 0; i < order.length; i++) {
+      values[i] = source[order[i]];
+    }
+  }
+
+  public static void permute(final int[] order, final long[] values) {
+    final long[] source = values.clone();
+    for(int i = 0; i < order.length; i++) {
+      values[i] = source[order[i]];
+    }
+  }
+
+  public static void permute(final int[] order, final float[] values) {
+    final float[] source = values.clone();
+    for(int i = 0; i < order.length; i++) {
+      values[i] = source[order[i]];
+    }
+  }
+
+  public static void permute(final int[] order, final double[] values) {
+    final double[] source = values.clone();
+    for(int i = 0; i < order.length; i++) {
+      values[i] = source[order[i]];
+    }
+  }
+
+  public static <T> void permute(final int[] order, final T[] values) {
+    final T[] source = values.clone();
+    for(int i = 0; i < order.length; i++) {
+      values[i] = source[order[i]];
+    }
+  }
+}
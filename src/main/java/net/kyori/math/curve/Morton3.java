@@ -0,0 +1,196 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.curve;
+
+import net.kyori.math.vector.i.ImVector3i;
+import net.kyori.math.vector.i.MutVector3i;
+import net.kyori.math.vector.i.Vector3i;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Encodes three-dimensional coordinates as positions along a Z-order (Morton) curve.
+ *
+ * <p>Each component is biased into an unsigned {@value #BITS}-bit number, so that codes sort in the same
+ * order for negative and positive coordinates, and the bits are interleaved with x in the lowest bit,
+ * followed by y and then z. Components outside of {@link #MIN} and {@link #MAX} wrap around.</p>
+ */
+public final class Morton3 {
+  public static final int BITS = 21;
+  public static final int MIN = -(1 << (BITS - 1));
+  public static final int MAX = (1 << (BITS - 1)) - 1;
+  static final int MASK = (1 << BITS) - 1;
+
+  public static long encode(final int x, final int y, final int z) {
+    return spread(bias(x)) | (spread(bias(y)) << 1) | (spread(bias(z)) << 2);
+  }
+
+  public static long encode(final @NonNull Vector3i vector) {
+    return encode(vector.x(), vector.y(), vector.z());
+  }
+
+  public static int x(final long code) {
+    return unbias(compact(code));
+  }
+
+  public static int y(final long code) {
+    return unbias(compact(code >>> 1));
+  }
+
+  public static int z(final long code) {
+    return unbias(compact(code >>> 2));
+  }
+
+  public static @NonNull ImVector3i decode(final long code) {
+    return ImVector3i.of(x(code), y(code), z(code));
+  }
+
+  public static @NonNull MutVector3i decode(final long code, final @NonNull MutVector3i dst) {
+    return dst.set(x(code), y(code), z(code));
+  }
+
+  static int bias(final int value) {
+    return (value - MIN) & MASK;
+  }
+
+  static int unbias(final int value) {
+    return value + MIN;
+  }
+
+  /**
+   * Spreads the low {@value #BITS} bits of {@code value} so that two zero bits follow each of them.
+   */
+  public static long spread(final int value) {
+    long x = value & MASK;
+    x = (x | x << 32) & 0x1f00000000ffffL;
+    x = (x | x << 16) & 0x1f0000ff0000ffL;
+    x = (x | x << 8) & 0x100f00f00f00f00fL;
+    x = (x | x << 4) & 0x10c30c30c30c30c3L;
+    x = (x | x << 2) & 0x1249249249249249L;
+    return x;
+  }
+
+  /**
+   * Gathers every third bit of {@code value}, starting from the lowest, into a {@value #BITS}-bit number.
+   */
+  public static int compact(final long value) {
+    long x = value & 0x1249249249249249L;
+    x = (x ^ x >>> 2) & 0x10c30c30c30c30c3L;
+    x = (x ^ x >>> 4) & 0x100f00f00f00f00fL;
+    x = (x ^ x >>> 8) & 0x1f0000ff0000ffL;
+    x = (x ^ x >>> 16) & 0x1f00000000ffffL;
+    x = (x ^ x >>> 32) & MASK;
+    return (int) x;
+  }
+
+  public static long[] ranges(final @NonNull Vector3i min, final @NonNull Vector3i max, final int maxRanges) {
+    return ranges(min.x(), min.y(), min.z(), max.x(), max.y(), max.z(), maxRanges);
+  }
+
+  /**
+   * Decomposes the box between {@code min} and {@code max}, both inclusive, into ranges of codes.
+   *
+   * <p>The result holds the inclusive start and end of each range in turn, sorted and with adjacent ranges
+   * merged. At most {@code maxRanges} ranges are returned: once the exact decomposition would need more,
+   * the remaining partially covered cells are returned whole, so the ranges may then also cover codes
+   * just outside of the box.</p>
+   */
+  public static long[] ranges(final int minX, final int minY, final int minZ, final int maxX, final int maxY, final int maxZ, final int maxRanges) {
+    if(maxRanges < 1) throw new IllegalArgumentException("maxRanges must be positive: " + maxRanges);
+    if(minX > maxX || minY > maxY || minZ > maxZ || maxX < MIN || maxY < MIN || maxZ < MIN || minX > MAX || minY > MAX || minZ > MAX) {
+      return new long[0];
+    }
+    final int x0 = bias(Math.max(minX, MIN));
+    final int y0 = bias(Math.max(minY, MIN));
+    final int z0 = bias(Math.max(minZ, MIN));
+    final int x1 = bias(Math.min(maxX, MAX));
+    final int y1 = bias(Math.min(maxY, MAX));
+    final int z1 = bias(Math.min(maxZ, MAX));
+    // disjoint ranges sort identically by their starts and by their ends
+    long[] starts = new long[16];
+    long[] ends = new long[16];
+    int count = 0;
+    long[] partial = {0L};
+    int partialCount = 1;
+    long[] next = new long[8];
+    for(int shift = BITS; partialCount > 0; ) {
+      if(count + partialCount * 8L > maxRanges) {
+        for(int i = 0; i < partialCount; i++) {
+          if(count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+          }
+          starts[count] = partial[i];
+          ends[count++] = partial[i] + (1L << (3 * shift)) - 1;
+        }
+        break;
+      }
+      shift--;
+      final int size = 1 << shift;
+      final long cellCodes = 1L << (3 * shift);
+      int nextCount = 0;
+      for(int i = 0; i < partialCount; i++) {
+        for(long octant = 0; octant < 8; octant++) {
+          final long cell = partial[i] | (octant << (3 * shift));
+          final int cx = compact(cell);
+          final int cy = compact(cell >>> 1);
+          final int cz = compact(cell >>> 2);
+          final int ex = cx + size - 1;
+          final int ey = cy + size - 1;
+          final int ez = cz + size - 1;
+          if(ex < x0 || cx > x1 || ey < y0 || cy > y1 || ez < z0 || cz > z1) continue;
+          if(cx >= x0 && ex <= x1 && cy >= y0 && ey <= y1 && cz >= z0 && ez <= z1) {
+            if(count == starts.length) {
+              starts = Arrays.copyOf(starts, count * 2);
+              ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = cell;
+            ends[count++] = cell + cellCodes - 1;
+          } else {
+            if(nextCount == next.length) next = Arrays.copyOf(next, nextCount * 2);
+            next[nextCount++] = cell;
+          }
+        }
+      }
+      final long[] swap = partial;
+      partial = next;
+      next = swap.length >= nextCount * 8 ? swap : new long[nextCount * 8];
+      partialCount = nextCount;
+    }
+    Arrays.sort(starts, 0, count);
+    Arrays.sort(ends, 0, count);
+    final long[] result = new long[count * 2];
+    int merged = 0;
+    for(int i = 0; i < count; i++) {
+      if(merged > 0 && result[merged - 1] + 1 == starts[i]) {
+        result[merged - 1] = ends[i];
+      } else {
+        result[merged++] = starts[i];
+        result[merged++] = ends[i];
+      }
+    }
+    return merged == result.length ? result : Arrays.copyOf(result, merged);
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.curve;
+
+import net.kyori.math.Mth;
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.i.MutVector3i;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Maps floating point coordinates onto the integer cells encoded by a {@link Curve}.
+ *
+ * <p>A coordinate is measured from the origin and multiplied by the scale, the number of cells per unit,
+ * before being floored. Cells beyond the range of the curve are clamped to its edge.</p>
+ */
+public final class Quantizer3d {
+  private final double originX;
+  private final double originY;
+  private final double originZ;
+  private final double scale;
+
+  public static @NonNull Quantizer3d of(final double originX, final double originY, final double originZ, final double scale) {
+    if(!(scale > 0d) || Double.isInfinite(scale)) throw new IllegalArgumentException("invalid scale: " + scale);
+    return new Quantizer3d(originX, originY, originZ, scale);
+  }
+
+  public static @NonNull Quantizer3d of(final @NonNull Vector3d origin, final double scale) {
+    return of(origin.x(), origin.y(), origin.z(), scale);
+  }
+
+  // centred on the box, with the finest scale at which its longest side still fits the curve
+  public static @NonNull Quantizer3d fit(final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ) {
+    final double extent = Math.max(maxX - minX, Math.max(maxY - minY, maxZ - minZ));
+    final double scale = extent > 0d ? (Morton3.MAX - (double) Morton3.MIN) / extent : 1d;
+    return of((minX + maxX) / 2d, (minY + maxY) / 2d, (minZ + maxZ) / 2d, scale);
+  }
+
+  public static @NonNull Quantizer3d fit(final @NonNull Vector3d min, final @NonNull Vector3d max) {
+    return fit(min.x(), min.y(), min.z(), max.x(), max.y(), max.z());
+  }
+
+  private Quantizer3d(final double originX, final double originY, final double originZ, final double scale) {
+    this.originX = originX;
+    this.originY = originY;
+    this.originZ = originZ;
+    this.scale = scale;
+  }
+
+  public double originX() {
+    return this.originX;
+  }
+
+  public double originY() {
+    return this.originY;
+  }
+
+  public double originZ() {
+    return this.originZ;
+  }
+
+  public double scale() {
+    return this.scale;
+  }
+
+  public int x(final double x) {
+    return quantize((x - this.originX) * this.scale);
+  }
+
+  public int y(final double y) {
+    return quantize((y - this.originY) * this.scale);
+  }
+
+  public int z(final double z) {
+    return quantize((z - this.originZ) * this.scale);
+  }
+
+  private static int quantize(final double value) {
+    // NaN compares false against both bounds and lands on zero
+    if(value <= Morton3.MIN) return Morton3.MIN;
+    if(value >= Morton3.MAX) return Morton3.MAX;
+    return Mth.floor(value);
+  }
+
+  public @NonNull MutVector3i quantize(final double x, final double y, final double z, final @NonNull MutVector3i dst) {
+    return dst.set(this.x(x), this.y(y), this.z(z));
+  }
+
+  // the centre of the cell
+  public @NonNull MutVector3d dequantize(final int x, final int y, final int z, final @NonNull MutVector3d dst) {
+    return dst.set(
+      this.originX + (x + 0.5d) / this.scale,
+      this.originY + (y + 0.5d) / this.scale,
+      this.originZ + (z + 0.5d) / this.scale
+    );
+  }
+
+  public long encode(final @NonNull Curve curve, final double x, final double y, final double z) {
+    return curve.encode(this.x(x), this.y(y), this.z(z));
+  }
+
+  public long encode(final @NonNull Curve curve, final @NonNull Vector3d vector) {
+    return this.encode(curve, vector.x(), vector.y(), vector.z());
+  }
+
+  public @NonNull MutVector3d decode(final @NonNull Curve curve, final long code, final @NonNull MutVector3d dst) {
+    final MutVector3i cell = curve.decode(code, MutVector3i.zero());
+    return this.dequantize(cell.x(), cell.y(), cell.z(), dst);
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{origin=(%f, %f, %f), scale=%f}", this.getClass().getSimpleName(), this.originX, this.originY, this.originZ, this.scale);
+  }
+}
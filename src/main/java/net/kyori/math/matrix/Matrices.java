@@ -0,0 +1,38 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.matrix;
+
+final class Matrices {
+  static void checkArrays(final int srcLength, final int srcOffset, final int dstLength, final int dstOffset, final int count) {
+    if(count < 0 || srcOffset < 0 || dstOffset < 0 || srcOffset + count * 3L > srcLength || dstOffset + count * 3L > dstLength) {
+      throw new IndexOutOfBoundsException("cannot transform " + count + " vectors from offset " + srcOffset + " of " + srcLength + " into offset " + dstOffset + " of " + dstLength);
+    }
+  }
+
+  static void checkBuffers(final int srcSize, final int dstSize, final int from, final int to) {
+    if(from < 0 || from > to || to > srcSize || to > dstSize) {
+      throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for sizes " + srcSize + " and " + dstSize);
+    }
+  }
+}
@@ -0,0 +1,433 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.matrix;
+
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A mutable 3x3 matrix of doubles, for linear transformations such as rotations and scales.
+ *
+ * <p>Follows the same conventions as {@link Matrix4d}.</p>
+ */
+public class Matrix3d {
+  private double m00;
+  private double m01;
+  private double m02;
+  private double m10;
+  private double m11;
+  private double m12;
+  private double m20;
+  private double m21;
+  private double m22;
+
+  public static @NonNull Matrix3d identity() {
+    return new Matrix3d().setIdentity();
+  }
+
+  // in row-major order
+  public static @NonNull Matrix3d of(final double m00, final double m01, final double m02, final double m10, final double m11, final double m12, final double m20, final double m21, final double m22) {
+    return new Matrix3d().set(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+  }
+
+  public static @NonNull Matrix3d from(final @NonNull Matrix3d that) {
+    return new Matrix3d().set(that);
+  }
+
+  // the upper-left 3x3 part of that
+  public static @NonNull Matrix3d from(final @NonNull Matrix4d that) {
+    return new Matrix3d().set(that);
+  }
+
+  public static @NonNull Matrix3d scaling(final double x, final double y, final double z) {
+    return new Matrix3d().set(
+      x, 0d, 0d,
+      0d, y, 0d,
+      0d, 0d, z
+    );
+  }
+
+  public static @NonNull Matrix3d scaling(final double n) {
+    return scaling(n, n, n);
+  }
+
+  public static @NonNull Matrix3d rotation(final double angle, final double axisX, final double axisY, final double axisZ) {
+    return identity().rotate(angle, axisX, axisY, axisZ);
+  }
+
+  public static @NonNull Matrix3d rotation(final double angle, final @NonNull Vector3d axis) {
+    return rotation(angle, axis.x(), axis.y(), axis.z());
+  }
+
+  public static @NonNull Matrix3d rotationX(final double angle) {
+    final double sin = Math.sin(angle);
+    final double cos = Math.cos(angle);
+    return new Matrix3d().set(
+      1d, 0d, 0d,
+      0d, cos, -sin,
+      0d, sin, cos
+    );
+  }
+
+  public static @NonNull Matrix3d rotationY(final double angle) {
+    final double sin = Math.sin(angle);
+    final double cos = Math.cos(angle);
+    return new Matrix3d().set(
+      cos, 0d, sin,
+      0d, 1d, 0d,
+      -sin, 0d, cos
+    );
+  }
+
+  public static @NonNull Matrix3d rotationZ(final double angle) {
+    final double sin = Math.sin(angle);
+    final double cos = Math.cos(angle);
+    return new Matrix3d().set(
+      cos, -sin, 0d,
+      sin, cos, 0d,
+      0d, 0d, 1d
+    );
+  }
+
+  /**
+   * Creates the matrix that transforms normals for {@code that}: the inverse transpose of its upper-left
+   * 3x3 part.
+   *
+   * @throws ArithmeticException if that part is singular
+   */
+  public static @NonNull Matrix3d normal(final @NonNull Matrix4d that) {
+    return from(that).invert().transpose();
+  }
+
+  protected Matrix3d() {
+  }
+
+  public double m00() {
+    return this.m00;
+  }
+
+  public double m01() {
+    return this.m01;
+  }
+
+  public double m02() {
+    return this.m02;
+  }
+
+  public double m10() {
+    return this.m10;
+  }
+
+  public double m11() {
+    return this.m11;
+  }
+
+  public double m12() {
+    return this.m12;
+  }
+
+  public double m20() {
+    return this.m20;
+  }
+
+  public double m21() {
+    return this.m21;
+  }
+
+  public double m22() {
+    return this.m22;
+  }
+
+  public @NonNull Matrix3d set(final double m00, final double m01, final double m02, final double m10, final double m11, final double m12, final double m20, final double m21, final double m22) {
+    this.m00 = m00;
+    this.m01 = m01;
+    this.m02 = m02;
+    this.m10 = m10;
+    this.m11 = m11;
+    this.m12 = m12;
+    this.m20 = m20;
+    this.m21 = m21;
+    this.m22 = m22;
+    return this;
+  }
+
+  public @NonNull Matrix3d set(final @NonNull Matrix3d that) {
+    return this.set(that.m00, that.m01, that.m02, that.m10, that.m11, that.m12, that.m20, that.m21, that.m22);
+  }
+
+  public @NonNull Matrix3d set(final @NonNull Matrix4d that) {
+    return this.set(
+      that.m00(), that.m01(), that.m02(),
+      that.m10(), that.m11(), that.m12(),
+      that.m20(), that.m21(), that.m22()
+    );
+  }
+
+  public @NonNull Matrix3d setIdentity() {
+    return this.set(
+      1d, 0d, 0d,
+      0d, 1d, 0d,
+      0d, 0d, 1d
+    );
+  }
+
+  // in row-major order
+  public double[] get(final double[] dst, final int offset) {
+    dst[offset + 0] = this.m00;
+    dst[offset + 1] = this.m01;
+    dst[offset + 2] = this.m02;
+    dst[offset + 3] = this.m10;
+    dst[offset + 4] = this.m11;
+    dst[offset + 5] = this.m12;
+    dst[offset + 6] = this.m20;
+    dst[offset + 7] = this.m21;
+    dst[offset + 8] = this.m22;
+    return dst;
+  }
+
+  public @NonNull Matrix3d copy() {
+    return from(this);
+  }
+
+  // this = this * that
+  public @NonNull Matrix3d mul(final @NonNull Matrix3d that) {
+    return this.set(
+      this.m00 * that.m00 + this.m01 * that.m10 + this.m02 * that.m20,
+      this.m00 * that.m01 + this.m01 * that.m11 + this.m02 * that.m21,
+      this.m00 * that.m02 + this.m01 * that.m12 + this.m02 * that.m22,
+      this.m10 * that.m00 + this.m11 * that.m10 + this.m12 * that.m20,
+      this.m10 * that.m01 + this.m11 * that.m11 + this.m12 * that.m21,
+      this.m10 * that.m02 + this.m11 * that.m12 + this.m12 * that.m22,
+      this.m20 * that.m00 + this.m21 * that.m10 + this.m22 * that.m20,
+      this.m20 * that.m01 + this.m21 * that.m11 + this.m22 * that.m21,
+      this.m20 * that.m02 + this.m21 * that.m12 + this.m22 * that.m22
+    );
+  }
+
+  // this = that * this
+  public @NonNull Matrix3d premul(final @NonNull Matrix3d that) {
+    return this.set(
+      that.m00 * this.m00 + that.m01 * this.m10 + that.m02 * this.m20,
+      that.m00 * this.m01 + that.m01 * this.m11 + that.m02 * this.m21,
+      that.m00 * this.m02 + that.m01 * this.m12 + that.m02 * this.m22,
+      that.m10 * this.m00 + that.m11 * this.m10 + that.m12 * this.m20,
+      that.m10 * this.m01 + that.m11 * this.m11 + that.m12 * this.m21,
+      that.m10 * this.m02 + that.m11 * this.m12 + that.m12 * this.m22,
+      that.m20 * this.m00 + that.m21 * this.m10 + that.m22 * this.m20,
+      that.m20 * this.m01 + that.m21 * this.m11 + that.m22 * this.m21,
+      that.m20 * this.m02 + that.m21 * this.m12 + that.m22 * this.m22
+    );
+  }
+
+  public @NonNull Matrix3d scale(final double x, final double y, final double z) {
+    this.m00 *= x;
+    this.m10 *= x;
+    this.m20 *= x;
+    this.m01 *= y;
+    this.m11 *= y;
+    this.m21 *= y;
+    this.m02 *= z;
+    this.m12 *= z;
+    this.m22 *= z;
+    return this;
+  }
+
+  public @NonNull Matrix3d scale(final double n) {
+    return this.scale(n, n, n);
+  }
+
+  public @NonNull Matrix3d rotate(final double angle, final double axisX, final double axisY, final double axisZ) {
+    final double length = Math.sqrt(axisX * axisX + axisY * axisY + axisZ * axisZ);
+    final double x = axisX / length;
+    final double y = axisY / length;
+    final double z = axisZ / length;
+    final double sin = Math.sin(angle);
+    final double cos = Math.cos(angle);
+    final double c = 1d - cos;
+    final double r00 = cos + x * x * c;
+    final double r01 = x * y * c - z * sin;
+    final double r02 = x * z * c + y * sin;
+    final double r10 = y * x * c + z * sin;
+    final double r11 = cos + y * y * c;
+    final double r12 = y * z * c - x * sin;
+    final double r20 = z * x * c - y * sin;
+    final double r21 = z * y * c + x * sin;
+    final double r22 = cos + z * z * c;
+    return this.set(
+      this.m00 * r00 + this.m01 * r10 + this.m02 * r20,
+      this.m00 * r01 + this.m01 * r11 + this.m02 * r21,
+      this.m00 * r02 + this.m01 * r12 + this.m02 * r22,
+      this.m10 * r00 + this.m11 * r10 + this.m12 * r20,
+      this.m10 * r01 + this.m11 * r11 + this.m12 * r21,
+      this.m10 * r02 + this.m11 * r12 + this.m12 * r22,
+      this.m20 * r00 + this.m21 * r10 + this.m22 * r20,
+      this.m20 * r01 + this.m21 * r11 + this.m22 * r21,
+      this.m20 * r02 + this.m21 * r12 + this.m22 * r22
+    );
+  }
+
+  public @NonNull Matrix3d rotate(final double angle, final @NonNull Vector3d axis) {
+    return this.rotate(angle, axis.x(), axis.y(), axis.z());
+  }
+
+  public @NonNull Matrix3d transpose() {
+    return this.set(
+      this.m00, this.m10, this.m20,
+      this.m01, this.m11, this.m21,
+      this.m02, this.m12, this.m22
+    );
+  }
+
+  public double determinant() {
+    return this.m00 * (this.m11 * this.m22 - this.m12 * this.m21)
+      + this.m01 * (this.m12 * this.m20 - this.m10 * this.m22)
+      + this.m02 * (this.m10 * this.m21 - this.m11 * this.m20);
+  }
+
+  /**
+   * Inverts this matrix.
+   *
+   * @throws ArithmeticException if this matrix is singular
+   */
+  public @NonNull Matrix3d invert() {
+    final double c00 = this.m11 * this.m22 - this.m12 * this.m21;
+    final double c01 = this.m02 * this.m21 - this.m01 * this.m22;
+    final double c02 = this.m01 * this.m12 - this.m02 * this.m11;
+    final double c10 = this.m12 * this.m20 - this.m10 * this.m22;
+    final double c11 = this.m00 * this.m22 - this.m02 * this.m20;
+    final double c12 = this.m02 * this.m10 - this.m00 * this.m12;
+    final double c20 = this.m10 * this.m21 - this.m11 * this.m20;
+    final double c21 = this.m01 * this.m20 - this.m00 * this.m21;
+    final double c22 = this.m00 * this.m11 - this.m01 * this.m10;
+    final double determinant = this.m00 * c00 + this.m01 * c10 + this.m02 * c20;
+    if(determinant == 0d || Double.isNaN(determinant)) throw new ArithmeticException("matrix is not invertible");
+    final double inv = 1d / determinant;
+    return this.set(
+      c00 * inv, c01 * inv, c02 * inv,
+      c10 * inv, c11 * inv, c12 * inv,
+      c20 * inv, c21 * inv, c22 * inv
+    );
+  }
+
+  public @NonNull MutVector3d transform(final double x, final double y, final double z, final @NonNull MutVector3d dst) {
+    return dst.set(
+      this.m00 * x + this.m01 * y + this.m02 * z,
+      this.m10 * x + this.m11 * y + this.m12 * z,
+      this.m20 * x + this.m21 * y + this.m22 * z
+    );
+  }
+
+  public @NonNull MutVector3d transform(final @NonNull Vector3d vector, final @NonNull MutVector3d dst) {
+    return this.transform(vector.x(), vector.y(), vector.z(), dst);
+  }
+
+  /**
+   * Transforms {@code count} vectors stored as consecutive x, y, z triples. The source and destination
+   * may be the same array at the same offset, but must not otherwise overlap.
+   */
+  public void transform(final double[] src, final int srcOffset, final double[] dst, final int dstOffset, final int count) {
+    Matrices.checkArrays(src.length, srcOffset, dst.length, dstOffset, count);
+    final double m00 = this.m00;
+    final double m01 = this.m01;
+    final double m02 = this.m02;
+    final double m10 = this.m10;
+    final double m11 = this.m11;
+    final double m12 = this.m12;
+    final double m20 = this.m20;
+    final double m21 = this.m21;
+    final double m22 = this.m22;
+    for(int i = 0; i < count * 3; i += 3) {
+      final double x = src[srcOffset + i];
+      final double y = src[srcOffset + i + 1];
+      final double z = src[srcOffset + i + 2];
+      dst[dstOffset + i] = m00 * x + m01 * y + m02 * z;
+      dst[dstOffset + i + 1] = m10 * x + m11 * y + m12 * z;
+      dst[dstOffset + i + 2] = m20 * x + m21 * y + m22 * z;
+    }
+  }
+
+  public void transform(final @NonNull Vector3dBuffer src, final int from, final int to, final @NonNull Vector3dBuffer dst) {
+    Matrices.checkBuffers(src.size(), dst.size(), from, to);
+    final double[] sxs = src.xs();
+    final double[] sys = src.ys();
+    final double[] szs = src.zs();
+    final double[] dxs = dst.xs();
+    final double[] dys = dst.ys();
+    final double[] dzs = dst.zs();
+    final double m00 = this.m00;
+    final double m01 = this.m01;
+    final double m02 = this.m02;
+    final double m10 = this.m10;
+    final double m11 = this.m11;
+    final double m12 = this.m12;
+    final double m20 = this.m20;
+    final double m21 = this.m21;
+    final double m22 = this.m22;
+    for(int i = from; i < to; i++) {
+      final double x = sxs[i];
+      final double y = sys[i];
+      final double z = szs[i];
+      dxs[i] = m00 * x + m01 * y + m02 * z;
+      dys[i] = m10 * x + m11 * y + m12 * z;
+      dzs[i] = m20 * x + m21 * y + m22 * z;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Double.hashCode(this.m00);
+    result = 31 * result + Double.hashCode(this.m01);
+    result = 31 * result + Double.hashCode(this.m02);
+    result = 31 * result + Double.hashCode(this.m10);
+    result = 31 * result + Double.hashCode(this.m11);
+    result = 31 * result + Double.hashCode(this.m12);
+    result = 31 * result + Double.hashCode(this.m20);
+    result = 31 * result + Double.hashCode(this.m21);
+    result = 31 * result + Double.hashCode(this.m22);
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!(other instanceof Matrix3d)) return false;
+    final Matrix3d that = (Matrix3d) other;
+    return Double.compare(this.m00, that.m00) == 0 &&
+      Double.compare(this.m01, that.m01) == 0 &&
+      Double.compare(this.m02, that.m02) == 0 &&
+      Double.compare(this.m10, that.m10) == 0 &&
+      Double.compare(this.m11, that.m11) == 0 &&
+      Double.compare(this.m12, that.m12) == 0 &&
+      Double.compare(this.m20, that.m20) == 0 &&
+      Double.compare(this.m21, that.m21) == 0 &&
+      Double.compare(this.m22, that.m22) == 0;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{[%f, %f, %f], [%f, %f, %f], [%f, %f, %f]}", this.getClass().getSimpleName(), this.m00, this.m01, this.m02, this.m10, this.m11, this.m12, this.m20, this.m21, this.m22);
+  }
+}
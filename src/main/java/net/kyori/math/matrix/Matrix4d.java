@@ -0,0 +1,693 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.matrix;
+
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A mutable 4x4 matrix of doubles.
+ *
+ * <p>Vectors are treated as columns, so a product {@code a * b} applies {@code b} first. Every mutating
+ * method changes and returns this matrix.</p>
+ */
+public class Matrix4d {
+  private double m00;
+  private double m01;
+  private double m02;
+  private double m03;
+  private double m10;
+  private double m11;
+  private double m12;
+  private double m13;
+  private double m20;
+  private double m21;
+  private double m22;
+  private double m23;
+  private double m30;
+  private double m31;
+  private double m32;
+  private double m33;
+
+  public static @NonNull Matrix4d identity() {
+    return new Matrix4d().setIdentity();
+  }
+
+  // in row-major order
+  public static @NonNull Matrix4d of(final double m00, final double m01, final double m02, final double m03, final double m10, final double m11, final double m12, final double m13, final double m20, final double m21, final double m22, final double m23, final double m30, final double m31, final double m32, final double m33) {
+    return new Matrix4d().set(m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+  }
+
+  public static @NonNull Matrix4d from(final @NonNull Matrix4d that) {
+    return new Matrix4d().set(that);
+  }
+
+  public static @NonNull Matrix4d translation(final double x, final double y, final double z) {
+    return identity().setTranslation(x, y, z);
+  }
+
+  public static @NonNull Matrix4d translation(final @NonNull Vector3d vector) {
+    return translation(vector.x(), vector.y(), vector.z());
+  }
+
+  public static @NonNull Matrix4d scaling(final double x, final double y, final double z) {
+    return new Matrix4d().set(
+      x, 0d, 0d, 0d,
+      0d, y, 0d, 0d,
+      0d, 0d, z, 0d,
+      0d, 0d, 0d, 1d
+    );
+  }
+
+  public static @NonNull Matrix4d scaling(final double n) {
+    return scaling(n, n, n);
+  }
+
+  /**
+   * Creates a counter-clockwise rotation by {@code angle} radians around an axis, which does not have to
+   * be normalized.
+   */
+  public static @NonNull Matrix4d rotation(final double angle, final double axisX, final double axisY, final double axisZ) {
+    return identity().rotate(angle, axisX, axisY, axisZ);
+  }
+
+  public static @NonNull Matrix4d rotation(final double angle, final @NonNull Vector3d axis) {
+    return rotation(angle, axis.x(), axis.y(), axis.z());
+  }
+
+  public static @NonNull Matrix4d rotationX(final double angle) {
+    final double sin = Math.sin(angle);
+    final double cos = Math.cos(angle);
+    return new Matrix4d().set(
+      1d, 0d, 0d, 0d,
+      0d, cos, -sin, 0d,
+      0d, sin, cos, 0d,
+      0d, 0d, 0d, 1d
+    );
+  }
+
+  public static @NonNull Matrix4d rotationY(final double angle) {
+    final double sin = Math.sin(angle);
+    final double cos = Math.cos(angle);
+    return new Matrix4d().set(
+      cos, 0d, sin, 0d,
+      0d, 1d, 0d, 0d,
+      -sin, 0d, cos, 0d,
+      0d, 0d, 0d, 1d
+    );
+  }
+
+  public static @NonNull Matrix4d rotationZ(final double angle) {
+    final double sin = Math.sin(angle);
+    final double cos = Math.cos(angle);
+    return new Matrix4d().set(
+      cos, -sin, 0d, 0d,
+      sin, cos, 0d, 0d,
+      0d, 0d, 1d, 0d,
+      0d, 0d, 0d, 1d
+    );
+  }
+
+  /**
+   * Creates a right-handed view matrix for a camera at {@code eye} looking towards {@code center}.
+   */
+  public static @NonNull Matrix4d lookAt(final @NonNull Vector3d eye, final @NonNull Vector3d center, final @NonNull Vector3d up) {
+    double fx = center.x() - eye.x();
+    double fy = center.y() - eye.y();
+    double fz = center.z() - eye.z();
+    final double fl = Math.sqrt(fx * fx + fy * fy + fz * fz);
+    fx /= fl;
+    fy /= fl;
+    fz /= fl;
+    // side = forward x up
+    double sx = fy * up.z() - fz * up.y();
+    double sy = fz * up.x() - fx * up.z();
+    double sz = fx * up.y() - fy * up.x();
+    final double sl = Math.sqrt(sx * sx + sy * sy + sz * sz);
+    sx /= sl;
+    sy /= sl;
+    sz /= sl;
+    // up = side x forward
+    final double ux = sy * fz - sz * fy;
+    final double uy = sz * fx - sx * fz;
+    final double uz = sx * fy - sy * fx;
+    return new Matrix4d().set(
+      sx, sy, sz, -(sx * eye.x() + sy * eye.y() + sz * eye.z()),
+      ux, uy, uz, -(ux * eye.x() + uy * eye.y() + uz * eye.z()),
+      -fx, -fy, -fz, fx * eye.x() + fy * eye.y() + fz * eye.z(),
+      0d, 0d, 0d, 1d
+    );
+  }
+
+  /**
+   * Creates a perspective projection onto clip coordinates between -1 and 1, with a vertical field of
+   * view of {@code fovY} radians.
+   */
+  public static @NonNull Matrix4d perspective(final double fovY, final double aspect, final double near, final double far) {
+    if(!(near > 0d) || !(far > near)) throw new IllegalArgumentException("invalid clipping planes: " + near + ", " + far);
+    final double f = 1d / Math.tan(fovY / 2d);
+    return new Matrix4d().set(
+      f / aspect, 0d, 0d, 0d,
+      0d, f, 0d, 0d,
+      0d, 0d, (far + near) / (near - far), 2d * far * near / (near - far),
+      0d, 0d, -1d, 0d
+    );
+  }
+
+  protected Matrix4d() {
+  }
+
+  public double m00() {
+    return this.m00;
+  }
+
+  public double m01() {
+    return this.m01;
+  }
+
+  public double m02() {
+    return this.m02;
+  }
+
+  public double m03() {
+    return this.m03;
+  }
+
+  public double m10() {
+    return this.m10;
+  }
+
+  public double m11() {
+    return this.m11;
+  }
+
+  public double m12() {
+    return this.m12;
+  }
+
+  public double m13() {
+    return this.m13;
+  }
+
+  public double m20() {
+    return this.m20;
+  }
+
+  public double m21() {
+    return this.m21;
+  }
+
+  public double m22() {
+    return this.m22;
+  }
+
+  public double m23() {
+    return this.m23;
+  }
+
+  public double m30() {
+    return this.m30;
+  }
+
+  public double m31() {
+    return this.m31;
+  }
+
+  public double m32() {
+    return this.m32;
+  }
+
+  public double m33() {
+    return this.m33;
+  }
+
+  public @NonNull Matrix4d set(final double m00, final double m01, final double m02, final double m03, final double m10, final double m11, final double m12, final double m13, final double m20, final double m21, final double m22, final double m23, final double m30, final double m31, final double m32, final double m33) {
+    this.m00 = m00;
+    this.m01 = m01;
+    this.m02 = m02;
+    this.m03 = m03;
+    this.m10 = m10;
+    this.m11 = m11;
+    this.m12 = m12;
+    this.m13 = m13;
+    this.m20 = m20;
+    this.m21 = m21;
+    this.m22 = m22;
+    this.m23 = m23;
+    this.m30 = m30;
+    this.m31 = m31;
+    this.m32 = m32;
+    this.m33 = m33;
+    return this;
+  }
+
+  public @NonNull Matrix4d set(final @NonNull Matrix4d that) {
+    return this.set(that.m00, that.m01, that.m02, that.m03, that.m10, that.m11, that.m12, that.m13, that.m20, that.m21, that.m22, that.m23, that.m30, that.m31, that.m32, that.m33);
+  }
+
+  public @NonNull Matrix4d setIdentity() {
+    return this.set(
+      1d, 0d, 0d, 0d,
+      0d, 1d, 0d, 0d,
+      0d, 0d, 1d, 0d,
+      0d, 0d, 0d, 1d
+    );
+  }
+
+  public @NonNull Matrix4d setTranslation(final double x, final double y, final double z) {
+    this.m03 = x;
+    this.m13 = y;
+    this.m23 = z;
+    return this;
+  }
+
+  // in row-major order
+  public double[] get(final double[] dst, final int offset) {
+    dst[offset + 0] = this.m00;
+    dst[offset + 1] = this.m01;
+    dst[offset + 2] = this.m02;
+    dst[offset + 3] = this.m03;
+    dst[offset + 4] = this.m10;
+    dst[offset + 5] = this.m11;
+    dst[offset + 6] = this.m12;
+    dst[offset + 7] = this.m13;
+    dst[offset + 8] = this.m20;
+    dst[offset + 9] = this.m21;
+    dst[offset + 10] = this.m22;
+    dst[offset + 11] = this.m23;
+    dst[offset + 12] = this.m30;
+    dst[offset + 13] = this.m31;
+    dst[offset + 14] = this.m32;
+    dst[offset + 15] = this.m33;
+    return dst;
+  }
+
+  public @NonNull Matrix4d copy() {
+    return from(this);
+  }
+
+  // this = this * that
+  public @NonNull Matrix4d mul(final @NonNull Matrix4d that) {
+    return this.set(
+      this.m00 * that.m00 + this.m01 * that.m10 + this.m02 * that.m20 + this.m03 * that.m30,
+      this.m00 * that.m01 + this.m01 * that.m11 + this.m02 * that.m21 + this.m03 * that.m31,
+      this.m00 * that.m02 + this.m01 * that.m12 + this.m02 * that.m22 + this.m03 * that.m32,
+      this.m00 * that.m03 + this.m01 * that.m13 + this.m02 * that.m23 + this.m03 * that.m33,
+      this.m10 * that.m00 + this.m11 * that.m10 + this.m12 * that.m20 + this.m13 * that.m30,
+      this.m10 * that.m01 + this.m11 * that.m11 + this.m12 * that.m21 + this.m13 * that.m31,
+      this.m10 * that.m02 + this.m11 * that.m12 + this.m12 * that.m22 + this.m13 * that.m32,
+      this.m10 * that.m03 + this.m11 * that.m13 + this.m12 * that.m23 + this.m13 * that.m33,
+      this.m20 * that.m00 + this.m21 * that.m10 + this.m22 * that.m20 + this.m23 * that.m30,
+      this.m20 * that.m01 + this.m21 * that.m11 + this.m22 * that.m21 + this.m23 * that.m31,
+      this.m20 * that.m02 + this.m21 * that.m12 + this.m22 * that.m22 + this.m23 * that.m32,
+      this.m20 * that.m03 + this.m21 * that.m13 + this.m22 * that.m23 + this.m23 * that.m33,
+      this.m30 * that.m00 + this.m31 * that.m10 + this.m32 * that.m20 + this.m33 * that.m30,
+      this.m30 * that.m01 + this.m31 * that.m11 + this.m32 * that.m21 + this.m33 * that.m31,
+      this.m30 * that.m02 + this.m31 * that.m12 + this.m32 * that.m22 + this.m33 * that.m32,
+      this.m30 * that.m03 + this.m31 * that.m13 + this.m32 * that.m23 + this.m33 * that.m33
+    );
+  }
+
+  // this = that * this
+  public @NonNull Matrix4d premul(final @NonNull Matrix4d that) {
+    return this.set(
+      that.m00 * this.m00 + that.m01 * this.m10 + that.m02 * this.m20 + that.m03 * this.m30,
+      that.m00 * this.m01 + that.m01 * this.m11 + that.m02 * this.m21 + that.m03 * this.m31,
+      that.m00 * this.m02 + that.m01 * this.m12 + that.m02 * this.m22 + that.m03 * this.m32,
+      that.m00 * this.m03 + that.m01 * this.m13 + that.m02 * this.m23 + that.m03 * this.m33,
+      that.m10 * this.m00 + that.m11 * this.m10 + that.m12 * this.m20 + that.m13 * this.m30,
+      that.m10 * this.m01 + that.m11 * this.m11 + that.m12 * this.m21 + that.m13 * this.m31,
+      that.m10 * this.m02 + that.m11 * this.m12 + that.m12 * this.m22 + that.m13 * this.m32,
+      that.m10 * this.m03 + that.m11 * this.m13 + that.m12 * this.m23 + that.m13 * this.m33,
+      that.m20 * this.m00 + that.m21 * this.m10 + that.m22 * this.m20 + that.m23 * this.m30,
+      that.m20 * this.m01 + that.m21 * this.m11 + that.m22 * this.m21 + that.m23 * this.m31,
+      that.m20 * this.m02 + that.m21 * this.m12 + that.m22 * this.m22 + that.m23 * this.m32,
+      that.m20 * this.m03 + that.m21 * this.m13 + that.m22 * this.m23 + that.m23 * this.m33,
+      that.m30 * this.m00 + that.m31 * this.m10 + that.m32 * this.m20 + that.m33 * this.m30,
+      that.m30 * this.m01 + that.m31 * this.m11 + that.m32 * this.m21 + that.m33 * this.m31,
+      that.m30 * this.m02 + that.m31 * this.m12 + that.m32 * this.m22 + that.m33 * this.m32,
+      that.m30 * this.m03 + that.m31 * this.m13 + that.m32 * this.m23 + that.m33 * this.m33
+    );
+  }
+
+  public @NonNull Matrix4d translate(final double x, final double y, final double z) {
+    this.m03 += this.m00 * x + this.m01 * y + this.m02 * z;
+    this.m13 += this.m10 * x + this.m11 * y + this.m12 * z;
+    this.m23 += this.m20 * x + this.m21 * y + this.m22 * z;
+    this.m33 += this.m30 * x + this.m31 * y + this.m32 * z;
+    return this;
+  }
+
+  public @NonNull Matrix4d translate(final @NonNull Vector3d vector) {
+    return this.translate(vector.x(), vector.y(), vector.z());
+  }
+
+  public @NonNull Matrix4d scale(final double x, final double y, final double z) {
+    this.m00 *= x;
+    this.m10 *= x;
+    this.m20 *= x;
+    this.m30 *= x;
+    this.m01 *= y;
+    this.m11 *= y;
+    this.m21 *= y;
+    this.m31 *= y;
+    this.m02 *= z;
+    this.m12 *= z;
+    this.m22 *= z;
+    this.m32 *= z;
+    return this;
+  }
+
+  public @NonNull Matrix4d scale(final double n) {
+    return this.scale(n, n, n);
+  }
+
+  public @NonNull Matrix4d rotate(final double angle, final double axisX, final double axisY, final double axisZ) {
+    final double length = Math.sqrt(axisX * axisX + axisY * axisY + axisZ * axisZ);
+    final double x = axisX / length;
+    final double y = axisY / length;
+    final double z = axisZ / length;
+    final double sin = Math.sin(angle);
+    final double cos = Math.cos(angle);
+    final double c = 1d - cos;
+    final double r00 = cos + x * x * c;
+    final double r01 = x * y * c - z * sin;
+    final double r02 = x * z * c + y * sin;
+    final double r10 = y * x * c + z * sin;
+    final double r11 = cos + y * y * c;
+    final double r12 = y * z * c - x * sin;
+    final double r20 = z * x * c - y * sin;
+    final double r21 = z * y * c + x * sin;
+    final double r22 = cos + z * z * c;
+    return this.set(
+      this.m00 * r00 + this.m01 * r10 + this.m02 * r20,
+      this.m00 * r01 + this.m01 * r11 + this.m02 * r21,
+      this.m00 * r02 + this.m01 * r12 + this.m02 * r22,
+      this.m03,
+      this.m10 * r00 + this.m11 * r10 + this.m12 * r20,
+      this.m10 * r01 + this.m11 * r11 + this.m12 * r21,
+      this.m10 * r02 + this.m11 * r12 + this.m12 * r22,
+      this.m13,
+      this.m20 * r00 + this.m21 * r10 + this.m22 * r20,
+      this.m20 * r01 + this.m21 * r11 + this.m22 * r21,
+      this.m20 * r02 + this.m21 * r12 + this.m22 * r22,
+      this.m23,
+      this.m30 * r00 + this.m31 * r10 + this.m32 * r20,
+      this.m30 * r01 + this.m31 * r11 + this.m32 * r21,
+      this.m30 * r02 + this.m31 * r12 + this.m32 * r22,
+      this.m33
+    );
+  }
+
+  public @NonNull Matrix4d rotate(final double angle, final @NonNull Vector3d axis) {
+    return this.rotate(angle, axis.x(), axis.y(), axis.z());
+  }
+
+  public @NonNull Matrix4d transpose() {
+    return this.set(
+      this.m00, this.m10, this.m20, this.m30,
+      this.m01, this.m11, this.m21, this.m31,
+      this.m02, this.m12, this.m22, this.m32,
+      this.m03, this.m13, this.m23, this.m33
+    );
+  }
+
+  public double determinant() {
+    final double a = this.m00 * this.m11 - this.m01 * this.m10;
+    final double b = this.m00 * this.m12 - this.m02 * this.m10;
+    final double c = this.m00 * this.m13 - this.m03 * this.m10;
+    final double d = this.m01 * this.m12 - this.m02 * this.m11;
+    final double e = this.m01 * this.m13 - this.m03 * this.m11;
+    final double f = this.m02 * this.m13 - this.m03 * this.m12;
+    final double g = this.m20 * this.m31 - this.m21 * this.m30;
+    final double h = this.m20 * this.m32 - this.m22 * this.m30;
+    final double i = this.m20 * this.m33 - this.m23 * this.m30;
+    final double j = this.m21 * this.m32 - this.m22 * this.m31;
+    final double k = this.m21 * this.m33 - this.m23 * this.m31;
+    final double l = this.m22 * this.m33 - this.m23 * this.m32;
+    return a * l - b * k + c * j + d * i - e * h + f * g;
+  }
+
+  /**
+   * Inverts this matrix.
+   *
+   * @throws ArithmeticException if this matrix is singular
+   */
+  public @NonNull Matrix4d invert() {
+    // 2x2 determinants of the top and bottom two rows
+    final double a = this.m00 * this.m11 - this.m01 * this.m10;
+    final double b = this.m00 * this.m12 - this.m02 * this.m10;
+    final double c = this.m00 * this.m13 - this.m03 * this.m10;
+    final double d = this.m01 * this.m12 - this.m02 * this.m11;
+    final double e = this.m01 * this.m13 - this.m03 * this.m11;
+    final double f = this.m02 * this.m13 - this.m03 * this.m12;
+    final double g = this.m20 * this.m31 - this.m21 * this.m30;
+    final double h = this.m20 * this.m32 - this.m22 * this.m30;
+    final double i = this.m20 * this.m33 - this.m23 * this.m30;
+    final double j = this.m21 * this.m32 - this.m22 * this.m31;
+    final double k = this.m21 * this.m33 - this.m23 * this.m31;
+    final double l = this.m22 * this.m33 - this.m23 * this.m32;
+    final double determinant = a * l - b * k + c * j + d * i - e * h + f * g;
+    if(determinant == 0d || Double.isNaN(determinant)) throw new ArithmeticException("matrix is not invertible");
+    final double inv = 1d / determinant;
+    return this.set(
+      (this.m11 * l - this.m12 * k + this.m13 * j) * inv,
+      (-this.m01 * l + this.m02 * k - this.m03 * j) * inv,
+      (this.m31 * f - this.m32 * e + this.m33 * d) * inv,
+      (-this.m21 * f + this.m22 * e - this.m23 * d) * inv,
+      (-this.m10 * l + this.m12 * i - this.m13 * h) * inv,
+      (this.m00 * l - this.m02 * i + this.m03 * h) * inv,
+      (-this.m30 * f + this.m32 * c - this.m33 * b) * inv,
+      (this.m20 * f - this.m22 * c + this.m23 * b) * inv,
+      (this.m10 * k - this.m11 * i + this.m13 * g) * inv,
+      (-this.m00 * k + this.m01 * i - this.m03 * g) * inv,
+      (this.m30 * e - this.m31 * c + this.m33 * a) * inv,
+      (-this.m20 * e + this.m21 * c - this.m23 * a) * inv,
+      (-this.m10 * j + this.m11 * h - this.m12 * g) * inv,
+      (this.m00 * j - this.m01 * h + this.m02 * g) * inv,
+      (-this.m30 * d + this.m31 * b - this.m32 * a) * inv,
+      (this.m20 * d - this.m21 * b + this.m22 * a) * inv
+    );
+  }
+
+  public @NonNull MutVector3d transformPosition(final double x, final double y, final double z, final @NonNull MutVector3d dst) {
+    return dst.set(
+      this.m00 * x + this.m01 * y + this.m02 * z + this.m03,
+      this.m10 * x + this.m11 * y + this.m12 * z + this.m13,
+      this.m20 * x + this.m21 * y + this.m22 * z + this.m23
+    );
+  }
+
+  public @NonNull MutVector3d transformPosition(final @NonNull Vector3d vector, final @NonNull MutVector3d dst) {
+    return this.transformPosition(vector.x(), vector.y(), vector.z(), dst);
+  }
+
+  // ignores the translation
+  public @NonNull MutVector3d transformDirection(final double x, final double y, final double z, final @NonNull MutVector3d dst) {
+    return dst.set(
+      this.m00 * x + this.m01 * y + this.m02 * z,
+      this.m10 * x + this.m11 * y + this.m12 * z,
+      this.m20 * x + this.m21 * y + this.m22 * z
+    );
+  }
+
+  public @NonNull MutVector3d transformDirection(final @NonNull Vector3d vector, final @NonNull MutVector3d dst) {
+    return this.transformDirection(vector.x(), vector.y(), vector.z(), dst);
+  }
+
+  // divides by the resulting w, as required by projections
+  public @NonNull MutVector3d transformProject(final double x, final double y, final double z, final @NonNull MutVector3d dst) {
+    final double inv = 1d / (this.m30 * x + this.m31 * y + this.m32 * z + this.m33);
+    return dst.set(
+      (this.m00 * x + this.m01 * y + this.m02 * z + this.m03) * inv,
+      (this.m10 * x + this.m11 * y + this.m12 * z + this.m13) * inv,
+      (this.m20 * x + this.m21 * y + this.m22 * z + this.m23) * inv
+    );
+  }
+
+  public @NonNull MutVector3d transformProject(final @NonNull Vector3d vector, final @NonNull MutVector3d dst) {
+    return this.transformProject(vector.x(), vector.y(), vector.z(), dst);
+  }
+
+  /**
+   * Transforms {@code count} positions stored as consecutive x, y, z triples. The source and destination
+   * may be the same array at the same offset, but must not otherwise overlap.
+   */
+  public void transformPositions(final double[] src, final int srcOffset, final double[] dst, final int dstOffset, final int count) {
+    Matrices.checkArrays(src.length, srcOffset, dst.length, dstOffset, count);
+    final double m00 = this.m00;
+    final double m01 = this.m01;
+    final double m02 = this.m02;
+    final double m03 = this.m03;
+    final double m10 = this.m10;
+    final double m11 = this.m11;
+    final double m12 = this.m12;
+    final double m13 = this.m13;
+    final double m20 = this.m20;
+    final double m21 = this.m21;
+    final double m22 = this.m22;
+    final double m23 = this.m23;
+    for(int i = 0; i < count * 3; i += 3) {
+      final double x = src[srcOffset + i];
+      final double y = src[srcOffset + i + 1];
+      final double z = src[srcOffset + i + 2];
+      dst[dstOffset + i] = m00 * x + m01 * y + m02 * z + m03;
+      dst[dstOffset + i + 1] = m10 * x + m11 * y + m12 * z + m13;
+      dst[dstOffset + i + 2] = m20 * x + m21 * y + m22 * z + m23;
+    }
+  }
+
+  public void transformDirections(final double[] src, final int srcOffset, final double[] dst, final int dstOffset, final int count) {
+    Matrices.checkArrays(src.length, srcOffset, dst.length, dstOffset, count);
+    final double m00 = this.m00;
+    final double m01 = this.m01;
+    final double m02 = this.m02;
+    final double m10 = this.m10;
+    final double m11 = this.m11;
+    final double m12 = this.m12;
+    final double m20 = this.m20;
+    final double m21 = this.m21;
+    final double m22 = this.m22;
+    for(int i = 0; i < count * 3; i += 3) {
+      final double x = src[srcOffset + i];
+      final double y = src[srcOffset + i + 1];
+      final double z = src[srcOffset + i + 2];
+      dst[dstOffset + i] = m00 * x + m01 * y + m02 * z;
+      dst[dstOffset + i + 1] = m10 * x + m11 * y + m12 * z;
+      dst[dstOffset + i + 2] = m20 * x + m21 * y + m22 * z;
+    }
+  }
+
+  /**
+   * Transforms the positions in {@code [from, to)} of {@code src} into the same indices of {@code dst},
+   * which may be the same buffer.
+   */
+  public void transformPositions(final @NonNull Vector3dBuffer src, final int from, final int to, final @NonNull Vector3dBuffer dst) {
+    Matrices.checkBuffers(src.size(), dst.size(), from, to);
+    final double[] sxs = src.xs();
+    final double[] sys = src.ys();
+    final double[] szs = src.zs();
+    final double[] dxs = dst.xs();
+    final double[] dys = dst.ys();
+    final double[] dzs = dst.zs();
+    final double m00 = this.m00;
+    final double m01 = this.m01;
+    final double m02 = this.m02;
+    final double m03 = this.m03;
+    final double m10 = this.m10;
+    final double m11 = this.m11;
+    final double m12 = this.m12;
+    final double m13 = this.m13;
+    final double m20 = this.m20;
+    final double m21 = this.m21;
+    final double m22 = this.m22;
+    final double m23 = this.m23;
+    for(int i = from; i < to; i++) {
+      final double x = sxs[i];
+      final double y = sys[i];
+      final double z = szs[i];
+      dxs[i] = m00 * x + m01 * y + m02 * z + m03;
+      dys[i] = m10 * x + m11 * y + m12 * z + m13;
+      dzs[i] = m20 * x + m21 * y + m22 * z + m23;
+    }
+  }
+
+  public void transformDirections(final @NonNull Vector3dBuffer src, final int from, final int to, final @NonNull Vector3dBuffer dst) {
+    Matrices.checkBuffers(src.size(), dst.size(), from, to);
+    final double[] sxs = src.xs();
+    final double[] sys = src.ys();
+    final double[] szs = src.zs();
+    final double[] dxs = dst.xs();
+    final double[] dys = dst.ys();
+    final double[] dzs = dst.zs();
+    final double m00 = this.m00;
+    final double m01 = this.m01;
+    final double m02 = this.m02;
+    final double m10 = this.m10;
+    final double m11 = this.m11;
+    final double m12 = this.m12;
+    final double m20 = this.m20;
+    final double m21 = this.m21;
+    final double m22 = this.m22;
+    for(int i = from; i < to; i++) {
+      final double x = sxs[i];
+      final double y = sys[i];
+      final double z = szs[i];
+      dxs[i] = m00 * x + m01 * y + m02 * z;
+      dys[i] = m10 * x + m11 * y + m12 * z;
+      dzs[i] = m20 * x + m21 * y + m22 * z;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Double.hashCode(this.m00);
+    result = 31 * result + Double.hashCode(this.m01);
+    result = 31 * result + Double.hashCode(this.m02);
+    result = 31 * result + Double.hashCode(this.m03);
+    result = 31 * result + Double.hashCode(this.m10);
+    result = 31 * result + Double.hashCode(this.m11);
+    result = 31 * result + Double.hashCode(this.m12);
+    result = 31 * result + Double.hashCode(this.m13);
+    result = 31 * result + Double.hashCode(this.m20);
+    result = 31 * result + Double.hashCode(this.m21);
+    result = 31 * result + Double.hashCode(this.m22);
+    result = 31 * result + Double.hashCode(this.m23);
+    result = 31 * result + Double.hashCode(this.m30);
+    result = 31 * result + Double.hashCode(this.m31);
+    result = 31 * result + Double.hashCode(this.m32);
+    result = 31 * result + Double.hashCode(this.m33);
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!(other instanceof Matrix4d)) return false;
+    final Matrix4d that = (Matrix4d) other;
+    return Double.compare(this.m00, that.m00) == 0 &&
+      Double.compare(this.m01, that.m01) == 0 &&
+      Double.compare(this.m02, that.m02) == 0 &&
+      Double.compare(this.m03, that.m03) == 0 &&
+      Double.compare(this.m10, that.m10) == 0 &&
+      Double.compare(this.m11, that.m11) == 0 &&
+      Double.compare(this.m12, that.m12) == 0 &&
+      Double.compare(this.m13, that.m13) == 0 &&
+      Double.compare(this.m20, that.m20) == 0 &&
+      Double.compare(this.m21, that.m21) == 0 &&
+      Double.compare(this.m22, that.m22) == 0 &&
+      Double.compare(this.m23, that.m23) == 0 &&
+      Double.compare(this.m30, that.m30) == 0 &&
+      Double.compare(this.m31, that.m31) == 0 &&
+      Double.compare(this.m32, that.m32) == 0 &&
+      Double.compare(this.m33, that.m33) == 0;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{[%f, %f, %f, %f], [%f, %f, %f, %f], [%f, %f, %f, %f], [%f, %f, %f, %f]}", this.getClass().getSimpleName(), this.m00, this.m01, this.m02, this.m03, this.m10, this.m11, this.m12, this.m13, this.m20, this.m21, this.m22, this.m23, this.m30, this.m31, this.m32, this.m33);
+  }
+}
@@ -0,0 +1,694 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.matrix;
+
+import net.kyori.math.Mth;
+import net.kyori.math.vector.f.MutVector3f;
+import net.kyori.math.vector.f.Vector3f;
+import net.kyori.math.vector.f.Vector3fBuffer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A mutable 4x4 matrix of floats.
+ *
+ * <p>Vectors are treated as columns, so a product {@code a * b} applies {@code b} first. Every mutating
+ * method changes and returns this matrix.</p>
+ */
+public class Matrix4f {
+  private float m00;
+  private float m01;
+  private float m02;
+  private float m03;
+  private float m10;
+  private float m11;
+  private float m12;
+  private float m13;
+  private float m20;
+  private float m21;
+  private float m22;
+  private float m23;
+  private float m30;
+  private float m31;
+  private float m32;
+  private float m33;
+
+  public static @NonNull Matrix4f identity() {
+    return new Matrix4f().setIdentity();
+  }
+
+  // in row-major order
+  public static @NonNull Matrix4f of(final float m00, final float m01, final float m02, final float m03, final float m10, final float m11, final float m12, final float m13, final float m20, final float m21, final float m22, final float m23, final float m30, final float m31, final float m32, final float m33) {
+    return new Matrix4f().set(m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+  }
+
+  public static @NonNull Matrix4f from(final @NonNull Matrix4f that) {
+    return new Matrix4f().set(that);
+  }
+
+  public static @NonNull Matrix4f translation(final float x, final float y, final float z) {
+    return identity().setTranslation(x, y, z);
+  }
+
+  public static @NonNull Matrix4f translation(final @NonNull Vector3f vector) {
+    return translation(vector.x(), vector.y(), vector.z());
+  }
+
+  public static @NonNull Matrix4f scaling(final float x, final float y, final float z) {
+    return new Matrix4f().set(
+      x, 0f, 0f, 0f,
+      0f, y, 0f, 0f,
+      0f, 0f, z, 0f,
+      0f, 0f, 0f, 1f
+    );
+  }
+
+  public static @NonNull Matrix4f scaling(final float n) {
+    return scaling(n, n, n);
+  }
+
+  /**
+   * Creates a counter-clockwise rotation by {@code angle} radians around an axis, which does not have to
+   * be normalized.
+   */
+  public static @NonNull Matrix4f rotation(final float angle, final float axisX, final float axisY, final float axisZ) {
+    return identity().rotate(angle, axisX, axisY, axisZ);
+  }
+
+  public static @NonNull Matrix4f rotation(final float angle, final @NonNull Vector3f axis) {
+    return rotation(angle, axis.x(), axis.y(), axis.z());
+  }
+
+  public static @NonNull Matrix4f rotationX(final float angle) {
+    final float sin = (float) Math.sin(angle);
+    final float cos = (float) Math.cos(angle);
+    return new Matrix4f().set(
+      1f, 0f, 0f, 0f,
+      0f, cos, -sin, 0f,
+      0f, sin, cos, 0f,
+      0f, 0f, 0f, 1f
+    );
+  }
+
+  public static @NonNull Matrix4f rotationY(final float angle) {
+    final float sin = (float) Math.sin(angle);
+    final float cos = (float) Math.cos(angle);
+    return new Matrix4f().set(
+      cos, 0f, sin, 0f,
+      0f, 1f, 0f, 0f,
+      -sin, 0f, cos, 0f,
+      0f, 0f, 0f, 1f
+    );
+  }
+
+  public static @NonNull Matrix4f rotationZ(final float angle) {
+    final float sin = (float) Math.sin(angle);
+    final float cos = (float) Math.cos(angle);
+    return new Matrix4f().set(
+      cos, -sin, 0f, 0f,
+      sin, cos, 0f, 0f,
+      0f, 0f, 1f, 0f,
+      0f, 0f, 0f, 1f
+    );
+  }
+
+  /**
+   * Creates a right-handed view matrix for a camera at {@code eye} looking towards {@code center}.
+   */
+  public static @NonNull Matrix4f lookAt(final @NonNull Vector3f eye, final @NonNull Vector3f center, final @NonNull Vector3f up) {
+    float fx = center.x() - eye.x();
+    float fy = center.y() - eye.y();
+    float fz = center.z() - eye.z();
+    final float fl = Mth.sqrt(fx * fx + fy * fy + fz * fz);
+    fx /= fl;
+    fy /= fl;
+    fz /= fl;
+    // side = forward x up
+    float sx = fy * up.z() - fz * up.y();
+    float sy = fz * up.x() - fx * up.z();
+    float sz = fx * up.y() - fy * up.x();
+    final float sl = Mth.sqrt(sx * sx + sy * sy + sz * sz);
+    sx /= sl;
+    sy /= sl;
+    sz /= sl;
+    // up = side x forward
+    final float ux = sy * fz - sz * fy;
+    final float uy = sz * fx - sx * fz;
+    final float uz = sx * fy - sy * fx;
+    return new Matrix4f().set(
+      sx, sy, sz, -(sx * eye.x() + sy * eye.y() + sz * eye.z()),
+      ux, uy, uz, -(ux * eye.x() + uy * eye.y() + uz * eye.z()),
+      -fx, -fy, -fz, fx * eye.x() + fy * eye.y() + fz * eye.z(),
+      0f, 0f, 0f, 1f
+    );
+  }
+
+  /**
+   * Creates a perspective projection onto clip coordinates between -1 and 1, with a vertical field of
+   * view of {@code fovY} radians.
+   */
+  public static @NonNull Matrix4f perspective(final float fovY, final float aspect, final float near, final float far) {
+    if(!(near > 0f) || !(far > near)) throw new IllegalArgumentException("invalid clipping planes: " + near + ", " + far);
+    final float f = 1f / (float) Math.tan(fovY / 2f);
+    return new Matrix4f().set(
+      f / aspect, 0f, 0f, 0f,
+      0f, f, 0f, 0f,
+      0f, 0f, (far + near) / (near - far), 2f * far * near / (near - far),
+      0f, 0f, -1f, 0f
+    );
+  }
+
+  protected Matrix4f() {
+  }
+
+  public float m00() {
+    return this.m00;
+  }
+
+  public float m01() {
+    return this.m01;
+  }
+
+  public float m02() {
+    return this.m02;
+  }
+
+  public float m03() {
+    return this.m03;
+  }
+
+  public float m10() {
+    return this.m10;
+  }
+
+  public float m11() {
+    return this.m11;
+  }
+
+  public float m12() {
+    return this.m12;
+  }
+
+  public float m13() {
+    return this.m13;
+  }
+
+  public float m20() {
+    return this.m20;
+  }
+
+  public float m21() {
+    return this.m21;
+  }
+
+  public float m22() {
+    return this.m22;
+  }
+
+  public float m23() {
+    return this.m23;
+  }
+
+  public float m30() {
+    return this.m30;
+  }
+
+  public float m31() {
+    return this.m31;
+  }
+
+  public float m32() {
+    return this.m32;
+  }
+
+  public float m33() {
+    return this.m33;
+  }
+
+  public @NonNull Matrix4f set(final float m00, final float m01, final float m02, final float m03, final float m10, final float m11, final float m12, final float m13, final float m20, final float m21, final float m22, final float m23, final float m30, final float m31, final float m32, final float m33) {
+    this.m00 = m00;
+    this.m01 = m01;
+    this.m02 = m02;
+    this.m03 = m03;
+    this.m10 = m10;
+    this.m11 = m11;
+    this.m12 = m12;
+    this.m13 = m13;
+    this.m20 = m20;
+    this.m21 = m21;
+    this.m22 = m22;
+    this.m23 = m23;
+    this.m30 = m30;
+    this.m31 = m31;
+    this.m32 = m32;
+    this.m33 = m33;
+    return this;
+  }
+
+  public @NonNull Matrix4f set(final @NonNull Matrix4f that) {
+    return this.set(that.m00, that.m01, that.m02, that.m03, that.m10, that.m11, that.m12, that.m13, that.m20, that.m21, that.m22, that.m23, that.m30, that.m31, that.m32, that.m33);
+  }
+
+  public @NonNull Matrix4f setIdentity() {
+    return this.set(
+      1f, 0f, 0f, 0f,
+      0f, 1f, 0f, 0f,
+      0f, 0f, 1f, 0f,
+      0f, 0f, 0f, 1f
+    );
+  }
+
+  public @NonNull Matrix4f setTranslation(final float x, final float y, final float z) {
+    this.m03 = x;
+    this.m13 = y;
+    this.m23 = z;
+    return this;
+  }
+
+  // in row-major order
+  public float[] get(final float[] dst, final int offset) {
+    dst[offset + 0] = this.m00;
+    dst[offset + 1] = this.m01;
+    dst[offset + 2] = this.m02;
+    dst[offset + 3] = this.m03;
+    dst[offset + 4] = this.m10;
+    dst[offset + 5] = this.m11;
+    dst[offset + 6] = this.m12;
+    dst[offset + 7] = this.m13;
+    dst[offset + 8] = this.m20;
+    dst[offset + 9] = this.m21;
+    dst[offset + 10] = this.m22;
+    dst[offset + 11] = this.m23;
+    dst[offset + 12] = this.m30;
+    dst[offset + 13] = this.m31;
+    dst[offset + 14] = this.m32;
+    dst[offset + 15] = this.m33;
+    return dst;
+  }
+
+  public @NonNull Matrix4f copy() {
+    return from(this);
+  }
+
+  // this = this * that
+  public @NonNull Matrix4f mul(final @NonNull Matrix4f that) {
+    return this.set(
+      this.m00 * that.m00 + this.m01 * that.m10 + this.m02 * that.m20 + this.m03 * that.m30,
+      this.m00 * that.m01 + this.m01 * that.m11 + this.m02 * that.m21 + this.m03 * that.m31,
+      this.m00 * that.m02 + this.m01 * that.m12 + this.m02 * that.m22 + this.m03 * that.m32,
+      this.m00 * that.m03 + this.m01 * that.m13 + this.m02 * that.m23 + this.m03 * that.m33,
+      this.m10 * that.m00 + this.m11 * that.m10 + this.m12 * that.m20 + this.m13 * that.m30,
+      this.m10 * that.m01 + this.m11 * that.m11 + this.m12 * that.m21 + this.m13 * that.m31,
+      this.m10 * that.m02 + this.m11 * that.m12 + this.m12 * that.m22 + this.m13 * that.m32,
+      this.m10 * that.m03 + this.m11 * that.m13 + this.m12 * that.m23 + this.m13 * that.m33,
+      this.m20 * that.m00 + this.m21 * that.m10 + this.m22 * that.m20 + this.m23 * that.m30,
+      this.m20 * that.m01 + this.m21 * that.m11 + this.m22 * that.m21 + this.m23 * that.m31,
+      this.m20 * that.m02 + this.m21 * that.m12 + this.m22 * that.m22 + this.m23 * that.m32,
+      this.m20 * that.m03 + this.m21 * that.m13 + this.m22 * that.m23 + this.m23 * that.m33,
+      this.m30 * that.m00 + this.m31 * that.m10 + this.m32 * that.m20 + this.m33 * that.m30,
+      this.m30 * that.m01 + this.m31 * that.m11 + this.m32 * that.m21 + this.m33 * that.m31,
+      this.m30 * that.m02 + this.m31 * that.m12 + this.m32 * that.m22 + this.m33 * that.m32,
+      this.m30 * that.m03 + this.m31 * that.m13 + this.m32 * that.m23 + this.m33 * that.m33
+    );
+  }
+
+  // this = that * this
+  public @NonNull Matrix4f premul(final @NonNull Matrix4f that) {
+    return this.set(
+      that.m00 * this.m00 + that.m01 * this.m10 + that.m02 * this.m20 + that.m03 * this.m30,
+      that.m00 * this.m01 + that.m01 * this.m11 + that.m02 * this.m21 + that.m03 * this.m31,
+      that.m00 * this.m02 + that.m01 * this.m12 + that.m02 * this.m22 + that.m03 * this.m32,
+      that.m00 * this.m03 + that.m01 * this.m13 + that.m02 * this.m23 + that.m03 * this.m33,
+      that.m10 * this.m00 + that.m11 * this.m10 + that.m12 * this.m20 + that.m13 * this.m30,
+      that.m10 * this.m01 + that.m11 * this.m11 + that.m12 * this.m21 + that.m13 * this.m31,
+      that.m10 * this.m02 + that.m11 * this.m12 + that.m12 * this.m22 + that.m13 * this.m32,
+      that.m10 * this.m03 + that.m11 * this.m13 + that.m12 * this.m23 + that.m13 * this.m33,
+      that.m20 * this.m00 + that.m21 * this.m10 + that.m22 * this.m20 + that.m23 * this.m30,
+      that.m20 * this.m01 + that.m21 * this.m11 + that.m22 * this.m21 + that.m23 * this.m31,
+      that.m20 * this.m02 + that.m21 * this.m12 + that.m22 * this.m22 + that.m23 * this.m32,
+      that.m20 * this.m03 + that.m21 * this.m13 + that.m22 * this.m23 + that.m23 * this.m33,
+      that.m30 * this.m00 + that.m31 * this.m10 + that.m32 * this.m20 + that.m33 * this.m30,
+      that.m30 * this.m01 + that.m31 * this.m11 + that.m32 * this.m21 + that.m33 * this.m31,
+      that.m30 * this.m02 + that.m31 * this.m12 + that.m32 * this.m22 + that.m33 * this.m32,
+      that.m30 * this.m03 + that.m31 * this.m13 + that.m32 * this.m23 + that.m33 * this.m33
+    );
+  }
+
+  public @NonNull Matrix4f translate(final float x, final float y, final float z) {
+    this.m03 += this.m00 * x + this.m01 * y + this.m02 * z;
+    this.m13 += this.m10 * x + this.m11 * y + this.m12 * z;
+    this.m23 += this.m20 * x + this.m21 * y + this.m22 * z;
+    this.m33 += this.m30 * x + this.m31 * y + this.m32 * z;
+    return this;
+  }
+
+  public @NonNull Matrix4f translate(final @NonNull Vector3f vector) {
+    return this.translate(vector.x(), vector.y(), vector.z());
+  }
+
+  public @NonNull Matrix4f scale(final float x, final float y, final float z) {
+    this.m00 *= x;
+    this.m10 *= x;
+    this.m20 *= x;
+    this.m30 *= x;
+    this.m01 *= y;
+    this.m11 *= y;
+    this.m21 *= y;
+    this.m31 *= y;
+    this.m02 *= z;
+    this.m12 *= z;
+    this.m22 *= z;
+    this.m32 *= z;
+    return this;
+  }
+
+  public @NonNull Matrix4f scale(final float n) {
+    return this.scale(n, n, n);
+  }
+
+  public @NonNull Matrix4f rotate(final float angle, final float axisX, final float axisY, final float axisZ) {
+    final float length = Mth.sqrt(axisX * axisX + axisY * axisY + axisZ * axisZ);
+    final float x = axisX / length;
+    final float y = axisY / length;
+    final float z = axisZ / length;
+    final float sin = (float) Math.sin(angle);
+    final float cos = (float) Math.cos(angle);
+    final float c = 1f - cos;
+    final float r00 = cos + x * x * c;
+    final float r01 = x * y * c - z * sin;
+    final float r02 = x * z * c + y * sin;
+    final float r10 = y * x * c + z * sin;
+    final float r11 = cos + y * y * c;
+    final float r12 = y * z * c - x * sin;
+    final float r20 = z * x * c - y * sin;
+    final float r21 = z * y * c + x * sin;
+    final float r22 = cos + z * z * c;
+    return this.set(
+      this.m00 * r00 + this.m01 * r10 + this.m02 * r20,
+      this.m00 * r01 + this.m01 * r11 + this.m02 * r21,
+      this.m00 * r02 + this.m01 * r12 + this.m02 * r22,
+      this.m03,
+      this.m10 * r00 + this.m11 * r10 + this.m12 * r20,
+      this.m10 * r01 + this.m11 * r11 + this.m12 * r21,
+      this.m10 * r02 + this.m11 * r12 + this.m12 * r22,
+      this.m13,
+      this.m20 * r00 + this.m21 * r10 + this.m22 * r20,
+      this.m20 * r01 + this.m21 * r11 + this.m22 * r21,
+      this.m20 * r02 + this.m21 * r12 + this.m22 * r22,
+      this.m23,
+      this.m30 * r00 + this.m31 * r10 + this.m32 * r20,
+      this.m30 * r01 + this.m31 * r11 + this.m32 * r21,
+      this.m30 * r02 + this.m31 * r12 + this.m32 * r22,
+      this.m33
+    );
+  }
+
+  public @NonNull Matrix4f rotate(final float angle, final @NonNull Vector3f axis) {
+    return this.rotate(angle, axis.x(), axis.y(), axis.z());
+  }
+
+  public @NonNull Matrix4f transpose() {
+    return this.set(
+      this.m00, this.m10, this.m20, this.m30,
+      this.m01, this.m11, this.m21, this.m31,
+      this.m02, this.m12, this.m22, this.m32,
+      this.m03, this.m13, this.m23, this.m33
+    );
+  }
+
+  public float determinant() {
+    final float a = this.m00 * this.m11 - this.m01 * this.m10;
+    final float b = this.m00 * this.m12 - this.m02 * this.m10;
+    final float c = this.m00 * this.m13 - this.m03 * this.m10;
+    final float d = this.m01 * this.m12 - this.m02 * this.m11;
+    final float e = this.m01 * this.m13 - this.m03 * this.m11;
+    final float f = this.m02 * this.m13 - this.m03 * this.m12;
+    final float g = this.m20 * this.m31 - this.m21 * this.m30;
+    final float h = this.m20 * this.m32 - this.m22 * this.m30;
+    final float i = this.m20 * this.m33 - this.m23 * this.m30;
+    final float j = this.m21 * this.m32 - this.m22 * this.m31;
+    final float k = this.m21 * this.m33 - this.m23 * this.m31;
+    final float l = this.m22 * this.m33 - this.m23 * this.m32;
+    return a * l - b * k + c * j + d * i - e * h + f * g;
+  }
+
+  /**
+   * Inverts this matrix.
+   *
+   * @throws ArithmeticException if this matrix is singular
+   */
+  public @NonNull Matrix4f invert() {
+    // 2x2 determinants of the top and bottom two rows
+    final float a = this.m00 * this.m11 - this.m01 * this.m10;
+    final float b = this.m00 * this.m12 - this.m02 * this.m10;
+    final float c = this.m00 * this.m13 - this.m03 * this.m10;
+    final float d = this.m01 * this.m12 - this.m02 * this.m11;
+    final float e = this.m01 * this.m13 - this.m03 * this.m11;
+    final float f = this.m02 * this.m13 - this.m03 * this.m12;
+    final float g = this.m20 * this.m31 - this.m21 * this.m30;
+    final float h = this.m20 * this.m32 - this.m22 * this.m30;
+    final float i = this.m20 * this.m33 - this.m23 * this.m30;
+    final float j = this.m21 * this.m32 - this.m22 * this.m31;
+    final float k = this.m21 * this.m33 - this.m23 * this.m31;
+    final float l = this.m22 * this.m33 - this.m23 * this.m32;
+    final float determinant = a * l - b * k + c * j + d * i - e * h + f * g;
+    if(determinant == 0f || Float.isNaN(determinant)) throw new ArithmeticException("matrix is not invertible");
+    final float inv = 1f / determinant;
+    return this.set(
+      (this.m11 * l - this.m12 * k + this.m13 * j) * inv,
+      (-this.m01 * l + this.m02 * k - this.m03 * j) * inv,
+      (this.m31 * f - this.m32 * e + this.m33 * d) * inv,
+      (-this.m21 * f + this.m22 * e - this.m23 * d) * inv,
+      (-this.m10 * l + this.m12 * i - this.m13 * h) * inv,
+      (this.m00 * l - this.m02 * i + this.m03 * h) * inv,
+      (-this.m30 * f + this.m32 * c - this.m33 * b) * inv,
+      (this.m20 * f - this.m22 * c + this.m23 * b) * inv,
+      (this.m10 * k - this.m11 * i + this.m13 * g) * inv,
+      (-this.m00 * k + this.m01 * i - this.m03 * g) * inv,
+      (this.m30 * e - this.m31 * c + this.m33 * a) * inv,
+      (-this.m20 * e + this.m21 * c - this.m23 * a) * inv,
+      (-this.m10 * j + this.m11 * h - this.m12 * g) * inv,
+      (this.m00 * j - this.m01 * h + this.m02 * g) * inv,
+      (-this.m30 * d + this.m31 * b - this.m32 * a) * inv,
+      (this.m20 * d - this.m21 * b + this.m22 * a) * inv
+    );
+  }
+
+  public @NonNull MutVector3f transformPosition(final float x, final float y, final float z, final @NonNull MutVector3f dst) {
+    return dst.set(
+      this.m00 * x + this.m01 * y + this.m02 * z + this.m03,
+      this.m10 * x + this.m11 * y + this.m12 * z + this.m13,
+      this.m20 * x + this.m21 * y + this.m22 * z + this.m23
+    );
+  }
+
+  public @NonNull MutVector3f transformPosition(final @NonNull Vector3f vector, final @NonNull MutVector3f dst) {
+    return this.transformPosition(vector.x(), vector.y(), vector.z(), dst);
+  }
+
+  // ignores the translation
+  public @NonNull MutVector3f transformDirection(final float x, final float y, final float z, final @NonNull MutVector3f dst) {
+    return dst.set(
+      this.m00 * x + this.m01 * y + this.m02 * z,
+      this.m10 * x + this.m11 * y + this.m12 * z,
+      this.m20 * x + this.m21 * y + this.m22 * z
+    );
+  }
+
+  public @NonNull MutVector3f transformDirection(final @NonNull Vector3f vector, final @NonNull MutVector3f dst) {
+    return this.transformDirection(vector.x(), vector.y(), vector.z(), dst);
+  }
+
+  // divides by the resulting w, as required by projections
+  public @NonNull MutVector3f transformProject(final float x, final float y, final float z, final @NonNull MutVector3f dst) {
+    final float inv = 1f / (this.m30 * x + this.m31 * y + this.m32 * z + this.m33);
+    return dst.set(
+      (this.m00 * x + this.m01 * y + this.m02 * z + this.m03) * inv,
+      (this.m10 * x + this.m11 * y + this.m12 * z + this.m13) * inv,
+      (this.m20 * x + this.m21 * y + this.m22 * z + this.m23) * inv
+    );
+  }
+
+  public @NonNull MutVector3f transformProject(final @NonNull Vector3f vector, final @NonNull MutVector3f dst) {
+    return this.transformProject(vector.x(), vector.y(), vector.z(), dst);
+  }
+
+  /**
+   * Transforms {@code count} positions stored as consecutive x, y, z triples. The source and destination
+   * may be the same array at the same offset, but must not otherwise overlap.
+   */
+  public void transformPositions(final float[] src, final int srcOffset, final float[] dst, final int dstOffset, final int count) {
+    Matrices.checkArrays(src.length, srcOffset, dst.length, dstOffset, count);
+    final float m00 = this.m00;
+    final float m01 = this.m01;
+    final float m02 = this.m02;
+    final float m03 = this.m03;
+    final float m10 = this.m10;
+    final float m11 = this.m11;
+    final float m12 = this.m12;
+    final float m13 = this.m13;
+    final float m20 = this.m20;
+    final float m21 = this.m21;
+    final float m22 = this.m22;
+    final float m23 = this.m23;
+    for(int i = 0; i < count * 3; i += 3) {
+      final float x = src[srcOffset + i];
+      final float y = src[srcOffset + i + 1];
+      final float z = src[srcOffset + i + 2];
+      dst[dstOffset + i] = m00 * x + m01 * y + m02 * z + m03;
+      dst[dstOffset + i + 1] = m10 * x + m11 * y + m12 * z + m13;
+      dst[dstOffset + i + 2] = m20 * x + m21 * y + m22 * z + m23;
+    }
+  }
+
+  public void transformDirections(final float[] src, final int srcOffset, final float[] dst, final int dstOffset, final int count) {
+    Matrices.checkArrays(src.length, srcOffset, dst.length, dstOffset, count);
+    final float m00 = this.m00;
+    final float m01 = this.m01;
+    final float m02 = this.m02;
+    final float m10 = this.m10;
+    final float m11 = this.m11;
+    final float m12 = this.m12;
+    final float m20 = this.m20;
+    final float m21 = this.m21;
+    final float m22 = this.m22;
+    for(int i = 0; i < count * 3; i += 3) {
+      final float x = src[srcOffset + i];
+      final float y = src[srcOffset + i + 1];
+      final float z = src[srcOffset + i + 2];
+      dst[dstOffset + i] = m00 * x + m01 * y + m02 * z;
+      dst[dstOffset + i + 1] = m10 * x + m11 * y + m12 * z;
+      dst[dstOffset + i + 2] = m20 * x + m21 * y + m22 * z;
+    }
+  }
+
+  /**
+   * Transforms the positions in {@code [from, to)} of {@code src} into the same indices of {@code dst},
+   * which may be the same buffer.
+   */
+  public void transformPositions(final @NonNull Vector3fBuffer src, final int from, final int to, final @NonNull Vector3fBuffer dst) {
+    Matrices.checkBuffers(src.size(), dst.size(), from, to);
+    final float[] sxs = src.xs();
+    final float[] sys = src.ys();
+    final float[] szs = src.zs();
+    final float[] dxs = dst.xs();
+    final float[] dys = dst.ys();
+    final float[] dzs = dst.zs();
+    final float m00 = this.m00;
+    final float m01 = this.m01;
+    final float m02 = this.m02;
+    final float m03 = this.m03;
+    final float m10 = this.m10;
+    final float m11 = this.m11;
+    final float m12 = this.m12;
+    final float m13 = this.m13;
+    final float m20 = this.m20;
+    final float m21 = this.m21;
+    final float m22 = this.m22;
+    final float m23 = this.m23;
+    for(int i = from; i < to; i++) {
+      final float x = sxs[i];
+      final float y = sys[i];
+      final float z = szs[i];
+      dxs[i] = m00 * x + m01 * y + m02 * z + m03;
+      dys[i] = m10 * x + m11 * y + m12 * z + m13;
+      dzs[i] = m20 * x + m21 * y + m22 * z + m23;
+    }
+  }
+
+  public void transformDirections(final @NonNull Vector3fBuffer src, final int from, final int to, final @NonNull Vector3fBuffer dst) {
+    Matrices.checkBuffers(src.size(), dst.size(), from, to);
+    final float[] sxs = src.xs();
+    final float[] sys = src.ys();
+    final float[] szs = src.zs();
+    final float[] dxs = dst.xs();
+    final float[] dys = dst.ys();
+    final float[] dzs = dst.zs();
+    final float m00 = this.m00;
+    final float m01 = this.m01;
+    final float m02 = this.m02;
+    final float m10 = this.m10;
+    final float m11 = this.m11;
+    final float m12 = this.m12;
+    final float m20 = this.m20;
+    final float m21 = this.m21;
+    final float m22 = this.m22;
+    for(int i = from; i < to; i++) {
+      final float x = sxs[i];
+      final float y = sys[i];
+      final float z = szs[i];
+      dxs[i] = m00 * x + m01 * y + m02 * z;
+      dys[i] = m10 * x + m11 * y + m12 * z;
+      dzs[i] = m20 * x + m21 * y + m22 * z;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Float.hashCode(this.m00);
+    result = 31 * result + Float.hashCode(this.m01);
+    result = 31 * result + Float.hashCode(this.m02);
+    result = 31 * result + Float.hashCode(this.m03);
+    result = 31 * result + Float.hashCode(this.m10);
+    result = 31 * result + Float.hashCode(this.m11);
+    result = 31 * result + Float.hashCode(this.m12);
+    result = 31 * result + Float.hashCode(this.m13);
+    result = 31 * result + Float.hashCode(this.m20);
+    result = 31 * result + Float.hashCode(this.m21);
+    result = 31 * result + Float.hashCode(this.m22);
+    result = 31 * result + Float.hashCode(this.m23);
+    result = 31 * result + Float.hashCode(this.m30);
+    result = 31 * result + Float.hashCode(this.m31);
+    result = 31 * result + Float.hashCode(this.m32);
+    result = 31 * result + Float.hashCode(this.m33);
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!(other instanceof Matrix4f)) return false;
+    final Matrix4f that = (Matrix4f) other;
+    return Float.compare(this.m00, that.m00) == 0 &&
+      Float.compare(this.m01, that.m01) == 0 &&
+      Float.compare(this.m02, that.m02) == 0 &&
+      Float.compare(this.m03, that.m03) == 0 &&
+      Float.compare(this.m10, that.m10) == 0 &&
+      Float.compare(this.m11, that.m11) == 0 &&
+      Float.compare(this.m12, that.m12) == 0 &&
+      Float.compare(this.m13, that.m13) == 0 &&
+      Float.compare(this.m20, that.m20) == 0 &&
+      Float.compare(this.m21, that.m21) == 0 &&
+      Float.compare(this.m22, that.m22) == 0 &&
+      Float.compare(this.m23, that.m23) == 0 &&
+      Float.compare(this.m30, that.m30) == 0 &&
+      Float.compare(this.m31, that.m31) == 0 &&
+      Float.compare(this.m32, that.m32) == 0 &&
+      Float.compare(this.m33, that.m33) == 0;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{[%f, %f, %f, %f], [%f, %f, %f, %f], [%f, %f, %f, %f], [%f, %f, %f, %f]}", this.getClass().getSimpleName(), this.m00, this.m01, this.m02, this.m03, this.m10, this.m11, this.m12, this.m13, this.m20, this.m21, this.m22, this.m23, this.m30, this.m31, this.m32, this.m33);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.memory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.nio.ByteBuffer;
+
+final class ByteBufferMemory implements Memory {
+  private final ByteBuffer buffer;
+
+  ByteBufferMemory(final ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  @Override
+  public long byteSize() {
+    return this.buffer.capacity();
+  }
+
+  @Override
+  public int getInt(final long offset) {
+    return this.buffer.getInt(index(offset));
+  }
+
+  @Override
+  public void putInt(final long offset, final int value) {
+    this.buffer.putInt(index(offset), value);
+  }
+
+  @Override
+  public long getLong(final long offset) {
+    return this.buffer.getLong(index(offset));
+  }
+
+  @Override
+  public void putLong(final long offset, final long value) {
+    this.buffer.putLong(index(offset), value);
+  }
+
+  @Override
+  public float getFloat(final long offset) {
+    return this.buffer.getFloat(index(offset));
+  }
+
+  @Override
+  public void putFloat(final long offset, final float value) {
+    this.buffer.putFloat(index(offset), value);
+  }
+
+  @Override
+  public double getDouble(final long offset) {
+    return this.buffer.getDouble(index(offset));
+  }
+
+  @Override
+  public void putDouble(final long offset, final double value) {
+    this.buffer.putDouble(index(offset), value);
+  }
+
+  // a byte buffer is indexed by int: anything beyond that is out of bounds, and must not wrap around
+  private static int index(final long offset) {
+    final int index = (int) offset;
+    if(index != offset) throw new IndexOutOfBoundsException("offset " + offset + " out of bounds");
+    return index;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{buffer=%s}", this.getClass().getSimpleName(), this.buffer);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.memory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+// a file mapped as a run of buffers, since one buffer holds at most 2 GiB. each buffer reaches a long
+// past the start of the next, so every value lies wholly inside the buffer holding its first byte
+final class MappedMemory implements Memory {
+  static final int CHUNK_SHIFT = 30;
+  private final MappedByteBuffer[] chunks;
+  private final int shift;
+  private final long mask;
+  private final long size;
+
+  static @NonNull MappedMemory map(final FileChannel channel, final FileChannel.MapMode mode, final long offset, final long size, final int shift) throws IOException {
+    final long chunk = 1L << shift;
+    final MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((size + chunk - 1) >>> shift)];
+    for(int i = 0; i < chunks.length; i++) {
+      final long start = i * chunk;
+      chunks[i] = channel.map(mode, offset + start, Math.min(chunk + Long.BYTES, size - start));
+      chunks[i].order(ByteOrder.nativeOrder());
+    }
+    return new MappedMemory(chunks, shift, size);
+  }
+
+  private MappedMemory(final MappedByteBuffer[] chunks, final int shift, final long size) {
+    this.chunks = chunks;
+    this.shift = shift;
+    this.mask = (1L << shift) - 1L;
+    this.size = size;
+  }
+
+  @Override
+  public long byteSize() {
+    return this.size;
+  }
+
+  @Override
+  public int getInt(final long offset) {
+    return this.chunk(offset, Integer.BYTES).getInt((int) (offset & this.mask));
+  }
+
+  @Override
+  public void putInt(final long offset, final int value) {
+    this.chunk(offset, Integer.BYTES).putInt((int) (offset & this.mask), value);
+  }
+
+  @Override
+  public long getLong(final long offset) {
+    return this.chunk(offset, Long.BYTES).getLong((int) (offset & this.mask));
+  }
+
+  @Override
+  public void putLong(final long offset, final long value) {
+    this.chunk(offset, Long.BYTES).putLong((int) (offset & this.mask), value);
+  }
+
+  @Override
+  public float getFloat(final long offset) {
+    return this.chunk(offset, Float.BYTES).getFloat((int) (offset & this.mask));
+  }
+
+  @Override
+  public void putFloat(final long offset, final float value) {
+    this.chunk(offset, Float.BYTES).putFloat((int) (offset & this.mask), value);
+  }
+
+  @Override
+  public double getDouble(final long offset) {
+    return this.chunk(offset, Double.BYTES).getDouble((int) (offset & this.mask));
+  }
+
+  @Override
+  public void putDouble(final long offset, final double value) {
+    this.chunk(offset, Double.BYTES).putDouble((int) (offset & this.mask), value);
+  }
+
+  @Override
+  public void force() {
+    for(final MappedByteBuffer chunk : this.chunks) {
+      if(!chunk.isReadOnly()) chunk.force();
+    }
+  }
+
+  private MappedByteBuffer chunk(final long offset, final int bytes) {
+    if(offset < 0 || offset > this.size - bytes) throw new IndexOutOfBoundsException("offset " + offset + " out of bounds for size " + this.size);
+    return this.chunks[(int) (offset >>> this.shift)];
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{size=%d, chunks=%d}", this.getClass().getSimpleName(), this.size, this.chunks.length);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.memory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A fixed-size block of memory, addressed by byte offset.
+ *
+ * <p>Memory obtained from {@link #allocate(long)} lives outside of the Java heap: it is backed by a
+ * direct {@link ByteBuffer}, or by a {@code java.lang.foreign.MemorySegment} when running on Java 22 or newer.
+ * Memory obtained from {@link #map(FileChannel, FileChannel.MapMode, long, long)} reads and writes a file in place.</p>
+ */
+public interface Memory {
+  static @NonNull Memory allocate(final long bytes) {
+    return MemoryProvider.allocate(bytes);
+  }
+
+  static @NonNull Memory wrap(final @NonNull ByteBuffer buffer) {
+    return new ByteBufferMemory(buffer);
+  }
+
+  /**
+   * Maps {@code size} bytes of a file, from {@code offset}, in native byte order.
+   *
+   * <p>A {@link FileChannel.MapMode#READ_WRITE} mapping extends the file as needed, and changes to it reach
+   * the file at the latest on {@link #force()}. The mapping stays valid after the channel is closed, until the
+   * memory is no longer reachable.</p>
+   *
+   * @param channel the channel of the file
+   * @param mode the mode to map in
+   * @param offset the offset in the file
+   * @param size the number of bytes
+   * @return the memory
+   * @throws IOException if the file cannot be mapped
+   */
+  static @NonNull Memory map(final @NonNull FileChannel channel, final FileChannel.@NonNull MapMode mode, final long offset, final long size) throws IOException {
+    return MemoryProvider.map(channel, mode, offset, size);
+  }
+
+  long byteSize();
+
+  int getInt(final long offset);
+
+  void putInt(final long offset, final int value);
+
+  long getLong(final long offset);
+
+  void putLong(final long offset, final long value);
+
+  float getFloat(final long offset);
+
+  void putFloat(final long offset, final float value);
+
+  double getDouble(final long offset);
+
+  void putDouble(final long offset, final double value);
+
+  // writes changes to mapped memory back to its file; other memory has nowhere to write them
+  default void force() {
+  }
+}
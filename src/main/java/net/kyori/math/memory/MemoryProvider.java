@@ -0,0 +1,51 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.memory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+// replaced by a MemorySegment based implementation in META-INF/versions/22
+final class MemoryProvider {
+  private MemoryProvider() {
+  }
+
+  static @NonNull Memory allocate(final long bytes) {
+    if(bytes < 0 || bytes > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("cannot allocate " + bytes + " bytes in a direct buffer");
+    }
+    return new ByteBufferMemory(ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder()));
+  }
+
+  static @NonNull Memory map(final FileChannel channel, final FileChannel.MapMode mode, final long offset, final long size) throws IOException {
+    if(offset < 0 || size < 0) {
+      throw new IllegalArgumentException("cannot map " + size + " bytes from offset " + offset);
+    }
+    return MappedMemory.map(channel, mode, offset, size, MappedMemory.CHUNK_SHIFT);
+  }
+}
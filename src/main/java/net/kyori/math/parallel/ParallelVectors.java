@@ -0,0 +1,426 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.parallel;
+
+import net.kyori.math.aabb.Aabbd;
+import net.kyori.math.matrix.Matrix3d;
+import net.kyori.math.matrix.Matrix4d;
+import net.kyori.math.matrix.Matrix4f;
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import net.kyori.math.vector.d.Vector3dOperator;
+import net.kyori.math.vector.f.MutVector3f;
+import net.kyori.math.vector.f.Vector3fBuffer;
+import net.kyori.math.vector.f.Vector3fOperator;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs bulk vector operations over index ranges split across a {@link ForkJoinPool}.
+ *
+ * <p>A range longer than the threshold is halved until every piece is at most the threshold long, and the
+ * pieces run as fork/join tasks; shorter ranges run sequentially on the calling thread. The split points
+ * depend only on the range and the threshold, so reductions give the same result whatever the parallelism
+ * of the pool or the order in which its threads finish.</p>
+ */
+public final class ParallelVectors {
+  public static final int DEFAULT_THRESHOLD = 16384;
+  private static final ParallelVectors COMMON = new ParallelVectors(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+  private static final int SUM = 0;
+  private static final int MIN = 1;
+  private static final int MAX = 2;
+  private static final int BOUNDS = 3;
+  private final ForkJoinPool pool;
+  private final int threshold;
+
+  public static @NonNull ParallelVectors common() {
+    return COMMON;
+  }
+
+  public static @NonNull ParallelVectors of(final @NonNull ForkJoinPool pool) {
+    return of(pool, DEFAULT_THRESHOLD);
+  }
+
+  public static @NonNull ParallelVectors of(final @NonNull ForkJoinPool pool, final int threshold) {
+    if(threshold < 1) {
+      throw new IllegalArgumentException("threshold must be positive: " + threshold);
+    }
+    return new ParallelVectors(pool, threshold);
+  }
+
+  private ParallelVectors(final ForkJoinPool pool, final int threshold) {
+    this.pool = pool;
+    this.threshold = threshold;
+  }
+
+  public @NonNull ForkJoinPool pool() {
+    return this.pool;
+  }
+
+  public int threshold() {
+    return this.threshold;
+  }
+
+  /**
+   * Applies {@code operator} to the vectors in {@code [from, to)} of {@code src}, storing the results at the
+   * same indices of {@code dst}, which may be the same buffer.
+   *
+   * <p>The operator is called concurrently and must not depend on the order of the calls.</p>
+   */
+  public void map(final @NonNull Vector3dBuffer src, final int from, final int to, final @NonNull Vector3dBuffer dst, final @NonNull Vector3dOperator operator) {
+    checkBuffers(src.size(), dst.size(), from, to);
+    final double[] sxs = src.xs();
+    final double[] sys = src.ys();
+    final double[] szs = src.zs();
+    final double[] dxs = dst.xs();
+    final double[] dys = dst.ys();
+    final double[] dzs = dst.zs();
+    this.each(from, to, (start, end) -> {
+      final MutVector3d result = MutVector3d.zero();
+      for(int i = start; i < end; i++) {
+        operator.apply(sxs[i], sys[i], szs[i], result);
+        dxs[i] = result.x();
+        dys[i] = result.y();
+        dzs[i] = result.z();
+      }
+    });
+  }
+
+  public void map(final @NonNull Vector3fBuffer src, final int from, final int to, final @NonNull Vector3fBuffer dst, final @NonNull Vector3fOperator operator) {
+    checkBuffers(src.size(), dst.size(), from, to);
+    final float[] sxs = src.xs();
+    final float[] sys = src.ys();
+    final float[] szs = src.zs();
+    final float[] dxs = dst.xs();
+    final float[] dys = dst.ys();
+    final float[] dzs = dst.zs();
+    this.each(from, to, (start, end) -> {
+      final MutVector3f result = MutVector3f.zero();
+      for(int i = start; i < end; i++) {
+        operator.apply(sxs[i], sys[i], szs[i], result);
+        dxs[i] = result.x();
+        dys[i] = result.y();
+        dzs[i] = result.z();
+      }
+    });
+  }
+
+  /**
+   * Transforms {@code [from, to)} of {@code src} into the same indices of {@code dst} as
+   * {@link Matrix3d#transform(Vector3dBuffer, int, int, Vector3dBuffer)} does.
+   *
+   * <p>{@code matrix} must not change until this returns.</p>
+   */
+  public void transform(final @NonNull Matrix3d matrix, final @NonNull Vector3dBuffer src, final int from, final int to, final @NonNull Vector3dBuffer dst) {
+    checkBuffers(src.size(), dst.size(), from, to);
+    this.each(from, to, (start, end) -> matrix.transform(src, start, end, dst));
+  }
+
+  public void transformPositions(final @NonNull Matrix4d matrix, final @NonNull Vector3dBuffer src, final int from, final int to, final @NonNull Vector3dBuffer dst) {
+    checkBuffers(src.size(), dst.size(), from, to);
+    this.each(from, to, (start, end) -> matrix.transformPositions(src, start, end, dst));
+  }
+
+  public void transformDirections(final @NonNull Matrix4d matrix, final @NonNull Vector3dBuffer src, final int from, final int to, final @NonNull Vector3dBuffer dst) {
+    checkBuffers(src.size(), dst.size(), from, to);
+    this.each(from, to, (start, end) -> matrix.transformDirections(src, start, end, dst));
+  }
+
+  public void transformPositions(final @NonNull Matrix4f matrix, final @NonNull Vector3fBuffer src, final int from, final int to, final @NonNull Vector3fBuffer dst) {
+    checkBuffers(src.size(), dst.size(), from, to);
+    this.each(from, to, (start, end) -> matrix.transformPositions(src, start, end, dst));
+  }
+
+  public void transformDirections(final @NonNull Matrix4f matrix, final @NonNull Vector3fBuffer src, final int from, final int to, final @NonNull Vector3fBuffer dst) {
+    checkBuffers(src.size(), dst.size(), from, to);
+    this.each(from, to, (start, end) -> matrix.transformDirections(src, start, end, dst));
+  }
+
+  /**
+   * Sums the vectors in {@code [from, to)} into {@code dst}.
+   *
+   * <p>Each piece of the range is summed in order and the pieces are added pairwise, so the result may differ
+   * in the last bits from a single sequential loop, but never between runs.</p>
+   */
+  public @NonNull MutVector3d sum(final @NonNull Vector3dBuffer buffer, final int from, final int to, final @NonNull MutVector3d dst) {
+    checkRange(buffer.size(), from, to);
+    final double[] xs = buffer.xs();
+    final double[] ys = buffer.ys();
+    final double[] zs = buffer.zs();
+    final double[] result = this.reduce(from, to, SUM, (start, end, partial) -> {
+      double x = 0d;
+      double y = 0d;
+      double z = 0d;
+      for(int i = start; i < end; i++) {
+        x += xs[i];
+        y += ys[i];
+        z += zs[i];
+      }
+      partial[0] = x;
+      partial[1] = y;
+      partial[2] = z;
+    });
+    return dst.set(result[0], result[1], result[2]);
+  }
+
+  // accumulates in double, so long float ranges do not lose their small terms
+  public @NonNull MutVector3f sum(final @NonNull Vector3fBuffer buffer, final int from, final int to, final @NonNull MutVector3f dst) {
+    checkRange(buffer.size(), from, to);
+    final float[] xs = buffer.xs();
+    final float[] ys = buffer.ys();
+    final float[] zs = buffer.zs();
+    final double[] result = this.reduce(from, to, SUM, (start, end, partial) -> {
+      double x = 0d;
+      double y = 0d;
+      double z = 0d;
+      for(int i = start; i < end; i++) {
+        x += xs[i];
+        y += ys[i];
+        z += zs[i];
+      }
+      partial[0] = x;
+      partial[1] = y;
+      partial[2] = z;
+    });
+    return dst.set((float) result[0], (float) result[1], (float) result[2]);
+  }
+
+  // the component-wise minimum, or positive infinity for an empty range
+  public @NonNull MutVector3d min(final @NonNull Vector3dBuffer buffer, final int from, final int to, final @NonNull MutVector3d dst) {
+    checkRange(buffer.size(), from, to);
+    final double[] result = this.reduce(from, to, MIN, extremes(buffer.xs(), buffer.ys(), buffer.zs(), MIN));
+    return dst.set(result[0], result[1], result[2]);
+  }
+
+  public @NonNull MutVector3f min(final @NonNull Vector3fBuffer buffer, final int from, final int to, final @NonNull MutVector3f dst) {
+    checkRange(buffer.size(), from, to);
+    final double[] result = this.reduce(from, to, MIN, extremes(buffer.xs(), buffer.ys(), buffer.zs(), MIN));
+    return dst.set((float) result[0], (float) result[1], (float) result[2]);
+  }
+
+  // the component-wise maximum, or negative infinity for an empty range
+  public @NonNull MutVector3d max(final @NonNull Vector3dBuffer buffer, final int from, final int to, final @NonNull MutVector3d dst) {
+    checkRange(buffer.size(), from, to);
+    final double[] result = this.reduce(from, to, MAX, extremes(buffer.xs(), buffer.ys(), buffer.zs(), MAX));
+    return dst.set(result[0], result[1], result[2]);
+  }
+
+  public @NonNull MutVector3f max(final @NonNull Vector3fBuffer buffer, final int from, final int to, final @NonNull MutVector3f dst) {
+    checkRange(buffer.size(), from, to);
+    final double[] result = this.reduce(from, to, MAX, extremes(buffer.xs(), buffer.ys(), buffer.zs(), MAX));
+    return dst.set((float) result[0], (float) result[1], (float) result[2]);
+  }
+
+  /**
+   * Sets {@code dst} to the smallest box containing the vectors in {@code [from, to)}.
+   *
+   * @throws IllegalArgumentException if the range is empty
+   */
+  public @NonNull Aabbd bounds(final @NonNull Vector3dBuffer buffer, final int from, final int to, final @NonNull Aabbd dst) {
+    checkRange(buffer.size(), from, to);
+    checkNotEmpty(from, to);
+    final double[] result = this.reduce(from, to, BOUNDS, extremes(buffer.xs(), buffer.ys(), buffer.zs(), BOUNDS));
+    return dst.set(result[0], result[1], result[2], result[3], result[4], result[5]);
+  }
+
+  public @NonNull Aabbd bounds(final @NonNull Vector3fBuffer buffer, final int from, final int to, final @NonNull Aabbd dst) {
+    checkRange(buffer.size(), from, to);
+    checkNotEmpty(from, to);
+    final double[] result = this.reduce(from, to, BOUNDS, extremes(buffer.xs(), buffer.ys(), buffer.zs(), BOUNDS));
+    return dst.set(result[0], result[1], result[2], result[3], result[4], result[5]);
+  }
+
+  private void each(final int from, final int to, final Range action) {
+    if(to - from <= this.threshold) {
+      action.run(from, to);
+    } else {
+      this.pool.invoke(new Each(action, from, to, this.threshold));
+    }
+  }
+
+  private double[] reduce(final int from, final int to, final int kind, final Leaf leaf) {
+    final Reduce task = new Reduce(leaf, kind, from, to, this.threshold);
+    if(to - from <= this.threshold) {
+      leaf.reduce(from, to, task.result);
+    } else {
+      this.pool.invoke(task);
+    }
+    return task.result;
+  }
+
+  private static Leaf extremes(final double[] xs, final double[] ys, final double[] zs, final int kind) {
+    return (start, end, partial) -> {
+      double minX = Double.POSITIVE_INFINITY;
+      double minY = Double.POSITIVE_INFINITY;
+      double minZ = Double.POSITIVE_INFINITY;
+      double maxX = Double.NEGATIVE_INFINITY;
+      double maxY = Double.NEGATIVE_INFINITY;
+      double maxZ = Double.NEGATIVE_INFINITY;
+      for(int i = start; i < end; i++) {
+        minX = Math.min(minX, xs[i]);
+        minY = Math.min(minY, ys[i]);
+        minZ = Math.min(minZ, zs[i]);
+        maxX = Math.max(maxX, xs[i]);
+        maxY = Math.max(maxY, ys[i]);
+        maxZ = Math.max(maxZ, zs[i]);
+      }
+      store(kind, partial, minX, minY, minZ, maxX, maxY, maxZ);
+    };
+  }
+
+  private static Leaf extremes(final float[] xs, final float[] ys, final float[] zs, final int kind) {
+    return (start, end, partial) -> {
+      float minX = Float.POSITIVE_INFINITY;
+      float minY = Float.POSITIVE_INFINITY;
+      float minZ = Float.POSITIVE_INFINITY;
+      float maxX = Float.NEGATIVE_INFINITY;
+      float maxY = Float.NEGATIVE_INFINITY;
+      float maxZ = Float.NEGATIVE_INFINITY;
+      for(int i = start; i < end; i++) {
+        minX = Math.min(minX, xs[i]);
+        minY = Math.min(minY, ys[i]);
+        minZ = Math.min(minZ, zs[i]);
+        maxX = Math.max(maxX, xs[i]);
+        maxY = Math.max(maxY, ys[i]);
+        maxZ = Math.max(maxZ, zs[i]);
+      }
+      store(kind, partial, minX, minY, minZ, maxX, maxY, maxZ);
+    };
+  }
+
+  private static void store(final int kind, final double[] partial, final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ) {
+    if(kind == MAX) {
+      partial[0] = maxX;
+      partial[1] = maxY;
+      partial[2] = maxZ;
+    } else {
+      partial[0] = minX;
+      partial[1] = minY;
+      partial[2] = minZ;
+      if(kind == BOUNDS) {
+        partial[3] = maxX;
+        partial[4] = maxY;
+        partial[5] = maxZ;
+      }
+    }
+  }
+
+  private static void checkRange(final int size, final int from, final int to) {
+    if(from < 0 || from > to || to > size) {
+      throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for size " + size);
+    }
+  }
+
+  private static void checkBuffers(final int srcSize, final int dstSize, final int from, final int to) {
+    if(from < 0 || from > to || to > srcSize || to > dstSize) {
+      throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for sizes " + srcSize + " and " + dstSize);
+    }
+  }
+
+  private static void checkNotEmpty(final int from, final int to) {
+    if(from == to) {
+      throw new IllegalArgumentException("cannot bound the empty range [" + from + ", " + to + ")");
+    }
+  }
+
+  @FunctionalInterface
+  private interface Range {
+    void run(final int from, final int to);
+  }
+
+  @FunctionalInterface
+  private interface Leaf {
+    void reduce(final int from, final int to, final double[] partial);
+  }
+
+  private static final class Each extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final Range action;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    Each(final Range action, final int from, final int to, final int threshold) {
+      this.action = action;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if(this.to - this.from <= this.threshold) {
+        this.action.run(this.from, this.to);
+      } else {
+        final int mid = (this.from + this.to) >>> 1;
+        invokeAll(new Each(this.action, this.from, mid, this.threshold), new Each(this.action, mid, this.to, this.threshold));
+      }
+    }
+  }
+
+  private static final class Reduce extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final Leaf leaf;
+    private final int kind;
+    private final int from;
+    private final int to;
+    private final int threshold;
+    final double[] result;
+
+    Reduce(final Leaf leaf, final int kind, final int from, final int to, final int threshold) {
+      this.leaf = leaf;
+      this.kind = kind;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+      this.result = new double[kind == BOUNDS ? 6 : 3];
+    }
+
+    @Override
+    protected void compute() {
+      if(this.to - this.from <= this.threshold) {
+        this.leaf.reduce(this.from, this.to, this.result);
+        return;
+      }
+      final int mid = (this.from + this.to) >>> 1;
+      final Reduce left = new Reduce(this.leaf, this.kind, this.from, mid, this.threshold);
+      final Reduce right = new Reduce(this.leaf, this.kind, mid, this.to, this.threshold);
+      invokeAll(left, right);
+      // always left before right, so the combination does not depend on which half finished first
+      for(int i = 0; i < this.result.length; i++) {
+        final double a = left.result[i];
+        final double b = right.result[i];
+        if(this.kind == SUM) {
+          this.result[i] = a + b;
+        } else if(this.kind == MAX || (this.kind == BOUNDS && i >= 3)) {
+          this.result[i] = Math.max(a, b);
+        } else {
+          this.result[i] = Math.min(a, b);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,369 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.quaternion;
+
+import net.kyori.math.matrix.Matrix3d;
+import net.kyori.math.matrix.Matrix4d;
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A mutable quaternion of doubles, representing a rotation when normalized.
+ *
+ * <p>Products follow the same order as matrices: {@code a * b} rotates by {@code b} first. Rotations are
+ * counter-clockwise, matching {@link Matrix4d}. Every mutating method changes and returns this
+ * quaternion.</p>
+ */
+public class Quaterniond {
+  private double x;
+  private double y;
+  private double z;
+  private double w;
+
+  public static @NonNull Quaterniond identity() {
+    return new Quaterniond().setIdentity();
+  }
+
+  public static @NonNull Quaterniond of(final double x, final double y, final double z, final double w) {
+    return new Quaterniond().set(x, y, z, w);
+  }
+
+  public static @NonNull Quaterniond from(final @NonNull Quaterniond that) {
+    return new Quaterniond().set(that);
+  }
+
+  public static @NonNull Quaterniond axisAngle(final double angle, final double axisX, final double axisY, final double axisZ) {
+    return new Quaterniond().setAxisAngle(angle, axisX, axisY, axisZ);
+  }
+
+  public static @NonNull Quaterniond axisAngle(final double angle, final @NonNull Vector3d axis) {
+    return axisAngle(angle, axis.x(), axis.y(), axis.z());
+  }
+
+  public static @NonNull Quaterniond yawPitchRoll(final double yaw, final double pitch, final double roll) {
+    return new Quaterniond().setYawPitchRoll(yaw, pitch, roll);
+  }
+
+  protected Quaterniond() {
+  }
+
+  public double x() {
+    return this.x;
+  }
+
+  public double y() {
+    return this.y;
+  }
+
+  public double z() {
+    return this.z;
+  }
+
+  public double w() {
+    return this.w;
+  }
+
+  public @NonNull Quaterniond set(final double x, final double y, final double z, final double w) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+    this.w = w;
+    return this;
+  }
+
+  public @NonNull Quaterniond set(final @NonNull Quaterniond that) {
+    return this.set(that.x, that.y, that.z, that.w);
+  }
+
+  public @NonNull Quaterniond setIdentity() {
+    return this.set(0d, 0d, 0d, 1d);
+  }
+
+  // the axis does not have to be normalized
+  public @NonNull Quaterniond setAxisAngle(final double angle, final double axisX, final double axisY, final double axisZ) {
+    final double half = angle / 2d;
+    final double sin = Math.sin(half) / Math.sqrt(axisX * axisX + axisY * axisY + axisZ * axisZ);
+    return this.set(axisX * sin, axisY * sin, axisZ * sin, Math.cos(half));
+  }
+
+  /**
+   * Sets this quaternion to a rotation by {@code roll} around the z axis, then {@code pitch} around the x
+   * axis and finally {@code yaw} around the y axis.
+   */
+  public @NonNull Quaterniond setYawPitchRoll(final double yaw, final double pitch, final double roll) {
+    final double sy = Math.sin(yaw / 2d);
+    final double cy = Math.cos(yaw / 2d);
+    final double sp = Math.sin(pitch / 2d);
+    final double cp = Math.cos(pitch / 2d);
+    final double sr = Math.sin(roll / 2d);
+    final double cr = Math.cos(roll / 2d);
+    return this.set(
+      cy * sp * cr + sy * cp * sr,
+      sy * cp * cr - cy * sp * sr,
+      cy * cp * sr - sy * sp * cr,
+      cy * cp * cr + sy * sp * sr
+    );
+  }
+
+  public @NonNull Quaterniond copy() {
+    return from(this);
+  }
+
+  // this = this * that
+  public @NonNull Quaterniond mul(final @NonNull Quaterniond that) {
+    return this.set(
+      this.w * that.x + this.x * that.w + this.y * that.z - this.z * that.y,
+      this.w * that.y - this.x * that.z + this.y * that.w + this.z * that.x,
+      this.w * that.z + this.x * that.y - this.y * that.x + this.z * that.w,
+      this.w * that.w - this.x * that.x - this.y * that.y - this.z * that.z
+    );
+  }
+
+  // this = that * this
+  public @NonNull Quaterniond premul(final @NonNull Quaterniond that) {
+    return this.set(
+      that.w * this.x + that.x * this.w + that.y * this.z - that.z * this.y,
+      that.w * this.y - that.x * this.z + that.y * this.w + that.z * this.x,
+      that.w * this.z + that.x * this.y - that.y * this.x + that.z * this.w,
+      that.w * this.w - that.x * this.x - that.y * this.y - that.z * this.z
+    );
+  }
+
+  public @NonNull Quaterniond conjugate() {
+    return this.set(-this.x, -this.y, -this.z, this.w);
+  }
+
+  public @NonNull Quaterniond invert() {
+    final double inv = 1d / this.lengthSquared();
+    return this.set(-this.x * inv, -this.y * inv, -this.z * inv, this.w * inv);
+  }
+
+  public @NonNull Quaterniond normalize() {
+    final double inv = 1d / this.length();
+    return this.set(this.x * inv, this.y * inv, this.z * inv, this.w * inv);
+  }
+
+  public double dot(final @NonNull Quaterniond that) {
+    return this.x * that.x + this.y * that.y + this.z * that.z + this.w * that.w;
+  }
+
+  public double lengthSquared() {
+    return this.x * this.x + this.y * this.y + this.z * this.z + this.w * this.w;
+  }
+
+  public double length() {
+    return Math.sqrt(this.lengthSquared());
+  }
+
+  /**
+   * Spherically interpolates from this quaternion towards {@code that}, along the shorter arc. Both are
+   * expected to be normalized.
+   */
+  public @NonNull Quaterniond slerp(final @NonNull Quaterniond that, final double t) {
+    double cos = this.dot(that);
+    final double sign = cos < 0d ? -1d : 1d;
+    cos *= sign;
+    // nearly parallel quaternions would divide by a vanishing sine
+    if(cos > 0.9995d) return this.nlerp(that, t);
+    final double angle = Math.acos(cos);
+    final double inv = 1d / Math.sin(angle);
+    final double a = Math.sin((1d - t) * angle) * inv;
+    final double b = Math.sin(t * angle) * inv * sign;
+    return this.set(
+      a * this.x + b * that.x,
+      a * this.y + b * that.y,
+      a * this.z + b * that.z,
+      a * this.w + b * that.w
+    );
+  }
+
+  // cheaper than slerp, at the cost of a non-constant angular velocity
+  public @NonNull Quaterniond nlerp(final @NonNull Quaterniond that, final double t) {
+    final double a = 1d - t;
+    final double b = this.dot(that) < 0d ? -t : t;
+    return this.set(
+      a * this.x + b * that.x,
+      a * this.y + b * that.y,
+      a * this.z + b * that.z,
+      a * this.w + b * that.w
+    ).normalize();
+  }
+
+  // expects this quaternion to be normalized
+  public @NonNull MutVector3d rotate(final double x, final double y, final double z, final @NonNull MutVector3d dst) {
+    // v + 2w(q x v) + 2q x (q x v), with t = 2(q x v)
+    final double tx = 2d * (this.y * z - this.z * y);
+    final double ty = 2d * (this.z * x - this.x * z);
+    final double tz = 2d * (this.x * y - this.y * x);
+    return dst.set(
+      x + this.w * tx + this.y * tz - this.z * ty,
+      y + this.w * ty + this.z * tx - this.x * tz,
+      z + this.w * tz + this.x * ty - this.y * tx
+    );
+  }
+
+  public @NonNull MutVector3d rotate(final @NonNull Vector3d vector, final @NonNull MutVector3d dst) {
+    return this.rotate(vector.x(), vector.y(), vector.z(), dst);
+  }
+
+  /**
+   * Rotates {@code count} vectors stored as consecutive x, y, z triples. The source and destination may be
+   * the same array at the same offset, but must not otherwise overlap.
+   */
+  public void rotate(final double[] src, final int srcOffset, final double[] dst, final int dstOffset, final int count) {
+    if(count < 0 || srcOffset < 0 || dstOffset < 0 || srcOffset + count * 3L > src.length || dstOffset + count * 3L > dst.length) {
+      throw new IndexOutOfBoundsException("cannot rotate " + count + " vectors from offset " + srcOffset + " of " + src.length + " into offset " + dstOffset + " of " + dst.length);
+    }
+    final double qx = this.x;
+    final double qy = this.y;
+    final double qz = this.z;
+    final double qw = this.w;
+    for(int i = 0; i < count * 3; i += 3) {
+      final double x = src[srcOffset + i];
+      final double y = src[srcOffset + i + 1];
+      final double z = src[srcOffset + i + 2];
+      final double tx = 2d * (qy * z - qz * y);
+      final double ty = 2d * (qz * x - qx * z);
+      final double tz = 2d * (qx * y - qy * x);
+      dst[dstOffset + i] = x + qw * tx + qy * tz - qz * ty;
+      dst[dstOffset + i + 1] = y + qw * ty + qz * tx - qx * tz;
+      dst[dstOffset + i + 2] = z + qw * tz + qx * ty - qy * tx;
+    }
+  }
+
+  public void rotate(final @NonNull Vector3dBuffer src, final int from, final int to, final @NonNull Vector3dBuffer dst) {
+    if(from < 0 || from > to || to > src.size() || to > dst.size()) {
+      throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for sizes " + src.size() + " and " + dst.size());
+    }
+    final double[] sxs = src.xs();
+    final double[] sys = src.ys();
+    final double[] szs = src.zs();
+    final double[] dxs = dst.xs();
+    final double[] dys = dst.ys();
+    final double[] dzs = dst.zs();
+    final double qx = this.x;
+    final double qy = this.y;
+    final double qz = this.z;
+    final double qw = this.w;
+    for(int i = from; i < to; i++) {
+      final double x = sxs[i];
+      final double y = sys[i];
+      final double z = szs[i];
+      final double tx = 2d * (qy * z - qz * y);
+      final double ty = 2d * (qz * x - qx * z);
+      final double tz = 2d * (qx * y - qy * x);
+      dxs[i] = x + qw * tx + qy * tz - qz * ty;
+      dys[i] = y + qw * ty + qz * tx - qx * tz;
+      dzs[i] = z + qw * tz + qx * ty - qy * tx;
+    }
+  }
+
+  /**
+   * Premultiplies {@code count} quaternions stored as consecutive x, y, z, w quadruples by this quaternion,
+   * applying this rotation on top of each of them.
+   */
+  public void premul(final double[] quaternions, final int offset, final int count) {
+    if(count < 0 || offset < 0 || offset + count * 4L > quaternions.length) {
+      throw new IndexOutOfBoundsException("cannot update " + count + " quaternions from offset " + offset + " of " + quaternions.length);
+    }
+    final double ax = this.x;
+    final double ay = this.y;
+    final double az = this.z;
+    final double aw = this.w;
+    for(int i = offset; i < offset + count * 4; i += 4) {
+      final double bx = quaternions[i];
+      final double by = quaternions[i + 1];
+      final double bz = quaternions[i + 2];
+      final double bw = quaternions[i + 3];
+      quaternions[i] = aw * bx + ax * bw + ay * bz - az * by;
+      quaternions[i + 1] = aw * by - ax * bz + ay * bw + az * bx;
+      quaternions[i + 2] = aw * bz + ax * by - ay * bx + az * bw;
+      quaternions[i + 3] = aw * bw - ax * bx - ay * by - az * bz;
+    }
+  }
+
+  // expects this quaternion to be normalized
+  public @NonNull Matrix3d get(final @NonNull Matrix3d dst) {
+    final double xx = this.x * this.x;
+    final double yy = this.y * this.y;
+    final double zz = this.z * this.z;
+    final double xy = this.x * this.y;
+    final double xz = this.x * this.z;
+    final double yz = this.y * this.z;
+    final double xw = this.x * this.w;
+    final double yw = this.y * this.w;
+    final double zw = this.z * this.w;
+    return dst.set(
+      1d - 2d * (yy + zz), 2d * (xy - zw), 2d * (xz + yw),
+      2d * (xy + zw), 1d - 2d * (xx + zz), 2d * (yz - xw),
+      2d * (xz - yw), 2d * (yz + xw), 1d - 2d * (xx + yy)
+    );
+  }
+
+  // expects this quaternion to be normalized
+  public @NonNull Matrix4d get(final @NonNull Matrix4d dst) {
+    final double xx = this.x * this.x;
+    final double yy = this.y * this.y;
+    final double zz = this.z * this.z;
+    final double xy = this.x * this.y;
+    final double xz = this.x * this.z;
+    final double yz = this.y * this.z;
+    final double xw = this.x * this.w;
+    final double yw = this.y * this.w;
+    final double zw = this.z * this.w;
+    return dst.set(
+      1d - 2d * (yy + zz), 2d * (xy - zw), 2d * (xz + yw), 0d,
+      2d * (xy + zw), 1d - 2d * (xx + zz), 2d * (yz - xw), 0d,
+      2d * (xz - yw), 2d * (yz + xw), 1d - 2d * (xx + yy), 0d,
+      0d, 0d, 0d, 1d
+    );
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Double.hashCode(this.x);
+    result = 31 * result + Double.hashCode(this.y);
+    result = 31 * result + Double.hashCode(this.z);
+    result = 31 * result + Double.hashCode(this.w);
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!(other instanceof Quaterniond)) return false;
+    final Quaterniond that = (Quaterniond) other;
+    return Double.compare(this.x, that.x) == 0
+      && Double.compare(this.y, that.y) == 0
+      && Double.compare(this.z, that.z) == 0
+      && Double.compare(this.w, that.w) == 0;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{x=%f, y=%f, z=%f, w=%f}", this.getClass().getSimpleName(), this.x, this.y, this.z, this.w);
+  }
+}
@@ -0,0 +1,351 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.quaternion;
+
+import net.kyori.math.Mth;
+import net.kyori.math.matrix.Matrix4f;
+import net.kyori.math.vector.f.MutVector3f;
+import net.kyori.math.vector.f.Vector3f;
+import net.kyori.math.vector.f.Vector3fBuffer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A mutable quaternion of floats, representing a rotation when normalized.
+ *
+ * <p>Products follow the same order as matrices: {@code a * b} rotates by {@code b} first. Rotations are
+ * counter-clockwise, matching {@link Matrix4f}. Every mutating method changes and returns this
+ * quaternion.</p>
+ */
+public class Quaternionf {
+  private float x;
+  private float y;
+  private float z;
+  private float w;
+
+  public static @NonNull Quaternionf identity() {
+    return new Quaternionf().setIdentity();
+  }
+
+  public static @NonNull Quaternionf of(final float x, final float y, final float z, final float w) {
+    return new Quaternionf().set(x, y, z, w);
+  }
+
+  public static @NonNull Quaternionf from(final @NonNull Quaternionf that) {
+    return new Quaternionf().set(that);
+  }
+
+  public static @NonNull Quaternionf axisAngle(final float angle, final float axisX, final float axisY, final float axisZ) {
+    return new Quaternionf().setAxisAngle(angle, axisX, axisY, axisZ);
+  }
+
+  public static @NonNull Quaternionf axisAngle(final float angle, final @NonNull Vector3f axis) {
+    return axisAngle(angle, axis.x(), axis.y(), axis.z());
+  }
+
+  public static @NonNull Quaternionf yawPitchRoll(final float yaw, final float pitch, final float roll) {
+    return new Quaternionf().setYawPitchRoll(yaw, pitch, roll);
+  }
+
+  protected Quaternionf() {
+  }
+
+  public float x() {
+    return this.x;
+  }
+
+  public float y() {
+    return this.y;
+  }
+
+  public float z() {
+    return this.z;
+  }
+
+  public float w() {
+    return this.w;
+  }
+
+  public @NonNull Quaternionf set(final float x, final float y, final float z, final float w) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+    this.w = w;
+    return this;
+  }
+
+  public @NonNull Quaternionf set(final @NonNull Quaternionf that) {
+    return this.set(that.x, that.y, that.z, that.w);
+  }
+
+  public @NonNull Quaternionf setIdentity() {
+    return this.set(0f, 0f, 0f, 1f);
+  }
+
+  // the axis does not have to be normalized
+  public @NonNull Quaternionf setAxisAngle(final float angle, final float axisX, final float axisY, final float axisZ) {
+    final float half = angle / 2f;
+    final float sin = (float) Math.sin(half) / Mth.sqrt(axisX * axisX + axisY * axisY + axisZ * axisZ);
+    return this.set(axisX * sin, axisY * sin, axisZ * sin, (float) Math.cos(half));
+  }
+
+  /**
+   * Sets this quaternion to a rotation by {@code roll} around the z axis, then {@code pitch} around the x
+   * axis and finally {@code yaw} around the y axis.
+   */
+  public @NonNull Quaternionf setYawPitchRoll(final float yaw, final float pitch, final float roll) {
+    final float sy = (float) Math.sin(yaw / 2f);
+    final float cy = (float) Math.cos(yaw / 2f);
+    final float sp = (float) Math.sin(pitch / 2f);
+    final float cp = (float) Math.cos(pitch / 2f);
+    final float sr = (float) Math.sin(roll / 2f);
+    final float cr = (float) Math.cos(roll / 2f);
+    return this.set(
+      cy * sp * cr + sy * cp * sr,
+      sy * cp * cr - cy * sp * sr,
+      cy * cp * sr - sy * sp * cr,
+      cy * cp * cr + sy * sp * sr
+    );
+  }
+
+  public @NonNull Quaternionf copy() {
+    return from(this);
+  }
+
+  // this = this * that
+  public @NonNull Quaternionf mul(final @NonNull Quaternionf that) {
+    return this.set(
+      this.w * that.x + this.x * that.w + this.y * that.z - this.z * that.y,
+      this.w * that.y - this.x * that.z + this.y * that.w + this.z * that.x,
+      this.w * that.z + this.x * that.y - this.y * that.x + this.z * that.w,
+      this.w * that.w - this.x * that.x - this.y * that.y - this.z * that.z
+    );
+  }
+
+  // this = that * this
+  public @NonNull Quaternionf premul(final @NonNull Quaternionf that) {
+    return this.set(
+      that.w * this.x + that.x * this.w + that.y * this.z - that.z * this.y,
+      that.w * this.y - that.x * this.z + that.y * this.w + that.z * this.x,
+      that.w * this.z + that.x * this.y - that.y * this.x + that.z * this.w,
+      that.w * this.w - that.x * this.x - that.y * this.y - that.z * this.z
+    );
+  }
+
+  public @NonNull Quaternionf conjugate() {
+    return this.set(-this.x, -this.y, -this.z, this.w);
+  }
+
+  public @NonNull Quaternionf invert() {
+    final float inv = 1f / this.lengthSquared();
+    return this.set(-this.x * inv, -this.y * inv, -this.z * inv, this.w * inv);
+  }
+
+  public @NonNull Quaternionf normalize() {
+    final float inv = 1f / this.length();
+    return this.set(this.x * inv, this.y * inv, this.z * inv, this.w * inv);
+  }
+
+  public float dot(final @NonNull Quaternionf that) {
+    return this.x * that.x + this.y * that.y + this.z * that.z + this.w * that.w;
+  }
+
+  public float lengthSquared() {
+    return this.x * this.x + this.y * this.y + this.z * this.z + this.w * this.w;
+  }
+
+  public float length() {
+    return Mth.sqrt(this.lengthSquared());
+  }
+
+  /**
+   * Spherically interpolates from this quaternion towards {@code that}, along the shorter arc. Both are
+   * expected to be normalized.
+   */
+  public @NonNull Quaternionf slerp(final @NonNull Quaternionf that, final float t) {
+    float cos = this.dot(that);
+    final float sign = cos < 0f ? -1f : 1f;
+    cos *= sign;
+    // nearly parallel quaternions would divide by a vanishing sine
+    if(cos > 0.9995f) return this.nlerp(that, t);
+    final float angle = (float) Math.acos(cos);
+    final float inv = 1f / (float) Math.sin(angle);
+    final float a = (float) Math.sin((1f - t) * angle) * inv;
+    final float b = (float) Math.sin(t * angle) * inv * sign;
+    return this.set(
+      a * this.x + b * that.x,
+      a * this.y + b * that.y,
+      a * this.z + b * that.z,
+      a * this.w + b * that.w
+    );
+  }
+
+  // cheaper than slerp, at the cost of a non-constant angular velocity
+  public @NonNull Quaternionf nlerp(final @NonNull Quaternionf that, final float t) {
+    final float a = 1f - t;
+    final float b = this.dot(that) < 0f ? -t : t;
+    return this.set(
+      a * this.x + b * that.x,
+      a * this.y + b * that.y,
+      a * this.z + b * that.z,
+      a * this.w + b * that.w
+    ).normalize();
+  }
+
+  // expects this quaternion to be normalized
+  public @NonNull MutVector3f rotate(final float x, final float y, final float z, final @NonNull MutVector3f dst) {
+    // v + 2w(q x v) + 2q x (q x v), with t = 2(q x v)
+    final float tx = 2f * (this.y * z - this.z * y);
+    final float ty = 2f * (this.z * x - this.x * z);
+    final float tz = 2f * (this.x * y - this.y * x);
+    return dst.set(
+      x + this.w * tx + this.y * tz - this.z * ty,
+      y + this.w * ty + this.z * tx - this.x * tz,
+      z + this.w * tz + this.x * ty - this.y * tx
+    );
+  }
+
+  public @NonNull MutVector3f rotate(final @NonNull Vector3f vector, final @NonNull MutVector3f dst) {
+    return this.rotate(vector.x(), vector.y(), vector.z(), dst);
+  }
+
+  /**
+   * Rotates {@code count} vectors stored as consecutive x, y, z triples. The source and destination may be
+   * the same array at the same offset, but must not otherwise overlap.
+   */
+  public void rotate(final float[] src, final int srcOffset, final float[] dst, final int dstOffset, final int count) {
+    if(count < 0 || srcOffset < 0 || dstOffset < 0 || srcOffset + count * 3L > src.length || dstOffset + count * 3L > dst.length) {
+      throw new IndexOutOfBoundsException("cannot rotate " + count + " vectors from offset " + srcOffset + " of " + src.length + " into offset " + dstOffset + " of " + dst.length);
+    }
+    final float qx = this.x;
+    final float qy = this.y;
+    final float qz = this.z;
+    final float qw = this.w;
+    for(int i = 0; i < count * 3; i += 3) {
+      final float x = src[srcOffset + i];
+      final float y = src[srcOffset + i + 1];
+      final float z = src[srcOffset + i + 2];
+      final float tx = 2f * (qy * z - qz * y);
+      final float ty = 2f * (qz * x - qx * z);
+      final float tz = 2f * (qx * y - qy * x);
+      dst[dstOffset + i] = x + qw * tx + qy * tz - qz * ty;
+      dst[dstOffset + i + 1] = y + qw * ty + qz * tx - qx * tz;
+      dst[dstOffset + i + 2] = z + qw * tz + qx * ty - qy * tx;
+    }
+  }
+
+  public void rotate(final @NonNull Vector3fBuffer src, final int from, final int to, final @NonNull Vector3fBuffer dst) {
+    if(from < 0 || from > to || to > src.size() || to > dst.size()) {
+      throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for sizes " + src.size() + " and " + dst.size());
+    }
+    final float[] sxs = src.xs();
+    final float[] sys = src.ys();
+    final float[] szs = src.zs();
+    final float[] dxs = dst.xs();
+    final float[] dys = dst.ys();
+    final float[] dzs = dst.zs();
+    final float qx = this.x;
+    final float qy = this.y;
+    final float qz = this.z;
+    final float qw = this.w;
+    for(int i = from; i < to; i++) {
+      final float x = sxs[i];
+      final float y = sys[i];
+      final float z = szs[i];
+      final float tx = 2f * (qy * z - qz * y);
+      final float ty = 2f * (qz * x - qx * z);
+      final float tz = 2f * (qx * y - qy * x);
+      dxs[i] = x + qw * tx + qy * tz - qz * ty;
+      dys[i] = y + qw * ty + qz * tx - qx * tz;
+      dzs[i] = z + qw * tz + qx * ty - qy * tx;
+    }
+  }
+
+  /**
+   * Premultiplies {@code count} quaternions stored as consecutive x, y, z, w quadruples by this quaternion,
+   * applying this rotation on top of each of them.
+   */
+  public void premul(final float[] quaternions, final int offset, final int count) {
+    if(count < 0 || offset < 0 || offset + count * 4L > quaternions.length) {
+      throw new IndexOutOfBoundsException("cannot update " + count + " quaternions from offset " + offset + " of " + quaternions.length);
+    }
+    final float ax = this.x;
+    final float ay = this.y;
+    final float az = this.z;
+    final float aw = this.w;
+    for(int i = offset; i < offset + count * 4; i += 4) {
+      final float bx = quaternions[i];
+      final float by = quaternions[i + 1];
+      final float bz = quaternions[i + 2];
+      final float bw = quaternions[i + 3];
+      quaternions[i] = aw * bx + ax * bw + ay * bz - az * by;
+      quaternions[i + 1] = aw * by - ax * bz + ay * bw + az * bx;
+      quaternions[i + 2] = aw * bz + ax * by - ay * bx + az * bw;
+      quaternions[i + 3] = aw * bw - ax * bx - ay * by - az * bz;
+    }
+  }
+
+  // expects this quaternion to be normalized
+  public @NonNull Matrix4f get(final @NonNull Matrix4f dst) {
+    final float xx = this.x * this.x;
+    final float yy = this.y * this.y;
+    final float zz = this.z * this.z;
+    final float xy = this.x * this.y;
+    final float xz = this.x * this.z;
+    final float yz = this.y * this.z;
+    final float xw = this.x * this.w;
+    final float yw = this.y * this.w;
+    final float zw = this.z * this.w;
+    return dst.set(
+      1f - 2f * (yy + zz), 2f * (xy - zw), 2f * (xz + yw), 0f,
+      2f * (xy + zw), 1f - 2f * (xx + zz), 2f * (yz - xw), 0f,
+      2f * (xz - yw), 2f * (yz + xw), 1f - 2f * (xx + yy), 0f,
+      0f, 0f, 0f, 1f
+    );
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Float.hashCode(this.x);
+    result = 31 * result + Float.hashCode(this.y);
+    result = 31 * result + Float.hashCode(this.z);
+    result = 31 * result + Float.hashCode(this.w);
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!(other instanceof Quaternionf)) return false;
+    final Quaternionf that = (Quaternionf) other;
+    return Float.compare(this.x, that.x) == 0
+      && Float.compare(this.y, that.y) == 0
+      && Float.compare(this.z, that.z) == 0
+      && Float.compare(this.w, that.w) == 0;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{x=%f, y=%f, z=%f, w=%f}", this.getClass().getSimpleName(), this.x, this.y, this.z, this.w);
+  }
+}
@@ -0,0 +1,374 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.spatial;
+
+import net.kyori.math.aabb.Aabbd;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * An immutable KD-tree over a set of points, answering proximity queries with the indices the points had
+ * when the tree was built.
+ *
+ * <p>The tree is implicit: the points are stored in one flat array, and the node splitting each range of
+ * it is the median of that range, along the axis in which the range is widest. Queries recurse without
+ * allocating and are safe to run from several threads at once.</p>
+ */
+public final class KdTree3d {
+  // below this many points, a subtree is built on the current thread
+  private static final int PARALLEL_THRESHOLD = 8192;
+  private final double[] points;
+  private final int[] indices;
+  private final byte[] axes;
+
+  public static @NonNull KdTree3d build(final @NonNull Vector3dBuffer buffer) {
+    final int size = buffer.size();
+    final double[] points = new double[size * 3];
+    for(int i = 0; i < size; i++) {
+      points[i * 3] = buffer.x(i);
+      points[i * 3 + 1] = buffer.y(i);
+      points[i * 3 + 2] = buffer.z(i);
+    }
+    return new KdTree3d(points);
+  }
+
+  public static @NonNull KdTree3d build(final Vector3d[] vectors) {
+    final double[] points = new double[vectors.length * 3];
+    for(int i = 0; i < vectors.length; i++) {
+      points[i * 3] = vectors[i].x();
+      points[i * 3 + 1] = vectors[i].y();
+      points[i * 3 + 2] = vectors[i].z();
+    }
+    return new KdTree3d(points);
+  }
+
+  private KdTree3d(final double[] points) {
+    final int size = points.length / 3;
+    this.points = points;
+    this.indices = new int[size];
+    for(int i = 0; i < size; i++) {
+      this.indices[i] = i;
+    }
+    this.axes = new byte[size];
+    final Build build = new Build(this.points, this.indices, this.axes, 0, size);
+    if(size > PARALLEL_THRESHOLD) {
+      ForkJoinPool.commonPool().invoke(build);
+    } else {
+      build.compute();
+    }
+  }
+
+  public int size() {
+    return this.indices.length;
+  }
+
+  /**
+   * Finds the point nearest to a position.
+   *
+   * @return the index of the point, or -1 if the tree is empty
+   */
+  public int nearest(final double x, final double y, final double z) {
+    final int slot = this.nearest(0, this.indices.length, x, y, z, -1);
+    return slot == -1 ? -1 : this.indices[slot];
+  }
+
+  public int nearest(final @NonNull Vector3d vector) {
+    return this.nearest(vector.x(), vector.y(), vector.z());
+  }
+
+  private int nearest(final int from, final int to, final double x, final double y, final double z, int best) {
+    if(from >= to) return best;
+    final int mid = (from + to) >>> 1;
+    final double dx = x - this.points[mid * 3];
+    final double dy = y - this.points[mid * 3 + 1];
+    final double dz = z - this.points[mid * 3 + 2];
+    if(best == -1 || dx * dx + dy * dy + dz * dz < this.distanceSquared(best, x, y, z)) best = mid;
+    final int axis = this.axes[mid];
+    final double delta = axis == 0 ? dx : axis == 1 ? dy : dz;
+    if(delta < 0d) {
+      best = this.nearest(from, mid, x, y, z, best);
+      if(delta * delta < this.distanceSquared(best, x, y, z)) best = this.nearest(mid + 1, to, x, y, z, best);
+    } else {
+      best = this.nearest(mid + 1, to, x, y, z, best);
+      if(delta * delta < this.distanceSquared(best, x, y, z)) best = this.nearest(from, mid, x, y, z, best);
+    }
+    return best;
+  }
+
+  private double distanceSquared(final int slot, final double x, final double y, final double z) {
+    final double dx = x - this.points[slot * 3];
+    final double dy = y - this.points[slot * 3 + 1];
+    final double dz = z - this.points[slot * 3 + 2];
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  /**
+   * Finds the {@code k} points nearest to a position, and writes their indices and squared distances in
+   * order of increasing distance.
+   *
+   * @return the number of points found, which is less than {@code k} only if the tree holds fewer points
+   */
+  public int nearest(final double x, final double y, final double z, final int k, final int[] indices, final double[] distancesSquared) {
+    if(k < 0 || k > indices.length || k > distancesSquared.length) {
+      throw new IndexOutOfBoundsException("cannot hold " + k + " neighbours in arrays of length " + indices.length + " and " + distancesSquared.length);
+    }
+    if(k == 0) return 0;
+    final int count = this.nearest(0, this.indices.length, x, y, z, k, indices, distancesSquared, 0);
+    // the results form a max-heap, which sorts into increasing order
+    for(int end = count - 1; end > 0; end--) {
+      swap(indices, distancesSquared, 0, end);
+      siftDown(indices, distancesSquared, 0, end);
+    }
+    return count;
+  }
+
+  public int nearest(final @NonNull Vector3d vector, final int k, final int[] indices, final double[] distancesSquared) {
+    return this.nearest(vector.x(), vector.y(), vector.z(), k, indices, distancesSquared);
+  }
+
+  private int nearest(final int from, final int to, final double x, final double y, final double z, final int k, final int[] indices, final double[] distances, int count) {
+    if(from >= to) return count;
+    final int mid = (from + to) >>> 1;
+    final double px = this.points[mid * 3];
+    final double py = this.points[mid * 3 + 1];
+    final double pz = this.points[mid * 3 + 2];
+    final double dx = x - px;
+    final double dy = y - py;
+    final double dz = z - pz;
+    final double distance = dx * dx + dy * dy + dz * dz;
+    if(count < k) {
+      indices[count] = this.indices[mid];
+      distances[count] = distance;
+      siftUp(indices, distances, count++);
+    } else if(distance < distances[0]) {
+      indices[0] = this.indices[mid];
+      distances[0] = distance;
+      siftDown(indices, distances, 0, count);
+    }
+    final int axis = this.axes[mid];
+    final double delta = axis == 0 ? dx : axis == 1 ? dy : dz;
+    // the side of the split containing the position first, then the other only if it can still be closer
+    if(delta < 0d) {
+      count = this.nearest(from, mid, x, y, z, k, indices, distances, count);
+      if(count < k || delta * delta < distances[0]) count = this.nearest(mid + 1, to, x, y, z, k, indices, distances, count);
+    } else {
+      count = this.nearest(mid + 1, to, x, y, z, k, indices, distances, count);
+      if(count < k || delta * delta < distances[0]) count = this.nearest(from, mid, x, y, z, k, indices, distances, count);
+    }
+    return count;
+  }
+
+  /**
+   * Finds the points within {@code radius} of a position, inclusive, in no particular order.
+   *
+   * @return the number of points found, which may exceed the length of {@code indices}; only as many as
+   *     fit are written
+   */
+  public int radius(final double x, final double y, final double z, final double radius, final int[] indices) {
+    return this.radius(0, this.indices.length, x, y, z, radius * radius, indices, 0);
+  }
+
+  public int radius(final @NonNull Vector3d vector, final double radius, final int[] indices) {
+    return this.radius(vector.x(), vector.y(), vector.z(), radius, indices);
+  }
+
+  private int radius(final int from, final int to, final double x, final double y, final double z, final double radiusSquared, final int[] indices, int count) {
+    if(from >= to) return count;
+    final int mid = (from + to) >>> 1;
+    final double dx = x - this.points[mid * 3];
+    final double dy = y - this.points[mid * 3 + 1];
+    final double dz = z - this.points[mid * 3 + 2];
+    if(dx * dx + dy * dy + dz * dz <= radiusSquared) {
+      if(count < indices.length) indices[count] = this.indices[mid];
+      count++;
+    }
+    final int axis = this.axes[mid];
+    final double delta = axis == 0 ? dx : axis == 1 ? dy : dz;
+    if(delta <= 0d || delta * delta <= radiusSquared) count = this.radius(from, mid, x, y, z, radiusSquared, indices, count);
+    if(delta >= 0d || delta * delta <= radiusSquared) count = this.radius(mid + 1, to, x, y, z, radiusSquared, indices, count);
+    return count;
+  }
+
+  /**
+   * Finds the points within a box, inclusive, in no particular order.
+   *
+   * @return the number of points found, which may exceed the length of {@code indices}; only as many as
+   *     fit are written
+   */
+  public int box(final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ, final int[] indices) {
+    return this.box(0, this.indices.length, minX, minY, minZ, maxX, maxY, maxZ, indices, 0);
+  }
+
+  public int box(final @NonNull Aabbd box, final int[] indices) {
+    return this.box(box.minX(), box.minY(), box.minZ(), box.maxX(), box.maxY(), box.maxZ(), indices);
+  }
+
+  private int box(final int from, final int to, final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ, final int[] indices, int count) {
+    if(from >= to) return count;
+    final int mid = (from + to) >>> 1;
+    final double px = this.points[mid * 3];
+    final double py = this.points[mid * 3 + 1];
+    final double pz = this.points[mid * 3 + 2];
+    if(px >= minX && px <= maxX && py >= minY && py <= maxY && pz >= minZ && pz <= maxZ) {
+      if(count < indices.length) indices[count] = this.indices[mid];
+      count++;
+    }
+    final int axis = this.axes[mid];
+    final double split = axis == 0 ? px : axis == 1 ? py : pz;
+    final double min = axis == 0 ? minX : axis == 1 ? minY : minZ;
+    final double max = axis == 0 ? maxX : axis == 1 ? maxY : maxZ;
+    if(min <= split) count = this.box(from, mid, minX, minY, minZ, maxX, maxY, maxZ, indices, count);
+    if(max >= split) count = this.box(mid + 1, to, minX, minY, minZ, maxX, maxY, maxZ, indices, count);
+    return count;
+  }
+
+  private static void siftUp(final int[] indices, final double[] distances, int child) {
+    while(child > 0) {
+      final int parent = (child - 1) >>> 1;
+      if(distances[parent] >= distances[child]) return;
+      swap(indices, distances, parent, child);
+      child = parent;
+    }
+  }
+
+  private static void siftDown(final int[] indices, final double[] distances, int parent, final int size) {
+    while(true) {
+      final int left = parent * 2 + 1;
+      if(left >= size) return;
+      final int right = left + 1;
+      final int child = right < size && distances[right] > distances[left] ? right : left;
+      if(distances[parent] >= distances[child]) return;
+      swap(indices, distances, parent, child);
+      parent = child;
+    }
+  }
+
+  private static void swap(final int[] indices, final double[] distances, final int a, final int b) {
+    final int index = indices[a];
+    indices[a] = indices[b];
+    indices[b] = index;
+    final double distance = distances[a];
+    distances[a] = distances[b];
+    distances[b] = distance;
+  }
+
+  private static final class Build extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final double[] points;
+    private final int[] indices;
+    private final byte[] axes;
+    private final int from;
+    private final int to;
+
+    Build(final double[] points, final int[] indices, final byte[] axes, final int from, final int to) {
+      this.points = points;
+      this.indices = indices;
+      this.axes = axes;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      this.build(this.from, this.to);
+    }
+
+    private void build(final int from, final int to) {
+      if(to - from < 1) return;
+      final int mid = (from + to) >>> 1;
+      final int axis = this.widest(from, to);
+      this.select(from, to - 1, mid, axis);
+      this.axes[mid] = (byte) axis;
+      // both halves are disjoint, so they can be built concurrently
+      if(to - from > PARALLEL_THRESHOLD) {
+        invokeAll(new Build(this.points, this.indices, this.axes, from, mid), new Build(this.points, this.indices, this.axes, mid + 1, to));
+      } else {
+        this.build(from, mid);
+        this.build(mid + 1, to);
+      }
+    }
+
+    private int widest(final int from, final int to) {
+      double minX = Double.POSITIVE_INFINITY;
+      double minY = Double.POSITIVE_INFINITY;
+      double minZ = Double.POSITIVE_INFINITY;
+      double maxX = Double.NEGATIVE_INFINITY;
+      double maxY = Double.NEGATIVE_INFINITY;
+      double maxZ = Double.NEGATIVE_INFINITY;
+      for(int i = from * 3; i < to * 3; i += 3) {
+        minX = Math.min(minX, this.points[i]);
+        maxX = Math.max(maxX, this.points[i]);
+        minY = Math.min(minY, this.points[i + 1]);
+        maxY = Math.max(maxY, this.points[i + 1]);
+        minZ = Math.min(minZ, this.points[i + 2]);
+        maxZ = Math.max(maxZ, this.points[i + 2]);
+      }
+      final double x = maxX - minX;
+      final double y = maxY - minY;
+      final double z = maxZ - minZ;
+      if(x >= y && x >= z) return 0;
+      return y >= z ? 1 : 2;
+    }
+
+    // Hoare's selection: afterwards no point before k is greater, and none after it is smaller, along the axis
+    private void select(int lo, int hi, final int k, final int axis) {
+      final double[] points = this.points;
+      while(hi > lo) {
+        final double pivot = points[((lo + hi) >>> 1) * 3 + axis];
+        int i = lo;
+        int j = hi;
+        while(i <= j) {
+          while(points[i * 3 + axis] < pivot) i++;
+          while(points[j * 3 + axis] > pivot) j--;
+          if(i <= j) {
+            this.swap(i++, j--);
+          }
+        }
+        if(k <= j) {
+          hi = j;
+        } else if(k >= i) {
+          lo = i;
+        } else {
+          return;
+        }
+      }
+    }
+
+    private void swap(final int a, final int b) {
+      final double[] points = this.points;
+      for(int axis = 0; axis < 3; axis++) {
+        final double point = points[a * 3 + axis];
+        points[a * 3 + axis] = points[b * 3 + axis];
+        points[b * 3 + axis] = point;
+      }
+      final int index = this.indices[a];
+      this.indices[a] = this.indices[b];
+      this.indices[b] = index;
+    }
+  }
+}
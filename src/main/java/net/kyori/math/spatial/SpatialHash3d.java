@@ -0,0 +1,339 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.spatial;
+
+import net.kyori.math.aabb.Aabbd;
+import net.kyori.math.vector.d.Vector3d;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent uniform grid of entity ids, bucketed by the cell {@code floor(coordinate / cellSize)} that
+ * holds their position.
+ *
+ * <p>Each bucket is an immutable array replaced with compare-and-set on every write, so queries never lock
+ * and never block writers. A query reads each bucket as a separate snapshot, taken when it reaches that
+ * bucket, rather than the whole grid at once. An entity that stays in place while a query runs is reported
+ * exactly once. An entity that moves while a query runs may be reported at its old position, at its new one,
+ * at both, or not at all.</p>
+ *
+ * <p>Entities are identified by their id and current position, which callers keep track of. Different
+ * entities may be updated from any number of threads at once, but each entity from only one thread at a
+ * time.</p>
+ */
+public final class SpatialHash3d {
+  private static final int DEFAULT_BUCKETS = 4096;
+  private static final int MAXIMUM_BUCKETS = 1 << 30;
+  private static final Entry[] EMPTY = new Entry[0];
+  private final double cellSize;
+  private final AtomicReferenceArray<Entry[]> buckets;
+  private final int mask;
+  private final LongAdder size = new LongAdder();
+
+  public static @NonNull SpatialHash3d create(final double cellSize) {
+    return create(cellSize, DEFAULT_BUCKETS);
+  }
+
+  /**
+   * Creates an empty spatial hash.
+   *
+   * @param cellSize the edge length of a cell
+   * @param buckets the number of buckets cells are hashed into, rounded up to a power of two
+   * @return a spatial hash
+   */
+  public static @NonNull SpatialHash3d create(final double cellSize, final int buckets) {
+    if(!(cellSize > 0d) || cellSize == Double.POSITIVE_INFINITY) throw new IllegalArgumentException("invalid cell size: " + cellSize);
+    if(buckets < 1 || buckets > MAXIMUM_BUCKETS) throw new IllegalArgumentException("invalid bucket count: " + buckets);
+    return new SpatialHash3d(cellSize, Integer.highestOneBit((buckets << 1) - 1));
+  }
+
+  private SpatialHash3d(final double cellSize, final int buckets) {
+    this.cellSize = cellSize;
+    this.buckets = new AtomicReferenceArray<>(buckets);
+    for(int i = 0; i < buckets; i++) {
+      this.buckets.set(i, EMPTY);
+    }
+    this.mask = buckets - 1;
+  }
+
+  public double cellSize() {
+    return this.cellSize;
+  }
+
+  /**
+   * Gets the number of entities, which is only exact while no writes are in progress.
+   *
+   * @return the number of entities
+   */
+  public int size() {
+    return this.size.intValue();
+  }
+
+  public int cell(final double coordinate) {
+    // saturating, so coordinates beyond the int range clamp to the outermost cells
+    return (int) Math.floor(coordinate / this.cellSize);
+  }
+
+  public void insert(final int id, final double x, final double y, final double z) {
+    final Entry entry = new Entry(id, this.cell(x), this.cell(y), this.cell(z), x, y, z);
+    this.add(this.bucket(entry.cx, entry.cy, entry.cz), entry);
+    this.size.increment();
+  }
+
+  public void insert(final int id, final @NonNull Vector3d vector) {
+    this.insert(id, vector.x(), vector.y(), vector.z());
+  }
+
+  /**
+   * Removes an entity.
+   *
+   * @return {@code true} if the entity was found in the cell of the position
+   */
+  public boolean remove(final int id, final double x, final double y, final double z) {
+    final int cx = this.cell(x);
+    final int cy = this.cell(y);
+    final int cz = this.cell(z);
+    if(this.remove(this.bucket(cx, cy, cz), id, cx, cy, cz)) {
+      this.size.decrement();
+      return true;
+    }
+    return false;
+  }
+
+  public boolean remove(final int id, final @NonNull Vector3d vector) {
+    return this.remove(id, vector.x(), vector.y(), vector.z());
+  }
+
+  /**
+   * Moves an entity.
+   *
+   * @return {@code true} if the entity was found in the cell of its old position
+   */
+  public boolean move(final int id, final double fromX, final double fromY, final double fromZ, final double toX, final double toY, final double toZ) {
+    final int cx = this.cell(fromX);
+    final int cy = this.cell(fromY);
+    final int cz = this.cell(fromZ);
+    final Entry entry = new Entry(id, this.cell(toX), this.cell(toY), this.cell(toZ), toX, toY, toZ);
+    final int from = this.bucket(cx, cy, cz);
+    final int to = this.bucket(entry.cx, entry.cy, entry.cz);
+    if(from == to) return this.replace(from, id, cx, cy, cz, entry);
+    this.add(to, entry);
+    if(this.remove(from, id, cx, cy, cz)) return true;
+    this.remove(to, id, entry.cx, entry.cy, entry.cz);
+    return false;
+  }
+
+  public boolean move(final int id, final @NonNull Vector3d from, final @NonNull Vector3d to) {
+    return this.move(id, from.x(), from.y(), from.z(), to.x(), to.y(), to.z());
+  }
+
+  /**
+   * Finds the entities within {@code radius} of a position, inclusive, in no particular order.
+   *
+   * @return the number of entities found, which may exceed the length of {@code ids}; only as many as fit
+   *     are written
+   */
+  public int radius(final double x, final double y, final double z, final double radius, final int[] ids) {
+    final double radiusSquared = radius * radius;
+    final int minX = this.cell(x - radius);
+    final int minY = this.cell(y - radius);
+    final int minZ = this.cell(z - radius);
+    final int maxX = this.cell(x + radius);
+    final int maxY = this.cell(y + radius);
+    final int maxZ = this.cell(z + radius);
+    int count = 0;
+    if(this.scan(minX, minY, minZ, maxX, maxY, maxZ)) {
+      for(int bucket = 0; bucket <= this.mask; bucket++) {
+        for(final Entry entry : this.buckets.get(bucket)) {
+          if(entry.distanceSquared(x, y, z) <= radiusSquared) count = add(ids, count, entry.id);
+        }
+      }
+      return count;
+    }
+    for(int cx = minX; cx <= maxX; cx++) {
+      for(int cy = minY; cy <= maxY; cy++) {
+        for(int cz = minZ; cz <= maxZ; cz++) {
+          for(final Entry entry : this.buckets.get(this.bucket(cx, cy, cz))) {
+            if(entry.in(cx, cy, cz) && entry.distanceSquared(x, y, z) <= radiusSquared) count = add(ids, count, entry.id);
+          }
+          if(cz == Integer.MAX_VALUE) break; // the range ends at the last cell
+        }
+        if(cy == Integer.MAX_VALUE) break;
+      }
+      if(cx == Integer.MAX_VALUE) break;
+    }
+    return count;
+  }
+
+  public int radius(final @NonNull Vector3d vector, final double radius, final int[] ids) {
+    return this.radius(vector.x(), vector.y(), vector.z(), radius, ids);
+  }
+
+  /**
+   * Finds the entities within a box, inclusive, in no particular order.
+   *
+   * @return the number of entities found, which may exceed the length of {@code ids}; only as many as fit
+   *     are written
+   */
+  public int box(final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ, final int[] ids) {
+    final int minCx = this.cell(minX);
+    final int minCy = this.cell(minY);
+    final int minCz = this.cell(minZ);
+    final int maxCx = this.cell(maxX);
+    final int maxCy = this.cell(maxY);
+    final int maxCz = this.cell(maxZ);
+    int count = 0;
+    if(this.scan(minCx, minCy, minCz, maxCx, maxCy, maxCz)) {
+      for(int bucket = 0; bucket <= this.mask; bucket++) {
+        for(final Entry entry : this.buckets.get(bucket)) {
+          if(entry.in(minX, minY, minZ, maxX, maxY, maxZ)) count = add(ids, count, entry.id);
+        }
+      }
+      return count;
+    }
+    for(int cx = minCx; cx <= maxCx; cx++) {
+      for(int cy = minCy; cy <= maxCy; cy++) {
+        for(int cz = minCz; cz <= maxCz; cz++) {
+          for(final Entry entry : this.buckets.get(this.bucket(cx, cy, cz))) {
+            if(entry.in(cx, cy, cz) && entry.in(minX, minY, minZ, maxX, maxY, maxZ)) count = add(ids, count, entry.id);
+          }
+          if(cz == Integer.MAX_VALUE) break;
+        }
+        if(cy == Integer.MAX_VALUE) break;
+      }
+      if(cx == Integer.MAX_VALUE) break;
+    }
+    return count;
+  }
+
+  public int box(final @NonNull Aabbd box, final int[] ids) {
+    return this.box(box.minX(), box.minY(), box.minZ(), box.maxX(), box.maxY(), box.maxZ(), ids);
+  }
+
+  // whether visiting every bucket once is cheaper than visiting every cell of a range
+  private boolean scan(final int minX, final int minY, final int minZ, final int maxX, final int maxY, final int maxZ) {
+    // in double, since the cells of the whole int range overflow a long
+    final double cells = ((double) maxX - minX + 1d) * ((double) maxY - minY + 1d) * ((double) maxZ - minZ + 1d);
+    return cells > this.mask;
+  }
+
+  private static int add(final int[] ids, final int count, final int id) {
+    if(count < ids.length) ids[count] = id;
+    return count + 1;
+  }
+
+  private int bucket(final int x, final int y, final int z) {
+    long hash = x * 0x9e3779b97f4a7c15L + y * 0xc2b2ae3d27d4eb4fL + z * 0x165667b19e3779f9L;
+    hash = (hash ^ (hash >>> 32)) * 0xd6e8feb86659fd93L;
+    return (int) (hash ^ (hash >>> 32)) & this.mask;
+  }
+
+  private void add(final int bucket, final Entry entry) {
+    while(true) {
+      final Entry[] entries = this.buckets.get(bucket);
+      final Entry[] next = Arrays.copyOf(entries, entries.length + 1);
+      next[entries.length] = entry;
+      if(this.buckets.compareAndSet(bucket, entries, next)) return;
+    }
+  }
+
+  private boolean remove(final int bucket, final int id, final int cx, final int cy, final int cz) {
+    while(true) {
+      final Entry[] entries = this.buckets.get(bucket);
+      final int index = find(entries, id, cx, cy, cz);
+      if(index == -1) return false;
+      final Entry[] next;
+      if(entries.length == 1) {
+        next = EMPTY;
+      } else {
+        next = new Entry[entries.length - 1];
+        System.arraycopy(entries, 0, next, 0, index);
+        System.arraycopy(entries, index + 1, next, index, next.length - index);
+      }
+      if(this.buckets.compareAndSet(bucket, entries, next)) return true;
+    }
+  }
+
+  private boolean replace(final int bucket, final int id, final int cx, final int cy, final int cz, final Entry entry) {
+    while(true) {
+      final Entry[] entries = this.buckets.get(bucket);
+      final int index = find(entries, id, cx, cy, cz);
+      if(index == -1) return false;
+      final Entry[] next = entries.clone();
+      next[index] = entry;
+      if(this.buckets.compareAndSet(bucket, entries, next)) return true;
+    }
+  }
+
+  private static int find(final Entry[] entries, final int id, final int cx, final int cy, final int cz) {
+    for(int i = 0; i < entries.length; i++) {
+      final Entry entry = entries[i];
+      if(entry.id == id && entry.in(cx, cy, cz)) return i;
+    }
+    return -1;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s{cellSize=%s, buckets=%d, size=%d}", this.getClass().getSimpleName(), this.cellSize, this.mask + 1, this.size());
+  }
+
+  private static final class Entry {
+    final int id;
+    final int cx;
+    final int cy;
+    final int cz;
+    final double x;
+    final double y;
+    final double z;
+
+    Entry(final int id, final int cx, final int cy, final int cz, final double x, final double y, final double z) {
+      this.id = id;
+      this.cx = cx;
+      this.cy = cy;
+      this.cz = cz;
+      this.x = x;
+      this.y = y;
+      this.z = z;
+    }
+
+    boolean in(final int cx, final int cy, final int cz) {
+      return this.cx == cx && this.cy == cy && this.cz == cz;
+    }
+
+    boolean in(final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ) {
+      return this.x >= minX && this.x <= maxX && this.y >= minY && this.y <= maxY && this.z >= minZ && this.z <= maxZ;
+    }
+
+    double distanceSquared(final double x, final double y, final double z) {
+      final double dx = x - this.x;
+      final double dy = y - this.y;
+      final double dz = z - this.z;
+      return dx * dx + dy * dy + dz * dz;
+    }
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.spatial;
+
+import net.kyori.math.Direction;
+import net.kyori.math.Mth;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.i.MutVector3i;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Steps through the unit voxels a ray passes through, in order, without allocating.
+ *
+ * <p>A traversal is a reusable cursor: {@link #reset(double, double, double, double, double, double, double)}
+ * starts a new ray, and every call to {@link #next()} moves to the next voxel. The first voxel is the one
+ * containing the origin. Distances are measured along the normalized direction.</p>
+ */
+// J. Amanatides and A. Woo, "A Fast Voxel Traversal Algorithm for Ray Tracing", Eurographics (1987)
+public class VoxelTraversal {
+  private int x;
+  private int y;
+  private int z;
+  private int stepX;
+  private int stepY;
+  private int stepZ;
+  // the distance at which the ray crosses the next boundary along each axis
+  private double maxX;
+  private double maxY;
+  private double maxZ;
+  // the distance between two boundaries along each axis
+  private double deltaX;
+  private double deltaY;
+  private double deltaZ;
+  private double maxDistance;
+  private double distance;
+  private @Nullable Direction face;
+  private boolean started;
+  private boolean done = true;
+
+  public static @NonNull VoxelTraversal create() {
+    return new VoxelTraversal();
+  }
+
+  /**
+   * Visits every voxel along a ray, until the visitor returns {@code false}.
+   *
+   * @return {@code true} if the visitor stopped the traversal, {@code false} if the ray reached its
+   *     maximum distance
+   */
+  public static boolean traverse(final @NonNull Vector3d origin, final @NonNull Vector3d direction, final double maxDistance, final @NonNull Visitor visitor) {
+    return create().reset(origin, direction, maxDistance).forEach(visitor);
+  }
+
+  protected VoxelTraversal() {
+  }
+
+  public @NonNull VoxelTraversal reset(final @NonNull Vector3d origin, final @NonNull Vector3d direction, final double maxDistance) {
+    return this.reset(origin.x(), origin.y(), origin.z(), direction.x(), direction.y(), direction.z(), maxDistance);
+  }
+
+  public @NonNull VoxelTraversal reset(final double ox, final double oy, final double oz, final double dx, final double dy, final double dz, final double maxDistance) {
+    final double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+    if(!(length > 0d) || Double.isInfinite(length)) throw new IllegalArgumentException("invalid direction: (" + dx + ", " + dy + ", " + dz + ")");
+    this.x = Mth.floor(ox);
+    this.y = Mth.floor(oy);
+    this.z = Mth.floor(oz);
+    this.stepX = (int) Math.signum(dx);
+    this.stepY = (int) Math.signum(dy);
+    this.stepZ = (int) Math.signum(dz);
+    this.deltaX = Math.abs(length / dx);
+    this.deltaY = Math.abs(length / dy);
+    this.deltaZ = Math.abs(length / dz);
+    this.maxX = boundary(ox, this.x, this.stepX, this.deltaX);
+    this.maxY = boundary(oy, this.y, this.stepY, this.deltaY);
+    this.maxZ = boundary(oz, this.z, this.stepZ, this.deltaZ);
+    this.maxDistance = maxDistance;
+    this.distance = 0d;
+    this.face = null;
+    this.started = false;
+    this.done = false;
+    return this;
+  }
+
+  private static double boundary(final double origin, final int voxel, final int step, final double delta) {
+    if(step > 0) return (voxel + 1 - origin) * delta;
+    if(step < 0) return (origin - voxel) * delta;
+    return Double.POSITIVE_INFINITY;
+  }
+
+  /**
+   * Moves to the next voxel along the ray.
+   *
+   * @return {@code false} once the ray has passed its maximum distance
+   */
+  public boolean next() {
+    if(this.done) return false;
+    if(!this.started) {
+      this.started = true;
+      if(this.maxDistance < 0d) this.done = true;
+      return !this.done;
+    }
+    if(this.maxX < this.maxY && this.maxX < this.maxZ) {
+      this.distance = this.maxX;
+      this.x += this.stepX;
+      this.maxX += this.deltaX;
+      this.face = this.stepX > 0 ? Direction.WEST : Direction.EAST;
+    } else if(this.maxY < this.maxZ) {
+      this.distance = this.maxY;
+      this.y += this.stepY;
+      this.maxY += this.deltaY;
+      this.face = this.stepY > 0 ? Direction.DOWN : Direction.UP;
+    } else {
+      this.distance = this.maxZ;
+      this.z += this.stepZ;
+      this.maxZ += this.deltaZ;
+      this.face = this.stepZ > 0 ? Direction.NORTH : Direction.SOUTH;
+    }
+    if(this.distance > this.maxDistance) this.done = true;
+    return !this.done;
+  }
+
+  /**
+   * Visits the remaining voxels, until the visitor returns {@code false}.
+   *
+   * @return {@code true} if the visitor stopped the traversal, {@code false} if the ray reached its
+   *     maximum distance
+   */
+  public boolean forEach(final @NonNull Visitor visitor) {
+    while(this.next()) {
+      if(!visitor.visit(this.x, this.y, this.z, this.face, this.distance)) return true;
+    }
+    return false;
+  }
+
+  public int x() {
+    return this.x;
+  }
+
+  public int y() {
+    return this.y;
+  }
+
+  public int z() {
+    return this.z;
+  }
+
+  public @NonNull MutVector3i position(final @NonNull MutVector3i dst) {
+    return dst.set(this.x, this.y, this.z);
+  }
+
+  // the face of the current voxel the ray entered through, or null for the voxel containing the origin
+  public @Nullable Direction face() {
+    return this.face;
+  }
+
+  // the distance along the ray at which it entered the current voxel
+  public double distance() {
+    return this.distance;
+  }
+
+  @FunctionalInterface
+  public interface Visitor {
+    /**
+     * Visits a voxel.
+     *
+     * @param face the face the ray entered the voxel through, or {@code null} for the voxel containing the
+     *     origin
+     * @param distance the distance along the ray at which it entered the voxel
+     * @return {@code true} to continue the traversal
+     */
+    boolean visit(final int x, final int y, final int z, final @Nullable Direction face, final double distance);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.stream;
+
+import net.kyori.math.aabb.Aabbd;
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.f.ImVector3f;
+import net.kyori.math.vector.f.Vector3f;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.stream.Collector;
+
+/**
+ * Collectors that reduce streams of vectors to a single vector or box.
+ *
+ * <p>Each collector accumulates into a few primitives per thread, reading the components of every vector
+ * and keeping none, so it creates no object per vector and works with the reused vectors of
+ * {@link VectorStreams}. Float vectors are accumulated in double, so long streams do not lose their small
+ * terms.</p>
+ */
+public final class VectorCollectors {
+  private VectorCollectors() {
+  }
+
+  public static @NonNull Collector<Vector3d, ?, ImVector3d> sum3d() {
+    return Collector.of(() -> new double[3], (sum, vector) -> add(sum, vector.x(), vector.y(), vector.z()), VectorCollectors::add, sum -> ImVector3d.of(sum[0], sum[1], sum[2]));
+  }
+
+  // the component-wise mean, or zero for an empty stream
+  public static @NonNull Collector<Vector3d, ?, ImVector3d> mean3d() {
+    return Collector.of(() -> new double[4], (sum, vector) -> count(sum, vector.x(), vector.y(), vector.z()), VectorCollectors::add, sum -> sum[3] == 0d ? ImVector3d.zero() : ImVector3d.of(sum[0] / sum[3], sum[1] / sum[3], sum[2] / sum[3]));
+  }
+
+  // the component-wise minimum, or positive infinity for an empty stream
+  public static @NonNull Collector<Vector3d, ?, ImVector3d> min3d() {
+    return Collector.of(VectorCollectors::bounds, (bounds, vector) -> include(bounds, vector.x(), vector.y(), vector.z()), VectorCollectors::include, bounds -> ImVector3d.of(bounds[0], bounds[1], bounds[2]), Collector.Characteristics.UNORDERED);
+  }
+
+  // the component-wise maximum, or negative infinity for an empty stream
+  public static @NonNull Collector<Vector3d, ?, ImVector3d> max3d() {
+    return Collector.of(VectorCollectors::bounds, (bounds, vector) -> include(bounds, vector.x(), vector.y(), vector.z()), VectorCollectors::include, bounds -> ImVector3d.of(bounds[3], bounds[4], bounds[5]), Collector.Characteristics.UNORDERED);
+  }
+
+  /**
+   * Gets a collector of the smallest box containing every vector.
+   *
+   * @return the collector, which throws {@link IllegalArgumentException} for an empty stream
+   */
+  public static @NonNull Collector<Vector3d, ?, Aabbd> bounds3d() {
+    return Collector.of(VectorCollectors::bounds, (bounds, vector) -> include(bounds, vector.x(), vector.y(), vector.z()), VectorCollectors::include, VectorCollectors::box, Collector.Characteristics.UNORDERED);
+  }
+
+  public static @NonNull Collector<Vector3f, ?, ImVector3f> sum3f() {
+    return Collector.of(() -> new double[3], (sum, vector) -> add(sum, vector.x(), vector.y(), vector.z()), VectorCollectors::add, sum -> ImVector3f.of((float) sum[0], (float) sum[1], (float) sum[2]));
+  }
+
+  // the component-wise mean, or zero for an empty stream
+  public static @NonNull Collector<Vector3f, ?, ImVector3f> mean3f() {
+    return Collector.of(() -> new double[4], (sum, vector) -> count(sum, vector.x(), vector.y(), vector.z()), VectorCollectors::add, sum -> sum[3] == 0d ? ImVector3f.zero() : ImVector3f.of((float) (sum[0] / sum[3]), (float) (sum[1] / sum[3]), (float) (sum[2] / sum[3])));
+  }
+
+  // the component-wise minimum, or positive infinity for an empty stream
+  public static @NonNull Collector<Vector3f, ?, ImVector3f> min3f() {
+    return Collector.of(VectorCollectors::bounds, (bounds, vector) -> include(bounds, vector.x(), vector.y(), vector.z()), VectorCollectors::include, bounds -> ImVector3f.of((float) bounds[0], (float) bounds[1], (float) bounds[2]), Collector.Characteristics.UNORDERED);
+  }
+
+  // the component-wise maximum, or negative infinity for an empty stream
+  public static @NonNull Collector<Vector3f, ?, ImVector3f> max3f() {
+    return Collector.of(VectorCollectors::bounds, (bounds, vector) -> include(bounds, vector.x(), vector.y(), vector.z()), VectorCollectors::include, bounds -> ImVector3f.of((float) bounds[3], (float) bounds[4], (float) bounds[5]), Collector.Characteristics.UNORDERED);
+  }
+
+  /**
+   * Gets a collector of the smallest box containing every vector.
+   *
+   * @return the collector, which throws {@link IllegalArgumentException} for an empty stream
+   */
+  public static @NonNull Collector<Vector3f, ?, Aabbd> bounds3f() {
+    return Collector.of(VectorCollectors::bounds, (bounds, vector) -> include(bounds, vector.x(), vector.y(), vector.z()), VectorCollectors::include, VectorCollectors::box, Collector.Characteristics.UNORDERED);
+  }
+
+  private static void add(final double[] sum, final double x, final double y, final double z) {
+    sum[0] += x;
+    sum[1] += y;
+    sum[2] += z;
+  }
+
+  private static void count(final double[] sum, final double x, final double y, final double z) {
+    add(sum, x, y, z);
+    sum[3]++;
+  }
+
+  // combines partial sums, with or without a count
+  private static double[] add(final double[] sum, final double[] that) {
+    for(int i = 0; i < sum.length; i++) {
+      sum[i] += that[i];
+    }
+    return sum;
+  }
+
+  // the minimum then the maximum of each component, empty until a vector is included
+  private static double[] bounds() {
+    return new double[]{
+      Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+      Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY
+    };
+  }
+
+  private static void include(final double[] bounds, final double x, final double y, final double z) {
+    bounds[0] = Math.min(bounds[0], x);
+    bounds[1] = Math.min(bounds[1], y);
+    bounds[2] = Math.min(bounds[2], z);
+    bounds[3] = Math.max(bounds[3], x);
+    bounds[4] = Math.max(bounds[4], y);
+    bounds[5] = Math.max(bounds[5], z);
+  }
+
+  private static double[] include(final double[] bounds, final double[] that) {
+    include(bounds, that[0], that[1], that[2]);
+    include(bounds, that[3], that[4], that[5]);
+    return bounds;
+  }
+
+  private static Aabbd box(final double[] bounds) {
+    if(bounds[0] > bounds[3]) throw new IllegalArgumentException("cannot bound an empty stream");
+    return Aabbd.of(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
+  }
+}
@@ -0,0 +1,518 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.stream;
+
+import net.kyori.math.vector.d.DirectVector3d;
+import net.kyori.math.vector.d.DirectVector3dBuffer;
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import net.kyori.math.vector.f.DirectVector3f;
+import net.kyori.math.vector.f.DirectVector3fBuffer;
+import net.kyori.math.vector.f.MutVector3f;
+import net.kyori.math.vector.f.Vector3f;
+import net.kyori.math.vector.f.Vector3fBuffer;
+import net.kyori.math.vector.i.DirectVector3i;
+import net.kyori.math.vector.i.DirectVector3iBuffer;
+import net.kyori.math.vector.i.MutVector3i;
+import net.kyori.math.vector.i.Vector3i;
+import net.kyori.math.vector.i.Vector3iBuffer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Spliterators and streams over the vectors of buffers and interleaved arrays.
+ *
+ * <p>The spliterators know their exact size and split a range evenly in half, so parallel streams divide
+ * the work without copying anything. No object is created per vector: as their names say, the spliterators
+ * hand every vector to their action through one reused vector, which is only valid until the action returns.
+ * These streams suit operations that are done with each vector at once, such as {@code forEach},
+ * {@code mapToDouble}, {@code anyMatch}, or collecting with {@link VectorCollectors}. Operations that keep
+ * vectors, such as {@code sorted}, {@code distinct}, {@code toArray}, {@code collect(Collectors.toList())},
+ * {@code min}, {@code max} and {@code reduce}, would keep the one reused vector, so the vectors must first be
+ * copied, as by {@code map(Vector3d::copy)}. Vectors are read as they are reached, so the buffer or array must
+ * not change while it is streamed.</p>
+ *
+ * <p>{@link VectorCollectors} reduce these streams without creating an object per vector either.</p>
+ */
+public final class VectorStreams {
+  private VectorStreams() {
+  }
+
+  public static @NonNull Spliterator<Vector3d> spliteratorReusing(final @NonNull Vector3dBuffer buffer) {
+    return new BufferD(buffer, 0, buffer.size());
+  }
+
+  public static @NonNull Spliterator<Vector3d> spliteratorReusing(final @NonNull Vector3dBuffer buffer, final int from, final int to) {
+    checkRange(buffer.size(), from, to);
+    return new BufferD(buffer, from, to);
+  }
+
+  public static @NonNull Stream<Vector3d> streamReusing(final @NonNull Vector3dBuffer buffer) {
+    return StreamSupport.stream(spliteratorReusing(buffer), false);
+  }
+
+  public static @NonNull Stream<Vector3d> streamReusing(final @NonNull Vector3dBuffer buffer, final int from, final int to) {
+    return StreamSupport.stream(spliteratorReusing(buffer, from, to), false);
+  }
+
+  public static @NonNull Spliterator<Vector3d> spliteratorReusing(final @NonNull DirectVector3dBuffer buffer) {
+    return new DirectD(buffer, 0, buffer.size());
+  }
+
+  public static @NonNull Spliterator<Vector3d> spliteratorReusing(final @NonNull DirectVector3dBuffer buffer, final int from, final int to) {
+    checkRange(buffer.size(), from, to);
+    return new DirectD(buffer, from, to);
+  }
+
+  public static @NonNull Stream<Vector3d> streamReusing(final @NonNull DirectVector3dBuffer buffer) {
+    return StreamSupport.stream(spliteratorReusing(buffer), false);
+  }
+
+  public static @NonNull Stream<Vector3d> streamReusing(final @NonNull DirectVector3dBuffer buffer, final int from, final int to) {
+    return StreamSupport.stream(spliteratorReusing(buffer, from, to), false);
+  }
+
+  /**
+   * Gets a spliterator over interleaved vectors, x, y and z in turn.
+   *
+   * @param array the interleaved components
+   * @return the spliterator
+   * @throws IllegalArgumentException if the length of the array is not a multiple of three
+   */
+  public static @NonNull Spliterator<Vector3d> spliteratorReusing(final double[] array) {
+    return new InterleavedD(array, 0, vectors(array.length));
+  }
+
+  // from and to index vectors, not components
+  public static @NonNull Spliterator<Vector3d> spliteratorReusing(final double[] array, final int from, final int to) {
+    checkRange(array.length / 3, from, to);
+    return new InterleavedD(array, from, to);
+  }
+
+  public static @NonNull Stream<Vector3d> streamReusing(final double[] array) {
+    return StreamSupport.stream(spliteratorReusing(array), false);
+  }
+
+  public static @NonNull Stream<Vector3d> streamReusing(final double[] array, final int from, final int to) {
+    return StreamSupport.stream(spliteratorReusing(array, from, to), false);
+  }
+
+  public static @NonNull Spliterator<Vector3f> spliteratorReusing(final @NonNull Vector3fBuffer buffer) {
+    return new BufferF(buffer, 0, buffer.size());
+  }
+
+  public static @NonNull Spliterator<Vector3f> spliteratorReusing(final @NonNull Vector3fBuffer buffer, final int from, final int to) {
+    checkRange(buffer.size(), from, to);
+    return new BufferF(buffer, from, to);
+  }
+
+  public static @NonNull Stream<Vector3f> streamReusing(final @NonNull Vector3fBuffer buffer) {
+    return StreamSupport.stream(spliteratorReusing(buffer), false);
+  }
+
+  public static @NonNull Stream<Vector3f> streamReusing(final @NonNull Vector3fBuffer buffer, final int from, final int to) {
+    return StreamSupport.stream(spliteratorReusing(buffer, from, to), false);
+  }
+
+  public static @NonNull Spliterator<Vector3f> spliteratorReusing(final @NonNull DirectVector3fBuffer buffer) {
+    return new DirectF(buffer, 0, buffer.size());
+  }
+
+  public static @NonNull Spliterator<Vector3f> spliteratorReusing(final @NonNull DirectVector3fBuffer buffer, final int from, final int to) {
+    checkRange(buffer.size(), from, to);
+    return new DirectF(buffer, from, to);
+  }
+
+  public static @NonNull Stream<Vector3f> streamReusing(final @NonNull DirectVector3fBuffer buffer) {
+    return StreamSupport.stream(spliteratorReusing(buffer), false);
+  }
+
+  public static @NonNull Stream<Vector3f> streamReusing(final @NonNull DirectVector3fBuffer buffer, final int from, final int to) {
+    return StreamSupport.stream(spliteratorReusing(buffer, from, to), false);
+  }
+
+  /**
+   * Gets a spliterator over interleaved vectors, x, y and z in turn.
+   *
+   * @param array the interleaved components
+   * @return the spliterator
+   * @throws IllegalArgumentException if the length of the array is not a multiple of three
+   */
+  public static @NonNull Spliterator<Vector3f> spliteratorReusing(final float[] array) {
+    return new InterleavedF(array, 0, vectors(array.length));
+  }
+
+  // from and to index vectors, not components
+  public static @NonNull Spliterator<Vector3f> spliteratorReusing(final float[] array, final int from, final int to) {
+    checkRange(array.length / 3, from, to);
+    return new InterleavedF(array, from, to);
+  }
+
+  public static @NonNull Stream<Vector3f> streamReusing(final float[] array) {
+    return StreamSupport.stream(spliteratorReusing(array), false);
+  }
+
+  public static @NonNull Stream<Vector3f> streamReusing(final float[] array, final int from, final int to) {
+    return StreamSupport.stream(spliteratorReusing(array, from, to), false);
+  }
+
+  public static @NonNull Spliterator<Vector3i> spliteratorReusing(final @NonNull Vector3iBuffer buffer) {
+    return new BufferI(buffer, 0, buffer.size());
+  }
+
+  public static @NonNull Spliterator<Vector3i> spliteratorReusing(final @NonNull Vector3iBuffer buffer, final int from, final int to) {
+    checkRange(buffer.size(), from, to);
+    return new BufferI(buffer, from, to);
+  }
+
+  public static @NonNull Stream<Vector3i> streamReusing(final @NonNull Vector3iBuffer buffer) {
+    return StreamSupport.stream(spliteratorReusing(buffer), false);
+  }
+
+  public static @NonNull Stream<Vector3i> streamReusing(final @NonNull Vector3iBuffer buffer, final int from, final int to) {
+    return StreamSupport.stream(spliteratorReusing(buffer, from, to), false);
+  }
+
+  public static @NonNull Spliterator<Vector3i> spliteratorReusing(final @NonNull DirectVector3iBuffer buffer) {
+    return new DirectI(buffer, 0, buffer.size());
+  }
+
+  public static @NonNull Spliterator<Vector3i> spliteratorReusing(final @NonNull DirectVector3iBuffer buffer, final int from, final int to) {
+    checkRange(buffer.size(), from, to);
+    return new DirectI(buffer, from, to);
+  }
+
+  public static @NonNull Stream<Vector3i> streamReusing(final @NonNull DirectVector3iBuffer buffer) {
+    return StreamSupport.stream(spliteratorReusing(buffer), false);
+  }
+
+  public static @NonNull Stream<Vector3i> streamReusing(final @NonNull DirectVector3iBuffer buffer, final int from, final int to) {
+    return StreamSupport.stream(spliteratorReusing(buffer, from, to), false);
+  }
+
+  /**
+   * Gets a spliterator over interleaved vectors, x, y and z in turn.
+   *
+   * @param array the interleaved components
+   * @return the spliterator
+   * @throws IllegalArgumentException if the length of the array is not a multiple of three
+   */
+  public static @NonNull Spliterator<Vector3i> spliteratorReusing(final int[] array) {
+    return new InterleavedI(array, 0, vectors(array.length));
+  }
+
+  // from and to index vectors, not components
+  public static @NonNull Spliterator<Vector3i> spliteratorReusing(final int[] array, final int from, final int to) {
+    checkRange(array.length / 3, from, to);
+    return new InterleavedI(array, from, to);
+  }
+
+  public static @NonNull Stream<Vector3i> streamReusing(final int[] array) {
+    return StreamSupport.stream(spliteratorReusing(array), false);
+  }
+
+  public static @NonNull Stream<Vector3i> streamReusing(final int[] array, final int from, final int to) {
+    return StreamSupport.stream(spliteratorReusing(array, from, to), false);
+  }
+
+  private static int vectors(final int length) {
+    if(length % 3 != 0) throw new IllegalArgumentException("cannot interleave " + length + " components into vectors");
+    return length / 3;
+  }
+
+  private static void checkRange(final int size, final int from, final int to) {
+    if(from < 0 || from > to || to > size) {
+      throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for size " + size);
+    }
+  }
+
+  // a range of indices, halved on each split
+  private abstract static class Range<V> implements Spliterator<V> {
+    int index;
+    final int end;
+
+    Range(final int from, final int to) {
+      this.index = from;
+      this.end = to;
+    }
+
+    // points the reused vector at an index
+    abstract V get(final int index);
+
+    abstract Range<V> split(final int from, final int to);
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super V> action) {
+      if(this.index >= this.end) return false;
+      action.accept(this.get(this.index++));
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super V> action) {
+      final int end = this.end;
+      for(int i = this.index; i < end; i++) {
+        action.accept(this.get(i));
+      }
+      this.index = end;
+    }
+
+    @Override
+    public Spliterator<V> trySplit() {
+      final int from = this.index;
+      final int middle = (from + this.end) >>> 1;
+      if(middle <= from) return null;
+      this.index = middle;
+      return this.split(from, middle);
+    }
+
+    @Override
+    public long estimateSize() {
+      return this.end - this.index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+  }
+
+  private static final class BufferD extends Range<Vector3d> {
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+    private final MutVector3d vector = MutVector3d.zero();
+
+    BufferD(final Vector3dBuffer buffer, final int from, final int to) {
+      this(buffer.xs(), buffer.ys(), buffer.zs(), from, to);
+    }
+
+    private BufferD(final double[] xs, final double[] ys, final double[] zs, final int from, final int to) {
+      super(from, to);
+      this.xs = xs;
+      this.ys = ys;
+      this.zs = zs;
+    }
+
+    @Override
+    Vector3d get(final int index) {
+      return this.vector.set(this.xs[index], this.ys[index], this.zs[index]);
+    }
+
+    @Override
+    Range<Vector3d> split(final int from, final int to) {
+      return new BufferD(this.xs, this.ys, this.zs, from, to);
+    }
+  }
+
+  private static final class DirectD extends Range<Vector3d> {
+    private final DirectVector3dBuffer buffer;
+    private DirectVector3d view;
+
+    DirectD(final DirectVector3dBuffer buffer, final int from, final int to) {
+      super(from, to);
+      this.buffer = buffer;
+    }
+
+    @Override
+    Vector3d get(final int index) {
+      // created on first use, since an empty buffer has no index to view
+      if(this.view == null) return this.view = this.buffer.view(index);
+      return this.view.index(index);
+    }
+
+    @Override
+    Range<Vector3d> split(final int from, final int to) {
+      return new DirectD(this.buffer, from, to);
+    }
+  }
+
+  private static final class InterleavedD extends Range<Vector3d> {
+    private final double[] array;
+    private final MutVector3d vector = MutVector3d.zero();
+
+    InterleavedD(final double[] array, final int from, final int to) {
+      super(from, to);
+      this.array = array;
+    }
+
+    @Override
+    Vector3d get(final int index) {
+      final int offset = 3 * index;
+      return this.vector.set(this.array[offset], this.array[offset + 1], this.array[offset + 2]);
+    }
+
+    @Override
+    Range<Vector3d> split(final int from, final int to) {
+      return new InterleavedD(this.array, from, to);
+    }
+  }
+
+  private static final class BufferF extends Range<Vector3f> {
+    private final float[] xs;
+    private final float[] ys;
+    private final float[] zs;
+    private final MutVector3f vector = MutVector3f.zero();
+
+    BufferF(final Vector3fBuffer buffer, final int from, final int to) {
+      this(buffer.xs(), buffer.ys(), buffer.zs(), from, to);
+    }
+
+    private BufferF(final float[] xs, final float[] ys, final float[] zs, final int from, final int to) {
+      super(from, to);
+      this.xs = xs;
+      this.ys = ys;
+      this.zs = zs;
+    }
+
+    @Override
+    Vector3f get(final int index) {
+      return this.vector.set(this.xs[index], this.ys[index], this.zs[index]);
+    }
+
+    @Override
+    Range<Vector3f> split(final int from, final int to) {
+      return new BufferF(this.xs, this.ys, this.zs, from, to);
+    }
+  }
+
+  private static final class DirectF extends Range<Vector3f> {
+    private final DirectVector3fBuffer buffer;
+    private DirectVector3f view;
+
+    DirectF(final DirectVector3fBuffer buffer, final int from, final int to) {
+      super(from, to);
+      this.buffer = buffer;
+    }
+
+    @Override
+    Vector3f get(final int index) {
+      // created on first use, since an empty buffer has no index to view
+      if(this.view == null) return this.view = this.buffer.view(index);
+      return this.view.index(index);
+    }
+
+    @Override
+    Range<Vector3f> split(final int from, final int to) {
+      return new DirectF(this.buffer, from, to);
+    }
+  }
+
+  private static final class InterleavedF extends Range<Vector3f> {
+    private final float[] array;
+    private final MutVector3f vector = MutVector3f.zero();
+
+    InterleavedF(final float[] array, final int from, final int to) {
+      super(from, to);
+      this.array = array;
+    }
+
+    @Override
+    Vector3f get(final int index) {
+      final int offset = 3 * index;
+      return this.vector.set(this.array[offset], this.array[offset + 1], this.array[offset + 2]);
+    }
+
+    @Override
+    Range<Vector3f> split(final int from, final int to) {
+      return new InterleavedF(this.array, from, to);
+    }
+  }
+
+  private static final class BufferI extends Range<Vector3i> {
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] zs;
+    private final MutVector3i vector = MutVector3i.zero();
+
+    BufferI(final Vector3iBuffer buffer, final int from, final int to) {
+      this(buffer.xs(), buffer.ys(), buffer.zs(), from, to);
+    }
+
+    private BufferI(final int[] xs, final int[] ys, final int[] zs, final int from, final int to) {
+      super(from, to);
+      this.xs = xs;
+      this.ys = ys;
+      this.zs = zs;
+    }
+
+    @Override
+    Vector3i get(final int index) {
+      return this.vector.set(this.xs[index], this.ys[index], this.zs[index]);
+    }
+
+    @Override
+    Range<Vector3i> split(final int from, final int to) {
+      return new BufferI(this.xs, this.ys, this.zs, from, to);
+    }
+  }
+
+  private static final class DirectI extends Range<Vector3i> {
+    private final DirectVector3iBuffer buffer;
+    private DirectVector3i view;
+
+    DirectI(final DirectVector3iBuffer buffer, final int from, final int to) {
+      super(from, to);
+      this.buffer = buffer;
+    }
+
+    @Override
+    Vector3i get(final int index) {
+      // created on first use, since an empty buffer has no index to view
+      if(this.view == null) return this.view = this.buffer.view(index);
+      return this.view.index(index);
+    }
+
+    @Override
+    Range<Vector3i> split(final int from, final int to) {
+      return new DirectI(this.buffer, from, to);
+    }
+  }
+
+  private static final class InterleavedI extends Range<Vector3i> {
+    private final int[] array;
+    private final MutVector3i vector = MutVector3i.zero();
+
+    InterleavedI(final int[] array, final int from, final int to) {
+      super(from, to);
+      this.array = array;
+    }
+
+    @Override
+    Vector3i get(final int index) {
+      final int offset = 3 * index;
+      return this.vector.set(this.array[offset], this.array[offset + 1], this.array[offset + 2]);
+    }
+
+    @Override
+    Range<Vector3i> split(final int from, final int to) {
+      return new InterleavedI(this.array, from, to);
+    }
+  }
+}
@@ -0,0 +1,374 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector;
+
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.f.ImVector3f;
+import net.kyori.math.vector.f.MutVector3f;
+import net.kyori.math.vector.f.Vector3f;
+import net.kyori.math.vector.i.ImVector3i;
+import net.kyori.math.vector.i.MutVector3i;
+import net.kyori.math.vector.i.Vector3i;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Hands out temporary mutable vectors from a pool, and takes them all back at once on {@link #reset()}.
+ *
+ * <p>Vectors are handed out zeroed, and are ordinary mutable vectors: math on them is written as usual. Once an
+ * arena is reset, the vectors it handed out will be handed out again, so no reference to one may be kept past
+ * the reset. A pool grows when it runs out, so after the first few resets an arena no longer allocates.</p>
+ *
+ * <p>An arena is confined to one thread; {@link #local()} gives each thread its own. A {@link #debug()} arena
+ * instead hands out new vectors that throw {@link IllegalStateException} when used after the arena is reset.
+ * Setting the {@code net.kyori.math.vector.arena.debug} system property to {@code true} makes the arenas of
+ * {@link #local()} debug arenas.</p>
+ */
+public final class VectorArena {
+  private static final int DEFAULT_CAPACITY = 64;
+  private static final ThreadLocal<VectorArena> LOCAL = ThreadLocal.withInitial(() -> Boolean.getBoolean("net.kyori.math.vector.arena.debug") ? debug() : create());
+  private final boolean debug;
+  private MutVector3d[] doubles;
+  private MutVector3f[] floats;
+  private MutVector3i[] ints;
+  private int doubleCount;
+  private int floatCount;
+  private int intCount;
+  private int generation;
+
+  public static @NonNull VectorArena create() {
+    return create(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an arena with room for a number of vectors of each type before its pools grow.
+   *
+   * @param capacity the number of vectors of each type
+   * @return the arena
+   */
+  public static @NonNull VectorArena create(final int capacity) {
+    if(capacity < 0) throw new IllegalArgumentException("negative capacity: " + capacity);
+    return new VectorArena(false, capacity);
+  }
+
+  public static @NonNull VectorArena debug() {
+    return new VectorArena(true, 0);
+  }
+
+  /**
+   * Gets the arena of the current thread.
+   *
+   * @return the arena
+   */
+  public static @NonNull VectorArena local() {
+    return LOCAL.get();
+  }
+
+  private VectorArena(final boolean debug, final int capacity) {
+    this.debug = debug;
+    this.doubles = fill(new MutVector3d[capacity], 0);
+    this.floats = fill(new MutVector3f[capacity], 0);
+    this.ints = fill(new MutVector3i[capacity], 0);
+  }
+
+  public @NonNull MutVector3d vector3d() {
+    if(this.debug) {
+      this.doubleCount++;
+      return new Checked3d(this, this.generation);
+    }
+    if(this.doubleCount == this.doubles.length) this.doubles = fill(Arrays.copyOf(this.doubles, grow(this.doubles.length)), this.doubles.length);
+    return this.doubles[this.doubleCount++].set(0d, 0d, 0d);
+  }
+
+  public @NonNull MutVector3d vector3d(final double x, final double y, final double z) {
+    return this.vector3d().set(x, y, z);
+  }
+
+  public @NonNull MutVector3d vector3d(final @NonNull Vector3d that) {
+    return this.vector3d().set(that.x(), that.y(), that.z());
+  }
+
+  public @NonNull MutVector3f vector3f() {
+    if(this.debug) {
+      this.floatCount++;
+      return new Checked3f(this, this.generation);
+    }
+    if(this.floatCount == this.floats.length) this.floats = fill(Arrays.copyOf(this.floats, grow(this.floats.length)), this.floats.length);
+    return this.floats[this.floatCount++].set(0f, 0f, 0f);
+  }
+
+  public @NonNull MutVector3f vector3f(final float x, final float y, final float z) {
+    return this.vector3f().set(x, y, z);
+  }
+
+  public @NonNull MutVector3f vector3f(final @NonNull Vector3f that) {
+    return this.vector3f().set(that.x(), that.y(), that.z());
+  }
+
+  public @NonNull MutVector3i vector3i() {
+    if(this.debug) {
+      this.intCount++;
+      return new Checked3i(this, this.generation);
+    }
+    if(this.intCount == this.ints.length) this.ints = fill(Arrays.copyOf(this.ints, grow(this.ints.length)), this.ints.length);
+    return this.ints[this.intCount++].set(0, 0, 0);
+  }
+
+  public @NonNull MutVector3i vector3i(final int x, final int y, final int z) {
+    return this.vector3i().set(x, y, z);
+  }
+
+  public @NonNull MutVector3i vector3i(final @NonNull Vector3i that) {
+    return this.vector3i().set(that.x(), that.y(), that.z());
+  }
+
+  /**
+   * Gets the number of vectors handed out since the last reset.
+   *
+   * @return the number of vectors
+   */
+  public int allocated() {
+    return this.doubleCount + this.floatCount + this.intCount;
+  }
+
+  /**
+   * Takes back every vector handed out since the last reset.
+   */
+  public void reset() {
+    this.doubleCount = 0;
+    this.floatCount = 0;
+    this.intCount = 0;
+    this.generation++;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{debug=%b, allocated=%d, capacity=%d}", this.getClass().getSimpleName(), this.debug, this.allocated(), this.doubles.length + this.floats.length + this.ints.length);
+  }
+
+  private static int grow(final int length) {
+    return Math.max(DEFAULT_CAPACITY, 2 * length);
+  }
+
+  private static MutVector3d[] fill(final MutVector3d[] vectors, final int from) {
+    for(int i = from; i < vectors.length; i++) vectors[i] = MutVector3d.zero();
+    return vectors;
+  }
+
+  private static MutVector3f[] fill(final MutVector3f[] vectors, final int from) {
+    for(int i = from; i < vectors.length; i++) vectors[i] = MutVector3f.zero();
+    return vectors;
+  }
+
+  private static MutVector3i[] fill(final MutVector3i[] vectors, final int from) {
+    for(int i = from; i < vectors.length; i++) vectors[i] = MutVector3i.zero();
+    return vectors;
+  }
+
+  private void check(final int generation) {
+    if(generation != this.generation) throw new IllegalStateException("vector used after its arena was reset");
+  }
+
+  // a debug vector belongs to the generation it was handed out in, and is never handed out again.
+  // every write goes through set, and every read from outside goes through the accessors; the rest read fields
+  private static final class Checked3d extends MutVector3d {
+    private final VectorArena arena;
+    private final int generation;
+
+    Checked3d(final VectorArena arena, final int generation) {
+      super(0d, 0d, 0d);
+      this.arena = arena;
+      this.generation = generation;
+    }
+
+    @Override
+    public double x() {
+      this.arena.check(this.generation);
+      return super.x();
+    }
+
+    @Override
+    public double y() {
+      this.arena.check(this.generation);
+      return super.y();
+    }
+
+    @Override
+    public double z() {
+      this.arena.check(this.generation);
+      return super.z();
+    }
+
+    @Override
+    public @NonNull MutVector3d set(final double x, final double y, final double z) {
+      this.arena.check(this.generation);
+      return super.set(x, y, z);
+    }
+
+    @Override
+    public double[] array() {
+      this.arena.check(this.generation);
+      return super.array();
+    }
+
+    @Override
+    public @NonNull MutVector3d copy() {
+      this.arena.check(this.generation);
+      return super.copy();
+    }
+
+    @Override
+    public @NonNull ImVector3d toImmutable() {
+      this.arena.check(this.generation);
+      return super.toImmutable();
+    }
+
+    @Override
+    public int hashCode() {
+      this.arena.check(this.generation);
+      return super.hashCode();
+    }
+  }
+
+  private static final class Checked3f extends MutVector3f {
+    private final VectorArena arena;
+    private final int generation;
+
+    Checked3f(final VectorArena arena, final int generation) {
+      super(0f, 0f, 0f);
+      this.arena = arena;
+      this.generation = generation;
+    }
+
+    @Override
+    public float x() {
+      this.arena.check(this.generation);
+      return super.x();
+    }
+
+    @Override
+    public float y() {
+      this.arena.check(this.generation);
+      return super.y();
+    }
+
+    @Override
+    public float z() {
+      this.arena.check(this.generation);
+      return super.z();
+    }
+
+    @Override
+    public @NonNull MutVector3f set(final float x, final float y, final float z) {
+      this.arena.check(this.generation);
+      return super.set(x, y, z);
+    }
+
+    @Override
+    public float[] array() {
+      this.arena.check(this.generation);
+      return super.array();
+    }
+
+    @Override
+    public @NonNull MutVector3f copy() {
+      this.arena.check(this.generation);
+      return super.copy();
+    }
+
+    @Override
+    public @NonNull ImVector3f toImmutable() {
+      this.arena.check(this.generation);
+      return super.toImmutable();
+    }
+
+    @Override
+    public int hashCode() {
+      this.arena.check(this.generation);
+      return super.hashCode();
+    }
+  }
+
+  private static final class Checked3i extends MutVector3i {
+    private final VectorArena arena;
+    private final int generation;
+
+    Checked3i(final VectorArena arena, final int generation) {
+      super(0, 0, 0);
+      this.arena = arena;
+      this.generation = generation;
+    }
+
+    @Override
+    public int x() {
+      this.arena.check(this.generation);
+      return super.x();
+    }
+
+    @Override
+    public int y() {
+      this.arena.check(this.generation);
+      return super.y();
+    }
+
+    @Override
+    public int z() {
+      this.arena.check(this.generation);
+      return super.z();
+    }
+
+    @Override
+    public @NonNull MutVector3i set(final int x, final int y, final int z) {
+      this.arena.check(this.generation);
+      return super.set(x, y, z);
+    }
+
+    @Override
+    public int[] array() {
+      this.arena.check(this.generation);
+      return super.array();
+    }
+
+    @Override
+    public @NonNull MutVector3i copy() {
+      this.arena.check(this.generation);
+      return super.copy();
+    }
+
+    @Override
+    public @NonNull ImVector3i toImmutable() {
+      this.arena.check(this.generation);
+      return super.toImmutable();
+    }
+
+    @Override
+    public int hashCode() {
+      this.arena.check(this.generation);
+      return super.hashCode();
+    }
+  }
+}
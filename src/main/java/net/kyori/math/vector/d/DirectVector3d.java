@@ -0,0 +1,189 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.d;
+
+import net.kyori.math.Mth;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A flyweight view of one vector in a {@link DirectVector3dBuffer}.
+ *
+ * <p>The view reads through to the buffer, so it observes later writes to it. It can be moved to
+ * another index with {@link #index(int)}. Operations on the view leave the buffer untouched and return
+ * immutable vectors.</p>
+ */
+public class DirectVector3d implements Vector3d {
+  private final DirectVector3dBuffer buffer;
+  private int index;
+
+  protected DirectVector3d(final DirectVector3dBuffer buffer, final int index) {
+    this.buffer = buffer;
+    this.index = index;
+  }
+
+  public int index() {
+    return this.index;
+  }
+
+  public @NonNull DirectVector3d index(final int index) {
+    if(index < 0 || index >= this.buffer.size()) throw new IndexOutOfBoundsException("index " + index + " out of bounds for size " + this.buffer.size());
+    this.index = index;
+    return this;
+  }
+
+  @Override
+  public double x() {
+    return this.buffer.x(this.index);
+  }
+
+  @Override
+  public @NonNull Vector3d x(final double x) {
+    return ImVector3d.of(x, this.y(), this.z());
+  }
+
+  @Override
+  public double y() {
+    return this.buffer.y(this.index);
+  }
+
+  @Override
+  public @NonNull Vector3d y(final double y) {
+    return ImVector3d.of(this.x(), y, this.z());
+  }
+
+  @Override
+  public double z() {
+    return this.buffer.z(this.index);
+  }
+
+  @Override
+  public @NonNull Vector3d z(final double z) {
+    return ImVector3d.of(this.x(), this.y(), z);
+  }
+
+  @Override
+  public @NonNull Vector3d add(final double x, final double y, final double z) {
+    return ImVector3d.of(this.x() + x, this.y() + y, this.z() + z);
+  }
+
+  @Override
+  public @NonNull Vector3d sub(final double x, final double y, final double z) {
+    return ImVector3d.of(this.x() - x, this.y() - y, this.z() - z);
+  }
+
+  @Override
+  public @NonNull Vector3d mul(final double x, final double y, final double z) {
+    return ImVector3d.of(this.x() * x, this.y() * y, this.z() * z);
+  }
+
+  @Override
+  public @NonNull Vector3d div(final double x, final double y, final double z) {
+    return ImVector3d.of(this.x() / x, this.y() / y, this.z() / z);
+  }
+
+  @Override
+  public @NonNull Vector3d abs() {
+    return ImVector3d.of(Math.abs(this.x()), Math.abs(this.y()), Math.abs(this.z()));
+  }
+
+  @Override
+  public @NonNull Vector3d ceil() {
+    return ImVector3d.of(Mth.ceil(this.x()), Mth.ceil(this.y()), Mth.ceil(this.z()));
+  }
+
+  @Override
+  public @NonNull Vector3d floor() {
+    return ImVector3d.of(Mth.floor(this.x()), Mth.floor(this.y()), Mth.floor(this.z()));
+  }
+
+  @Override
+  public @NonNull Vector3d negate() {
+    return ImVector3d.of(-this.x(), -this.y(), -this.z());
+  }
+
+  @Override
+  public @NonNull Vector3d normalize() {
+    final double length = this.length();
+    return ImVector3d.of(this.x() / length, this.y() / length, this.z() / length);
+  }
+
+  @Override
+  public @NonNull Vector3d pow(final double power) {
+    return ImVector3d.of(Math.pow(this.x(), power), Math.pow(this.y(), power), Math.pow(this.z(), power));
+  }
+
+  @Override
+  public @NonNull Vector3d round() {
+    return ImVector3d.of(Math.round(this.x()), Math.round(this.y()), Math.round(this.z()));
+  }
+
+  @Override
+  public double[] array() {
+    return new double[]{
+      this.x(),
+      this.y(),
+      this.z()
+    };
+  }
+
+  @Override
+  public @NonNull Vector3d map(final @NonNull DoubleUnaryOperator operator) {
+    return ImVector3d.of(operator.applyAsDouble(this.x()), operator.applyAsDouble(this.y()), operator.applyAsDouble(this.z()));
+  }
+
+  @Override
+  public @NonNull Vector3d map(final @NonNull Vector3d that, final @NonNull DoubleBinaryOperator operator) {
+    return ImVector3d.of(operator.applyAsDouble(this.x(), that.x()), operator.applyAsDouble(this.y(), that.y()), operator.applyAsDouble(this.z(), that.z()));
+  }
+
+  @Override
+  public @NonNull Vector3d map(final @NonNull DoubleUnaryOperator x, final @NonNull DoubleUnaryOperator y, final @NonNull DoubleUnaryOperator z) {
+    return ImVector3d.of(x.applyAsDouble(this.x()), y.applyAsDouble(this.y()), z.applyAsDouble(this.z()));
+  }
+
+  // a copy is detached from the buffer
+  @Override
+  public @NonNull ImVector3d copy() {
+    return this.buffer.get(this.index);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.x(), this.y(), this.z());
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    return this == other || (other instanceof Vector3d && this.equals((Vector3d) other));
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{index=%d, x=%f, y=%f, z=%f}", this.getClass().getSimpleName(), this.index, this.x(), this.y(), this.z());
+  }
+}
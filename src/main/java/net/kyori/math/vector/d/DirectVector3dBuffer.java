@@ -0,0 +1,140 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.d;
+
+import net.kyori.math.memory.Memory;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+public class DirectVector3dBuffer {
+  static final int BYTES = 3 * Double.BYTES;
+  private final Memory memory;
+  private final int size;
+
+  public static @NonNull DirectVector3dBuffer create(final int size) {
+    if(size < 0) throw new IllegalArgumentException("negative size: " + size);
+    return new DirectVector3dBuffer(Memory.allocate((long) size * BYTES), size);
+  }
+
+  public static @NonNull DirectVector3dBuffer wrap(final @NonNull Memory memory) {
+    return new DirectVector3dBuffer(memory, (int) Math.min(Integer.MAX_VALUE, memory.byteSize() / BYTES));
+  }
+
+  // a buffer over the leading vectors of the memory, for memory that holds more than it is filled with
+  public static @NonNull DirectVector3dBuffer wrap(final @NonNull Memory memory, final int size) {
+    if(size < 0 || (long) size * BYTES > memory.byteSize()) {
+      throw new IllegalArgumentException("cannot fit " + size + " vectors in " + memory.byteSize() + " bytes");
+    }
+    return new DirectVector3dBuffer(memory, size);
+  }
+
+  protected DirectVector3dBuffer(final Memory memory, final int size) {
+    this.memory = memory;
+    this.size = size;
+  }
+
+  public @NonNull Memory memory() {
+    return this.memory;
+  }
+
+  public int size() {
+    return this.size;
+  }
+
+  public double x(final int index) {
+    return this.memory.getDouble(this.offset(index));
+  }
+
+  public double y(final int index) {
+    return this.memory.getDouble(this.offset(index) + Double.BYTES);
+  }
+
+  public double z(final int index) {
+    return this.memory.getDouble(this.offset(index) + 2 * Double.BYTES);
+  }
+
+  public @NonNull ImVector3d get(final int index) {
+    final long offset = this.offset(index);
+    return ImVector3d.of(this.memory.getDouble(offset), this.memory.getDouble(offset + Double.BYTES), this.memory.getDouble(offset + 2 * Double.BYTES));
+  }
+
+  public @NonNull MutVector3d get(final int index, final @NonNull MutVector3d dst) {
+    final long offset = this.offset(index);
+    return dst.set(this.memory.getDouble(offset), this.memory.getDouble(offset + Double.BYTES), this.memory.getDouble(offset + 2 * Double.BYTES));
+  }
+
+  public @NonNull DirectVector3d view(final int index) {
+    this.offset(index);
+    return new DirectVector3d(this, index);
+  }
+
+  public @NonNull DirectVector3dBuffer set(final int index, final double x, final double y, final double z) {
+    final long offset = this.offset(index);
+    this.memory.putDouble(offset, x);
+    this.memory.putDouble(offset + Double.BYTES, y);
+    this.memory.putDouble(offset + 2 * Double.BYTES, z);
+    return this;
+  }
+
+  public @NonNull DirectVector3dBuffer set(final int index, final @NonNull Vector3d vector) {
+    return this.set(index, vector.x(), vector.y(), vector.z());
+  }
+
+  public @NonNull DirectVector3dBuffer load(final int from, final int to, final @NonNull Vector3dBuffer src) {
+    this.checkRange(from, to);
+    src.checkRange(from, to);
+    final double[] xs = src.xs();
+    final double[] ys = src.ys();
+    final double[] zs = src.zs();
+    for(int i = from; i < to; i++) {
+      this.set(i, xs[i], ys[i], zs[i]);
+    }
+    return this;
+  }
+
+  public @NonNull Vector3dBuffer store(final int from, final int to, final @NonNull Vector3dBuffer dst) {
+    this.checkRange(from, to);
+    dst.checkRange(from, to);
+    final double[] xs = dst.xs();
+    final double[] ys = dst.ys();
+    final double[] zs = dst.zs();
+    for(int i = from; i < to; i++) {
+      final long offset = (long) i * BYTES;
+      xs[i] = this.memory.getDouble(offset);
+      ys[i] = this.memory.getDouble(offset + Double.BYTES);
+      zs[i] = this.memory.getDouble(offset + 2 * Double.BYTES);
+    }
+    return dst;
+  }
+
+  private long offset(final int index) {
+    if(index < 0 || index >= this.size) throw new IndexOutOfBoundsException("index " + index + " out of bounds for size " + this.size);
+    return (long) index * BYTES;
+  }
+
+  private void checkRange(final int from, final int to) {
+    if(from < 0 || from > to || to > this.size) {
+      throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for size " + this.size);
+    }
+  }
+}
@@ -50,6 +50,22 @@ public class ImVector3d implements Vector3d {
     return new ImVector3d(x, y, z);
   }
 
+  /**
+   * Creates the unit vector facing along a yaw and pitch, in radians, using the lookup tables of
+   * {@link Mth#fastSin(double)}.
+   *
+   * <p>A yaw and pitch of zero face along positive z. Yaw turns counter-clockwise around the y axis, and
+   * positive pitch faces down, as {@code Quaterniond.yawPitchRoll} rotates.</p>
+   *
+   * @param yaw the yaw
+   * @param pitch the pitch
+   * @return the direction
+   */
+  public static @NonNull ImVector3d direction(final double yaw, final double pitch) {
+    final double horizontal = Mth.fastCos(pitch);
+    return of(Mth.fastSin(yaw) * horizontal, -Mth.fastSin(pitch), Mth.fastCos(yaw) * horizontal);
+  }
+
   protected ImVector3d(final double x, final double y, final double z) {
     this.x = x;
     this.y = y;
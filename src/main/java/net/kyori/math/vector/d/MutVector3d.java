@@ -0,0 +1,270 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.d;
+
+import net.kyori.math.Mth;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+public class MutVector3d implements Vector3d {
+  private double x;
+  private double y;
+  private double z;
+
+  public static @NonNull MutVector3d zero() {
+    return new MutVector3d(0d, 0d, 0d);
+  }
+
+  public static @NonNull MutVector3d of(final double n) {
+    return new MutVector3d(n, n, n);
+  }
+
+  public static @NonNull MutVector3d of(final double x, final double y, final double z) {
+    return new MutVector3d(x, y, z);
+  }
+
+  public static @NonNull MutVector3d from(final @NonNull Vector3d that) {
+    return new MutVector3d(that.x(), that.y(), that.z());
+  }
+
+  protected MutVector3d(final double x, final double y, final double z) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+  }
+
+  @Override
+  public double x() {
+    return this.x;
+  }
+
+  @Override
+  public @NonNull MutVector3d x(final double x) {
+    return this.set(x, this.y, this.z);
+  }
+
+  @Override
+  public double y() {
+    return this.y;
+  }
+
+  @Override
+  public @NonNull MutVector3d y(final double y) {
+    return this.set(this.x, y, this.z);
+  }
+
+  @Override
+  public double z() {
+    return this.z;
+  }
+
+  @Override
+  public @NonNull MutVector3d z(final double z) {
+    return this.set(this.x, this.y, z);
+  }
+
+  public @NonNull MutVector3d set(final double n) {
+    return this.set(n, n, n);
+  }
+
+  /**
+   * Sets this vector to the unit vector facing along a yaw and pitch, as {@link ImVector3d#direction(double, double)}.
+   *
+   * @param yaw the yaw
+   * @param pitch the pitch
+   * @return this vector
+   */
+  public @NonNull MutVector3d setDirection(final double yaw, final double pitch) {
+    final double horizontal = Mth.fastCos(pitch);
+    return this.set(Mth.fastSin(yaw) * horizontal, -Mth.fastSin(pitch), Mth.fastCos(yaw) * horizontal);
+  }
+
+  public @NonNull MutVector3d set(final double x, final double y, final double z) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+    return this;
+  }
+
+  public @NonNull MutVector3d setFrom(final @NonNull Vector3d that) {
+    return this.set(that.x(), that.y(), that.z());
+  }
+
+  @Override
+  public @NonNull MutVector3d add(final double x, final double y, final double z) {
+    return this.set(this.x + x, this.y + y, this.z + z);
+  }
+
+  @Override
+  public @NonNull MutVector3d add(final Vector3d that) {
+    return this.add(that.x(), that.y(), that.z());
+  }
+
+  @Override
+  public @NonNull MutVector3d add(final double n) {
+    return this.add(n, n, n);
+  }
+
+  @Override
+  public @NonNull MutVector3d sub(final double x, final double y, final double z) {
+    return this.set(this.x - x, this.y - y, this.z - z);
+  }
+
+  @Override
+  public @NonNull MutVector3d sub(final Vector3d that) {
+    return this.sub(that.x(), that.y(), that.z());
+  }
+
+  @Override
+  public @NonNull MutVector3d sub(final double n) {
+    return this.sub(n, n, n);
+  }
+
+  @Override
+  public @NonNull MutVector3d mul(final double x, final double y, final double z) {
+    return this.set(this.x * x, this.y * y, this.z * z);
+  }
+
+  @Override
+  public @NonNull MutVector3d mul(final Vector3d that) {
+    return this.mul(that.x(), that.y(), that.z());
+  }
+
+  @Override
+  public @NonNull MutVector3d mul(final double n) {
+    return this.mul(n, n, n);
+  }
+
+  @Override
+  public @NonNull MutVector3d div(final double x, final double y, final double z) {
+    return this.set(this.x / x, this.y / y, this.z / z);
+  }
+
+  @Override
+  public @NonNull MutVector3d div(final Vector3d that) {
+    return this.div(that.x(), that.y(), that.z());
+  }
+
+  @Override
+  public @NonNull MutVector3d div(final double n) {
+    return this.div(n, n, n);
+  }
+
+  @Override
+  public @NonNull MutVector3d abs() {
+    return this.set(Math.abs(this.x), Math.abs(this.y), Math.abs(this.z));
+  }
+
+  @Override
+  public @NonNull MutVector3d ceil() {
+    return this.set(Mth.ceil(this.x), Mth.ceil(this.y), Mth.ceil(this.z));
+  }
+
+  @Override
+  public @NonNull MutVector3d floor() {
+    return this.set(Mth.floor(this.x), Mth.floor(this.y), Mth.floor(this.z));
+  }
+
+  @Override
+  public @NonNull MutVector3d negate() {
+    return this.set(-this.x, -this.y, -this.z);
+  }
+
+  @Override
+  public @NonNull MutVector3d normalize() {
+    final double length = this.length();
+    return this.set(this.x / length, this.y / length, this.z / length);
+  }
+
+  @Override
+  public @NonNull MutVector3d pow(final double power) {
+    return this.set(Math.pow(this.x, power), Math.pow(this.y, power), Math.pow(this.z, power));
+  }
+
+  @Override
+  public @NonNull MutVector3d round() {
+    return this.set(Math.round(this.x), Math.round(this.y), Math.round(this.z));
+  }
+
+  @Override
+  public @NonNull MutVector3d minimum(final @NonNull Vector3d that) {
+    return this.set(Math.min(this.x, that.x()), Math.min(this.y, that.y()), Math.min(this.z, that.z()));
+  }
+
+  @Override
+  public @NonNull MutVector3d maximum(final @NonNull Vector3d that) {
+    return this.set(Math.max(this.x, that.x()), Math.max(this.y, that.y()), Math.max(this.z, that.z()));
+  }
+
+  @Override
+  public double[] array() {
+    return new double[]{
+      this.x,
+      this.y,
+      this.z
+    };
+  }
+
+  @Override
+  public @NonNull MutVector3d map(final @NonNull DoubleUnaryOperator operator) {
+    return this.set(operator.applyAsDouble(this.x), operator.applyAsDouble(this.y), operator.applyAsDouble(this.z));
+  }
+
+  @Override
+  public @NonNull MutVector3d map(final @NonNull Vector3d that, final @NonNull DoubleBinaryOperator operator) {
+    return this.set(operator.applyAsDouble(this.x, that.x()), operator.applyAsDouble(this.y, that.y()), operator.applyAsDouble(this.z, that.z()));
+  }
+
+  @Override
+  public @NonNull MutVector3d map(final @NonNull DoubleUnaryOperator x, final @NonNull DoubleUnaryOperator y, final @NonNull DoubleUnaryOperator z) {
+    return this.set(x.applyAsDouble(this.x), y.applyAsDouble(this.y), z.applyAsDouble(this.z));
+  }
+
+  @Override
+  public @NonNull MutVector3d copy() {
+    return new MutVector3d(this.x, this.y, this.z);
+  }
+
+  public @NonNull ImVector3d toImmutable() {
+    return ImVector3d.of(this.x, this.y, this.z);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.x, this.y, this.z);
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    return this == other || (other instanceof Vector3d && this.equals((Vector3d) other));
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{x=%f, y=%f, z=%f}", this.getClass().getSimpleName(), this.x, this.y, this.z);
+  }
+}
@@ -23,6 +23,7 @@
  */
 package net.kyori.math.vector.d;
 
+import net.kyori.math.Mth;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -122,6 +123,157 @@ public interface Vector3d extends Vectord {
     return x * x + y * y + z * z;
   }
 
+  /**
+   * Gets the yaw this vector faces along, the inverse of {@link ImVector3d#direction(double, double)}, from
+   * {@link Mth#fastAtan2(double, double)}.
+   *
+   * @return the yaw, in radians
+   */
+  default double yaw() {
+    return Mth.fastAtan2(this.x(), this.z());
+  }
+
+  /**
+   * Gets the pitch this vector faces along, the inverse of {@link ImVector3d#direction(double, double)}, from
+   * {@link Mth#fastAtan2(double, double)}.
+   *
+   * @return the pitch, in radians
+   */
+  default double pitch() {
+    final double x = this.x();
+    final double z = this.z();
+    return Mth.fastAtan2(-this.y(), Math.sqrt(x * x + z * z));
+  }
+
+  default double dot(final double x, final double y, final double z) {
+    return this.x() * x + this.y() * y + this.z() * z;
+  }
+
+  default double dot(final @NonNull Vector3d that) {
+    return this.dot(that.x(), that.y(), that.z());
+  }
+
+  default double distanceSquared(final double x, final double y, final double z) {
+    final double dx = this.x() - x;
+    final double dy = this.y() - y;
+    final double dz = this.z() - z;
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  default double distanceSquared(final @NonNull Vector3d that) {
+    return this.distanceSquared(that.x(), that.y(), that.z());
+  }
+
+  default double distance(final double x, final double y, final double z) {
+    return Math.sqrt(this.distanceSquared(x, y, z));
+  }
+
+  default double distance(final @NonNull Vector3d that) {
+    return this.distance(that.x(), that.y(), that.z());
+  }
+
+  /**
+   * Gets the angle between this vector and {@code that}, from the arctangent of their cross and dot products,
+   * which stays accurate for nearly parallel vectors.
+   *
+   * @param that the other vector
+   * @return the angle, in radians in {@code [0, π]}
+   */
+  default double angle(final @NonNull Vector3d that) {
+    final double ax = this.x();
+    final double ay = this.y();
+    final double az = this.z();
+    final double bx = that.x();
+    final double by = that.y();
+    final double bz = that.z();
+    final double cx = ay * bz - az * by;
+    final double cy = az * bx - ax * bz;
+    final double cz = ax * by - ay * bx;
+    return Math.atan2(Math.sqrt(cx * cx + cy * cy + cz * cz), ax * bx + ay * by + az * bz);
+  }
+
+  // every operation writing into a destination reads both operands first, so dst may be either of them
+  default @NonNull MutVector3d cross(final @NonNull Vector3d that, final @NonNull MutVector3d dst) {
+    final double ax = this.x();
+    final double ay = this.y();
+    final double az = this.z();
+    final double bx = that.x();
+    final double by = that.y();
+    final double bz = that.z();
+    return dst.set(ay * bz - az * by, az * bx - ax * bz, ax * by - ay * bx);
+  }
+
+  default double[] cross(final @NonNull Vector3d that, final double[] dst, final int offset) {
+    final double ax = this.x();
+    final double ay = this.y();
+    final double az = this.z();
+    final double bx = that.x();
+    final double by = that.y();
+    final double bz = that.z();
+    dst[offset] = ay * bz - az * by;
+    dst[offset + 1] = az * bx - ax * bz;
+    dst[offset + 2] = ax * by - ay * bx;
+    return dst;
+  }
+
+  // t = 0 gives this vector and t = 1 gives that
+  default @NonNull MutVector3d lerp(final @NonNull Vector3d that, final double t, final @NonNull MutVector3d dst) {
+    final double x = this.x();
+    final double y = this.y();
+    final double z = this.z();
+    return dst.set(x + (that.x() - x) * t, y + (that.y() - y) * t, z + (that.z() - z) * t);
+  }
+
+  default double[] lerp(final @NonNull Vector3d that, final double t, final double[] dst, final int offset) {
+    final double x = this.x();
+    final double y = this.y();
+    final double z = this.z();
+    dst[offset] = x + (that.x() - x) * t;
+    dst[offset + 1] = y + (that.y() - y) * t;
+    dst[offset + 2] = z + (that.z() - z) * t;
+    return dst;
+  }
+
+  // reflects off the plane through the origin with the unit normal given
+  default @NonNull MutVector3d reflect(final @NonNull Vector3d normal, final @NonNull MutVector3d dst) {
+    final double nx = normal.x();
+    final double ny = normal.y();
+    final double nz = normal.z();
+    final double d = 2d * this.dot(nx, ny, nz);
+    return dst.set(this.x() - d * nx, this.y() - d * ny, this.z() - d * nz);
+  }
+
+  default double[] reflect(final @NonNull Vector3d normal, final double[] dst, final int offset) {
+    final double nx = normal.x();
+    final double ny = normal.y();
+    final double nz = normal.z();
+    final double d = 2d * this.dot(nx, ny, nz);
+    dst[offset] = this.x() - d * nx;
+    dst[offset + 1] = this.y() - d * ny;
+    dst[offset + 2] = this.z() - d * nz;
+    return dst;
+  }
+
+  // the component of this vector along onto, which must not be zero
+  default @NonNull MutVector3d project(final @NonNull Vector3d onto, final @NonNull MutVector3d dst) {
+    final double ox = onto.x();
+    final double oy = onto.y();
+    final double oz = onto.z();
+    final double scale = this.dot(ox, oy, oz) / (ox * ox + oy * oy + oz * oz);
+    return dst.set(ox * scale, oy * scale, oz * scale);
+  }
+
+  default double[] project(final @NonNull Vector3d onto, final double[] dst, final int offset) {
+    final double ox = onto.x();
+    final double oy = onto.y();
+    final double oz = onto.z();
+    final double scale = this.dot(ox, oy, oz) / (ox * ox + oy * oy + oz * oz);
+    dst[offset] = ox * scale;
+    dst[offset + 1] = oy * scale;
+    dst[offset + 2] = oz * scale;
+    return dst;
+  }
+
   default @NonNull Vector3d minimum(final @NonNull Vector3d that) {
     return this.map(that, Math::min);
   }
@@ -0,0 +1,240 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.d;
+
+import net.kyori.math.vector.i.Vector3iBuffer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+public class Vector3dBuffer {
+  private static final DoubleKernels KERNELS = DoubleKernelProvider.kernels();
+  private final double[] x;
+  private final double[] y;
+  private final double[] z;
+
+  public static @NonNull Vector3dBuffer create(final int size) {
+    return new Vector3dBuffer(new double[size], new double[size], new double[size]);
+  }
+
+  public static @NonNull Vector3dBuffer wrap(final double[] x, final double[] y, final double[] z) {
+    if(x.length != y.length || x.length != z.length) {
+      throw new IllegalArgumentException("component arrays differ in length: " + x.length + ", " + y.length + ", " + z.length);
+    }
+    return new Vector3dBuffer(x, y, z);
+  }
+
+  protected Vector3dBuffer(final double[] x, final double[] y, final double[] z) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+  }
+
+  public int size() {
+    return this.x.length;
+  }
+
+  public double x(final int index) {
+    return this.x[index];
+  }
+
+  public double y(final int index) {
+    return this.y[index];
+  }
+
+  public double z(final int index) {
+    return this.z[index];
+  }
+
+  public double[] xs() {
+    return this.x;
+  }
+
+  public double[] ys() {
+    return this.y;
+  }
+
+  public double[] zs() {
+    return this.z;
+  }
+
+  public @NonNull ImVector3d get(final int index) {
+    return ImVector3d.of(this.x[index], this.y[index], this.z[index]);
+  }
+
+  public @NonNull MutVector3d get(final int index, final @NonNull MutVector3d dst) {
+    return dst.set(this.x[index], this.y[index], this.z[index]);
+  }
+
+  public @NonNull Vector3dBuffer set(final int index, final double x, final double y, final double z) {
+    this.x[index] = x;
+    this.y[index] = y;
+    this.z[index] = z;
+    return this;
+  }
+
+  public @NonNull Vector3dBuffer set(final int index, final @NonNull Vector3d vector) {
+    return this.set(index, vector.x(), vector.y(), vector.z());
+  }
+
+  public @NonNull Vector3dBuffer add(final int from, final int to, final double x, final double y, final double z) {
+    this.checkRange(from, to);
+    KERNELS.add(this.x, from, to, x);
+    KERNELS.add(this.y, from, to, y);
+    KERNELS.add(this.z, from, to, z);
+    return this;
+  }
+
+  public @NonNull Vector3dBuffer add(final int from, final int to, final @NonNull Vector3dBuffer that) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    KERNELS.add(this.x, that.x, from, to);
+    KERNELS.add(this.y, that.y, from, to);
+    KERNELS.add(this.z, that.z, from, to);
+    return this;
+  }
+
+  public @NonNull Vector3dBuffer sub(final int from, final int to, final double x, final double y, final double z) {
+    return this.add(from, to, -x, -y, -z);
+  }
+
+  public @NonNull Vector3dBuffer sub(final int from, final int to, final @NonNull Vector3dBuffer that) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    KERNELS.sub(this.x, that.x, from, to);
+    KERNELS.sub(this.y, that.y, from, to);
+    KERNELS.sub(this.z, that.z, from, to);
+    return this;
+  }
+
+  public @NonNull Vector3dBuffer mul(final int from, final int to, final double n) {
+    return this.mul(from, to, n, n, n);
+  }
+
+  public @NonNull Vector3dBuffer mul(final int from, final int to, final double x, final double y, final double z) {
+    this.checkRange(from, to);
+    KERNELS.mul(this.x, from, to, x);
+    KERNELS.mul(this.y, from, to, y);
+    KERNELS.mul(this.z, from, to, z);
+    return this;
+  }
+
+  public @NonNull Vector3dBuffer mul(final int from, final int to, final @NonNull Vector3dBuffer that) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    KERNELS.mul(this.x, that.x, from, to);
+    KERNELS.mul(this.y, that.y, from, to);
+    KERNELS.mul(this.z, that.z, from, to);
+    return this;
+  }
+
+  public @NonNull Vector3dBuffer normalize(final int from, final int to) {
+    this.checkRange(from, to);
+    KERNELS.normalize(this.x, this.y, this.z, from, to);
+    return this;
+  }
+
+  public double[] lengthSquared(final int from, final int to, final double[] dst) {
+    this.checkRange(from, to);
+    checkRange(from, to, dst.length);
+    KERNELS.lengthSquared(this.x, this.y, this.z, from, to, dst);
+    return dst;
+  }
+
+  public double[] dot(final int from, final int to, final @NonNull Vector3dBuffer that, final double[] dst) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    checkRange(from, to, dst.length);
+    KERNELS.dot(this.x, this.y, this.z, that.x, that.y, that.z, from, to, dst);
+    return dst;
+  }
+
+  public @NonNull Vector3dBuffer floor(final int from, final int to) {
+    this.checkRange(from, to);
+    KERNELS.floor(this.x, from, to);
+    KERNELS.floor(this.y, from, to);
+    KERNELS.floor(this.z, from, to);
+    return this;
+  }
+
+  public @NonNull Vector3iBuffer floor(final int from, final int to, final @NonNull Vector3iBuffer dst) {
+    this.checkRange(from, to);
+    checkRange(from, to, dst.size());
+    KERNELS.floor(this.x, dst.xs(), from, to);
+    KERNELS.floor(this.y, dst.ys(), from, to);
+    KERNELS.floor(this.z, dst.zs(), from, to);
+    return dst;
+  }
+
+  public @NonNull Vector3dBuffer ceil(final int from, final int to) {
+    this.checkRange(from, to);
+    KERNELS.ceil(this.x, from, to);
+    KERNELS.ceil(this.y, from, to);
+    KERNELS.ceil(this.z, from, to);
+    return this;
+  }
+
+  public @NonNull Vector3iBuffer ceil(final int from, final int to, final @NonNull Vector3iBuffer dst) {
+    this.checkRange(from, to);
+    checkRange(from, to, dst.size());
+    KERNELS.ceil(this.x, dst.xs(), from, to);
+    KERNELS.ceil(this.y, dst.ys(), from, to);
+    KERNELS.ceil(this.z, dst.zs(), from, to);
+    return dst;
+  }
+
+  public @NonNull Vector3dBuffer minimum(final int from, final int to, final @NonNull Vector3dBuffer that) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    KERNELS.min(this.x, that.x, from, to);
+    KERNELS.min(this.y, that.y, from, to);
+    KERNELS.min(this.z, that.z, from, to);
+    return this;
+  }
+
+  public @NonNull Vector3dBuffer maximum(final int from, final int to, final @NonNull Vector3dBuffer that) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    KERNELS.max(this.x, that.x, from, to);
+    KERNELS.max(this.y, that.y, from, to);
+    KERNELS.max(this.z, that.z, from, to);
+    return this;
+  }
+
+  public @NonNull Vector3dBuffer clamp(final int from, final int to, final double min, final double max) {
+    this.checkRange(from, to);
+    KERNELS.clamp(this.x, from, to, min, max);
+    KERNELS.clamp(this.y, from, to, min, max);
+    KERNELS.clamp(this.z, from, to, min, max);
+    return this;
+  }
+
+  void checkRange(final int from, final int to) {
+    checkRange(from, to, this.x.length);
+  }
+
+  static void checkRange(final int from, final int to, final int size) {
+    if(from < 0 || from > to || to > size) {
+      throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for size " + size);
+    }
+  }
+}
@@ -0,0 +1,375 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.d;
+
+import net.kyori.math.Mth;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * A chain of vector operations, recorded once and then applied to any number of vectors in one pass each.
+ *
+ * <p>Where {@code a.sub(b).mul(s).add(c).normalize()} on immutable vectors creates a vector at every step,
+ * {@code Vector3dExpression.create().sub(b).mul(s).add(c).normalize()} records the steps, and applying it to
+ * {@code a} carries the components through all of them in locals, with no vector in between. Vector operands are
+ * read when the expression is applied, not when it is recorded.</p>
+ *
+ * <p>Recording mutates and returns the expression. An expression is not safe to record from multiple threads,
+ * but once recorded it may be applied from any number of them.</p>
+ *
+ * <p>The JIT compiler often removes the intermediate vectors of a short eager chain by itself, where every call
+ * in it inlines. An expression pays off where that fails, as over vectors of mixed implementations, and most
+ * over arrays, which it evaluates a block of vectors at a time, one step over the whole block.</p>
+ */
+public final class Vector3dExpression {
+  private static final byte ADD = 0;
+  private static final byte SUB = 1;
+  private static final byte MUL = 2;
+  private static final byte DIV = 3;
+  private static final byte MINIMUM = 4;
+  private static final byte MAXIMUM = 5;
+  private static final byte CROSS = 6;
+  private static final byte ABS = 7;
+  private static final byte CEIL = 8;
+  private static final byte FLOOR = 9;
+  private static final byte NEGATE = 10;
+  private static final byte NORMALIZE = 11;
+  private static final byte ROUND = 12;
+  private static final int BLOCK = 256;
+  // each step has a vector operand, or three constant components
+  private byte[] operations = new byte[8];
+  private Vector3d[] operands = new Vector3d[8];
+  private double[] constants = new double[3 * 8];
+  private int size;
+
+  /**
+   * Creates an empty expression, to be {@linkplain #apply(Vector3d) applied} to inputs once recorded.
+   *
+   * @return the expression
+   */
+  public static @NonNull Vector3dExpression create() {
+    return new Vector3dExpression();
+  }
+
+  private Vector3dExpression() {
+  }
+
+  public @NonNull Vector3dExpression add(final double x, final double y, final double z) {
+    return this.record(ADD, x, y, z);
+  }
+
+  public @NonNull Vector3dExpression add(final @NonNull Vector3d that) {
+    return this.record(ADD, that);
+  }
+
+  public @NonNull Vector3dExpression add(final double n) {
+    return this.record(ADD, n, n, n);
+  }
+
+  public @NonNull Vector3dExpression sub(final double x, final double y, final double z) {
+    return this.record(SUB, x, y, z);
+  }
+
+  public @NonNull Vector3dExpression sub(final @NonNull Vector3d that) {
+    return this.record(SUB, that);
+  }
+
+  public @NonNull Vector3dExpression sub(final double n) {
+    return this.record(SUB, n, n, n);
+  }
+
+  public @NonNull Vector3dExpression mul(final double x, final double y, final double z) {
+    return this.record(MUL, x, y, z);
+  }
+
+  public @NonNull Vector3dExpression mul(final @NonNull Vector3d that) {
+    return this.record(MUL, that);
+  }
+
+  public @NonNull Vector3dExpression mul(final double n) {
+    return this.record(MUL, n, n, n);
+  }
+
+  public @NonNull Vector3dExpression div(final double x, final double y, final double z) {
+    return this.record(DIV, x, y, z);
+  }
+
+  public @NonNull Vector3dExpression div(final @NonNull Vector3d that) {
+    return this.record(DIV, that);
+  }
+
+  public @NonNull Vector3dExpression div(final double n) {
+    return this.record(DIV, n, n, n);
+  }
+
+  public @NonNull Vector3dExpression minimum(final @NonNull Vector3d that) {
+    return this.record(MINIMUM, that);
+  }
+
+  public @NonNull Vector3dExpression maximum(final @NonNull Vector3d that) {
+    return this.record(MAXIMUM, that);
+  }
+
+  public @NonNull Vector3dExpression cross(final @NonNull Vector3d that) {
+    return this.record(CROSS, that);
+  }
+
+  public @NonNull Vector3dExpression abs() {
+    return this.record(ABS, 0d, 0d, 0d);
+  }
+
+  public @NonNull Vector3dExpression ceil() {
+    return this.record(CEIL, 0d, 0d, 0d);
+  }
+
+  public @NonNull Vector3dExpression floor() {
+    return this.record(FLOOR, 0d, 0d, 0d);
+  }
+
+  public @NonNull Vector3dExpression negate() {
+    return this.record(NEGATE, 0d, 0d, 0d);
+  }
+
+  public @NonNull Vector3dExpression normalize() {
+    return this.record(NORMALIZE, 0d, 0d, 0d);
+  }
+
+  public @NonNull Vector3dExpression round() {
+    return this.record(ROUND, 0d, 0d, 0d);
+  }
+
+  public @NonNull ImVector3d apply(final @NonNull Vector3d input) {
+    return (ImVector3d) this.evaluate(input.x(), input.y(), input.z(), null);
+  }
+
+  public @NonNull MutVector3d apply(final @NonNull Vector3d input, final @NonNull MutVector3d dst) {
+    // the input and dst may be the same vector, so the input is read out before the loop writes anything
+    return (MutVector3d) this.evaluate(input.x(), input.y(), input.z(), dst);
+  }
+
+  /**
+   * Applies the expression to interleaved vectors, from {@code src} into {@code dst}.
+   *
+   * @param src the interleaved input vectors
+   * @param srcOffset the index of the first component to read
+   * @param dst the array to write interleaved results into, which may be {@code src} at the same offset
+   * @param dstOffset the index of the first component to write
+   * @param count the number of vectors
+   * @return {@code dst}
+   */
+  public double[] apply(final double[] src, final int srcOffset, final double[] dst, final int dstOffset, final int count) {
+    if(count < 0 || srcOffset < 0 || dstOffset < 0 || srcOffset > src.length - 3L * count || dstOffset > dst.length - 3L * count) {
+      throw new IndexOutOfBoundsException("cannot apply to " + count + " vectors from offset " + srcOffset + " of " + src.length + " into offset " + dstOffset + " of " + dst.length);
+    }
+    // a block at a time, copied into dst and then put through each step in turn, so a step is one tight loop
+    // over the block rather than a dispatch per vector, and the block stays in cache between steps
+    for(int block = 0; block < count; block += BLOCK) {
+      final int length = 3 * Math.min(BLOCK, count - block);
+      final int from = dstOffset + 3 * block;
+      System.arraycopy(src, srcOffset + 3 * block, dst, from, length);
+      for(int i = 0; i < this.size; i++) {
+        this.evaluate(i, dst, from, from + length);
+      }
+    }
+    return dst;
+  }
+
+  // the result goes into dst, or into a new immutable vector without one
+  private Vector3d evaluate(final double sx, final double sy, final double sz, final @Nullable MutVector3d dst) {
+    double x = sx;
+    double y = sy;
+    double z = sz;
+    for(int i = 0; i < this.size; i++) {
+      final Vector3d operand = this.operands[i];
+      final double ox;
+      final double oy;
+      final double oz;
+      if(operand != null) {
+        ox = operand.x();
+        oy = operand.y();
+        oz = operand.z();
+      } else {
+        ox = this.constants[3 * i];
+        oy = this.constants[3 * i + 1];
+        oz = this.constants[3 * i + 2];
+      }
+      switch(this.operations[i]) {
+        case ADD: x += ox; y += oy; z += oz; break;
+        case SUB: x -= ox; y -= oy; z -= oz; break;
+        case MUL: x *= ox; y *= oy; z *= oz; break;
+        case DIV: x /= ox; y /= oy; z /= oz; break;
+        case MINIMUM: x = Math.min(x, ox); y = Math.min(y, oy); z = Math.min(z, oz); break;
+        case MAXIMUM: x = Math.max(x, ox); y = Math.max(y, oy); z = Math.max(z, oz); break;
+        case CROSS: {
+          final double cx = y * oz - z * oy;
+          final double cy = z * ox - x * oz;
+          z = x * oy - y * ox;
+          x = cx;
+          y = cy;
+          break;
+        }
+        case ABS: x = Math.abs(x); y = Math.abs(y); z = Math.abs(z); break;
+        case CEIL: x = Mth.ceil(x); y = Mth.ceil(y); z = Mth.ceil(z); break;
+        case FLOOR: x = Mth.floor(x); y = Mth.floor(y); z = Mth.floor(z); break;
+        case NEGATE: x = -x; y = -y; z = -z; break;
+        case NORMALIZE: {
+          final double length = Math.sqrt(x * x + y * y + z * z);
+          x /= length;
+          y /= length;
+          z /= length;
+          break;
+        }
+        default: x = Math.round(x); y = Math.round(y); z = Math.round(z); break;
+      }
+    }
+    return dst != null ? dst.set(x, y, z) : ImVector3d.of(x, y, z);
+  }
+
+  private void evaluate(final int step, final double[] values, final int from, final int to) {
+    final Vector3d operand = this.operands[step];
+    final double ox;
+    final double oy;
+    final double oz;
+    if(operand != null) {
+      ox = operand.x();
+      oy = operand.y();
+      oz = operand.z();
+    } else {
+      ox = this.constants[3 * step];
+      oy = this.constants[3 * step + 1];
+      oz = this.constants[3 * step + 2];
+    }
+    switch(this.operations[step]) {
+      case ADD:
+        for(int i = from; i < to; i += 3) {
+          values[i] += ox;
+          values[i + 1] += oy;
+          values[i + 2] += oz;
+        }
+        break;
+      case SUB:
+        for(int i = from; i < to; i += 3) {
+          values[i] -= ox;
+          values[i + 1] -= oy;
+          values[i + 2] -= oz;
+        }
+        break;
+      case MUL:
+        for(int i = from; i < to; i += 3) {
+          values[i] *= ox;
+          values[i + 1] *= oy;
+          values[i + 2] *= oz;
+        }
+        break;
+      case DIV:
+        for(int i = from; i < to; i += 3) {
+          values[i] /= ox;
+          values[i + 1] /= oy;
+          values[i + 2] /= oz;
+        }
+        break;
+      case MINIMUM:
+        for(int i = from; i < to; i += 3) {
+          values[i] = Math.min(values[i], ox);
+          values[i + 1] = Math.min(values[i + 1], oy);
+          values[i + 2] = Math.min(values[i + 2], oz);
+        }
+        break;
+      case MAXIMUM:
+        for(int i = from; i < to; i += 3) {
+          values[i] = Math.max(values[i], ox);
+          values[i + 1] = Math.max(values[i + 1], oy);
+          values[i + 2] = Math.max(values[i + 2], oz);
+        }
+        break;
+      case CROSS:
+        for(int i = from; i < to; i += 3) {
+          final double x = values[i];
+          final double y = values[i + 1];
+          final double z = values[i + 2];
+          values[i] = y * oz - z * oy;
+          values[i + 1] = z * ox - x * oz;
+          values[i + 2] = x * oy - y * ox;
+        }
+        break;
+      case ABS:
+        for(int i = from; i < to; i++) values[i] = Math.abs(values[i]);
+        break;
+      case CEIL:
+        for(int i = from; i < to; i++) values[i] = Mth.ceil(values[i]);
+        break;
+      case FLOOR:
+        for(int i = from; i < to; i++) values[i] = Mth.floor(values[i]);
+        break;
+      case NEGATE:
+        for(int i = from; i < to; i++) values[i] = -values[i];
+        break;
+      case NORMALIZE:
+        for(int i = from; i < to; i += 3) {
+          final double x = values[i];
+          final double y = values[i + 1];
+          final double z = values[i + 2];
+          final double length = Math.sqrt(x * x + y * y + z * z);
+          values[i] = x / length;
+          values[i + 1] = y / length;
+          values[i + 2] = z / length;
+        }
+        break;
+      default:
+        for(int i = from; i < to; i++) values[i] = Math.round(values[i]);
+        break;
+    }
+  }
+
+  private @NonNull Vector3dExpression record(final byte operation, final double x, final double y, final double z) {
+    return this.record(operation, null, x, y, z);
+  }
+
+  private @NonNull Vector3dExpression record(final byte operation, final Vector3d operand) {
+    return this.record(operation, operand, 0d, 0d, 0d);
+  }
+
+  private @NonNull Vector3dExpression record(final byte operation, final @Nullable Vector3d operand, final double x, final double y, final double z) {
+    final int step = this.size;
+    if(step == this.operations.length) {
+      this.operations = Arrays.copyOf(this.operations, 2 * step);
+      this.operands = Arrays.copyOf(this.operands, 2 * step);
+      this.constants = Arrays.copyOf(this.constants, 6 * step);
+    }
+    this.operations[step] = operation;
+    this.operands[step] = operand;
+    this.constants[3 * step] = x;
+    this.constants[3 * step + 1] = y;
+    this.constants[3 * step + 2] = z;
+    this.size = step + 1;
+    return this;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{operations=%d}", this.getClass().getSimpleName(), this.size);
+  }
+}
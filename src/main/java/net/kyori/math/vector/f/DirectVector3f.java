@@ -0,0 +1,189 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.f;
+
+import net.kyori.math.Mth;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A flyweight view of one vector in a {@link DirectVector3fBuffer}.
+ *
+ * <p>The view reads through to the buffer, so it observes later writes to it. It can be moved to
+ * another index with {@link #index(int)}. Operations on the view leave the buffer untouched and return
+ * immutable vectors.</p>
+ */
+public class DirectVector3f implements Vector3f {
+  private final DirectVector3fBuffer buffer;
+  private int index;
+
+  protected DirectVector3f(final DirectVector3fBuffer buffer, final int index) {
+    this.buffer = buffer;
+    this.index = index;
+  }
+
+  public int index() {
+    return this.index;
+  }
+
+  public @NonNull DirectVector3f index(final int index) {
+    if(index < 0 || index >= this.buffer.size()) throw new IndexOutOfBoundsException("index " + index + " out of bounds for size " + this.buffer.size());
+    this.index = index;
+    return this;
+  }
+
+  @Override
+  public float x() {
+    return this.buffer.x(this.index);
+  }
+
+  @Override
+  public @NonNull Vector3f x(final float x) {
+    return ImVector3f.of(x, this.y(), this.z());
+  }
+
+  @Override
+  public float y() {
+    return this.buffer.y(this.index);
+  }
+
+  @Override
+  public @NonNull Vector3f y(final float y) {
+    return ImVector3f.of(this.x(), y, this.z());
+  }
+
+  @Override
+  public float z() {
+    return this.buffer.z(this.index);
+  }
+
+  @Override
+  public @NonNull Vector3f z(final float z) {
+    return ImVector3f.of(this.x(), this.y(), z);
+  }
+
+  @Override
+  public @NonNull Vector3f add(final float x, final float y, final float z) {
+    return ImVector3f.of(this.x() + x, this.y() + y, this.z() + z);
+  }
+
+  @Override
+  public @NonNull Vector3f sub(final float x, final float y, final float z) {
+    return ImVector3f.of(this.x() - x, this.y() - y, this.z() - z);
+  }
+
+  @Override
+  public @NonNull Vector3f mul(final float x, final float y, final float z) {
+    return ImVector3f.of(this.x() * x, this.y() * y, this.z() * z);
+  }
+
+  @Override
+  public @NonNull Vector3f div(final float x, final float y, final float z) {
+    return ImVector3f.of(this.x() / x, this.y() / y, this.z() / z);
+  }
+
+  @Override
+  public @NonNull Vector3f abs() {
+    return ImVector3f.of(Math.abs(this.x()), Math.abs(this.y()), Math.abs(this.z()));
+  }
+
+  @Override
+  public @NonNull Vector3f ceil() {
+    return ImVector3f.of(Mth.ceil(this.x()), Mth.ceil(this.y()), Mth.ceil(this.z()));
+  }
+
+  @Override
+  public @NonNull Vector3f floor() {
+    return ImVector3f.of(Mth.floor(this.x()), Mth.floor(this.y()), Mth.floor(this.z()));
+  }
+
+  @Override
+  public @NonNull Vector3f negate() {
+    return ImVector3f.of(-this.x(), -this.y(), -this.z());
+  }
+
+  @Override
+  public @NonNull Vector3f normalize() {
+    final float length = this.length();
+    return ImVector3f.of(this.x() / length, this.y() / length, this.z() / length);
+  }
+
+  @Override
+  public @NonNull Vector3f pow(final float power) {
+    return ImVector3f.of((float) Math.pow(this.x(), power), (float) Math.pow(this.y(), power), (float) Math.pow(this.z(), power));
+  }
+
+  @Override
+  public @NonNull Vector3f round() {
+    return ImVector3f.of(Math.round(this.x()), Math.round(this.y()), Math.round(this.z()));
+  }
+
+  @Override
+  public float[] array() {
+    return new float[]{
+      this.x(),
+      this.y(),
+      this.z()
+    };
+  }
+
+  @Override
+  public @NonNull Vector3f map(final @NonNull DoubleUnaryOperator operator) {
+    return ImVector3f.of((float) operator.applyAsDouble(this.x()), (float) operator.applyAsDouble(this.y()), (float) operator.applyAsDouble(this.z()));
+  }
+
+  @Override
+  public @NonNull Vector3f map(final @NonNull Vector3f that, final @NonNull DoubleBinaryOperator operator) {
+    return ImVector3f.of((float) operator.applyAsDouble(this.x(), that.x()), (float) operator.applyAsDouble(this.y(), that.y()), (float) operator.applyAsDouble(this.z(), that.z()));
+  }
+
+  @Override
+  public @NonNull Vector3f map(final @NonNull DoubleUnaryOperator x, final @NonNull DoubleUnaryOperator y, final @NonNull DoubleUnaryOperator z) {
+    return ImVector3f.of((float) x.applyAsDouble(this.x()), (float) y.applyAsDouble(this.y()), (float) z.applyAsDouble(this.z()));
+  }
+
+  // a copy is detached from the buffer
+  @Override
+  public @NonNull ImVector3f copy() {
+    return this.buffer.get(this.index);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.x(), this.y(), this.z());
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    return this == other || (other instanceof Vector3f && this.equals((Vector3f) other));
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{index=%d, x=%f, y=%f, z=%f}", this.getClass().getSimpleName(), this.index, this.x(), this.y(), this.z());
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.f;
+
+import net.kyori.math.memory.Memory;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+public class DirectVector3fBuffer {
+  static final int BYTES = 3 * Float.BYTES;
+  private final Memory memory;
+  private final int size;
+
+  public static @NonNull DirectVector3fBuffer create(final int size) {
+    if(size < 0) throw new IllegalArgumentException("negative size: " + size);
+    return new DirectVector3fBuffer(Memory.allocate((long) size * BYTES), size);
+  }
+
+  public static @NonNull DirectVector3fBuffer wrap(final @NonNull Memory memory) {
+    return new DirectVector3fBuffer(memory, (int) Math.min(Integer.MAX_VALUE, memory.byteSize() / BYTES));
+  }
+
+  // a buffer over the leading vectors of the memory, for memory that holds more than it is filled with
+  public static @NonNull DirectVector3fBuffer wrap(final @NonNull Memory memory, final int size) {
+    if(size < 0 || (long) size * BYTES > memory.byteSize()) {
+      throw new IllegalArgumentException("cannot fit " + size + " vectors in " + memory.byteSize() + " bytes");
+    }
+    return new DirectVector3fBuffer(memory, size);
+  }
+
+  protected DirectVector3fBuffer(final Memory memory, final int size) {
+    this.memory = memory;
+    this.size = size;
+  }
+
+  public @NonNull Memory memory() {
+    return this.memory;
+  }
+
+  public int size() {
+    return this.size;
+  }
+
+  public float x(final int index) {
+    return this.memory.getFloat(this.offset(index));
+  }
+
+  public float y(final int index) {
+    return this.memory.getFloat(this.offset(index) + Float.BYTES);
+  }
+
+  public float z(final int index) {
+    return this.memory.getFloat(this.offset(index) + 2 * Float.BYTES);
+  }
+
+  public @NonNull ImVector3f get(final int index) {
+    final long offset = this.offset(index);
+    return ImVector3f.of(this.memory.getFloat(offset), this.memory.getFloat(offset + Float.BYTES), this.memory.getFloat(offset + 2 * Float.BYTES));
+  }
+
+  public @NonNull MutVector3f get(final int index, final @NonNull MutVector3f dst) {
+    final long offset = this.offset(index);
+    return dst.set(this.memory.getFloat(offset), this.memory.getFloat(offset + Float.BYTES), this.memory.getFloat(offset + 2 * Float.BYTES));
+  }
+
+  public @NonNull DirectVector3f view(final int index) {
+    this.offset(index);
+    return new DirectVector3f(this, index);
+  }
+
+  public @NonNull DirectVector3fBuffer set(final int index, final float x, final float y, final float z) {
+    final long offset = this.offset(index);
+    this.memory.putFloat(offset, x);
+    this.memory.putFloat(offset + Float.BYTES, y);
+    this.memory.putFloat(offset + 2 * Float.BYTES, z);
+    return this;
+  }
+
+  public @NonNull DirectVector3fBuffer set(final int index, final @NonNull Vector3f vector) {
+    return this.set(index, vector.x(), vector.y(), vector.z());
+  }
+
+  public @NonNull DirectVector3fBuffer load(final int from, final int to, final @NonNull Vector3fBuffer src) {
+    this.checkRange(from, to);
+    src.checkRange(from, to);
+    final float[] xs = src.xs();
+    final float[] ys = src.ys();
+    final float[] zs = src.zs();
+    for(int i = from; i < to; i++) {
+      this.set(i, xs[i], ys[i], zs[i]);
+    }
+    return this;
+  }
+
+  public @NonNull Vector3fBuffer store(final int from, final int to, final @NonNull Vector3fBuffer dst) {
+    this.checkRange(from, to);
+    dst.checkRange(from, to);
+    final float[] xs = dst.xs();
+    final float[] ys = dst.ys();
+    final float[] zs = dst.zs();
+    for(int i = from; i < to; i++) {
+      final long offset = (long) i * BYTES;
+      xs[i] = this.memory.getFloat(offset);
+      ys[i] = this.memory.getFloat(offset + Float.BYTES);
+      zs[i] = this.memory.getFloat(offset + 2 * Float.BYTES);
+    }
+    return dst;
+  }
+
+  private long offset(final int index) {
+    if(index < 0 || index >= this.size) throw new IndexOutOfBoundsException("index " + index + " out of bounds for size " + this.size);
+    return (long) index * BYTES;
+  }
+
+  private void checkRange(final int from, final int to) {
+    if(from < 0 || from > to || to > this.size) {
+      throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for size " + this.size);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.f;
+
+import net.kyori.math.Mth;
+
+// bulk loops over component arrays, which Vector3fBuffer runs through the kernels picked by FloatKernelProvider
+class FloatKernels {
+  void add(final float[] a, final int from, final int to, final float n) {
+    for(int i = from; i < to; i++) {
+      a[i] += n;
+    }
+  }
+
+  void add(final float[] a, final float[] b, final int from, final int to) {
+    for(int i = from; i < to; i++) {
+      a[i] += b[i];
+    }
+  }
+
+  void sub(final float[] a, final float[] b, final int from, final int to) {
+    for(int i = from; i < to; i++) {
+      a[i] -= b[i];
+    }
+  }
+
+  void mul(final float[] a, final int from, final int to, final float n) {
+    for(int i = from; i < to; i++) {
+      a[i] *= n;
+    }
+  }
+
+  void mul(final float[] a, final float[] b, final int from, final int to) {
+    for(int i = from; i < to; i++) {
+      a[i] *= b[i];
+    }
+  }
+
+  void min(final float[] a, final float[] b, final int from, final int to) {
+    for(int i = from; i < to; i++) {
+      a[i] = Math.min(a[i], b[i]);
+    }
+  }
+
+  void max(final float[] a, final float[] b, final int from, final int to) {
+    for(int i = from; i < to; i++) {
+      a[i] = Math.max(a[i], b[i]);
+    }
+  }
+
+  void clamp(final float[] a, final int from, final int to, final float min, final float max) {
+    for(int i = from; i < to; i++) {
+      a[i] = Mth.clamp(a[i], min, max);
+    }
+  }
+
+  void floor(final float[] a, final int from, final int to) {
+    for(int i = from; i < to; i++) {
+      a[i] = Mth.floor(a[i]);
+    }
+  }
+
+  void floor(final float[] a, final int[] dst, final int from, final int to) {
+    for(int i = from; i < to; i++) {
+      dst[i] = Mth.floor(a[i]);
+    }
+  }
+
+  void ceil(final float[] a, final int from, final int to) {
+    for(int i = from; i < to; i++) {
+      a[i] = Mth.ceil(a[i]);
+    }
+  }
+
+  void ceil(final float[] a, final int[] dst, final int from, final int to) {
+    for(int i = from; i < to; i++) {
+      dst[i] = Mth.ceil(a[i]);
+    }
+  }
+
+  void lengthSquared(final float[] x, final float[] y, final float[] z, final int from, final int to, final float[] dst) {
+    for(int i = from; i < to; i++) {
+      final float vx = x[i];
+      final float vy = y[i];
+      final float vz = z[i];
+      dst[i] = vx * vx + vy * vy + vz * vz;
+    }
+  }
+
+  void dot(final float[] ax, final float[] ay, final float[] az, final float[] bx, final float[] by, final float[] bz, final int from, final int to, final float[] dst) {
+    for(int i = from; i < to; i++) {
+      dst[i] = ax[i] * bx[i] + ay[i] * by[i] + az[i] * bz[i];
+    }
+  }
+
+  void normalize(final float[] x, final float[] y, final float[] z, final int from, final int to) {
+    for(int i = from; i < to; i++) {
+      final float vx = x[i];
+      final float vy = y[i];
+      final float vz = z[i];
+      final float length = Mth.sqrt(vx * vx + vy * vy + vz * vz);
+      x[i] = vx / length;
+      y[i] = vy / length;
+      z[i] = vz / length;
+    }
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.f;
+
+import net.kyori.math.Mth;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+public class MutVector3f implements Vector3f {
+  private float x;
+  private float y;
+  private float z;
+
+  public static @NonNull MutVector3f zero() {
+    return new MutVector3f(0f, 0f, 0f);
+  }
+
+  public static @NonNull MutVector3f of(final float n) {
+    return new MutVector3f(n, n, n);
+  }
+
+  public static @NonNull MutVector3f of(final float x, final float y, final float z) {
+    return new MutVector3f(x, y, z);
+  }
+
+  public static @NonNull MutVector3f from(final @NonNull Vector3f that) {
+    return new MutVector3f(that.x(), that.y(), that.z());
+  }
+
+  protected MutVector3f(final float x, final float y, final float z) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+  }
+
+  @Override
+  public float x() {
+    return this.x;
+  }
+
+  @Override
+  public @NonNull MutVector3f x(final float x) {
+    return this.set(x, this.y, this.z);
+  }
+
+  @Override
+  public float y() {
+    return this.y;
+  }
+
+  @Override
+  public @NonNull MutVector3f y(final float y) {
+    return this.set(this.x, y, this.z);
+  }
+
+  @Override
+  public float z() {
+    return this.z;
+  }
+
+  @Override
+  public @NonNull MutVector3f z(final float z) {
+    return this.set(this.x, this.y, z);
+  }
+
+  public @NonNull MutVector3f set(final float n) {
+    return this.set(n, n, n);
+  }
+
+  public @NonNull MutVector3f set(final float x, final float y, final float z) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+    return this;
+  }
+
+  public @NonNull MutVector3f setFrom(final @NonNull Vector3f that) {
+    return this.set(that.x(), that.y(), that.z());
+  }
+
+  @Override
+  public @NonNull MutVector3f add(final float x, final float y, final float z) {
+    return this.set(this.x + x, this.y + y, this.z + z);
+  }
+
+  @Override
+  public @NonNull MutVector3f add(final Vector3f that) {
+    return this.add(that.x(), that.y(), that.z());
+  }
+
+  @Override
+  public @NonNull MutVector3f add(final float n) {
+    return this.add(n, n, n);
+  }
+
+  @Override
+  public @NonNull MutVector3f sub(final float x, final float y, final float z) {
+    return this.set(this.x - x, this.y - y, this.z - z);
+  }
+
+  @Override
+  public @NonNull MutVector3f sub(final Vector3f that) {
+    return this.sub(that.x(), that.y(), that.z());
+  }
+
+  @Override
+  public @NonNull MutVector3f sub(final float n) {
+    return this.sub(n, n, n);
+  }
+
+  @Override
+  public @NonNull MutVector3f mul(final float x, final float y, final float z) {
+    return this.set(this.x * x, this.y * y, this.z * z);
+  }
+
+  @Override
+  public @NonNull MutVector3f mul(final Vector3f that) {
+    return this.mul(that.x(), that.y(), that.z());
+  }
+
+  @Override
+  public @NonNull MutVector3f mul(final float n) {
+    return this.mul(n, n, n);
+  }
+
+  @Override
+  public @NonNull MutVector3f div(final float x, final float y, final float z) {
+    return this.set(this.x / x, this.y / y, this.z / z);
+  }
+
+  @Override
+  public @NonNull MutVector3f div(final Vector3f that) {
+    return this.div(that.x(), that.y(), that.z());
+  }
+
+  @Override
+  public @NonNull MutVector3f div(final float n) {
+    return this.div(n, n, n);
+  }
+
+  @Override
+  public @NonNull MutVector3f abs() {
+    return this.set(Math.abs(this.x), Math.abs(this.y), Math.abs(this.z));
+  }
+
+  @Override
+  public @NonNull MutVector3f ceil() {
+    return this.set(Mth.ceil(this.x), Mth.ceil(this.y), Mth.ceil(this.z));
+  }
+
+  @Override
+  public @NonNull MutVector3f floor() {
+    return this.set(Mth.floor(this.x), Mth.floor(this.y), Mth.floor(this.z));
+  }
+
+  @Override
+  public @NonNull MutVector3f negate() {
+    return this.set(-this.x, -this.y, -this.z);
+  }
+
+  @Override
+  public @NonNull MutVector3f normalize() {
+    final float length = this.length();
+    return this.set(this.x / length, this.y / length, this.z / length);
+  }
+
+  @Override
+  public @NonNull MutVector3f pow(final float power) {
+    return this.set((float) Math.pow(this.x, power), (float) Math.pow(this.y, power), (float) Math.pow(this.z, power));
+  }
+
+  @Override
+  public @NonNull MutVector3f round() {
+    return this.set(Math.round(this.x), Math.round(this.y), Math.round(this.z));
+  }
+
+  @Override
+  public @NonNull MutVector3f minimum(final @NonNull Vector3f that) {
+    return this.set(Math.min(this.x, that.x()), Math.min(this.y, that.y()), Math.min(this.z, that.z()));
+  }
+
+  @Override
+  public @NonNull MutVector3f maximum(final @NonNull Vector3f that) {
+    return this.set(Math.max(this.x, that.x()), Math.max(this.y, that.y()), Math.max(this.z, that.z()));
+  }
+
+  @Override
+  public float[] array() {
+    return new float[]{
+      this.x,
+      this.y,
+      this.z
+    };
+  }
+
+  @Override
+  public @NonNull MutVector3f map(final @NonNull DoubleUnaryOperator operator) {
+    return this.set((float) operator.applyAsDouble(this.x), (float) operator.applyAsDouble(this.y), (float) operator.applyAsDouble(this.z));
+  }
+
+  @Override
+  public @NonNull MutVector3f map(final @NonNull Vector3f that, final @NonNull DoubleBinaryOperator operator) {
+    return this.set((float) operator.applyAsDouble(this.x, that.x()), (float) operator.applyAsDouble(this.y, that.y()), (float) operator.applyAsDouble(this.z, that.z()));
+  }
+
+  @Override
+  public @NonNull MutVector3f map(final @NonNull DoubleUnaryOperator x, final @NonNull DoubleUnaryOperator y, final @NonNull DoubleUnaryOperator z) {
+    return this.set((float) x.applyAsDouble(this.x), (float) y.applyAsDouble(this.y), (float) z.applyAsDouble(this.z));
+  }
+
+  @Override
+  public @NonNull MutVector3f copy() {
+    return new MutVector3f(this.x, this.y, this.z);
+  }
+
+  public @NonNull ImVector3f toImmutable() {
+    return ImVector3f.of(this.x, this.y, this.z);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.x, this.y, this.z);
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    return this == other || (other instanceof Vector3f && this.equals((Vector3f) other));
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{x=%f, y=%f, z=%f}", this.getClass().getSimpleName(), this.x, this.y, this.z);
+  }
+}
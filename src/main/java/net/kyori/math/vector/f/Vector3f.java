@@ -23,6 +23,7 @@
  */
 package net.kyori.math.vector.f;
 
+import net.kyori.math.Mth;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -122,6 +123,146 @@ public interface Vector3f extends Vectorf {
     return x * x + y * y + z * z;
   }
 
+  /**
+   * Normalizes this vector with {@link Mth#fastInvSqrt(float)}, to within a relative error of {@code 5e-6}.
+   *
+   * <p>Unlike {@link #normalize()}, a zero vector stays zero.</p>
+   *
+   * @return the normalized vector
+   */
+  default @NonNull Vector3f fastNormalize() {
+    return this.mul(Mth.fastInvSqrt(this.lengthSquared()));
+  }
+
+  default float dot(final float x, final float y, final float z) {
+    return this.x() * x + this.y() * y + this.z() * z;
+  }
+
+  default float dot(final @NonNull Vector3f that) {
+    return this.dot(that.x(), that.y(), that.z());
+  }
+
+  default float distanceSquared(final float x, final float y, final float z) {
+    final float dx = this.x() - x;
+    final float dy = this.y() - y;
+    final float dz = this.z() - z;
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  default float distanceSquared(final @NonNull Vector3f that) {
+    return this.distanceSquared(that.x(), that.y(), that.z());
+  }
+
+  default float distance(final float x, final float y, final float z) {
+    return (float) Math.sqrt(this.distanceSquared(x, y, z));
+  }
+
+  default float distance(final @NonNull Vector3f that) {
+    return this.distance(that.x(), that.y(), that.z());
+  }
+
+  /**
+   * Gets the angle between this vector and {@code that}, from the arctangent of their cross and dot products,
+   * which stays accurate for nearly parallel vectors.
+   *
+   * @param that the other vector
+   * @return the angle, in radians in {@code [0, π]}
+   */
+  default float angle(final @NonNull Vector3f that) {
+    final float ax = this.x();
+    final float ay = this.y();
+    final float az = this.z();
+    final float bx = that.x();
+    final float by = that.y();
+    final float bz = that.z();
+    final float cx = ay * bz - az * by;
+    final float cy = az * bx - ax * bz;
+    final float cz = ax * by - ay * bx;
+    return (float) Math.atan2(Math.sqrt(cx * cx + cy * cy + cz * cz), ax * bx + ay * by + az * bz);
+  }
+
+  // every operation writing into a destination reads both operands first, so dst may be either of them
+  default @NonNull MutVector3f cross(final @NonNull Vector3f that, final @NonNull MutVector3f dst) {
+    final float ax = this.x();
+    final float ay = this.y();
+    final float az = this.z();
+    final float bx = that.x();
+    final float by = that.y();
+    final float bz = that.z();
+    return dst.set(ay * bz - az * by, az * bx - ax * bz, ax * by - ay * bx);
+  }
+
+  default float[] cross(final @NonNull Vector3f that, final float[] dst, final int offset) {
+    final float ax = this.x();
+    final float ay = this.y();
+    final float az = this.z();
+    final float bx = that.x();
+    final float by = that.y();
+    final float bz = that.z();
+    dst[offset] = ay * bz - az * by;
+    dst[offset + 1] = az * bx - ax * bz;
+    dst[offset + 2] = ax * by - ay * bx;
+    return dst;
+  }
+
+  // t = 0 gives this vector and t = 1 gives that
+  default @NonNull MutVector3f lerp(final @NonNull Vector3f that, final float t, final @NonNull MutVector3f dst) {
+    final float x = this.x();
+    final float y = this.y();
+    final float z = this.z();
+    return dst.set(x + (that.x() - x) * t, y + (that.y() - y) * t, z + (that.z() - z) * t);
+  }
+
+  default float[] lerp(final @NonNull Vector3f that, final float t, final float[] dst, final int offset) {
+    final float x = this.x();
+    final float y = this.y();
+    final float z = this.z();
+    dst[offset] = x + (that.x() - x) * t;
+    dst[offset + 1] = y + (that.y() - y) * t;
+    dst[offset + 2] = z + (that.z() - z) * t;
+    return dst;
+  }
+
+  // reflects off the plane through the origin with the unit normal given
+  default @NonNull MutVector3f reflect(final @NonNull Vector3f normal, final @NonNull MutVector3f dst) {
+    final float nx = normal.x();
+    final float ny = normal.y();
+    final float nz = normal.z();
+    final float d = 2f * this.dot(nx, ny, nz);
+    return dst.set(this.x() - d * nx, this.y() - d * ny, this.z() - d * nz);
+  }
+
+  default float[] reflect(final @NonNull Vector3f normal, final float[] dst, final int offset) {
+    final float nx = normal.x();
+    final float ny = normal.y();
+    final float nz = normal.z();
+    final float d = 2f * this.dot(nx, ny, nz);
+    dst[offset] = this.x() - d * nx;
+    dst[offset + 1] = this.y() - d * ny;
+    dst[offset + 2] = this.z() - d * nz;
+    return dst;
+  }
+
+  // the component of this vector along onto, which must not be zero
+  default @NonNull MutVector3f project(final @NonNull Vector3f onto, final @NonNull MutVector3f dst) {
+    final float ox = onto.x();
+    final float oy = onto.y();
+    final float oz = onto.z();
+    final float scale = this.dot(ox, oy, oz) / (ox * ox + oy * oy + oz * oz);
+    return dst.set(ox * scale, oy * scale, oz * scale);
+  }
+
+  default float[] project(final @NonNull Vector3f onto, final float[] dst, final int offset) {
+    final float ox = onto.x();
+    final float oy = onto.y();
+    final float oz = onto.z();
+    final float scale = this.dot(ox, oy, oz) / (ox * ox + oy * oy + oz * oz);
+    dst[offset] = ox * scale;
+    dst[offset + 1] = oy * scale;
+    dst[offset + 2] = oz * scale;
+    return dst;
+  }
+
   default @NonNull Vector3f minimum(final @NonNull Vector3f that) {
     return this.map(that, Math::min);
   }
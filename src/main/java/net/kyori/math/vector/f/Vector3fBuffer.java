@@ -0,0 +1,240 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.f;
+
+import net.kyori.math.vector.i.Vector3iBuffer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+public class Vector3fBuffer {
+  private static final FloatKernels KERNELS = FloatKernelProvider.kernels();
+  private final float[] x;
+  private final float[] y;
+  private final float[] z;
+
+  public static @NonNull Vector3fBuffer create(final int size) {
+    return new Vector3fBuffer(new float[size], new float[size], new float[size]);
+  }
+
+  public static @NonNull Vector3fBuffer wrap(final float[] x, final float[] y, final float[] z) {
+    if(x.length != y.length || x.length != z.length) {
+      throw new IllegalArgumentException("component arrays differ in length: " + x.length + ", " + y.length + ", " + z.length);
+    }
+    return new Vector3fBuffer(x, y, z);
+  }
+
+  protected Vector3fBuffer(final float[] x, final float[] y, final float[] z) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+  }
+
+  public int size() {
+    return this.x.length;
+  }
+
+  public float x(final int index) {
+    return this.x[index];
+  }
+
+  public float y(final int index) {
+    return this.y[index];
+  }
+
+  public float z(final int index) {
+    return this.z[index];
+  }
+
+  public float[] xs() {
+    return this.x;
+  }
+
+  public float[] ys() {
+    return this.y;
+  }
+
+  public float[] zs() {
+    return this.z;
+  }
+
+  public @NonNull ImVector3f get(final int index) {
+    return ImVector3f.of(this.x[index], this.y[index], this.z[index]);
+  }
+
+  public @NonNull MutVector3f get(final int index, final @NonNull MutVector3f dst) {
+    return dst.set(this.x[index], this.y[index], this.z[index]);
+  }
+
+  public @NonNull Vector3fBuffer set(final int index, final float x, final float y, final float z) {
+    this.x[index] = x;
+    this.y[index] = y;
+    this.z[index] = z;
+    return this;
+  }
+
+  public @NonNull Vector3fBuffer set(final int index, final @NonNull Vector3f vector) {
+    return this.set(index, vector.x(), vector.y(), vector.z());
+  }
+
+  public @NonNull Vector3fBuffer add(final int from, final int to, final float x, final float y, final float z) {
+    this.checkRange(from, to);
+    KERNELS.add(this.x, from, to, x);
+    KERNELS.add(this.y, from, to, y);
+    KERNELS.add(this.z, from, to, z);
+    return this;
+  }
+
+  public @NonNull Vector3fBuffer add(final int from, final int to, final @NonNull Vector3fBuffer that) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    KERNELS.add(this.x, that.x, from, to);
+    KERNELS.add(this.y, that.y, from, to);
+    KERNELS.add(this.z, that.z, from, to);
+    return this;
+  }
+
+  public @NonNull Vector3fBuffer sub(final int from, final int to, final float x, final float y, final float z) {
+    return this.add(from, to, -x, -y, -z);
+  }
+
+  public @NonNull Vector3fBuffer sub(final int from, final int to, final @NonNull Vector3fBuffer that) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    KERNELS.sub(this.x, that.x, from, to);
+    KERNELS.sub(this.y, that.y, from, to);
+    KERNELS.sub(this.z, that.z, from, to);
+    return this;
+  }
+
+  public @NonNull Vector3fBuffer mul(final int from, final int to, final float n) {
+    return this.mul(from, to, n, n, n);
+  }
+
+  public @NonNull Vector3fBuffer mul(final int from, final int to, final float x, final float y, final float z) {
+    this.checkRange(from, to);
+    KERNELS.mul(this.x, from, to, x);
+    KERNELS.mul(this.y, from, to, y);
+    KERNELS.mul(this.z, from, to, z);
+    return this;
+  }
+
+  public @NonNull Vector3fBuffer mul(final int from, final int to, final @NonNull Vector3fBuffer that) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    KERNELS.mul(this.x, that.x, from, to);
+    KERNELS.mul(this.y, that.y, from, to);
+    KERNELS.mul(this.z, that.z, from, to);
+    return this;
+  }
+
+  public @NonNull Vector3fBuffer normalize(final int from, final int to) {
+    this.checkRange(from, to);
+    KERNELS.normalize(this.x, this.y, this.z, from, to);
+    return this;
+  }
+
+  public float[] lengthSquared(final int from, final int to, final float[] dst) {
+    this.checkRange(from, to);
+    checkRange(from, to, dst.length);
+    KERNELS.lengthSquared(this.x, this.y, this.z, from, to, dst);
+    return dst;
+  }
+
+  public float[] dot(final int from, final int to, final @NonNull Vector3fBuffer that, final float[] dst) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    checkRange(from, to, dst.length);
+    KERNELS.dot(this.x, this.y, this.z, that.x, that.y, that.z, from, to, dst);
+    return dst;
+  }
+
+  public @NonNull Vector3fBuffer floor(final int from, final int to) {
+    this.checkRange(from, to);
+    KERNELS.floor(this.x, from, to);
+    KERNELS.floor(this.y, from, to);
+    KERNELS.floor(this.z, from, to);
+    return this;
+  }
+
+  public @NonNull Vector3iBuffer floor(final int from, final int to, final @NonNull Vector3iBuffer dst) {
+    this.checkRange(from, to);
+    checkRange(from, to, dst.size());
+    KERNELS.floor(this.x, dst.xs(), from, to);
+    KERNELS.floor(this.y, dst.ys(), from, to);
+    KERNELS.floor(this.z, dst.zs(), from, to);
+    return dst;
+  }
+
+  public @NonNull Vector3fBuffer ceil(final int from, final int to) {
+    this.checkRange(from, to);
+    KERNELS.ceil(this.x, from, to);
+    KERNELS.ceil(this.y, from, to);
+    KERNELS.ceil(this.z, from, to);
+    return this;
+  }
+
+  public @NonNull Vector3iBuffer ceil(final int from, final int to, final @NonNull Vector3iBuffer dst) {
+    this.checkRange(from, to);
+    checkRange(from, to, dst.size());
+    KERNELS.ceil(this.x, dst.xs(), from, to);
+    KERNELS.ceil(this.y, dst.ys(), from, to);
+    KERNELS.ceil(this.z, dst.zs(), from, to);
+    return dst;
+  }
+
+  public @NonNull Vector3fBuffer minimum(final int from, final int to, final @NonNull Vector3fBuffer that) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    KERNELS.min(this.x, that.x, from, to);
+    KERNELS.min(this.y, that.y, from, to);
+    KERNELS.min(this.z, that.z, from, to);
+    return this;
+  }
+
+  public @NonNull Vector3fBuffer maximum(final int from, final int to, final @NonNull Vector3fBuffer that) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    KERNELS.max(this.x, that.x, from, to);
+    KERNELS.max(this.y, that.y, from, to);
+    KERNELS.max(this.z, that.z, from, to);
+    return this;
+  }
+
+  public @NonNull Vector3fBuffer clamp(final int from, final int to, final float min, final float max) {
+    this.checkRange(from, to);
+    KERNELS.clamp(this.x, from, to, min, max);
+    KERNELS.clamp(this.y, from, to, min, max);
+    KERNELS.clamp(this.z, from, to, min, max);
+    return this;
+  }
+
+  void checkRange(final int from, final int to) {
+    checkRange(from, to, this.x.length);
+  }
+
+  static void checkRange(final int from, final int to, final int size) {
+    if(from < 0 || from > to || to > size) {
+      throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for size " + size);
+    }
+  }
+}
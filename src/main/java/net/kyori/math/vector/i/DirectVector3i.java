@@ -0,0 +1,166 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A flyweight view of one vector in a {@link DirectVector3iBuffer}.
+ *
+ * <p>The view reads through to the buffer, so it observes later writes to it. It can be moved to
+ * another index with {@link #index(int)}. Operations on the view leave the buffer untouched and return
+ * immutable vectors.</p>
+ */
+public class DirectVector3i implements Vector3i {
+  private final DirectVector3iBuffer buffer;
+  private int index;
+
+  protected DirectVector3i(final DirectVector3iBuffer buffer, final int index) {
+    this.buffer = buffer;
+    this.index = index;
+  }
+
+  public int index() {
+    return this.index;
+  }
+
+  public @NonNull DirectVector3i index(final int index) {
+    if(index < 0 || index >= this.buffer.size()) throw new IndexOutOfBoundsException("index " + index + " out of bounds for size " + this.buffer.size());
+    this.index = index;
+    return this;
+  }
+
+  @Override
+  public int x() {
+    return this.buffer.x(this.index);
+  }
+
+  @Override
+  public @NonNull Vector3i x(final int x) {
+    return ImVector3i.of(x, this.y(), this.z());
+  }
+
+  @Override
+  public int y() {
+    return this.buffer.y(this.index);
+  }
+
+  @Override
+  public @NonNull Vector3i y(final int y) {
+    return ImVector3i.of(this.x(), y, this.z());
+  }
+
+  @Override
+  public int z() {
+    return this.buffer.z(this.index);
+  }
+
+  @Override
+  public @NonNull Vector3i z(final int z) {
+    return ImVector3i.of(this.x(), this.y(), z);
+  }
+
+  @Override
+  public @NonNull Vector3i add(final int x, final int y, final int z) {
+    return ImVector3i.of(this.x() + x, this.y() + y, this.z() + z);
+  }
+
+  @Override
+  public @NonNull Vector3i sub(final int x, final int y, final int z) {
+    return ImVector3i.of(this.x() - x, this.y() - y, this.z() - z);
+  }
+
+  @Override
+  public @NonNull Vector3i mul(final int x, final int y, final int z) {
+    return ImVector3i.of(this.x() * x, this.y() * y, this.z() * z);
+  }
+
+  @Override
+  public @NonNull Vector3i div(final int x, final int y, final int z) {
+    return ImVector3i.of(this.x() / x, this.y() / y, this.z() / z);
+  }
+
+  @Override
+  public @NonNull Vector3i abs() {
+    return ImVector3i.of(Math.abs(this.x()), Math.abs(this.y()), Math.abs(this.z()));
+  }
+
+  @Override
+  public @NonNull Vector3i negate() {
+    return ImVector3i.of(-this.x(), -this.y(), -this.z());
+  }
+
+  @Override
+  public @NonNull Vector3i pow(final int power) {
+    return ImVector3i.of(Math.pow(this.x(), power), Math.pow(this.y(), power), Math.pow(this.z(), power));
+  }
+
+  @Override
+  public int[] array() {
+    return new int[]{
+      this.x(),
+      this.y(),
+      this.z()
+    };
+  }
+
+  @Override
+  public @NonNull Vector3i map(final @NonNull IntUnaryOperator operator) {
+    return ImVector3i.of(operator.applyAsInt(this.x()), operator.applyAsInt(this.y()), operator.applyAsInt(this.z()));
+  }
+
+  @Override
+  public @NonNull Vector3i map(final @NonNull Vector3i that, final @NonNull IntBinaryOperator operator) {
+    return ImVector3i.of(operator.applyAsInt(this.x(), that.x()), operator.applyAsInt(this.y(), that.y()), operator.applyAsInt(this.z(), that.z()));
+  }
+
+  @Override
+  public @NonNull Vector3i map(final @NonNull IntUnaryOperator x, final @NonNull IntUnaryOperator y, final @NonNull IntUnaryOperator z) {
+    return ImVector3i.of(x.applyAsInt(this.x()), y.applyAsInt(this.y()), z.applyAsInt(this.z()));
+  }
+
+  // a copy is detached from the buffer
+  @Override
+  public @NonNull ImVector3i copy() {
+    return this.buffer.get(this.index);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * (31 + this.x()) + this.y()) + this.z();
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    return this == other || (other instanceof Vector3i && this.equals((Vector3i) other));
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{index=%d, x=%d, y=%d, z=%d}", this.getClass().getSimpleName(), this.index, this.x(), this.y(), this.z());
+  }
+}
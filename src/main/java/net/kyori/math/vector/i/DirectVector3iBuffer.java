@@ -0,0 +1,138 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import net.kyori.math.memory.Memory;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+public class DirectVector3iBuffer {
+  static final int BYTES = 3 * Integer.BYTES;
+  private final Memory memory;
+  private final int size;
+
+  public static @NonNull DirectVector3iBuffer create(final int size) {
+    if(size < 0) throw new IllegalArgumentException("negative size: " + size);
+    return new DirectVector3iBuffer(Memory.allocate((long) size * BYTES), size);
+  }
+
+  public static @NonNull DirectVector3iBuffer wrap(final @NonNull Memory memory) {
+    return new DirectVector3iBuffer(memory, (int) Math.min(Integer.MAX_VALUE, memory.byteSize() / BYTES));
+  }
+
+  // a buffer over the leading vectors of the memory, for memory that holds more than it is filled with
+  public static @NonNull DirectVector3iBuffer wrap(final @NonNull Memory memory, final int size) {
+    if(size < 0 || (long) size * BYTES > memory.byteSize()) {
+      throw new IllegalArgumentException("cannot fit " + size + " vectors in " + memory.byteSize() + " bytes");
+    }
+    return new DirectVector3iBuffer(memory, size);
+  }
+
+  protected DirectVector3iBuffer(final Memory memory, final int size) {
+    this.memory = memory;
+    this.size = size;
+  }
+
+  public @NonNull Memory memory() {
+    return this.memory;
+  }
+
+  public int size() {
+    return this.size;
+  }
+
+  public int x(final int index) {
+    return this.memory.getInt(this.offset(index));
+  }
+
+  public int y(final int index) {
+    return this.memory.getInt(this.offset(index) + Integer.BYTES);
+  }
+
+  public int z(final int index) {
+    return this.memory.getInt(this.offset(index) + 2 * Integer.BYTES);
+  }
+
+  public @NonNull ImVector3i get(final int index) {
+    final long offset = this.offset(index);
+    return ImVector3i.of(this.memory.getInt(offset), this.memory.getInt(offset + Integer.BYTES), this.memory.getInt(offset + 2 * Integer.BYTES));
+  }
+
+  public @NonNull MutVector3i get(final int index, final @NonNull MutVector3i dst) {
+    final long offset = this.offset(index);
+    return dst.set(this.memory.getInt(offset), this.memory.getInt(offset + Integer.BYTES), this.memory.getInt(offset + 2 * Integer.BYTES));
+  }
+
+  public @NonNull DirectVector3i view(final int index) {
+    this.offset(index);
+    return new DirectVector3i(this, index);
+  }
+
+  public @NonNull DirectVector3iBuffer set(final int index, final int x, final int y, final int z) {
+    final long offset = this.offset(index);
+    this.memory.putInt(offset, x);
+    this.memory.putInt(offset + Integer.BYTES, y);
+    this.memory.putInt(offset + 2 * Integer.BYTES, z);
+    return this;
+  }
+
+  public @NonNull DirectVector3iBuffer set(final int index, final @NonNull Vector3i vector) {
+    return this.set(index, vector.x(), vector.y(), vector.z());
+  }
+
+  public @NonNull DirectVector3iBuffer load(final int from, final int to, final @NonNull Vector3iBuffer src) {
+    this.checkRange(from, to);
+    final int[] xs = src.xs();
+    final int[] ys = src.ys();
+    final int[] zs = src.zs();
+    for(int i = from; i < to; i++) {
+      this.set(i, xs[i], ys[i], zs[i]);
+    }
+    return this;
+  }
+
+  public @NonNull Vector3iBuffer store(final int from, final int to, final @NonNull Vector3iBuffer dst) {
+    this.checkRange(from, to);
+    final int[] xs = dst.xs();
+    final int[] ys = dst.ys();
+    final int[] zs = dst.zs();
+    for(int i = from; i < to; i++) {
+      final long offset = (long) i * BYTES;
+      xs[i] = this.memory.getInt(offset);
+      ys[i] = this.memory.getInt(offset + Integer.BYTES);
+      zs[i] = this.memory.getInt(offset + 2 * Integer.BYTES);
+    }
+    return dst;
+  }
+
+  private long offset(final int index) {
+    if(index < 0 || index >= this.size) throw new IndexOutOfBoundsException("index " + index + " out of bounds for size " + this.size);
+    return (long) index * BYTES;
+  }
+
+  private void checkRange(final int from, final int to) {
+    if(from < 0 || from > to || to > this.size) {
+      throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for size " + this.size);
+    }
+  }
+}
@@ -0,0 +1,245 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import net.kyori.math.Mth;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+public class MutVector3i implements Vector3i {
+  private int x;
+  private int y;
+  private int z;
+
+  public static @NonNull MutVector3i zero() {
+    return new MutVector3i(0, 0, 0);
+  }
+
+  public static @NonNull MutVector3i of(final int n) {
+    return new MutVector3i(n, n, n);
+  }
+
+  public static @NonNull MutVector3i of(final int x, final int y, final int z) {
+    return new MutVector3i(x, y, z);
+  }
+
+  public static @NonNull MutVector3i of(final double x, final double y, final double z) {
+    return new MutVector3i(Mth.floor(x), Mth.floor(y), Mth.floor(z));
+  }
+
+  public static @NonNull MutVector3i of(final float x, final float y, final float z) {
+    return new MutVector3i(Mth.floor(x), Mth.floor(y), Mth.floor(z));
+  }
+
+  public static @NonNull MutVector3i from(final @NonNull Vector3i that) {
+    return new MutVector3i(that.x(), that.y(), that.z());
+  }
+
+  protected MutVector3i(final int x, final int y, final int z) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+  }
+
+  @Override
+  public int x() {
+    return this.x;
+  }
+
+  @Override
+  public @NonNull MutVector3i x(final int x) {
+    return this.set(x, this.y, this.z);
+  }
+
+  @Override
+  public int y() {
+    return this.y;
+  }
+
+  @Override
+  public @NonNull MutVector3i y(final int y) {
+    return this.set(this.x, y, this.z);
+  }
+
+  @Override
+  public int z() {
+    return this.z;
+  }
+
+  @Override
+  public @NonNull MutVector3i z(final int z) {
+    return this.set(this.x, this.y, z);
+  }
+
+  public @NonNull MutVector3i set(final int n) {
+    return this.set(n, n, n);
+  }
+
+  public @NonNull MutVector3i set(final int x, final int y, final int z) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+    return this;
+  }
+
+  public @NonNull MutVector3i setFrom(final @NonNull Vector3i that) {
+    return this.set(that.x(), that.y(), that.z());
+  }
+
+  @Override
+  public @NonNull MutVector3i add(final int x, final int y, final int z) {
+    return this.set(this.x + x, this.y + y, this.z + z);
+  }
+
+  @Override
+  public @NonNull MutVector3i add(final Vector3i that) {
+    return this.add(that.x(), that.y(), that.z());
+  }
+
+  @Override
+  public @NonNull MutVector3i add(final int n) {
+    return this.add(n, n, n);
+  }
+
+  @Override
+  public @NonNull MutVector3i sub(final int x, final int y, final int z) {
+    return this.set(this.x - x, this.y - y, this.z - z);
+  }
+
+  @Override
+  public @NonNull MutVector3i sub(final Vector3i that) {
+    return this.sub(that.x(), that.y(), that.z());
+  }
+
+  @Override
+  public @NonNull MutVector3i sub(final int n) {
+    return this.sub(n, n, n);
+  }
+
+  @Override
+  public @NonNull MutVector3i mul(final int x, final int y, final int z) {
+    return this.set(this.x * x, this.y * y, this.z * z);
+  }
+
+  @Override
+  public @NonNull MutVector3i mul(final Vector3i that) {
+    return this.mul(that.x(), that.y(), that.z());
+  }
+
+  @Override
+  public @NonNull MutVector3i mul(final int n) {
+    return this.mul(n, n, n);
+  }
+
+  @Override
+  public @NonNull MutVector3i div(final int x, final int y, final int z) {
+    return this.set(this.x / x, this.y / y, this.z / z);
+  }
+
+  @Override
+  public @NonNull MutVector3i div(final Vector3i that) {
+    return this.div(that.x(), that.y(), that.z());
+  }
+
+  @Override
+  public @NonNull MutVector3i div(final int n) {
+    return this.div(n, n, n);
+  }
+
+  @Override
+  public @NonNull MutVector3i abs() {
+    return this.set(Math.abs(this.x), Math.abs(this.y), Math.abs(this.z));
+  }
+
+  @Override
+  public @NonNull MutVector3i negate() {
+    return this.set(-this.x, -this.y, -this.z);
+  }
+
+  @Override
+  public @NonNull MutVector3i pow(final int power) {
+    return this.set(Mth.floor(Math.pow(this.x, power)), Mth.floor(Math.pow(this.y, power)), Mth.floor(Math.pow(this.z, power)));
+  }
+
+  @Override
+  public @NonNull MutVector3i minimum(final @NonNull Vector3i that) {
+    return this.set(Math.min(this.x, that.x()), Math.min(this.y, that.y()), Math.min(this.z, that.z()));
+  }
+
+  @Override
+  public @NonNull MutVector3i maximum(final @NonNull Vector3i that) {
+    return this.set(Math.max(this.x, that.x()), Math.max(this.y, that.y()), Math.max(this.z, that.z()));
+  }
+
+  @Override
+  public int[] array() {
+    return new int[]{
+      this.x,
+      this.y,
+      this.z
+    };
+  }
+
+  @Override
+  public @NonNull MutVector3i map(final @NonNull IntUnaryOperator operator) {
+    return this.set(operator.applyAsInt(this.x), operator.applyAsInt(this.y), operator.applyAsInt(this.z));
+  }
+
+  @Override
+  public @NonNull MutVector3i map(final @NonNull Vector3i that, final @NonNull IntBinaryOperator operator) {
+    return this.set(operator.applyAsInt(this.x, that.x()), operator.applyAsInt(this.y, that.y()), operator.applyAsInt(this.z, that.z()));
+  }
+
+  @Override
+  public @NonNull MutVector3i map(final @NonNull IntUnaryOperator x, final @NonNull IntUnaryOperator y, final @NonNull IntUnaryOperator z) {
+    return this.set(x.applyAsInt(this.x), y.applyAsInt(this.y), z.applyAsInt(this.z));
+  }
+
+  @Override
+  public @NonNull MutVector3i copy() {
+    return new MutVector3i(this.x, this.y, this.z);
+  }
+
+  public @NonNull ImVector3i toImmutable() {
+    return ImVector3i.of(this.x, this.y, this.z);
+  }
+
+  @Override
+  public int hashCode() {
+    // the same value as Objects.hash(x, y, z), without boxing the components into an array
+    return 31 * (31 * (31 + this.x) + this.y) + this.z;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    return this == other || (other instanceof Vector3i && this.equals((Vector3i) other));
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{x=%d, y=%d, z=%d}", this.getClass().getSimpleName(), this.x, this.y, this.z);
+  }
+}
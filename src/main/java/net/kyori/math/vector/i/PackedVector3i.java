@@ -0,0 +1,192 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import net.kyori.math.Direction;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Packs the three components of a {@link Vector3i} into a single {@code long}.
+ *
+ * <p>x occupies the most significant bits, followed by z and then y. Each component is stored as a
+ * two's complement number of its configured width: values outside of that range wrap around, and so do
+ * the results of arithmetic on packed values.</p>
+ */
+public final class PackedVector3i {
+  public static final PackedVector3i DEFAULT = of(26, 12, 26);
+  private final int xBits;
+  private final int yBits;
+  private final int zBits;
+  private final int xShift;
+  private final int zShift;
+  private final long xMask;
+  private final long yMask;
+  private final long zMask;
+
+  public static @NonNull PackedVector3i of(final int xBits, final int yBits, final int zBits) {
+    if(xBits < 1 || xBits > Integer.SIZE || yBits < 1 || yBits > Integer.SIZE || zBits < 1 || zBits > Integer.SIZE || xBits + yBits + zBits > Long.SIZE) {
+      throw new IllegalArgumentException("invalid layout: " + xBits + "/" + yBits + "/" + zBits);
+    }
+    return new PackedVector3i(xBits, yBits, zBits);
+  }
+
+  private PackedVector3i(final int xBits, final int yBits, final int zBits) {
+    this.xBits = xBits;
+    this.yBits = yBits;
+    this.zBits = zBits;
+    this.zShift = yBits;
+    this.xShift = yBits + zBits;
+    this.yMask = mask(yBits);
+    this.zMask = mask(zBits) << this.zShift;
+    this.xMask = mask(xBits) << this.xShift;
+  }
+
+  private static long mask(final int bits) {
+    return bits == Long.SIZE ? -1L : (1L << bits) - 1L;
+  }
+
+  public int xBits() {
+    return this.xBits;
+  }
+
+  public int yBits() {
+    return this.yBits;
+  }
+
+  public int zBits() {
+    return this.zBits;
+  }
+
+  public boolean fits(final int x, final int y, final int z) {
+    return fits(x, this.xBits) && fits(y, this.yBits) && fits(z, this.zBits);
+  }
+
+  private static boolean fits(final int value, final int bits) {
+    return bits == Integer.SIZE || (value >> (bits - 1)) == (value >> 31);
+  }
+
+  public long pack(final int x, final int y, final int z) {
+    return (((long) x << this.xShift) & this.xMask) | (((long) z << this.zShift) & this.zMask) | ((long) y & this.yMask);
+  }
+
+  public long pack(final @NonNull Vector3i vector) {
+    return this.pack(vector.x(), vector.y(), vector.z());
+  }
+
+  public int x(final long packed) {
+    return (int) (packed << (Long.SIZE - this.xShift - this.xBits) >> (Long.SIZE - this.xBits));
+  }
+
+  public int y(final long packed) {
+    return (int) (packed << (Long.SIZE - this.yBits) >> (Long.SIZE - this.yBits));
+  }
+
+  public int z(final long packed) {
+    return (int) (packed << (Long.SIZE - this.zShift - this.zBits) >> (Long.SIZE - this.zBits));
+  }
+
+  public @NonNull ImVector3i unpack(final long packed) {
+    return ImVector3i.of(this.x(packed), this.y(packed), this.z(packed));
+  }
+
+  public @NonNull MutVector3i unpack(final long packed, final @NonNull MutVector3i dst) {
+    return dst.set(this.x(packed), this.y(packed), this.z(packed));
+  }
+
+  // each component is added within its own field, so a carry never spills into its neighbour
+  public long add(final long packed, final int x, final int y, final int z) {
+    return (((packed & this.xMask) + ((long) x << this.xShift)) & this.xMask)
+      | (((packed & this.zMask) + ((long) z << this.zShift)) & this.zMask)
+      | (((packed & this.yMask) + y) & this.yMask);
+  }
+
+  public long add(final long packed, final long that) {
+    return (((packed & this.xMask) + (that & this.xMask)) & this.xMask)
+      | (((packed & this.zMask) + (that & this.zMask)) & this.zMask)
+      | (((packed & this.yMask) + (that & this.yMask)) & this.yMask);
+  }
+
+  public long offsetX(final long packed, final int x) {
+    return (packed & ~this.xMask) | (((packed & this.xMask) + ((long) x << this.xShift)) & this.xMask);
+  }
+
+  public long offsetY(final long packed, final int y) {
+    return (packed & ~this.yMask) | (((packed & this.yMask) + y) & this.yMask);
+  }
+
+  public long offsetZ(final long packed, final int z) {
+    return (packed & ~this.zMask) | (((packed & this.zMask) + ((long) z << this.zShift)) & this.zMask);
+  }
+
+  public long offset(final long packed, final @NonNull Direction direction, final int distance) {
+    return this.add(packed, direction.x() * distance, direction.y() * distance, direction.z() * distance);
+  }
+
+  public long neighbor(final long packed, final @NonNull Direction direction) {
+    switch(direction) {
+      case DOWN: return this.offsetY(packed, -1);
+      case UP: return this.offsetY(packed, 1);
+      case NORTH: return this.offsetZ(packed, -1);
+      case SOUTH: return this.offsetZ(packed, 1);
+      case WEST: return this.offsetX(packed, -1);
+      default: return this.offsetX(packed, 1);
+    }
+  }
+
+  // in the order of Direction.values()
+  public long[] neighbors(final long packed, final long[] dst) {
+    dst[0] = this.offsetY(packed, -1);
+    dst[1] = this.offsetY(packed, 1);
+    dst[2] = this.offsetZ(packed, -1);
+    dst[3] = this.offsetZ(packed, 1);
+    dst[4] = this.offsetX(packed, -1);
+    dst[5] = this.offsetX(packed, 1);
+    return dst;
+  }
+
+  public long floorDiv(final long packed, final int divisor) {
+    if(divisor <= 0) throw new IllegalArgumentException("non-positive divisor: " + divisor);
+    if((divisor & (divisor - 1)) == 0) {
+      return this.floorShift(packed, Integer.numberOfTrailingZeros(divisor));
+    }
+    return this.pack(Math.floorDiv(this.x(packed), divisor), Math.floorDiv(this.y(packed), divisor), Math.floorDiv(this.z(packed), divisor));
+  }
+
+  // a floor division by 2^shift is an arithmetic shift of each sign-extended field
+  public long floorShift(final long packed, final int shift) {
+    if(shift < 0) throw new IllegalArgumentException("negative shift: " + shift);
+    // shifting a field by its full width or more leaves only its sign
+    final int xs = Math.min(shift, this.xBits - 1);
+    final int ys = Math.min(shift, this.yBits - 1);
+    final int zs = Math.min(shift, this.zBits - 1);
+    return ((packed << (Long.SIZE - this.xShift - this.xBits) >> (Long.SIZE - this.xBits + xs) << this.xShift) & this.xMask)
+      | ((packed << (Long.SIZE - this.zShift - this.zBits) >> (Long.SIZE - this.zBits + zs) << this.zShift) & this.zMask)
+      | ((packed << (Long.SIZE - this.yBits) >> (Long.SIZE - this.yBits + ys)) & this.yMask);
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{x=%d, y=%d, z=%d}", this.getClass().getSimpleName(), this.xBits, this.yBits, this.zBits);
+  }
+}
@@ -23,6 +23,8 @@
  */
 package net.kyori.math.vector.i;
 
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3d;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -110,6 +112,135 @@ public interface Vector3i extends Vectori {
     return x * x + y * y + z * z;
   }
 
+  // in long, since products of int components overflow an int
+  default long dot(final int x, final int y, final int z) {
+    return (long) this.x() * x + (long) this.y() * y + (long) this.z() * z;
+  }
+
+  default long dot(final @NonNull Vector3i that) {
+    return this.dot(that.x(), that.y(), that.z());
+  }
+
+  default long distanceSquared(final int x, final int y, final int z) {
+    final long dx = (long) this.x() - x;
+    final long dy = (long) this.y() - y;
+    final long dz = (long) this.z() - z;
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  default long distanceSquared(final @NonNull Vector3i that) {
+    return this.distanceSquared(that.x(), that.y(), that.z());
+  }
+
+  default double distance(final int x, final int y, final int z) {
+    return Math.sqrt(this.distanceSquared(x, y, z));
+  }
+
+  default double distance(final @NonNull Vector3i that) {
+    return this.distance(that.x(), that.y(), that.z());
+  }
+
+  /**
+   * Gets the angle between this vector and {@code that}, from the arctangent of their cross and dot products.
+   *
+   * @param that the other vector
+   * @return the angle, in radians in {@code [0, π]}
+   */
+  default double angle(final @NonNull Vector3i that) {
+    final double ax = this.x();
+    final double ay = this.y();
+    final double az = this.z();
+    final double bx = that.x();
+    final double by = that.y();
+    final double bz = that.z();
+    final double cx = ay * bz - az * by;
+    final double cy = az * bx - ax * bz;
+    final double cz = ax * by - ay * bx;
+    return Math.atan2(Math.sqrt(cx * cx + cy * cy + cz * cz), ax * bx + ay * by + az * bz);
+  }
+
+  // every operation writing into a destination reads both operands first, so dst may be either of them
+  default @NonNull MutVector3i cross(final @NonNull Vector3i that, final @NonNull MutVector3i dst) {
+    final int ax = this.x();
+    final int ay = this.y();
+    final int az = this.z();
+    final int bx = that.x();
+    final int by = that.y();
+    final int bz = that.z();
+    return dst.set(ay * bz - az * by, az * bx - ax * bz, ax * by - ay * bx);
+  }
+
+  default int[] cross(final @NonNull Vector3i that, final int[] dst, final int offset) {
+    final int ax = this.x();
+    final int ay = this.y();
+    final int az = this.z();
+    final int bx = that.x();
+    final int by = that.y();
+    final int bz = that.z();
+    dst[offset] = ay * bz - az * by;
+    dst[offset + 1] = az * bx - ax * bz;
+    dst[offset + 2] = ax * by - ay * bx;
+    return dst;
+  }
+
+  // lerp, reflect and project leave the integer grid, so they write doubles
+  default @NonNull MutVector3d lerp(final @NonNull Vector3i that, final double t, final @NonNull MutVector3d dst) {
+    final int x = this.x();
+    final int y = this.y();
+    final int z = this.z();
+    return dst.set(x + ((double) that.x() - x) * t, y + ((double) that.y() - y) * t, z + ((double) that.z() - z) * t);
+  }
+
+  default double[] lerp(final @NonNull Vector3i that, final double t, final double[] dst, final int offset) {
+    final int x = this.x();
+    final int y = this.y();
+    final int z = this.z();
+    dst[offset] = x + ((double) that.x() - x) * t;
+    dst[offset + 1] = y + ((double) that.y() - y) * t;
+    dst[offset + 2] = z + ((double) that.z() - z) * t;
+    return dst;
+  }
+
+  // reflects off the plane through the origin with the unit normal given
+  default @NonNull MutVector3d reflect(final @NonNull Vector3d normal, final @NonNull MutVector3d dst) {
+    final double nx = normal.x();
+    final double ny = normal.y();
+    final double nz = normal.z();
+    final double d = 2d * (this.x() * nx + this.y() * ny + this.z() * nz);
+    return dst.set(this.x() - d * nx, this.y() - d * ny, this.z() - d * nz);
+  }
+
+  default double[] reflect(final @NonNull Vector3d normal, final double[] dst, final int offset) {
+    final double nx = normal.x();
+    final double ny = normal.y();
+    final double nz = normal.z();
+    final double d = 2d * (this.x() * nx + this.y() * ny + this.z() * nz);
+    dst[offset] = this.x() - d * nx;
+    dst[offset + 1] = this.y() - d * ny;
+    dst[offset + 2] = this.z() - d * nz;
+    return dst;
+  }
+
+  // the component of this vector along onto, which must not be zero
+  default @NonNull MutVector3d project(final @NonNull Vector3i onto, final @NonNull MutVector3d dst) {
+    final int ox = onto.x();
+    final int oy = onto.y();
+    final int oz = onto.z();
+    final double scale = (double) this.dot(ox, oy, oz) / onto.dot(ox, oy, oz);
+    return dst.set(ox * scale, oy * scale, oz * scale);
+  }
+
+  default double[] project(final @NonNull Vector3i onto, final double[] dst, final int offset) {
+    final int ox = onto.x();
+    final int oy = onto.y();
+    final int oz = onto.z();
+    final double scale = (double) this.dot(ox, oy, oz) / onto.dot(ox, oy, oz);
+    dst[offset] = ox * scale;
+    dst[offset + 1] = oy * scale;
+    dst[offset + 2] = oz * scale;
+    return dst;
+  }
+
   default @NonNull Vector3i minimum(final @NonNull Vector3i that) {
     return this.map(that, Math::min);
   }
@@ -0,0 +1,240 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+public class Vector3iBuffer {
+  private final int[] x;
+  private final int[] y;
+  private final int[] z;
+
+  public static @NonNull Vector3iBuffer create(final int size) {
+    return new Vector3iBuffer(new int[size], new int[size], new int[size]);
+  }
+
+  public static @NonNull Vector3iBuffer wrap(final int[] x, final int[] y, final int[] z) {
+    if(x.length != y.length || x.length != z.length) {
+      throw new IllegalArgumentException("component arrays differ in length: " + x.length + ", " + y.length + ", " + z.length);
+    }
+    return new Vector3iBuffer(x, y, z);
+  }
+
+  protected Vector3iBuffer(final int[] x, final int[] y, final int[] z) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+  }
+
+  public int size() {
+    return this.x.length;
+  }
+
+  public int x(final int index) {
+    return this.x[index];
+  }
+
+  public int y(final int index) {
+    return this.y[index];
+  }
+
+  public int z(final int index) {
+    return this.z[index];
+  }
+
+  public int[] xs() {
+    return this.x;
+  }
+
+  public int[] ys() {
+    return this.y;
+  }
+
+  public int[] zs() {
+    return this.z;
+  }
+
+  public @NonNull ImVector3i get(final int index) {
+    return ImVector3i.of(this.x[index], this.y[index], this.z[index]);
+  }
+
+  public @NonNull MutVector3i get(final int index, final @NonNull MutVector3i dst) {
+    return dst.set(this.x[index], this.y[index], this.z[index]);
+  }
+
+  public @NonNull Vector3iBuffer set(final int index, final int x, final int y, final int z) {
+    this.x[index] = x;
+    this.y[index] = y;
+    this.z[index] = z;
+    return this;
+  }
+
+  public @NonNull Vector3iBuffer set(final int index, final @NonNull Vector3i vector) {
+    return this.set(index, vector.x(), vector.y(), vector.z());
+  }
+
+  public @NonNull Vector3iBuffer add(final int from, final int to, final int x, final int y, final int z) {
+    this.checkRange(from, to);
+    final int[] xs = this.x;
+    final int[] ys = this.y;
+    final int[] zs = this.z;
+    for(int i = from; i < to; i++) {
+      xs[i] += x;
+      ys[i] += y;
+      zs[i] += z;
+    }
+    return this;
+  }
+
+  public @NonNull Vector3iBuffer add(final int from, final int to, final @NonNull Vector3iBuffer that) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    final int[] xs = this.x;
+    final int[] ys = this.y;
+    final int[] zs = this.z;
+    final int[] txs = that.x;
+    final int[] tys = that.y;
+    final int[] tzs = that.z;
+    for(int i = from; i < to; i++) {
+      xs[i] += txs[i];
+      ys[i] += tys[i];
+      zs[i] += tzs[i];
+    }
+    return this;
+  }
+
+  public @NonNull Vector3iBuffer sub(final int from, final int to, final int x, final int y, final int z) {
+    return this.add(from, to, -x, -y, -z);
+  }
+
+  public @NonNull Vector3iBuffer sub(final int from, final int to, final @NonNull Vector3iBuffer that) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    final int[] xs = this.x;
+    final int[] ys = this.y;
+    final int[] zs = this.z;
+    final int[] txs = that.x;
+    final int[] tys = that.y;
+    final int[] tzs = that.z;
+    for(int i = from; i < to; i++) {
+      xs[i] -= txs[i];
+      ys[i] -= tys[i];
+      zs[i] -= tzs[i];
+    }
+    return this;
+  }
+
+  public @NonNull Vector3iBuffer mul(final int from, final int to, final int n) {
+    return this.mul(from, to, n, n, n);
+  }
+
+  public @NonNull Vector3iBuffer mul(final int from, final int to, final int x, final int y, final int z) {
+    this.checkRange(from, to);
+    final int[] xs = this.x;
+    final int[] ys = this.y;
+    final int[] zs = this.z;
+    for(int i = from; i < to; i++) {
+      xs[i] *= x;
+      ys[i] *= y;
+      zs[i] *= z;
+    }
+    return this;
+  }
+
+  public @NonNull Vector3iBuffer mul(final int from, final int to, final @NonNull Vector3iBuffer that) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    final int[] xs = this.x;
+    final int[] ys = this.y;
+    final int[] zs = this.z;
+    final int[] txs = that.x;
+    final int[] tys = that.y;
+    final int[] tzs = that.z;
+    for(int i = from; i < to; i++) {
+      xs[i] *= txs[i];
+      ys[i] *= tys[i];
+      zs[i] *= tzs[i];
+    }
+    return this;
+  }
+
+  public int[] lengthSquared(final int from, final int to, final int[] dst) {
+    this.checkRange(from, to);
+    checkRange(from, to, dst.length);
+    final int[] xs = this.x;
+    final int[] ys = this.y;
+    final int[] zs = this.z;
+    for(int i = from; i < to; i++) {
+      final int x = xs[i];
+      final int y = ys[i];
+      final int z = zs[i];
+      dst[i] = x * x + y * y + z * z;
+    }
+    return dst;
+  }
+
+  public @NonNull Vector3iBuffer minimum(final int from, final int to, final @NonNull Vector3iBuffer that) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    final int[] xs = this.x;
+    final int[] ys = this.y;
+    final int[] zs = this.z;
+    final int[] txs = that.x;
+    final int[] tys = that.y;
+    final int[] tzs = that.z;
+    for(int i = from; i < to; i++) {
+      xs[i] = Math.min(xs[i], txs[i]);
+      ys[i] = Math.min(ys[i], tys[i]);
+      zs[i] = Math.min(zs[i], tzs[i]);
+    }
+    return this;
+  }
+
+  public @NonNull Vector3iBuffer maximum(final int from, final int to, final @NonNull Vector3iBuffer that) {
+    this.checkRange(from, to);
+    that.checkRange(from, to);
+    final int[] xs = this.x;
+    final int[] ys = this.y;
+    final int[] zs = this.z;
+    final int[] txs = that.x;
+    final int[] tys = that.y;
+    final int[] tzs = that.z;
+    for(int i = from; i < to; i++) {
+      xs[i] = Math.max(xs[i], txs[i]);
+      ys[i] = Math.max(ys[i], tys[i]);
+      zs[i] = Math.max(zs[i], tzs[i]);
+    }
+    return this;
+  }
+
+  void checkRange(final int from, final int to) {
+    checkRange(from, to, this.x.length);
+  }
+
+  static void checkRange(final int from, final int to, final int size) {
+    if(from < 0 || from > to || to > size) {
+      throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for size " + size);
+    }
+  }
+}
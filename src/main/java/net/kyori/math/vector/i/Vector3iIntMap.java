@@ -0,0 +1,156 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A map from integer coordinates to {@code int} values, storing both as primitives.
+ *
+ * <p>Lookups do not allocate. Missing keys read as the {@link #defaultValue() default value}. The map is not
+ * thread-safe.</p>
+ */
+public class Vector3iIntMap extends Vector3iTable {
+  private final int defaultValue;
+  private int[] values;
+  private int[] oldValues;
+
+  public Vector3iIntMap() {
+    this(0, 0);
+  }
+
+  public Vector3iIntMap(final int expectedSize, final int defaultValue) {
+    super(expectedSize);
+    this.defaultValue = defaultValue;
+    this.values = new int[this.capacity()];
+  }
+
+  public int defaultValue() {
+    return this.defaultValue;
+  }
+
+  public boolean containsKey(final int x, final int y, final int z) {
+    return this.find(x, y, z) >= 0;
+  }
+
+  public boolean containsKey(final @NonNull Vector3i key) {
+    return this.containsKey(key.x(), key.y(), key.z());
+  }
+
+  public int get(final int x, final int y, final int z) {
+    final int slot = this.find(x, y, z);
+    return slot < 0 ? this.defaultValue : this.values[slot];
+  }
+
+  public int get(final @NonNull Vector3i key) {
+    return this.get(key.x(), key.y(), key.z());
+  }
+
+  public int put(final int x, final int y, final int z, final int value) {
+    final int slot = this.insert(x, y, z);
+    if(slot < 0) {
+      this.values[~slot] = value;
+      return this.defaultValue;
+    }
+    final int previous = this.values[slot];
+    this.values[slot] = value;
+    return previous;
+  }
+
+  public int put(final @NonNull Vector3i key, final int value) {
+    return this.put(key.x(), key.y(), key.z(), value);
+  }
+
+  // adds to the value of a key, treating a missing key as holding the default value
+  public int addTo(final int x, final int y, final int z, final int increment) {
+    final int slot = this.insert(x, y, z);
+    if(slot < 0) {
+      return this.values[~slot] = this.defaultValue + increment;
+    }
+    return this.values[slot] += increment;
+  }
+
+  public int remove(final int x, final int y, final int z) {
+    final int slot = this.find(x, y, z);
+    if(slot < 0) return this.defaultValue;
+    final int previous = this.values[slot];
+    this.removeAt(slot);
+    return previous;
+  }
+
+  public int remove(final @NonNull Vector3i key) {
+    return this.remove(key.x(), key.y(), key.z());
+  }
+
+  public void forEach(final @NonNull EntryConsumer consumer) {
+    final int[] keys = this.keys;
+    final boolean[] used = this.used;
+    final int[] values = this.values;
+    for(int slot = 0; slot < used.length; slot++) {
+      if(used[slot]) {
+        final int index = slot * 3;
+        consumer.accept(keys[index], keys[index + 1], keys[index + 2], values[slot]);
+      }
+    }
+  }
+
+  @Override
+  void move(final int from, final int to) {
+    this.values[to] = this.values[from];
+  }
+
+  @Override
+  void clear(final int slot) {
+  }
+
+  @Override
+  void clearAll() {
+  }
+
+  @Override
+  void beginRehash(final int capacity) {
+    this.oldValues = this.values;
+    this.values = new int[capacity];
+  }
+
+  @Override
+  void transfer(final int oldSlot, final int slot) {
+    this.values[slot] = this.oldValues[oldSlot];
+  }
+
+  @Override
+  void endRehash() {
+    this.oldValues = null;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{size=%d}", this.getClass().getSimpleName(), this.size);
+  }
+
+  @FunctionalInterface
+  public interface EntryConsumer {
+    void accept(final int x, final int y, final int z, final int value);
+  }
+}
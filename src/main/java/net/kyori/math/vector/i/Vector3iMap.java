@@ -0,0 +1,162 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * A map from integer coordinates to values, storing the coordinates as primitives.
+ *
+ * <p>Lookups do not allocate. The map is not thread-safe.</p>
+ *
+ * @param <V> the value type
+ */
+public class Vector3iMap<V> extends Vector3iTable {
+  private Object[] values;
+  private Object[] oldValues;
+
+  public Vector3iMap() {
+    this(0);
+  }
+
+  public Vector3iMap(final int expectedSize) {
+    super(expectedSize);
+    this.values = new Object[this.capacity()];
+  }
+
+  public boolean containsKey(final int x, final int y, final int z) {
+    return this.find(x, y, z) >= 0;
+  }
+
+  public boolean containsKey(final @NonNull Vector3i key) {
+    return this.containsKey(key.x(), key.y(), key.z());
+  }
+
+  @SuppressWarnings("unchecked")
+  public @Nullable V get(final int x, final int y, final int z) {
+    final int slot = this.find(x, y, z);
+    return slot < 0 ? null : (V) this.values[slot];
+  }
+
+  public @Nullable V get(final @NonNull Vector3i key) {
+    return this.get(key.x(), key.y(), key.z());
+  }
+
+  @SuppressWarnings("unchecked")
+  public @Nullable V put(final int x, final int y, final int z, final @Nullable V value) {
+    final int slot = this.insert(x, y, z);
+    if(slot < 0) {
+      this.values[~slot] = value;
+      return null;
+    }
+    final V previous = (V) this.values[slot];
+    this.values[slot] = value;
+    return previous;
+  }
+
+  public @Nullable V put(final @NonNull Vector3i key, final @Nullable V value) {
+    return this.put(key.x(), key.y(), key.z(), value);
+  }
+
+  @SuppressWarnings("unchecked")
+  public V computeIfAbsent(final int x, final int y, final int z, final @NonNull Supplier<? extends V> supplier) {
+    final int slot = this.find(x, y, z);
+    if(slot >= 0) return (V) this.values[slot];
+    // the key is only inserted once the supplier has returned, so a throwing supplier leaves the map unchanged
+    final V value = supplier.get();
+    this.put(x, y, z, value);
+    return value;
+  }
+
+  @SuppressWarnings("unchecked")
+  public @Nullable V remove(final int x, final int y, final int z) {
+    final int slot = this.find(x, y, z);
+    if(slot < 0) return null;
+    final V previous = (V) this.values[slot];
+    this.removeAt(slot);
+    return previous;
+  }
+
+  public @Nullable V remove(final @NonNull Vector3i key) {
+    return this.remove(key.x(), key.y(), key.z());
+  }
+
+  @SuppressWarnings("unchecked")
+  public void forEach(final @NonNull EntryConsumer<? super V> consumer) {
+    final int[] keys = this.keys;
+    final boolean[] used = this.used;
+    final Object[] values = this.values;
+    for(int slot = 0; slot < used.length; slot++) {
+      if(used[slot]) {
+        final int index = slot * 3;
+        consumer.accept(keys[index], keys[index + 1], keys[index + 2], (V) values[slot]);
+      }
+    }
+  }
+
+  @Override
+  void move(final int from, final int to) {
+    this.values[to] = this.values[from];
+  }
+
+  @Override
+  void clear(final int slot) {
+    this.values[slot] = null;
+  }
+
+  @Override
+  void clearAll() {
+    Arrays.fill(this.values, null);
+  }
+
+  @Override
+  void beginRehash(final int capacity) {
+    this.oldValues = this.values;
+    this.values = new Object[capacity];
+  }
+
+  @Override
+  void transfer(final int oldSlot, final int slot) {
+    this.values[slot] = this.oldValues[oldSlot];
+  }
+
+  @Override
+  void endRehash() {
+    this.oldValues = null;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{size=%d}", this.getClass().getSimpleName(), this.size);
+  }
+
+  @FunctionalInterface
+  public interface EntryConsumer<V> {
+    void accept(final int x, final int y, final int z, final V value);
+  }
+}
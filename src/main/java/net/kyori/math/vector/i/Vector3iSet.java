@@ -0,0 +1,108 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A set of integer coordinates, stored as primitives.
+ *
+ * <p>Lookups do not allocate. The set is not thread-safe.</p>
+ */
+public class Vector3iSet extends Vector3iTable {
+  public Vector3iSet() {
+    this(0);
+  }
+
+  public Vector3iSet(final int expectedSize) {
+    super(expectedSize);
+  }
+
+  public boolean contains(final int x, final int y, final int z) {
+    return this.find(x, y, z) >= 0;
+  }
+
+  public boolean contains(final @NonNull Vector3i vector) {
+    return this.contains(vector.x(), vector.y(), vector.z());
+  }
+
+  public boolean add(final int x, final int y, final int z) {
+    return this.insert(x, y, z) < 0;
+  }
+
+  public boolean add(final @NonNull Vector3i vector) {
+    return this.add(vector.x(), vector.y(), vector.z());
+  }
+
+  public boolean remove(final int x, final int y, final int z) {
+    final int slot = this.find(x, y, z);
+    if(slot < 0) return false;
+    this.removeAt(slot);
+    return true;
+  }
+
+  public boolean remove(final @NonNull Vector3i vector) {
+    return this.remove(vector.x(), vector.y(), vector.z());
+  }
+
+  public void forEach(final @NonNull Vector3iConsumer consumer) {
+    final int[] keys = this.keys;
+    final boolean[] used = this.used;
+    for(int slot = 0; slot < used.length; slot++) {
+      if(used[slot]) {
+        final int index = slot * 3;
+        consumer.accept(keys[index], keys[index + 1], keys[index + 2]);
+      }
+    }
+  }
+
+  @Override
+  void move(final int from, final int to) {
+  }
+
+  @Override
+  void clear(final int slot) {
+  }
+
+  @Override
+  void clearAll() {
+  }
+
+  @Override
+  void beginRehash(final int capacity) {
+  }
+
+  @Override
+  void transfer(final int oldSlot, final int slot) {
+  }
+
+  @Override
+  void endRehash() {
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{size=%d}", this.getClass().getSimpleName(), this.size);
+  }
+}
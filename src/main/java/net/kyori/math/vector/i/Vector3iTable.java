@@ -0,0 +1,176 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import java.util.Arrays;
+
+// open addressing over interleaved x/y/z keys, with linear probing and backward shift deletion
+abstract class Vector3iTable {
+  private static final int DEFAULT_EXPECTED_SIZE = 16;
+  // three key ints per slot, so the key array of a larger table would overflow an int length
+  private static final int MAXIMUM_CAPACITY = 1 << 29;
+  private static final float LOAD_FACTOR = 0.75f;
+  int[] keys;
+  boolean[] used;
+  int size;
+  private int mask;
+  private int threshold;
+
+  Vector3iTable(final int expectedSize) {
+    if(expectedSize < 0) throw new IllegalArgumentException("negative expected size: " + expectedSize);
+    this.allocate(capacity(Math.max(expectedSize, DEFAULT_EXPECTED_SIZE)));
+  }
+
+  private static int capacity(final int expectedSize) {
+    final long capacity = Long.highestOneBit((long) Math.ceil(expectedSize / LOAD_FACTOR) * 2 - 1);
+    if(capacity > MAXIMUM_CAPACITY) throw new IllegalStateException("too many entries: " + expectedSize);
+    return (int) capacity;
+  }
+
+  private void allocate(final int capacity) {
+    this.keys = new int[capacity * 3];
+    this.used = new boolean[capacity];
+    this.mask = capacity - 1;
+    this.threshold = (int) (capacity * LOAD_FACTOR);
+  }
+
+  static int hash(final int x, final int y, final int z) {
+    long hash = x * 0x9e3779b97f4a7c15L + y * 0xc2b2ae3d27d4eb4fL + z * 0x165667b19e3779f9L;
+    hash = (hash ^ (hash >>> 32)) * 0xd6e8feb86659fd93L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  final int capacity() {
+    return this.used.length;
+  }
+
+  public int size() {
+    return this.size;
+  }
+
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  // the slot holding the key, or -1
+  final int find(final int x, final int y, final int z) {
+    final int[] keys = this.keys;
+    final boolean[] used = this.used;
+    final int mask = this.mask;
+    for(int slot = hash(x, y, z) & mask; used[slot]; slot = (slot + 1) & mask) {
+      final int index = slot * 3;
+      if(keys[index] == x && keys[index + 1] == y && keys[index + 2] == z) {
+        return slot;
+      }
+    }
+    return -1;
+  }
+
+  // the slot holding the key, or the complement of the slot the key has been inserted into
+  final int insert(final int x, final int y, final int z) {
+    final int[] keys = this.keys;
+    final boolean[] used = this.used;
+    final int mask = this.mask;
+    int slot = hash(x, y, z) & mask;
+    for(; used[slot]; slot = (slot + 1) & mask) {
+      final int index = slot * 3;
+      if(keys[index] == x && keys[index + 1] == y && keys[index + 2] == z) {
+        return slot;
+      }
+    }
+    if(this.size >= this.threshold) {
+      if(this.used.length == MAXIMUM_CAPACITY) throw new IllegalStateException("too many entries: " + this.size);
+      this.rehash(this.used.length * 2);
+      return this.insert(x, y, z);
+    }
+    final int index = slot * 3;
+    keys[index] = x;
+    keys[index + 1] = y;
+    keys[index + 2] = z;
+    used[slot] = true;
+    this.size++;
+    return ~slot;
+  }
+
+  final void removeAt(int slot) {
+    final int[] keys = this.keys;
+    final boolean[] used = this.used;
+    final int mask = this.mask;
+    // pull back any entry further along the cluster that would no longer be reachable through the gap
+    for(int next = (slot + 1) & mask; used[next]; next = (next + 1) & mask) {
+      final int index = next * 3;
+      final int home = hash(keys[index], keys[index + 1], keys[index + 2]) & mask;
+      if(((next - home) & mask) >= ((next - slot) & mask)) {
+        System.arraycopy(keys, index, keys, slot * 3, 3);
+        this.move(next, slot);
+        slot = next;
+      }
+    }
+    used[slot] = false;
+    this.clear(slot);
+    this.size--;
+  }
+
+  private void rehash(final int capacity) {
+    if(capacity > MAXIMUM_CAPACITY) throw new IllegalStateException("too many entries: " + this.size);
+    final int[] oldKeys = this.keys;
+    final boolean[] oldUsed = this.used;
+    this.allocate(capacity);
+    this.beginRehash(capacity);
+    final int[] keys = this.keys;
+    final boolean[] used = this.used;
+    final int mask = this.mask;
+    for(int oldSlot = 0; oldSlot < oldUsed.length; oldSlot++) {
+      if(oldUsed[oldSlot]) {
+        final int oldIndex = oldSlot * 3;
+        int slot = hash(oldKeys[oldIndex], oldKeys[oldIndex + 1], oldKeys[oldIndex + 2]) & mask;
+        while(used[slot]) slot = (slot + 1) & mask;
+        System.arraycopy(oldKeys, oldIndex, keys, slot * 3, 3);
+        used[slot] = true;
+        this.transfer(oldSlot, slot);
+      }
+    }
+    this.endRehash();
+  }
+
+  public void clear() {
+    Arrays.fill(this.used, false);
+    this.size = 0;
+    this.clearAll();
+  }
+
+  // moves the value of one slot into another, within the current table
+  abstract void move(final int from, final int to);
+
+  abstract void clear(final int slot);
+
+  abstract void clearAll();
+
+  // the values of the old table stay readable by transfer until endRehash
+  abstract void beginRehash(final int capacity);
+
+  abstract void transfer(final int oldSlot, final int slot);
+
+  abstract void endRehash();
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.memory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+final class SegmentMemory implements Memory {
+  private final MemorySegment segment;
+
+  SegmentMemory(final MemorySegment segment) {
+    this.segment = segment;
+  }
+
+  @Override
+  public long byteSize() {
+    return this.segment.byteSize();
+  }
+
+  @Override
+  public int getInt(final long offset) {
+    return this.segment.get(ValueLayout.JAVA_INT_UNALIGNED, offset);
+  }
+
+  @Override
+  public void putInt(final long offset, final int value) {
+    this.segment.set(ValueLayout.JAVA_INT_UNALIGNED, offset, value);
+  }
+
+  @Override
+  public long getLong(final long offset) {
+    return this.segment.get(ValueLayout.JAVA_LONG_UNALIGNED, offset);
+  }
+
+  @Override
+  public void putLong(final long offset, final long value) {
+    this.segment.set(ValueLayout.JAVA_LONG_UNALIGNED, offset, value);
+  }
+
+  @Override
+  public float getFloat(final long offset) {
+    return this.segment.get(ValueLayout.JAVA_FLOAT_UNALIGNED, offset);
+  }
+
+  @Override
+  public void putFloat(final long offset, final float value) {
+    this.segment.set(ValueLayout.JAVA_FLOAT_UNALIGNED, offset, value);
+  }
+
+  @Override
+  public double getDouble(final long offset) {
+    return this.segment.get(ValueLayout.JAVA_DOUBLE_UNALIGNED, offset);
+  }
+
+  @Override
+  public void putDouble(final long offset, final double value) {
+    this.segment.set(ValueLayout.JAVA_DOUBLE_UNALIGNED, offset, value);
+  }
+
+  @Override
+  public void force() {
+    if(this.segment.isMapped() && !this.segment.isReadOnly()) this.segment.force();
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return String.format("%s{segment=%s}", this.getClass().getSimpleName(), this.segment);
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.d;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+// each kernel runs whole vectors at a time and leaves the remaining tail to the scalar loop
+final class SimdDoubleKernels extends DoubleKernels {
+  private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+  // as many ints as there are doubles, to round into
+  private static final VectorSpecies<Integer> INTS = VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2));
+  private static final double MIN_INT = Integer.MIN_VALUE;
+  private static final double MAX_INT = Integer.MAX_VALUE;
+
+  @Override
+  void add(final double[] a, final int from, final int to, final double n) {
+    final int bound = from + DOUBLES.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += DOUBLES.length()) {
+      DoubleVector.fromArray(DOUBLES, a, i).add(n).intoArray(a, i);
+    }
+    super.add(a, i, to, n);
+  }
+
+  @Override
+  void add(final double[] a, final double[] b, final int from, final int to) {
+    final int bound = from + DOUBLES.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += DOUBLES.length()) {
+      DoubleVector.fromArray(DOUBLES, a, i).add(DoubleVector.fromArray(DOUBLES, b, i)).intoArray(a, i);
+    }
+    super.add(a, b, i, to);
+  }
+
+  @Override
+  void sub(final double[] a, final double[] b, final int from, final int to) {
+    final int bound = from + DOUBLES.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += DOUBLES.length()) {
+      DoubleVector.fromArray(DOUBLES, a, i).sub(DoubleVector.fromArray(DOUBLES, b, i)).intoArray(a, i);
+    }
+    super.sub(a, b, i, to);
+  }
+
+  @Override
+  void mul(final double[] a, final int from, final int to, final double n) {
+    final int bound = from + DOUBLES.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += DOUBLES.length()) {
+      DoubleVector.fromArray(DOUBLES, a, i).mul(n).intoArray(a, i);
+    }
+    super.mul(a, i, to, n);
+  }
+
+  @Override
+  void mul(final double[] a, final double[] b, final int from, final int to) {
+    final int bound = from + DOUBLES.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += DOUBLES.length()) {
+      DoubleVector.fromArray(DOUBLES, a, i).mul(DoubleVector.fromArray(DOUBLES, b, i)).intoArray(a, i);
+    }
+    super.mul(a, b, i, to);
+  }
+
+  @Override
+  void min(final double[] a, final double[] b, final int from, final int to) {
+    final int bound = from + DOUBLES.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += DOUBLES.length()) {
+      DoubleVector.fromArray(DOUBLES, a, i).min(DoubleVector.fromArray(DOUBLES, b, i)).intoArray(a, i);
+    }
+    super.min(a, b, i, to);
+  }
+
+  @Override
+  void max(final double[] a, final double[] b, final int from, final int to) {
+    final int bound = from + DOUBLES.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += DOUBLES.length()) {
+      DoubleVector.fromArray(DOUBLES, a, i).max(DoubleVector.fromArray(DOUBLES, b, i)).intoArray(a, i);
+    }
+    super.max(a, b, i, to);
+  }
+
+  @Override
+  void clamp(final double[] a, final int from, final int to, final double min, final double max) {
+    final int bound = from + DOUBLES.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += DOUBLES.length()) {
+      clamp(DoubleVector.fromArray(DOUBLES, a, i), min, max).intoArray(a, i);
+    }
+    super.clamp(a, i, to, min, max);
+  }
+
+  @Override
+  void floor(final double[] a, final int from, final int to) {
+    final int bound = from + DOUBLES.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += DOUBLES.length()) {
+      floor(DoubleVector.fromArray(DOUBLES, a, i)).intoArray(a, i);
+    }
+    super.floor(a, i, to);
+  }
+
+  @Override
+  void floor(final double[] a, final int[] dst, final int from, final int to) {
+    final int bound = from + DOUBLES.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += DOUBLES.length()) {
+      ((IntVector) floor(DoubleVector.fromArray(DOUBLES, a, i)).convertShape(VectorOperators.D2I, INTS, 0)).intoArray(dst, i);
+    }
+    super.floor(a, dst, i, to);
+  }
+
+  @Override
+  void ceil(final double[] a, final int from, final int to) {
+    final int bound = from + DOUBLES.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += DOUBLES.length()) {
+      ceil(DoubleVector.fromArray(DOUBLES, a, i)).intoArray(a, i);
+    }
+    super.ceil(a, i, to);
+  }
+
+  @Override
+  void ceil(final double[] a, final int[] dst, final int from, final int to) {
+    final int bound = from + DOUBLES.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += DOUBLES.length()) {
+      ((IntVector) ceil(DoubleVector.fromArray(DOUBLES, a, i)).convertShape(VectorOperators.D2I, INTS, 0)).intoArray(dst, i);
+    }
+    super.ceil(a, dst, i, to);
+  }
+
+  @Override
+  void lengthSquared(final double[] x, final double[] y, final double[] z, final int from, final int to, final double[] dst) {
+    final int bound = from + DOUBLES.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += DOUBLES.length()) {
+      final DoubleVector vx = DoubleVector.fromArray(DOUBLES, x, i);
+      final DoubleVector vy = DoubleVector.fromArray(DOUBLES, y, i);
+      final DoubleVector vz = DoubleVector.fromArray(DOUBLES, z, i);
+      vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).intoArray(dst, i);
+    }
+    super.lengthSquared(x, y, z, i, to, dst);
+  }
+
+  @Override
+  void dot(final double[] ax, final double[] ay, final double[] az, final double[] bx, final double[] by, final double[] bz, final int from, final int to, final double[] dst) {
+    final int bound = from + DOUBLES.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += DOUBLES.length()) {
+      final DoubleVector x = DoubleVector.fromArray(DOUBLES, ax, i).mul(DoubleVector.fromArray(DOUBLES, bx, i));
+      final DoubleVector y = DoubleVector.fromArray(DOUBLES, ay, i).mul(DoubleVector.fromArray(DOUBLES, by, i));
+      final DoubleVector z = DoubleVector.fromArray(DOUBLES, az, i).mul(DoubleVector.fromArray(DOUBLES, bz, i));
+      x.add(y).add(z).intoArray(dst, i);
+    }
+    super.dot(ax, ay, az, bx, by, bz, i, to, dst);
+  }
+
+  @Override
+  void normalize(final double[] x, final double[] y, final double[] z, final int from, final int to) {
+    final int bound = from + DOUBLES.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += DOUBLES.length()) {
+      final DoubleVector vx = DoubleVector.fromArray(DOUBLES, x, i);
+      final DoubleVector vy = DoubleVector.fromArray(DOUBLES, y, i);
+      final DoubleVector vz = DoubleVector.fromArray(DOUBLES, z, i);
+      final DoubleVector length = vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).lanewise(VectorOperators.SQRT);
+      vx.div(length).intoArray(x, i);
+      vy.div(length).intoArray(y, i);
+      vz.div(length).intoArray(z, i);
+    }
+    super.normalize(x, y, z, i, to);
+  }
+
+  // as Mth.clamp, which unlike min and max leaves NaN and signed zeros alone
+  private static DoubleVector clamp(final DoubleVector v, final double min, final double max) {
+    return v.blend(min, v.lt(min)).blend(max, v.compare(VectorOperators.GT, max));
+  }
+
+  // as Mth.floor: truncated towards zero within the range of an int, then stepped down below negative fractions
+  private static DoubleVector floor(final DoubleVector v) {
+    final DoubleVector clamped = clamp(v, MIN_INT, MAX_INT);
+    final DoubleVector truncated = truncate(clamped);
+    return truncated.sub(1d, clamped.lt(truncated));
+  }
+
+  private static DoubleVector ceil(final DoubleVector v) {
+    final DoubleVector clamped = clamp(v, MIN_INT, MAX_INT);
+    final DoubleVector truncated = truncate(clamped);
+    return truncated.add(1d, clamped.compare(VectorOperators.GT, truncated));
+  }
+
+  // rounds towards zero, turning NaN into zero as a cast does
+  private static DoubleVector truncate(final DoubleVector v) {
+    return (DoubleVector) v.convert(VectorOperators.D2L, 0).convert(VectorOperators.L2D, 0);
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.f;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// each kernel runs whole vectors at a time and leaves the remaining tail to the scalar loop
+final class SimdFloatKernels extends FloatKernels {
+  private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+  // as many ints as there are floats, to round into
+  private static final VectorSpecies<Integer> INTS = VectorSpecies.of(int.class, FLOATS.vectorShape());
+  private static final float MIN_INT = Integer.MIN_VALUE;
+  private static final float MAX_INT = Integer.MAX_VALUE;
+
+  @Override
+  void add(final float[] a, final int from, final int to, final float n) {
+    final int bound = from + FLOATS.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += FLOATS.length()) {
+      FloatVector.fromArray(FLOATS, a, i).add(n).intoArray(a, i);
+    }
+    super.add(a, i, to, n);
+  }
+
+  @Override
+  void add(final float[] a, final float[] b, final int from, final int to) {
+    final int bound = from + FLOATS.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += FLOATS.length()) {
+      FloatVector.fromArray(FLOATS, a, i).add(FloatVector.fromArray(FLOATS, b, i)).intoArray(a, i);
+    }
+    super.add(a, b, i, to);
+  }
+
+  @Override
+  void sub(final float[] a, final float[] b, final int from, final int to) {
+    final int bound = from + FLOATS.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += FLOATS.length()) {
+      FloatVector.fromArray(FLOATS, a, i).sub(FloatVector.fromArray(FLOATS, b, i)).intoArray(a, i);
+    }
+    super.sub(a, b, i, to);
+  }
+
+  @Override
+  void mul(final float[] a, final int from, final int to, final float n) {
+    final int bound = from + FLOATS.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += FLOATS.length()) {
+      FloatVector.fromArray(FLOATS, a, i).mul(n).intoArray(a, i);
+    }
+    super.mul(a, i, to, n);
+  }
+
+  @Override
+  void mul(final float[] a, final float[] b, final int from, final int to) {
+    final int bound = from + FLOATS.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += FLOATS.length()) {
+      FloatVector.fromArray(FLOATS, a, i).mul(FloatVector.fromArray(FLOATS, b, i)).intoArray(a, i);
+    }
+    super.mul(a, b, i, to);
+  }
+
+  @Override
+  void min(final float[] a, final float[] b, final int from, final int to) {
+    final int bound = from + FLOATS.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += FLOATS.length()) {
+      FloatVector.fromArray(FLOATS, a, i).min(FloatVector.fromArray(FLOATS, b, i)).intoArray(a, i);
+    }
+    super.min(a, b, i, to);
+  }
+
+  @Override
+  void max(final float[] a, final float[] b, final int from, final int to) {
+    final int bound = from + FLOATS.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += FLOATS.length()) {
+      FloatVector.fromArray(FLOATS, a, i).max(FloatVector.fromArray(FLOATS, b, i)).intoArray(a, i);
+    }
+    super.max(a, b, i, to);
+  }
+
+  @Override
+  void clamp(final float[] a, final int from, final int to, final float min, final float max) {
+    final int bound = from + FLOATS.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += FLOATS.length()) {
+      clamp(FloatVector.fromArray(FLOATS, a, i), min, max).intoArray(a, i);
+    }
+    super.clamp(a, i, to, min, max);
+  }
+
+  @Override
+  void floor(final float[] a, final int from, final int to) {
+    final int bound = from + FLOATS.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += FLOATS.length()) {
+      floor(FloatVector.fromArray(FLOATS, a, i)).intoArray(a, i);
+    }
+    super.floor(a, i, to);
+  }
+
+  @Override
+  void floor(final float[] a, final int[] dst, final int from, final int to) {
+    final int bound = from + FLOATS.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += FLOATS.length()) {
+      ((IntVector) floor(FloatVector.fromArray(FLOATS, a, i)).convertShape(VectorOperators.F2I, INTS, 0)).intoArray(dst, i);
+    }
+    super.floor(a, dst, i, to);
+  }
+
+  @Override
+  void ceil(final float[] a, final int from, final int to) {
+    final int bound = from + FLOATS.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += FLOATS.length()) {
+      ceil(FloatVector.fromArray(FLOATS, a, i)).intoArray(a, i);
+    }
+    super.ceil(a, i, to);
+  }
+
+  @Override
+  void ceil(final float[] a, final int[] dst, final int from, final int to) {
+    final int bound = from + FLOATS.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += FLOATS.length()) {
+      ((IntVector) ceil(FloatVector.fromArray(FLOATS, a, i)).convertShape(VectorOperators.F2I, INTS, 0)).intoArray(dst, i);
+    }
+    super.ceil(a, dst, i, to);
+  }
+
+  @Override
+  void lengthSquared(final float[] x, final float[] y, final float[] z, final int from, final int to, final float[] dst) {
+    final int bound = from + FLOATS.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += FLOATS.length()) {
+      final FloatVector vx = FloatVector.fromArray(FLOATS, x, i);
+      final FloatVector vy = FloatVector.fromArray(FLOATS, y, i);
+      final FloatVector vz = FloatVector.fromArray(FLOATS, z, i);
+      vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).intoArray(dst, i);
+    }
+    super.lengthSquared(x, y, z, i, to, dst);
+  }
+
+  @Override
+  void dot(final float[] ax, final float[] ay, final float[] az, final float[] bx, final float[] by, final float[] bz, final int from, final int to, final float[] dst) {
+    final int bound = from + FLOATS.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += FLOATS.length()) {
+      final FloatVector x = FloatVector.fromArray(FLOATS, ax, i).mul(FloatVector.fromArray(FLOATS, bx, i));
+      final FloatVector y = FloatVector.fromArray(FLOATS, ay, i).mul(FloatVector.fromArray(FLOATS, by, i));
+      final FloatVector z = FloatVector.fromArray(FLOATS, az, i).mul(FloatVector.fromArray(FLOATS, bz, i));
+      x.add(y).add(z).intoArray(dst, i);
+    }
+    super.dot(ax, ay, az, bx, by, bz, i, to, dst);
+  }
+
+  @Override
+  void normalize(final float[] x, final float[] y, final float[] z, final int from, final int to) {
+    final int bound = from + FLOATS.loopBound(to - from);
+    int i = from;
+    for(; i < bound; i += FLOATS.length()) {
+      final FloatVector vx = FloatVector.fromArray(FLOATS, x, i);
+      final FloatVector vy = FloatVector.fromArray(FLOATS, y, i);
+      final FloatVector vz = FloatVector.fromArray(FLOATS, z, i);
+      final FloatVector length = vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).lanewise(VectorOperators.SQRT);
+      vx.div(length).intoArray(x, i);
+      vy.div(length).intoArray(y, i);
+      vz.div(length).intoArray(z, i);
+    }
+    super.normalize(x, y, z, i, to);
+  }
+
+  // as Mth.clamp, which unlike min and max leaves NaN and signed zeros alone
+  private static FloatVector clamp(final FloatVector v, final float min, final float max) {
+    return v.blend(min, v.lt(min)).blend(max, v.compare(VectorOperators.GT, max));
+  }
+
+  // as Mth.floor: truncated towards zero within the range of an int, then stepped down below negative fractions
+  private static FloatVector floor(final FloatVector v) {
+    final FloatVector clamped = clamp(v, MIN_INT, MAX_INT);
+    final FloatVector truncated = truncate(clamped);
+    return truncated.sub(1f, clamped.lt(truncated));
+  }
+
+  private static FloatVector ceil(final FloatVector v) {
+    final FloatVector clamped = clamp(v, MIN_INT, MAX_INT);
+    final FloatVector truncated = truncate(clamped);
+    return truncated.add(1f, clamped.compare(VectorOperators.GT, truncated));
+  }
+
+  // rounds towards zero, turning NaN into zero as a cast does
+  private static FloatVector truncate(final FloatVector v) {
+    return (FloatVector) v.convert(VectorOperators.F2I, 0).convert(VectorOperators.I2F, 0);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Assertions on the bytes a call allocates, counted per thread by {@link com.sun.management.ThreadMXBean}.
+ *
+ * <p>The action is warmed up first, so that it is measured as compiled code, and then run many times, so
+ * that the counter's own granularity averages out. The budget applies to the average per call. Tests are
+ * skipped on JVMs that cannot count allocations per thread.</p>
+ */
+public class AllocationAssertions {
+  private static final int WARMUP = 20_000;
+  private static final int ITERATIONS = 10_000;
+  private static final com.sun.management.@Nullable ThreadMXBean THREADS = threads();
+
+  public static void assertAllocationFree(final @NonNull Runnable action) {
+    assertAllocatesAtMost(0L, action);
+  }
+
+  public static void assertAllocatesAtMost(final long budget, final @NonNull Runnable action) {
+    final long allocated = allocatedPerCall(action);
+    if(allocated > budget) {
+      fail("expected at most " + budget + " bytes allocated per call, but was " + allocated);
+    }
+  }
+
+  public static long allocatedPerCall(final @NonNull Runnable action) {
+    final com.sun.management.ThreadMXBean threads = THREADS;
+    assumeTrue(threads != null, "the JVM does not count allocated bytes per thread");
+    for(int i = 0; i < WARMUP; i++) {
+      action.run();
+    }
+    final long thread = Thread.currentThread().getId();
+    final long before = threads.getThreadAllocatedBytes(thread);
+    for(int i = 0; i < ITERATIONS; i++) {
+      action.run();
+    }
+    final long after = threads.getThreadAllocatedBytes(thread);
+    // the second read of the counter may itself allocate a little, which rounds away here
+    return (after - before) / ITERATIONS;
+  }
+
+  private static com.sun.management.@Nullable ThreadMXBean threads() {
+    try {
+      final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+      if(!(threads instanceof com.sun.management.ThreadMXBean)) return null;
+      final com.sun.management.ThreadMXBean counting = (com.sun.management.ThreadMXBean) threads;
+      if(!counting.isThreadAllocatedMemorySupported()) return null;
+      if(!counting.isThreadAllocatedMemoryEnabled()) counting.setThreadAllocatedMemoryEnabled(true);
+      return counting;
+    } catch(final LinkageError | UnsupportedOperationException e) {
+      // com.sun.management is not part of every JVM
+      return null;
+    }
+  }
+}
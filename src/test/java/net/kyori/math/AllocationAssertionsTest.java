@@ -0,0 +1,51 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import static net.kyori.math.AllocationAssertions.allocatedPerCall;
+import static net.kyori.math.AllocationAssertions.assertAllocatesAtMost;
+import static net.kyori.math.AllocationAssertions.assertAllocationFree;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AllocationAssertionsTest {
+  private Object sink;
+  private long sum;
+
+  @Test
+  void testAllocationFree() {
+    assertAllocationFree(() -> this.sum += Mth.floor(this.sum * 0.5d));
+  }
+
+  @Test
+  void testAllocating() {
+    // the array escapes into a field, so escape analysis cannot remove it
+    assertTrue(allocatedPerCall(() -> this.sink = new long[8]) >= 64L);
+    assertThrows(AssertionFailedError.class, () -> assertAllocationFree(() -> this.sink = new long[8]));
+    assertAllocatesAtMost(1024L, () -> this.sink = new long[8]);
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math;
+
+import org.junit.jupiter.api.Test;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DirectionTest {
+  @Test
+  void testOffset() {
+    assertVectorEquals(0, -1, 0, Direction.DOWN.offset());
+    assertVectorEquals(0, 0, 1, Direction.SOUTH.offset());
+    assertVectorEquals(1, 0, 0, Direction.EAST.offset());
+  }
+
+  @Test
+  void testOpposite() {
+    for(final Direction direction : Direction.values()) {
+      assertSame(direction, direction.opposite().opposite());
+      assertEquals(0, direction.x() + direction.opposite().x());
+      assertEquals(0, direction.y() + direction.opposite().y());
+      assertEquals(0, direction.z() + direction.opposite().z());
+    }
+  }
+}
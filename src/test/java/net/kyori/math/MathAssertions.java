@@ -37,6 +37,7 @@ import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class MathAssertions {
   private static final String X_NAME = "x";
@@ -49,6 +50,12 @@ public class MathAssertions {
     assertEquals(ez, actual.z(), Z_NAME);
   }
 
+  public static void assertVectorEquals(final double ex, final double ey, final double ez, final @NonNull Vector3d actual, final double delta) {
+    assertEquals(ex, actual.x(), delta, X_NAME);
+    assertEquals(ey, actual.y(), delta, Y_NAME);
+    assertEquals(ez, actual.z(), delta, Z_NAME);
+  }
+
   public static void assertImVectorEquals(final double ex, final double ey, final double ez, final @NonNull Vector3d original, final @NonNull Function<Vector3d, Vector3d> function) {
     final double ox = original.x();
     final double oy = original.y();
@@ -58,12 +65,24 @@ public class MathAssertions {
     assertVectorEquals(ox, oy, oz, original);
   }
 
+  public static void assertMutVectorEquals(final double ex, final double ey, final double ez, final @NonNull Vector3d original, final @NonNull Function<Vector3d, Vector3d> function) {
+    final Vector3d actual = function.apply(original);
+    assertSame(original, actual);
+    assertVectorEquals(ex, ey, ez, actual);
+  }
+
   public static void assertVectorEquals(final float ex, final float ey, final float ez, final @NonNull Vector3f actual) {
     assertEquals(ex, actual.x(), X_NAME);
     assertEquals(ey, actual.y(), Y_NAME);
     assertEquals(ez, actual.z(), Z_NAME);
   }
 
+  public static void assertVectorEquals(final float ex, final float ey, final float ez, final @NonNull Vector3f actual, final float delta) {
+    assertEquals(ex, actual.x(), delta, X_NAME);
+    assertEquals(ey, actual.y(), delta, Y_NAME);
+    assertEquals(ez, actual.z(), delta, Z_NAME);
+  }
+
   public static void assertImVectorEquals(final float ex, final float ey, final float ez, final @NonNull Vector3f original, final @NonNull Function<Vector3f, Vector3f> function) {
     final float ox = original.x();
     final float oy = original.y();
@@ -73,6 +92,12 @@ public class MathAssertions {
     assertVectorEquals(ox, oy, oz, original);
   }
 
+  public static void assertMutVectorEquals(final float ex, final float ey, final float ez, final @NonNull Vector3f original, final @NonNull Function<Vector3f, Vector3f> function) {
+    final Vector3f actual = function.apply(original);
+    assertSame(original, actual);
+    assertVectorEquals(ex, ey, ez, actual);
+  }
+
   public static void assertVectorEquals(final int ex, final int ey, final int ez, final @NonNull Vector3i actual) {
     assertEquals(ex, actual.x(), X_NAME);
     assertEquals(ey, actual.y(), Y_NAME);
@@ -88,6 +113,12 @@ public class MathAssertions {
     assertVectorEquals(ox, oy, oz, original);
   }
 
+  public static void assertMutVectorEquals(final int ex, final int ey, final int ez, final @NonNull Vector3i original, final @NonNull Function<Vector3i, Vector3i> function) {
+    final Vector3i actual = function.apply(original);
+    assertSame(original, actual);
+    assertVectorEquals(ex, ey, ez, actual);
+  }
+
   public static @NonNull IterableSubject assertThat(final @NonNull DoubleStream stream) {
     return Truth.assertThat(Doubles.asList(stream.toArray()));
   }
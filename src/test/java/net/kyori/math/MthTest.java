@@ -25,9 +25,29 @@ package net.kyori.math;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
+import static net.kyori.math.AllocationAssertions.assertAllocationFree;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class MthTest {
+  private static final double[] DOUBLES = {
+    0d, -0d, 0.5d, -0.5d, 1d, -1d, 1.5d, -1.5d, 2.5d, -2.5d, 0.49999999999999994d, -0.49999999999999994d,
+    Math.nextDown(1d), -Math.nextDown(1d), Double.MIN_VALUE, -Double.MIN_VALUE, 4503599627370495.5d, -4503599627370495.5d,
+    Integer.MAX_VALUE, Integer.MAX_VALUE + 0.5d, Integer.MAX_VALUE + 1d, Integer.MAX_VALUE - 0.5d,
+    Integer.MIN_VALUE, Integer.MIN_VALUE - 0.5d, Integer.MIN_VALUE - 1d, Integer.MIN_VALUE + 0.5d,
+    Long.MAX_VALUE, -(double) Long.MAX_VALUE, 1e30d, -1e30d, Double.MAX_VALUE, -Double.MAX_VALUE,
+    Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN, -Double.NaN, 0d / 0d
+  };
+  private static final float[] FLOATS = {
+    0f, -0f, 0.5f, -0.5f, 1f, -1f, 1.5f, -1.5f, 2.5f, -2.5f, 0.49999997f, -0.49999997f,
+    Math.nextDown(1f), -Math.nextDown(1f), Float.MIN_VALUE, -Float.MIN_VALUE, 8388607.5f, -8388607.5f,
+    Integer.MAX_VALUE, Integer.MIN_VALUE, 3e9f, -3e9f, Float.MAX_VALUE, -Float.MAX_VALUE,
+    Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.NaN, 0f / 0f
+  };
   @Test
   void testClamp_double() {
     assertEquals(10.0d, Mth.clamp(5.2d, 10.0d, 20.0d));
@@ -79,4 +99,187 @@ class MthTest {
     assertEquals(20.0f, Mth.ceil(19.9f));
     assertEquals(22.0f, Mth.ceil(21.5f));
   }
+
+  @Test
+  void testFastSinCos() {
+    final Random random = new Random(42L);
+    // every magnitude up to the documented bounds: 5e-5 below 1e9 radians, 1e-4 below 1e11
+    for(int i = 0; i < 120000; i++) {
+      final double magnitude = Math.pow(10d, i % 12);
+      final double radians = (random.nextDouble() * 2d - 1d) * magnitude;
+      final double delta = magnitude <= 1e9d ? 5e-5d : 1e-4d;
+      assertEquals(Math.sin(radians), Mth.fastSin(radians), delta);
+      assertEquals(Math.cos(radians), Mth.fastCos(radians), delta);
+      assertEquals(Math.sin((float) radians), Mth.fastSin((float) radians), delta);
+      assertEquals(Math.cos((float) radians), Mth.fastCos((float) radians), delta);
+    }
+    assertEquals(0d, Mth.fastSin(0d));
+    assertEquals(1d, Mth.fastCos(0d));
+    assertEquals(1f, Mth.fastSin((float) (Math.PI / 2d)), 1e-4f);
+  }
+
+  @Test
+  void testFastAtan2() {
+    final Random random = new Random(42L);
+    for(int i = 0; i < 100000; i++) {
+      final double scale = Math.pow(10d, random.nextInt(12) - 6);
+      final double y = (random.nextDouble() * 2d - 1d) * scale;
+      final double x = (random.nextDouble() * 2d - 1d) * scale;
+      assertEquals(Math.atan2(y, x), Mth.fastAtan2(y, x), 2e-6d);
+      assertEquals(Math.atan2((float) y, (float) x), Mth.fastAtan2((float) y, (float) x), 1e-5f);
+    }
+    final double[] values = {-2d, -1d, -0d, 0d, 1d, 2d};
+    for(final double y : values) {
+      for(final double x : values) {
+        if(x == 0d && y == 0d) continue;
+        assertEquals(Math.atan2(y, x), Mth.fastAtan2(y, x), 2e-6d, y + ", " + x);
+      }
+    }
+    assertEquals(0d, Mth.fastAtan2(0d, 0d));
+    assertEquals(Double.NaN, Mth.fastAtan2(Double.NaN, 1d));
+  }
+
+  @Test
+  void testFastInvSqrt() {
+    final Random random = new Random(42L);
+    for(int i = 0; i < 100000; i++) {
+      final float value = random.nextFloat() * (float) Math.pow(10d, random.nextInt(60) - 30);
+      if(value == 0f) continue;
+      final double expected = 1d / Math.sqrt(value);
+      assertEquals(expected, Mth.fastInvSqrt(value), expected * 5e-6d);
+    }
+    assertEquals(0.5f, Mth.fastInvSqrt(4f), 0.5f * 5e-6f);
+  }
+
+  @Test
+  void testFloor_edges() {
+    for(final double value : DOUBLES) {
+      assertEquals((int) Math.floor(value), Mth.floor(value), "floor " + value);
+      assertEquals((long) Math.floor(value), Mth.floorLong(value), "floorLong " + value);
+    }
+    for(final float value : FLOATS) {
+      assertEquals((int) Math.floor(value), Mth.floor(value), "floor " + value);
+    }
+  }
+
+  @Test
+  void testCeil_edges() {
+    for(final double value : DOUBLES) {
+      assertEquals((int) Math.ceil(value), Mth.ceil(value), "ceil " + value);
+      assertEquals((long) Math.ceil(value), Mth.ceilLong(value), "ceilLong " + value);
+    }
+    for(final float value : FLOATS) {
+      assertEquals((int) Math.ceil(value), Mth.ceil(value), "ceil " + value);
+    }
+  }
+
+  @Test
+  void testRound_edges() {
+    for(final double value : DOUBLES) {
+      assertEquals((int) Mth.clamp(Math.round(value), Integer.MIN_VALUE, Integer.MAX_VALUE), Mth.round(value), "round " + value);
+      assertEquals(Math.round(value), Mth.roundLong(value), "roundLong " + value);
+    }
+    for(final float value : FLOATS) {
+      assertEquals(Math.round(value), Mth.round(value), "round " + value);
+    }
+  }
+
+  @Test
+  void testRounding_random() {
+    final Random random = new Random(42L);
+    for(int i = 0; i < 100000; i++) {
+      final double value = (random.nextDouble() * 2d - 1d) * Math.pow(2d, random.nextInt(70));
+      final float floatValue = (float) value;
+      assertEquals((int) Math.floor(value), Mth.floor(value));
+      assertEquals((long) Math.floor(value), Mth.floorLong(value));
+      assertEquals((int) Math.ceil(value), Mth.ceil(value));
+      assertEquals((long) Math.ceil(value), Mth.ceilLong(value));
+      assertEquals((int) Mth.clamp(Math.round(value), Integer.MIN_VALUE, Integer.MAX_VALUE), Mth.round(value));
+      assertEquals(Math.round(value), Mth.roundLong(value));
+      assertEquals((int) Math.floor(floatValue), Mth.floor(floatValue));
+      assertEquals((int) Math.ceil(floatValue), Mth.ceil(floatValue));
+      assertEquals(Math.round(floatValue), Mth.round(floatValue));
+    }
+  }
+
+  @Test
+  void testFloorDivMod() {
+    final int[] ints = {0, 1, -1, 2, -2, 3, -3, 7, -7, 16, -16, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE + 1};
+    for(final int x : ints) {
+      for(final int y : ints) {
+        if(y == 0) continue;
+        assertEquals(Math.floorDiv(x, y), Mth.floorDiv(x, y), x + " / " + y);
+        assertEquals(Math.floorMod(x, y), Mth.floorMod(x, y), x + " % " + y);
+        assertEquals(Math.floorDiv((long) x, y), Mth.floorDiv((long) x, (long) y), x + " / " + y);
+        assertEquals(Math.floorMod((long) x, y), Mth.floorMod((long) x, (long) y), x + " % " + y);
+      }
+    }
+    assertEquals(Math.floorDiv(Long.MIN_VALUE, -1L), Mth.floorDiv(Long.MIN_VALUE, -1L));
+    assertEquals(Math.floorMod(Long.MIN_VALUE, 3L), Mth.floorMod(Long.MIN_VALUE, 3L));
+    assertThrows(ArithmeticException.class, () -> Mth.floorDiv(1, 0));
+    assertThrows(ArithmeticException.class, () -> Mth.floorMod(1L, 0L));
+    final Random random = new Random(42L);
+    for(int i = 0; i < 100000; i++) {
+      final int x = random.nextInt();
+      final int y = random.nextInt(64) - 32;
+      final long lx = random.nextLong();
+      final long ly = random.nextLong() >> random.nextInt(64);
+      if(y != 0) {
+        assertEquals(Math.floorDiv(x, y), Mth.floorDiv(x, y));
+        assertEquals(Math.floorMod(x, y), Mth.floorMod(x, y));
+      }
+      if(ly != 0L) {
+        assertEquals(Math.floorDiv(lx, ly), Mth.floorDiv(lx, ly));
+        assertEquals(Math.floorMod(lx, ly), Mth.floorMod(lx, ly));
+      }
+    }
+  }
+
+  @Test
+  void testFloor_array() {
+    final int[] dst = new int[DOUBLES.length];
+    assertSame(dst, Mth.floor(DOUBLES, dst));
+    for(int i = 0; i < DOUBLES.length; i++) {
+      assertEquals((int) Math.floor(DOUBLES[i]), dst[i]);
+    }
+    final int[] ints = new int[5];
+    Mth.floor(new float[]{1.5f, -1.5f, 2.5f}, 1, ints, 2, 2);
+    assertArrayEquals(new int[]{0, 0, -2, 2, 0}, ints);
+    assertThrows(IndexOutOfBoundsException.class, () -> Mth.floor(new double[4], new int[3]));
+    assertThrows(IndexOutOfBoundsException.class, () -> Mth.floor(new double[4], 3, new int[4], 0, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> Mth.floor(new double[4], 0, new int[4], 0, -1));
+  }
+
+  @Test
+  void testCeil_array() {
+    final int[] dst = new int[FLOATS.length];
+    assertSame(dst, Mth.ceil(FLOATS, dst));
+    for(int i = 0; i < FLOATS.length; i++) {
+      assertEquals((int) Math.ceil(FLOATS[i]), dst[i]);
+    }
+    final int[] ints = new int[3];
+    Mth.ceil(new double[]{1.5d, -1.5d}, 0, ints, 1, 2);
+    assertArrayEquals(new int[]{0, 2, -1}, ints);
+  }
+
+  @Test
+  void testClamp_array() {
+    final double[] doubles = {-5d, 0d, 5d, 10d};
+    assertSame(doubles, Mth.clamp(doubles, -1d, 6d));
+    assertArrayEquals(new double[]{-1d, 0d, 5d, 6d}, doubles);
+    assertArrayEquals(new float[]{-5f, 0f, 2f, 10f}, Mth.clamp(new float[]{-5f, 0f, 5f, 10f}, 1, 3, 0f, 2f));
+    assertArrayEquals(new int[]{1, 1, 3, 3}, Mth.clamp(new int[]{-5, 1, 3, 10}, 1, 3));
+    assertThrows(IndexOutOfBoundsException.class, () -> Mth.clamp(new int[2], 1, 3, 0, 1));
+  }
+
+  @Test
+  void testAllocationFree() {
+    final double[] sink = new double[1];
+    final double[] doubles = {-5d, 0d, 5d, 10d};
+    final int[] ints = new int[4];
+    assertAllocationFree(() -> sink[0] += Mth.floor(sink[0] * 0.5d) + Mth.ceil(-1.5f) + Mth.round(2.5d) + Mth.floorLong(-0.5d));
+    assertAllocationFree(() -> sink[0] += Mth.floorDiv(-7, 2) + Mth.floorMod(-7L, 2L));
+    assertAllocationFree(() -> sink[0] += Mth.fastSin(sink[0]) + Mth.fastCos(1f) + Mth.fastAtan2(1d, -2d) + Mth.fastInvSqrt(2f));
+    assertAllocationFree(() -> Mth.floor(Mth.clamp(doubles, -1d, 6d), 0, ints, 0, 4));
+  }
 }
@@ -0,0 +1,169 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.aabb;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AabbdBufferTest {
+  private static AabbdBuffer random(final Random random, final int size) {
+    final AabbdBuffer buffer = AabbdBuffer.create(size);
+    for(int i = 0; i < size; i++) {
+      final double x = random.nextDouble() * 100d;
+      final double y = random.nextDouble() * 100d;
+      final double z = random.nextDouble() * 100d;
+      buffer.set(i, x, y, z, x + random.nextDouble() * 10d, y + random.nextDouble() * 10d, z + random.nextDouble() * 10d);
+    }
+    return buffer;
+  }
+
+  private static boolean bit(final long[] mask, final int index) {
+    return (mask[index >>> 6] & (1L << index)) != 0L;
+  }
+
+  @Test
+  void testCreate() {
+    final AabbdBuffer buffer = AabbdBuffer.create(4);
+    assertEquals(4, buffer.size());
+    assertSame(buffer, buffer.set(1, Aabbd.of(1d, 2d, 3d, 4d, 5d, 6d)));
+    assertEquals(Aabbd.of(1d, 2d, 3d, 4d, 5d, 6d), buffer.get(1));
+    final Aabbd dst = Aabbd.of(0d, 0d, 0d, 0d, 0d, 0d);
+    assertSame(dst, buffer.get(1, dst));
+    assertEquals(Aabbd.of(1d, 2d, 3d, 4d, 5d, 6d), dst);
+    assertEquals(1d, buffer.minXs()[1]);
+    assertEquals(2d, buffer.minYs()[1]);
+    assertEquals(3d, buffer.minZs()[1]);
+    assertEquals(4d, buffer.maxXs()[1]);
+    assertEquals(5d, buffer.maxYs()[1]);
+    assertEquals(6d, buffer.maxZs()[1]);
+    assertThrows(IllegalArgumentException.class, () -> buffer.set(0, 1d, 0d, 0d, 0d, 0d, 0d));
+    assertThrows(IllegalArgumentException.class, () -> AabbdBuffer.wrap(new double[1], new double[1], new double[1], new double[1], new double[1], new double[2]));
+  }
+
+  @Test
+  void testIntersects() {
+    final Random random = new Random(42L);
+    final AabbdBuffer buffer = random(random, 1000);
+    final long[] mask = new long[16];
+    final int[] hits = new int[1000];
+    final Aabbd box = Aabbd.of(0d, 0d, 0d, 0d, 0d, 0d);
+    for(int query = 0; query < 50; query++) {
+      final double x = random.nextDouble() * 100d;
+      final double y = random.nextDouble() * 100d;
+      final double z = random.nextDouble() * 100d;
+      box.set(x, y, z, x + 20d, y + 20d, z + 20d);
+      final int from = random.nextInt(500);
+      final int to = from + random.nextInt(500);
+      // bits outside of the range must survive
+      final long sentinel = random.nextLong();
+      for(int i = 0; i < mask.length; i++) {
+        mask[i] = sentinel;
+      }
+      final int count = buffer.intersects(box, from, to, mask);
+      assertEquals(count, buffer.intersects(box, from, to, hits));
+      int expected = 0;
+      for(int i = 0; i < 1000; i++) {
+        if(i < from || i >= to) {
+          assertEquals((sentinel & (1L << i)) != 0L, bit(mask, i));
+          continue;
+        }
+        final boolean hit = buffer.get(i).intersects(box);
+        assertEquals(hit, bit(mask, i));
+        if(hit) assertEquals(i, hits[expected++]);
+      }
+      assertEquals(expected, count);
+    }
+  }
+
+  @Test
+  void testContains() {
+    final Random random = new Random(42L);
+    final AabbdBuffer buffer = random(random, 500);
+    final long[] mask = new long[8];
+    final int[] hits = new int[500];
+    for(int query = 0; query < 50; query++) {
+      final double x = random.nextDouble() * 100d;
+      final double y = random.nextDouble() * 100d;
+      final double z = random.nextDouble() * 100d;
+      final int count = buffer.contains(x, y, z, 0, 500, mask);
+      assertEquals(count, buffer.contains(x, y, z, 0, 500, hits));
+      int expected = 0;
+      for(int i = 0; i < 500; i++) {
+        final boolean hit = buffer.get(i).contains(x, y, z);
+        assertEquals(hit, bit(mask, i));
+        if(hit) assertEquals(i, hits[expected++]);
+      }
+      assertEquals(expected, count);
+    }
+  }
+
+  @Test
+  void testRay() {
+    final Random random = new Random(42L);
+    final AabbdBuffer buffer = random(random, 500);
+    final long[] mask = new long[8];
+    for(int query = 0; query < 50; query++) {
+      final double ox = random.nextDouble() * 100d;
+      final double dx = random.nextDouble() - 0.5d;
+      final double dy = random.nextDouble() - 0.5d;
+      final double dz = random.nextDouble() - 0.5d;
+      final double maxDistance = random.nextDouble() * 200d;
+      final int count = buffer.ray(ox, 50d, 50d, dx, dy, dz, maxDistance, 0, 500, mask);
+      int expected = 0;
+      int nearest = -1;
+      double nearestDistance = Double.POSITIVE_INFINITY;
+      for(int i = 0; i < 500; i++) {
+        final double distance = buffer.get(i).ray(ox, 50d, 50d, dx, dy, dz, maxDistance);
+        assertEquals(distance >= 0d, bit(mask, i));
+        if(distance >= 0d) {
+          expected++;
+          if(distance < nearestDistance) {
+            nearest = i;
+            nearestDistance = distance;
+          }
+        }
+      }
+      assertEquals(expected, count);
+      assertEquals(nearest, buffer.nearest(ox, 50d, 50d, dx, dy, dz, maxDistance, 0, 500));
+    }
+  }
+
+  @Test
+  void testRange() {
+    final AabbdBuffer buffer = AabbdBuffer.create(100);
+    final Aabbd box = Aabbd.of(0d, 0d, 0d, 1d, 1d, 1d);
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.intersects(box, 0, 101, new long[2]));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.intersects(box, 0, 100, new long[1]));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.intersects(box, 10, 100, new int[89]));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.contains(0d, 0d, 0d, 5, 4, new int[100]));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.nearest(0d, 0d, 0d, 1d, 0d, 0d, 1d, -1, 4));
+    assertEquals(0, buffer.intersects(box, 7, 7, new long[1]));
+    assertEquals(-1, buffer.nearest(5d, 5d, 5d, 1d, 0d, 0d, 1d, 0, 100));
+  }
+}
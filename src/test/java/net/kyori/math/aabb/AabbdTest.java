@@ -0,0 +1,130 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.aabb;
+
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.MutVector3d;
+import org.junit.jupiter.api.Test;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AabbdTest {
+  private static final double DELTA = 1e-12d;
+
+  @Test
+  void testOf() {
+    final Aabbd box = Aabbd.of(ImVector3d.of(1d, 2d, 3d), ImVector3d.of(4d, 6d, 8d));
+    assertEquals(1d, box.minX());
+    assertEquals(2d, box.minY());
+    assertEquals(3d, box.minZ());
+    assertEquals(4d, box.maxX());
+    assertEquals(6d, box.maxY());
+    assertEquals(8d, box.maxZ());
+    assertEquals(3d, box.sizeX());
+    assertEquals(4d, box.sizeY());
+    assertEquals(5d, box.sizeZ());
+    assertEquals(60d, box.volume());
+    final MutVector3d dst = MutVector3d.zero();
+    assertVectorEquals(1d, 2d, 3d, box.min(dst));
+    assertVectorEquals(4d, 6d, 8d, box.max(dst));
+    assertVectorEquals(2.5d, 4d, 5.5d, box.center(dst));
+    assertThrows(IllegalArgumentException.class, () -> Aabbd.of(1d, 0d, 0d, 0d, 1d, 1d));
+    assertEquals(box, Aabbd.corners(ImVector3d.of(4d, 2d, 8d), ImVector3d.of(1d, 6d, 3d)));
+    final Aabbd copy = box.copy();
+    assertNotSame(box, copy);
+    assertEquals(box, copy);
+    assertEquals(box.hashCode(), copy.hashCode());
+    assertEquals(box, Aabbd.from(box));
+    assertEquals("Aabbd{min=(1.000000, 2.000000, 3.000000), max=(4.000000, 6.000000, 8.000000)}", box.toString());
+  }
+
+  @Test
+  void testContains() {
+    final Aabbd box = Aabbd.of(0d, 0d, 0d, 2d, 2d, 2d);
+    assertTrue(box.contains(1d, 1d, 1d));
+    assertTrue(box.contains(ImVector3d.of(2d, 0d, 2d)));
+    assertFalse(box.contains(2.1d, 1d, 1d));
+    assertFalse(box.contains(1d, -0.1d, 1d));
+    assertTrue(box.contains(Aabbd.of(0d, 1d, 1d, 2d, 2d, 1.5d)));
+    assertFalse(box.contains(Aabbd.of(0d, 1d, 1d, 2d, 2.5d, 1.5d)));
+  }
+
+  @Test
+  void testIntersects() {
+    final Aabbd box = Aabbd.of(0d, 0d, 0d, 2d, 2d, 2d);
+    assertTrue(box.intersects(Aabbd.of(1d, 1d, 1d, 3d, 3d, 3d)));
+    assertTrue(box.intersects(Aabbd.of(2d, 0d, 0d, 3d, 1d, 1d)));
+    assertTrue(box.intersects(Aabbd.of(-1d, -1d, -1d, 3d, 3d, 3d)));
+    assertFalse(box.intersects(Aabbd.of(2.1d, 0d, 0d, 3d, 1d, 1d)));
+    assertFalse(box.intersects(0d, 0d, -3d, 1d, 1d, -1d));
+  }
+
+  @Test
+  void testUnion() {
+    final Aabbd box = Aabbd.of(0d, 0d, 0d, 1d, 1d, 1d);
+    assertSame(box, box.union(2d, -1d, 0.5d));
+    assertEquals(Aabbd.of(0d, -1d, 0d, 2d, 1d, 1d), box);
+    assertEquals(Aabbd.of(-5d, -1d, 0d, 2d, 1d, 7d), box.union(Aabbd.of(-5d, 0d, 0d, 0d, 0d, 7d)));
+  }
+
+  @Test
+  void testExpand() {
+    assertEquals(Aabbd.of(-1d, -2d, -3d, 2d, 3d, 4d), Aabbd.of(0d, 0d, 0d, 1d, 1d, 1d).expand(1d, 2d, 3d));
+    assertEquals(Aabbd.of(0.25d, 0.25d, 0.25d, 0.75d, 0.75d, 0.75d), Aabbd.of(0d, 0d, 0d, 1d, 1d, 1d).expand(-0.25d));
+    assertThrows(IllegalArgumentException.class, () -> Aabbd.of(0d, 0d, 0d, 1d, 1d, 1d).expand(-1d));
+    assertEquals(Aabbd.of(1d, 2d, 3d, 2d, 3d, 4d), Aabbd.of(0d, 0d, 0d, 1d, 1d, 1d).offset(ImVector3d.of(1d, 2d, 3d)));
+  }
+
+  @Test
+  void testRay() {
+    final Aabbd box = Aabbd.of(2d, -1d, -1d, 4d, 1d, 1d);
+    assertEquals(2d, box.ray(0d, 0d, 0d, 1d, 0d, 0d, 10d), DELTA);
+    assertEquals(1d, box.ray(ImVector3d.of(0d, 0d, 0d), ImVector3d.of(2d, 0d, 0d), 10d), DELTA);
+    assertEquals(-1d, box.ray(0d, 0d, 0d, 1d, 0d, 0d, 1.5d));
+    assertEquals(-1d, box.ray(0d, 0d, 0d, -1d, 0d, 0d, 10d));
+    assertEquals(0d, box.ray(3d, 0d, 0d, 0d, 1d, 0d, 10d));
+    // parallel to a slab, outside of it
+    assertEquals(-1d, box.ray(0d, 2d, 0d, 1d, 0d, 0d, 10d));
+    // grazing an edge
+    assertEquals(2d, box.ray(0d, 1d, 0d, 1d, 0d, 0d, 10d), DELTA);
+    // the y slab is entered first, but the x slab last
+    assertEquals(2d, box.ray(0d, -2d, 0d, 1d, 1d, 0d, 10d), DELTA);
+  }
+
+  @Test
+  void testSweep() {
+    final Aabbd wall = Aabbd.of(5d, 0d, 0d, 6d, 10d, 10d);
+    final Aabbd moving = Aabbd.of(0d, 1d, 1d, 1d, 2d, 2d);
+    assertEquals(0.5d, wall.sweep(moving, 8d, 0d, 0d), DELTA);
+    assertEquals(-1d, wall.sweep(moving, 3d, 0d, 0d));
+    assertEquals(-1d, wall.sweep(moving, 8d, 20d, 0d));
+    assertEquals(0d, wall.sweep(Aabbd.of(5.5d, 1d, 1d, 6.5d, 2d, 2d), ImVector3d.of(1d, 0d, 0d)));
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.aabb;
+
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.i.ImVector3i;
+import net.kyori.math.vector.i.MutVector3i;
+import org.junit.jupiter.api.Test;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AabbiTest {
+  private static final double DELTA = 1e-12d;
+
+  @Test
+  void testOf() {
+    final Aabbi box = Aabbi.of(ImVector3i.of(1, 2, 3), ImVector3i.of(4, 6, 8));
+    assertEquals(1, box.minX());
+    assertEquals(8, box.maxZ());
+    assertEquals(4, box.sizeX());
+    assertEquals(5, box.sizeY());
+    assertEquals(6, box.sizeZ());
+    assertEquals(120L, box.volume());
+    final MutVector3i dst = MutVector3i.zero();
+    assertVectorEquals(1, 2, 3, box.min(dst));
+    assertVectorEquals(4, 6, 8, box.max(dst));
+    assertEquals(box, Aabbi.corners(ImVector3i.of(4, 2, 8), ImVector3i.of(1, 6, 3)));
+    assertThrows(IllegalArgumentException.class, () -> Aabbi.of(0, 1, 0, 0, 0, 0));
+    final Aabbi copy = box.copy();
+    assertNotSame(box, copy);
+    assertEquals(box, copy);
+    assertEquals(box.hashCode(), copy.hashCode());
+    assertEquals(box, Aabbi.from(box));
+    assertEquals(Aabbd.of(1d, 2d, 3d, 5d, 7d, 9d), box.toAabbd());
+    assertEquals("Aabbi{min=(1, 2, 3), max=(4, 6, 8)}", box.toString());
+  }
+
+  @Test
+  void testContains() {
+    final Aabbi box = Aabbi.of(0, 0, 0, 2, 2, 2);
+    assertTrue(box.contains(0, 0, 0));
+    assertTrue(box.contains(ImVector3i.of(2, 2, 2)));
+    assertFalse(box.contains(3, 2, 2));
+    assertTrue(box.contains(Aabbi.of(1, 1, 1, 2, 2, 2)));
+    assertFalse(box.contains(Aabbi.of(1, 1, 1, 3, 2, 2)));
+  }
+
+  @Test
+  void testIntersects() {
+    final Aabbi box = Aabbi.of(0, 0, 0, 2, 2, 2);
+    assertTrue(box.intersects(Aabbi.of(2, 2, 2, 3, 3, 3)));
+    assertFalse(box.intersects(Aabbi.of(3, 0, 0, 4, 2, 2)));
+    assertFalse(box.intersects(0, 0, -2, 2, 2, -1));
+  }
+
+  @Test
+  void testUnion() {
+    final Aabbi box = Aabbi.of(0, 0, 0, 1, 1, 1);
+    assertSame(box, box.union(3, -1, 0));
+    assertEquals(Aabbi.of(0, -1, 0, 3, 1, 1), box);
+    assertEquals(Aabbi.of(-2, -1, 0, 3, 1, 5), box.union(Aabbi.of(-2, 0, 0, 0, 0, 5)));
+  }
+
+  @Test
+  void testExpand() {
+    assertEquals(Aabbi.of(-1, -2, -3, 2, 3, 4), Aabbi.of(0, 0, 0, 1, 1, 1).expand(1, 2, 3));
+    assertEquals(Aabbi.of(1, 1, 1, 1, 1, 1), Aabbi.of(0, 0, 0, 2, 2, 2).expand(-1));
+    assertEquals(Aabbi.of(1, 2, 3, 2, 3, 4), Aabbi.of(0, 0, 0, 1, 1, 1).offset(ImVector3i.of(1, 2, 3)));
+  }
+
+  @Test
+  void testRay() {
+    final Aabbi block = Aabbi.of(2, 0, 0, 2, 0, 0);
+    assertEquals(1.5d, block.ray(0.5d, 0.5d, 0.5d, 1d, 0d, 0d, 10d), DELTA);
+    assertEquals(-1d, block.ray(ImVector3d.of(0.5d, 1.5d, 0.5d), ImVector3d.of(1d, 0d, 0d), 10d));
+    assertEquals(0d, block.ray(2.5d, 0.5d, 0.5d, 0d, 0d, 1d, 10d));
+  }
+
+  @Test
+  void testSweep() {
+    final Aabbi floor = Aabbi.of(-10, 0, -10, 10, 0, 10);
+    final Aabbd player = Aabbd.of(-0.3d, 3d, -0.3d, 0.3d, 4.8d, 0.3d);
+    assertEquals(0.5d, floor.sweep(player, 0d, -4d, 0d), DELTA);
+    assertEquals(-1d, floor.sweep(player, ImVector3d.of(0d, 1d, 0d)));
+  }
+}
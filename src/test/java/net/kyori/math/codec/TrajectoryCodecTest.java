@@ -0,0 +1,210 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.codec;
+
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.MutVector3d;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrajectoryCodecTest {
+  private static final double PRECISION = 1d / 4096d;
+
+  @Test
+  void testCreate() {
+    final TrajectoryEncoder encoder = TrajectoryEncoder.create(PRECISION, 20);
+    assertEquals(PRECISION, encoder.precision());
+    assertEquals(20, encoder.keyframeInterval());
+    assertEquals(PRECISION, TrajectoryDecoder.create(PRECISION).precision());
+    assertThrows(IllegalArgumentException.class, () -> TrajectoryEncoder.create(0d, 20));
+    assertThrows(IllegalArgumentException.class, () -> TrajectoryEncoder.create(Double.NaN, 20));
+    assertThrows(IllegalArgumentException.class, () -> TrajectoryEncoder.create(PRECISION, 0));
+    assertThrows(IllegalArgumentException.class, () -> TrajectoryDecoder.create(Double.POSITIVE_INFINITY));
+  }
+
+  @Test
+  void testRoundTrip() {
+    final Random random = new Random(42L);
+    final double[] positions = walk(random, 1000);
+    final TrajectoryEncoder encoder = TrajectoryEncoder.create(PRECISION, 50);
+    final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+    for(int i = 0; i < positions.length; i += 3) {
+      encoder.encode(buffer, positions[i], positions[i + 1], positions[i + 2]);
+    }
+    encoder.flush(buffer);
+    assertEquals(1000L, encoder.samples());
+    buffer.flip();
+    // far smaller than the 24 bytes of three raw doubles
+    assertTrue(buffer.remaining() < 1000 * 8, "encoded " + buffer.remaining() + " bytes");
+    final TrajectoryDecoder decoder = TrajectoryDecoder.create(PRECISION);
+    final MutVector3d position = MutVector3d.zero();
+    for(int i = 0; i < positions.length; i += 3) {
+      assertTrue(decoder.decode(buffer, position));
+      assertVectorEquals(positions[i], positions[i + 1], positions[i + 2], position, PRECISION / 2d + 1e-9d);
+    }
+    assertEquals(0, buffer.remaining());
+  }
+
+  @Test
+  void testStationary() {
+    final TrajectoryEncoder encoder = TrajectoryEncoder.create(PRECISION, 1000);
+    final ByteBuffer buffer = ByteBuffer.allocate(1024);
+    encoder.encode(buffer, ImVector3d.of(100d, 64d, -100d));
+    // a keyframe: six header bits and three longs
+    assertEquals(24, buffer.position());
+    for(int i = 0; i < 100; i++) {
+      encoder.encode(buffer, 100d, 64d, -100d);
+    }
+    encoder.flush(buffer);
+    assertEquals(24 + (6 + 100 * 6 + 7) / 8, buffer.position());
+  }
+
+  @Test
+  void testPackets() {
+    final TrajectoryEncoder encoder = TrajectoryEncoder.create(PRECISION, 1000);
+    final TrajectoryDecoder decoder = TrajectoryDecoder.create(PRECISION);
+    final MutVector3d position = MutVector3d.zero();
+    for(int i = 0; i < 10; i++) {
+      final ByteBuffer packet = ByteBuffer.allocate(64);
+      encoder.encode(packet, i * 0.25d, 64d, -i * 0.5d);
+      encoder.flush(packet);
+      packet.flip();
+      assertTrue(decoder.decode(packet, position));
+      decoder.align();
+      assertVectorEquals(i * 0.25d, 64d, -i * 0.5d, position);
+      assertEquals(0, packet.remaining());
+    }
+  }
+
+  @Test
+  void testKeyframes() {
+    final TrajectoryEncoder encoder = TrajectoryEncoder.create(PRECISION, 4);
+    final ByteBuffer buffer = ByteBuffer.allocate(4096);
+    for(int i = 0; i < 12; i++) {
+      encoder.encode(buffer, i, 0d, 0d);
+      encoder.flush(buffer);
+    }
+    buffer.flip();
+    final TrajectoryDecoder decoder = TrajectoryDecoder.create(PRECISION);
+    final MutVector3d position = MutVector3d.zero();
+    // a decoder joining late skips residuals until the keyframe at sample 4
+    skip(buffer, decoder, position, 2);
+    decoder.reset();
+    assertFalse(decoder.synced());
+    for(int i = 2; i < 4; i++) {
+      assertFalse(decoder.decode(buffer, position));
+      decoder.align();
+    }
+    for(int i = 4; i < 12; i++) {
+      assertTrue(decoder.decode(buffer, position));
+      decoder.align();
+      assertVectorEquals(i, 0d, 0d, position);
+    }
+    assertTrue(decoder.synced());
+  }
+
+  @Test
+  void testReset() {
+    final TrajectoryEncoder encoder = TrajectoryEncoder.create(PRECISION, 1000);
+    final ByteBuffer buffer = ByteBuffer.allocate(1024);
+    encoder.encode(buffer, 1d, 2d, 3d);
+    final int keyframe = buffer.position();
+    encoder.encode(buffer, 1d, 2d, 3d);
+    encoder.flush(buffer);
+    final int start = buffer.position();
+    encoder.reset();
+    encoder.encode(buffer, 1d, 2d, 3d);
+    assertEquals(keyframe, buffer.position() - start);
+  }
+
+  @Test
+  void testTeleport() {
+    final TrajectoryEncoder encoder = TrajectoryEncoder.create(1e-9d, 1000);
+    final ByteBuffer buffer = ByteBuffer.allocate(1024);
+    final double[] positions = {0d, 0d, 0d, 1e9d, -1e9d, 5d, -1e9d, 1e9d, 5d, -1e9d, 1e9d, 5.5d};
+    for(int i = 0; i < positions.length; i += 3) {
+      encoder.encode(buffer, positions[i], positions[i + 1], positions[i + 2]);
+    }
+    encoder.flush(buffer);
+    buffer.flip();
+    final TrajectoryDecoder decoder = TrajectoryDecoder.create(1e-9d);
+    final MutVector3d position = MutVector3d.zero();
+    for(int i = 0; i < positions.length; i += 3) {
+      assertTrue(decoder.decode(buffer, position));
+      assertVectorEquals(positions[i], positions[i + 1], positions[i + 2], position, 1e-6d);
+    }
+  }
+
+  @Test
+  void testOverflow() {
+    final TrajectoryEncoder encoder = TrajectoryEncoder.create(PRECISION, 1000);
+    final ByteBuffer buffer = ByteBuffer.allocate(TrajectoryEncoder.MAX_SAMPLE_BYTES - 1);
+    assertThrows(BufferOverflowException.class, () -> encoder.encode(buffer, 1d, 2d, 3d));
+    assertEquals(0, buffer.position());
+    assertEquals(0L, encoder.samples());
+  }
+
+  private static void skip(final ByteBuffer buffer, final TrajectoryDecoder decoder, final MutVector3d position, final int count) {
+    for(int i = 0; i < count; i++) {
+      decoder.decode(buffer, position);
+      decoder.align();
+    }
+  }
+
+  // positions of something walking about, with the occasional jump
+  static double[] walk(final Random random, final int count) {
+    final double[] positions = new double[count * 3];
+    double x = random.nextDouble() * 10000d - 5000d;
+    double y = 64d;
+    double z = random.nextDouble() * 10000d - 5000d;
+    double yaw = random.nextDouble() * Math.PI * 2d;
+    double vy = 0d;
+    for(int i = 0; i < count; i++) {
+      yaw += random.nextGaussian() * 0.1d;
+      final double speed = i % 200 < 150 ? 0.2d : 0d;
+      x += Math.cos(yaw) * speed;
+      z += Math.sin(yaw) * speed;
+      if(y <= 64d && random.nextInt(40) == 0) vy = 0.42d;
+      y += vy;
+      vy = (vy - 0.08d) * 0.98d;
+      if(y < 64d) {
+        y = 64d;
+        vy = 0d;
+      }
+      positions[i * 3] = x;
+      positions[i * 3 + 1] = y;
+      positions[i * 3 + 2] = z;
+    }
+    return positions;
+  }
+}
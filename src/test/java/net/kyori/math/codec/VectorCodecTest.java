@@ -0,0 +1,281 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.codec;
+
+import net.kyori.math.memory.Memory;
+import net.kyori.math.vector.d.DirectVector3dBuffer;
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.f.ImVector3f;
+import net.kyori.math.vector.f.MutVector3f;
+import net.kyori.math.vector.i.ImVector3i;
+import net.kyori.math.vector.i.MutVector3i;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VectorCodecTest {
+  private static final VectorCodec[] CODECS = {VectorCodec.fixed(), VectorCodec.varint(), VectorCodec.zigzag()};
+
+  @Test
+  void testOf() {
+    for(final VectorCodec codec : CODECS) {
+      assertSame(codec, VectorCodec.of(codec.encoding()));
+    }
+    assertEquals(12, VectorCodec.fixed().maxBytes());
+    assertEquals(15, VectorCodec.zigzag().maxBytes());
+  }
+
+  @Test
+  void testSize() {
+    assertEquals(12, size(VectorCodec.fixed(), 0, -1, 1));
+    assertEquals(3, size(VectorCodec.varint(), 0, 1, 127));
+    assertEquals(2 + 3 + 5, size(VectorCodec.varint(), 128, 1 << 14, -1));
+    assertEquals(3, size(VectorCodec.zigzag(), 0, -1, 63));
+    assertEquals(2 + 5 + 5, size(VectorCodec.zigzag(), -65, Integer.MIN_VALUE, Integer.MAX_VALUE));
+  }
+
+  @Test
+  void testZigzag() {
+    assertEquals(0, VectorCodec.zigzag(0));
+    assertEquals(1, VectorCodec.zigzag(-1));
+    assertEquals(2, VectorCodec.zigzag(1));
+    assertEquals(-1, VectorCodec.zigzag(Integer.MIN_VALUE));
+    for(final int value : new int[]{0, 1, -1, 1000, -1000, Integer.MIN_VALUE, Integer.MAX_VALUE}) {
+      assertEquals(value, VectorCodec.unzigzag(VectorCodec.zigzag(value)));
+    }
+  }
+
+  @Test
+  void testInts() throws IOException {
+    final int[] values = randomInts(new Random(42L), 300);
+    for(final VectorCodec codec : CODECS) {
+      final ByteBuffer heap = ByteBuffer.allocate(100 * codec.maxBytes());
+      final ByteBuffer direct = ByteBuffer.allocateDirect(100 * codec.maxBytes());
+      codec.write(heap, values, 0, 100);
+      codec.write(direct, values, 0, 100);
+      heap.flip();
+      direct.flip();
+      assertEquals(heap, direct);
+      // the stream form writes the same bytes as a big-endian buffer
+      assertArrayEquals(Arrays.copyOf(heap.array(), heap.limit()), stream(out -> codec.write(out, values, 0, 100)));
+      assertArrayEquals(values, codec.read(heap, new int[300], 0, 100));
+      assertArrayEquals(values, codec.read(direct, new int[300], 0, 100));
+      assertEquals(0, heap.remaining());
+      assertEquals(0, direct.remaining());
+      final DataInputStream in = new DataInputStream(new ByteArrayInputStream(heap.array(), 0, heap.limit()));
+      assertArrayEquals(values, codec.read(in, new int[300], 0, 100));
+    }
+  }
+
+  @Test
+  void testInts_single() throws IOException {
+    for(final VectorCodec codec : CODECS) {
+      final ByteBuffer buffer = ByteBuffer.allocate(2 * codec.maxBytes());
+      codec.write(buffer, ImVector3i.of(-5, 300, Integer.MIN_VALUE));
+      codec.write(buffer, 7, 0, -1);
+      buffer.flip();
+      assertVectorEquals(-5, 300, Integer.MIN_VALUE, codec.read(buffer, MutVector3i.zero()));
+      assertVectorEquals(7, 0, -1, codec.read(buffer, MutVector3i.zero()));
+      final DataInputStream in = new DataInputStream(new ByteArrayInputStream(stream(out -> codec.write(out, ImVector3i.of(1, -2, 3)))));
+      assertVectorEquals(1, -2, 3, codec.read(in, MutVector3i.zero()));
+    }
+  }
+
+  @Test
+  void testInts_offset() {
+    final int[] values = {9, 9, 1, 2, 3, 4, 5, 6, 9};
+    for(final VectorCodec codec : CODECS) {
+      final ByteBuffer buffer = ByteBuffer.allocate(64);
+      buffer.position(3);
+      final ByteBuffer slice = buffer.slice();
+      codec.write(slice, values, 2, 2);
+      slice.flip();
+      final int[] read = new int[8];
+      codec.read(slice, read, 1, 2);
+      assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 0}, read);
+      assertThrows(IndexOutOfBoundsException.class, () -> codec.write(buffer, values, 7, 1));
+      assertThrows(IndexOutOfBoundsException.class, () -> codec.read(buffer, read, -1, 1));
+    }
+  }
+
+  @Test
+  void testInts_littleEndian() {
+    final ByteBuffer buffer = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+    VectorCodec.fixed().write(buffer, new int[]{1, 2, 3}, 0, 1);
+    assertEquals(1, buffer.get(0));
+    assertEquals(2, buffer.get(4));
+    buffer.flip();
+    assertArrayEquals(new int[]{1, 2, 3}, VectorCodec.fixed().read(buffer, new int[3], 0, 1));
+  }
+
+  @Test
+  void testInts_underflow() {
+    for(final VectorCodec codec : CODECS) {
+      final ByteBuffer heap = ByteBuffer.allocate(64);
+      codec.write(heap, 1000, 2000, 3000);
+      heap.flip().limit(heap.limit() - 1);
+      assertThrows(BufferUnderflowException.class, () -> codec.read(heap, new int[3], 0, 1));
+      heap.rewind();
+      assertThrows(BufferUnderflowException.class, () -> codec.read(heap.asReadOnlyBuffer(), MutVector3i.zero()));
+    }
+  }
+
+  @Test
+  void testInts_overflow() {
+    final ByteBuffer buffer = ByteBuffer.allocate(6);
+    VectorCodec.varint().write(buffer, 1, 2, 3);
+    assertThrows(BufferOverflowException.class, () -> VectorCodec.varint().write(buffer, 1, 1 << 20, 3));
+    // the varint that did not fit was not started
+    assertEquals(4, buffer.position());
+  }
+
+  @Test
+  void testInts_malformed() {
+    final byte[] bytes = {-1, -1, -1, -1, -1, 1, 0, 0};
+    assertThrows(IllegalArgumentException.class, () -> VectorCodec.varint().read(ByteBuffer.wrap(bytes), new int[3], 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> VectorCodec.varint().read(ByteBuffer.wrap(bytes).asReadOnlyBuffer(), MutVector3i.zero()));
+    assertThrows(IllegalArgumentException.class, () -> VectorCodec.varint().read(new DataInputStream(new ByteArrayInputStream(bytes)), MutVector3i.zero()));
+  }
+
+  @Test
+  void testInts_outOfRange() {
+    // a fifth byte may only carry the top four bits of an int
+    final byte[] valid = {-1, -1, -1, -1, 0x0f, 0, 0};
+    assertVectorEquals(-1, 0, 0, VectorCodec.varint().read(ByteBuffer.wrap(valid), MutVector3i.zero()));
+    final byte[] bytes = {-1, -1, -1, -1, 0x7f, 0, 0};
+    assertThrows(IllegalArgumentException.class, () -> VectorCodec.varint().read(ByteBuffer.wrap(bytes), new int[3], 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> VectorCodec.varint().read(ByteBuffer.wrap(bytes).asReadOnlyBuffer(), MutVector3i.zero()));
+    assertThrows(IllegalArgumentException.class, () -> VectorCodec.varint().read(new DataInputStream(new ByteArrayInputStream(bytes)), MutVector3i.zero()));
+  }
+
+  @Test
+  void testInts_truncatedDirect() {
+    final ByteBuffer direct = ByteBuffer.allocateDirect(8);
+    direct.put(new byte[]{-1, -1}).flip();
+    assertThrows(BufferUnderflowException.class, () -> VectorCodec.varint().read(direct, MutVector3i.zero()));
+    // the varint that was cut short was not consumed
+    assertEquals(0, direct.position());
+    direct.clear();
+    direct.put(new byte[]{-1, -1, -1, -1, 0x7f}).flip();
+    assertThrows(IllegalArgumentException.class, () -> VectorCodec.varint().read(direct, MutVector3i.zero()));
+    assertEquals(0, direct.position());
+  }
+
+  @Test
+  void testFloats() throws IOException {
+    final Random random = new Random(42L);
+    final float[] values = new float[30];
+    for(int i = 0; i < values.length; i++) {
+      values[i] = random.nextFloat() * 200f - 100f;
+    }
+    values[0] = Float.NaN;
+    values[1] = -0f;
+    final ByteBuffer direct = ByteBuffer.allocateDirect(values.length * Float.BYTES);
+    VectorCodec.zigzag().write(direct, values, 0, 10);
+    direct.flip();
+    assertArrayEquals(values, VectorCodec.zigzag().read(direct, new float[30], 0, 10));
+    final byte[] bytes = stream(out -> VectorCodec.fixed().write(out, values, 0, 10));
+    assertArrayEquals(values, VectorCodec.fixed().read(new DataInputStream(new ByteArrayInputStream(bytes)), new float[30], 0, 10));
+    final ByteBuffer buffer = ByteBuffer.allocate(24);
+    VectorCodec.fixed().write(buffer, ImVector3f.of(1f, -2f, 3.5f));
+    VectorCodec.fixed().write(buffer, 4f, 5f, 6f);
+    buffer.flip();
+    assertVectorEquals(1f, -2f, 3.5f, VectorCodec.fixed().read(buffer, MutVector3f.zero()));
+    assertVectorEquals(4f, 5f, 6f, VectorCodec.fixed().read(buffer, MutVector3f.zero()));
+  }
+
+  @Test
+  void testDoubles() throws IOException {
+    final Random random = new Random(42L);
+    final double[] values = new double[30];
+    for(int i = 0; i < values.length; i++) {
+      values[i] = random.nextDouble() * 200d - 100d;
+    }
+    final ByteBuffer heap = ByteBuffer.allocate(values.length * Double.BYTES);
+    VectorCodec.varint().write(heap, values, 0, 10);
+    assertArrayEquals(heap.array(), stream(out -> VectorCodec.varint().write(out, values, 0, 10)));
+    heap.flip();
+    assertArrayEquals(values, VectorCodec.varint().read(heap, new double[30], 0, 10));
+    final DataInputStream in = new DataInputStream(new ByteArrayInputStream(stream(out -> VectorCodec.fixed().write(out, ImVector3d.of(1d, 2d, 3d)))));
+    assertVectorEquals(1d, 2d, 3d, VectorCodec.fixed().read(in, MutVector3d.zero()));
+  }
+
+  @Test
+  void testDoubles_direct() {
+    final double[] values = {1d, 2d, 3d, -4d, -5d, -6d};
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(values.length * Double.BYTES).order(ByteOrder.nativeOrder());
+    VectorCodec.fixed().write(buffer, values, 0, 2);
+    // fixed-width doubles in native order are the layout of a direct vector buffer, so it reads them in place
+    final DirectVector3dBuffer vectors = DirectVector3dBuffer.wrap(Memory.wrap(buffer));
+    assertEquals(2, vectors.size());
+    assertVectorEquals(-4d, -5d, -6d, vectors.get(1));
+  }
+
+  private static int size(final VectorCodec codec, final int x, final int y, final int z) {
+    final ByteBuffer buffer = ByteBuffer.allocate(codec.maxBytes());
+    codec.write(buffer, x, y, z);
+    return buffer.position();
+  }
+
+  private static int[] randomInts(final Random random, final int length) {
+    final int[] values = new int[length];
+    for(int i = 0; i < length; i++) {
+      // a mix of short and long varints
+      switch(i % 3) {
+        case 0: values[i] = random.nextInt(256) - 128; break;
+        case 1: values[i] = random.nextInt(1 << 20) - (1 << 19); break;
+        default: values[i] = random.nextInt();
+      }
+    }
+    return values;
+  }
+
+  private static byte[] stream(final Writer writer) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    writer.write(new DataOutputStream(bytes));
+    return bytes.toByteArray();
+  }
+
+  @FunctionalInterface
+  private interface Writer {
+    void write(final DataOutputStream out) throws IOException;
+  }
+}
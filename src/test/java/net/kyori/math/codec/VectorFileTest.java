@@ -0,0 +1,217 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.codec;
+
+import net.kyori.math.vector.d.DirectVector3d;
+import net.kyori.math.vector.d.DirectVector3dBuffer;
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.f.DirectVector3fBuffer;
+import net.kyori.math.vector.f.ImVector3f;
+import net.kyori.math.vector.i.DirectVector3iBuffer;
+import net.kyori.math.vector.i.ImVector3i;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VectorFileTest {
+  private Path path;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    this.path = Files.createTempFile("vectors", ".bin");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    Files.deleteIfExists(this.path);
+  }
+
+  @Test
+  void testCreate() throws IOException {
+    try(final VectorFile file = VectorFile.create(this.path, VectorFile.Type.DOUBLE, 4)) {
+      assertEquals(VectorFile.Type.DOUBLE, file.type());
+      assertEquals(0, file.size());
+      assertEquals(4, file.capacity());
+      assertEquals(0, file.doubles().size());
+    }
+    assertEquals(VectorFile.HEADER_BYTES + 4 * 3 * Double.BYTES, Files.size(this.path));
+    assertThrows(IllegalArgumentException.class, () -> VectorFile.create(this.path, VectorFile.Type.INT, -1));
+  }
+
+  @Test
+  void testAppendDoubles() throws IOException {
+    try(final VectorFile file = VectorFile.create(this.path, VectorFile.Type.DOUBLE, 1)) {
+      assertEquals(0, file.append(1d, 2d, 3d));
+      assertEquals(1, file.append(ImVector3d.of(4d, 5d, 6d)));
+      assertEquals(2, file.size());
+      final DirectVector3dBuffer doubles = file.doubles();
+      assertVectorEquals(1d, 2d, 3d, doubles.get(0));
+      assertVectorEquals(4d, 5d, 6d, doubles.get(1));
+    }
+    try(final VectorFile file = VectorFile.openReadOnly(this.path)) {
+      assertEquals(2, file.size());
+      assertVectorEquals(4d, 5d, 6d, file.doubles().view(1));
+    }
+  }
+
+  @Test
+  void testAppendFloats() throws IOException {
+    try(final VectorFile file = VectorFile.create(this.path, VectorFile.Type.FLOAT, 0)) {
+      file.append(1f, 2f, 3f);
+      file.append(ImVector3f.of(4f, 5f, 6f));
+    }
+    try(final VectorFile file = VectorFile.open(this.path)) {
+      final DirectVector3fBuffer floats = file.floats();
+      assertEquals(2, floats.size());
+      assertVectorEquals(1f, 2f, 3f, floats.get(0));
+      assertVectorEquals(4f, 5f, 6f, floats.get(1));
+    }
+  }
+
+  @Test
+  void testAppendInts() throws IOException {
+    try(final VectorFile file = VectorFile.create(this.path, VectorFile.Type.INT, 0)) {
+      file.append(1, -2, 3);
+      file.append(ImVector3i.of(Integer.MIN_VALUE, 0, Integer.MAX_VALUE));
+    }
+    try(final VectorFile file = VectorFile.openReadOnly(this.path)) {
+      final DirectVector3iBuffer ints = file.ints();
+      assertVectorEquals(1, -2, 3, ints.view(0));
+      assertVectorEquals(Integer.MIN_VALUE, 0, Integer.MAX_VALUE, ints.get(1));
+    }
+  }
+
+  @Test
+  void testGrow() throws IOException {
+    final Random random = new Random(42L);
+    final double[] expected = new double[3 * 1000];
+    for(int i = 0; i < expected.length; i++) {
+      expected[i] = random.nextGaussian();
+    }
+    try(final VectorFile file = VectorFile.create(this.path, VectorFile.Type.DOUBLE, 0)) {
+      file.append(expected[0], expected[1], expected[2]);
+      final DirectVector3d first = file.doubles().view(0);
+      for(int i = 1; i < 1000; i++) {
+        file.append(expected[3 * i], expected[3 * i + 1], expected[3 * i + 2]);
+      }
+      assertTrue(file.capacity() >= 1000);
+      // views taken before the file grew stay valid
+      assertVectorEquals(expected[0], expected[1], expected[2], first);
+    }
+    try(final VectorFile file = VectorFile.open(this.path)) {
+      final DirectVector3dBuffer doubles = file.doubles();
+      assertEquals(1000, doubles.size());
+      for(int i = 0; i < 1000; i++) {
+        assertVectorEquals(expected[3 * i], expected[3 * i + 1], expected[3 * i + 2], doubles.get(i));
+      }
+      // appending to a reopened file continues after the vectors in it
+      assertEquals(1000, file.append(1d, 2d, 3d));
+    }
+    try(final VectorFile file = VectorFile.openReadOnly(this.path)) {
+      assertEquals(1001, file.size());
+    }
+  }
+
+  @Test
+  void testForce() throws IOException {
+    try(final VectorFile file = VectorFile.create(this.path, VectorFile.Type.INT, 4)) {
+      file.append(1, 2, 3);
+      file.force();
+      // the count reaches the file before it is closed
+      try(final VectorFile other = VectorFile.openReadOnly(this.path)) {
+        assertEquals(1, other.size());
+        assertVectorEquals(1, 2, 3, other.ints().get(0));
+      }
+    }
+  }
+
+  @Test
+  void testWrongType() throws IOException {
+    try(final VectorFile file = VectorFile.create(this.path, VectorFile.Type.FLOAT, 1)) {
+      assertThrows(IllegalStateException.class, file::doubles);
+      assertThrows(IllegalStateException.class, file::ints);
+      assertThrows(IllegalStateException.class, () -> file.append(1d, 2d, 3d));
+      assertThrows(IllegalStateException.class, () -> file.append(1, 2, 3));
+    }
+  }
+
+  @Test
+  void testReadOnly() throws IOException {
+    VectorFile.create(this.path, VectorFile.Type.DOUBLE, 1).close();
+    try(final VectorFile file = VectorFile.openReadOnly(this.path)) {
+      assertThrows(IllegalStateException.class, () -> file.append(1d, 2d, 3d));
+    }
+  }
+
+  @Test
+  void testClosed() throws IOException {
+    final VectorFile file = VectorFile.create(this.path, VectorFile.Type.DOUBLE, 1);
+    file.close();
+    file.close();
+    assertThrows(IllegalStateException.class, () -> file.append(1d, 2d, 3d));
+  }
+
+  @Test
+  void testInvalidHeader() throws IOException {
+    Files.write(this.path, new byte[8]);
+    assertThrows(IOException.class, () -> VectorFile.open(this.path));
+    this.writeHeader(0x12345678, VectorFile.VERSION, 0, 0);
+    assertThrows(IOException.class, () -> VectorFile.open(this.path));
+    this.writeHeader(Integer.reverseBytes(VectorFile.MAGIC), VectorFile.VERSION, 0, 0);
+    final IOException order = assertThrows(IOException.class, () -> VectorFile.open(this.path));
+    assertTrue(order.getMessage().contains("byte order"));
+    this.writeHeader(VectorFile.MAGIC, VectorFile.VERSION + 1, 0, 0);
+    assertThrows(IOException.class, () -> VectorFile.open(this.path));
+    this.writeHeader(VectorFile.MAGIC, VectorFile.VERSION, 3, 0);
+    assertThrows(IOException.class, () -> VectorFile.open(this.path));
+    // a count beyond the vectors in the file
+    this.writeHeader(VectorFile.MAGIC, VectorFile.VERSION, 0, 1);
+    assertThrows(IOException.class, () -> VectorFile.openReadOnly(this.path));
+    this.writeHeader(VectorFile.MAGIC, VectorFile.VERSION, 0, 0);
+    try(final VectorFile file = VectorFile.openReadOnly(this.path)) {
+      assertEquals(0, file.size());
+    }
+  }
+
+  private void writeHeader(final int magic, final int version, final int type, final long size) throws IOException {
+    final ByteBuffer header = ByteBuffer.allocate(VectorFile.HEADER_BYTES).order(ByteOrder.nativeOrder());
+    header.putInt(0, magic);
+    header.putInt(4, version);
+    header.putInt(VectorFile.TYPE_OFFSET, type);
+    header.putLong(VectorFile.SIZE_OFFSET, size);
+    Files.write(this.path, header.array());
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.curve;
+
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import net.kyori.math.vector.f.Vector3fBuffer;
+import net.kyori.math.vector.i.ImVector3i;
+import net.kyori.math.vector.i.Vector3iBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CurveSortTest {
+  @Test
+  void testOrder() {
+    assertEquals(0, CurveSort.order(new long[0]).length);
+    assertArrayEquals(new int[]{0}, CurveSort.order(new long[]{5L}));
+    assertArrayEquals(new int[]{2, 0, 3, 1}, CurveSort.order(new long[]{3L, -1L, 1L, 3L}));
+  }
+
+  @Test
+  void testOrder_random() {
+    final Random random = new Random(42L);
+    final long[] keys = new long[10000];
+    for(int i = 0; i < keys.length; i++) {
+      // plenty of duplicates to check that the sort is stable
+      keys[i] = random.nextBoolean() ? random.nextLong() : random.nextInt(100);
+    }
+    final Integer[] expected = new Integer[keys.length];
+    for(int i = 0; i < expected.length; i++) {
+      expected[i] = i;
+    }
+    Arrays.sort(expected, Comparator.comparing(i -> keys[i], Long::compareUnsigned));
+    final int[] order = CurveSort.order(keys);
+    for(int i = 0; i < order.length; i++) {
+      assertEquals((int) expected[i], order[i]);
+    }
+  }
+
+  @Test
+  void testSort_intBuffer() {
+    final Random random = new Random(42L);
+    final Vector3iBuffer buffer = Vector3iBuffer.create(1000);
+    for(int i = 0; i < buffer.size(); i++) {
+      buffer.set(i, random.nextInt(200) - 100, random.nextInt(200) - 100, random.nextInt(200) - 100);
+    }
+    for(final Curve curve : Curve.values()) {
+      final Vector3iBuffer original = Vector3iBuffer.wrap(buffer.xs().clone(), buffer.ys().clone(), buffer.zs().clone());
+      final int[] order = CurveSort.sort(buffer, curve);
+      for(int i = 0; i < buffer.size(); i++) {
+        assertEquals(original.get(order[i]), buffer.get(i));
+        if(i > 0) assertTrue(curve.encode(buffer.get(i - 1)) <= curve.encode(buffer.get(i)));
+      }
+    }
+  }
+
+  @Test
+  void testSort_doubleBuffer() {
+    final Random random = new Random(42L);
+    final Vector3dBuffer buffer = Vector3dBuffer.create(1000);
+    for(int i = 0; i < buffer.size(); i++) {
+      buffer.set(i, random.nextDouble() * 100d, random.nextDouble() * 100d, random.nextDouble() * 100d);
+    }
+    final Quantizer3d quantizer = Quantizer3d.fit(0d, 0d, 0d, 100d, 100d, 100d);
+    final Vector3dBuffer original = Vector3dBuffer.wrap(buffer.xs().clone(), buffer.ys().clone(), buffer.zs().clone());
+    final int[] order = CurveSort.sort(buffer, quantizer, Curve.HILBERT);
+    final long[] keys = CurveSort.keys(buffer, quantizer, Curve.HILBERT);
+    for(int i = 0; i < buffer.size(); i++) {
+      assertEquals(original.get(order[i]), buffer.get(i));
+      if(i > 0) assertTrue(keys[i - 1] <= keys[i]);
+    }
+  }
+
+  @Test
+  void testSort_floatBuffer() {
+    final Random random = new Random(42L);
+    final Vector3fBuffer buffer = Vector3fBuffer.create(1000);
+    for(int i = 0; i < buffer.size(); i++) {
+      buffer.set(i, random.nextFloat() * 100f, random.nextFloat() * 100f, random.nextFloat() * 100f);
+    }
+    final Quantizer3d quantizer = Quantizer3d.of(0d, 0d, 0d, 16d);
+    final Vector3fBuffer original = Vector3fBuffer.wrap(buffer.xs().clone(), buffer.ys().clone(), buffer.zs().clone());
+    final int[] order = CurveSort.sort(buffer, quantizer, Curve.MORTON);
+    final long[] keys = CurveSort.keys(buffer, quantizer, Curve.MORTON);
+    for(int i = 0; i < buffer.size(); i++) {
+      assertEquals(original.get(order[i]), buffer.get(i));
+      if(i > 0) assertTrue(keys[i - 1] <= keys[i]);
+    }
+  }
+
+  @Test
+  void testSort_arrays() {
+    final ImVector3i[] vectors = {ImVector3i.of(1, 1, 1), ImVector3i.of(0, 0, 0), ImVector3i.of(-1, -1, -1), ImVector3i.of(1, 0, 0)};
+    assertArrayEquals(new int[]{2, 1, 3, 0}, CurveSort.sort(vectors, Curve.MORTON));
+    assertArrayEquals(new ImVector3i[]{ImVector3i.of(-1, -1, -1), ImVector3i.of(0, 0, 0), ImVector3i.of(1, 0, 0), ImVector3i.of(1, 1, 1)}, vectors);
+    final ImVector3d[] doubles = {ImVector3d.of(1d, 1d, 1d), ImVector3d.of(0.1d, 0.1d, 0.1d)};
+    CurveSort.sort(doubles, Quantizer3d.of(0d, 0d, 0d, 1d), Curve.HILBERT);
+    assertEquals(ImVector3d.of(0.1d, 0.1d, 0.1d), doubles[0]);
+  }
+
+  @Test
+  void testPermute() {
+    final int[] order = {2, 0, 1};
+    final int[] ints = {10, 20, 30};
+    CurveSort.permute(order, ints);
+    assertArrayEquals(new int[]{30, 10, 20}, ints);
+    final long[] longs = {10L, 20L, 30L};
+    CurveSort.permute(order, longs);
+    assertArrayEquals(new long[]{30L, 10L, 20L}, longs);
+    final float[] floats = {10f, 20f, 30f};
+    CurveSort.permute(order, floats);
+    assertArrayEquals(new float[]{30f, 10f, 20f}, floats);
+    final double[] doubles = {10d, 20d, 30d};
+    CurveSort.permute(order, doubles);
+    assertArrayEquals(new double[]{30d, 10d, 20d}, doubles);
+    final String[] strings = {"a", "b", "c"};
+    CurveSort.permute(order, strings);
+    assertArrayEquals(new String[]{"c", "a", "b"}, strings);
+  }
+}
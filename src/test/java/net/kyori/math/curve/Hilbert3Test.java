@@ -0,0 +1,90 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.curve;
+
+import net.kyori.math.vector.i.ImVector3i;
+import net.kyori.math.vector.i.MutVector3i;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Hilbert3Test {
+  @Test
+  void testEncode() {
+    assertEquals(0L, Hilbert3.encode(Morton3.MIN, Morton3.MIN, Morton3.MIN));
+    assertEquals(Hilbert3.encode(1, 2, 3), Hilbert3.encode(ImVector3i.of(1, 2, 3)));
+  }
+
+  @Test
+  void testDecode() {
+    assertVectorEquals(Morton3.MIN, Morton3.MIN, Morton3.MIN, Hilbert3.decode(0L));
+    assertVectorEquals(1, -2, 3, Hilbert3.decode(Hilbert3.encode(1, -2, 3)));
+    final MutVector3i dst = MutVector3i.zero();
+    assertSame(dst, Hilbert3.decode(Hilbert3.encode(Morton3.MAX, Morton3.MIN, 0), dst));
+    assertVectorEquals(Morton3.MAX, Morton3.MIN, 0, dst);
+  }
+
+  @Test
+  void testDecode_random() {
+    final Random random = new Random(42L);
+    final MutVector3i dst = MutVector3i.zero();
+    for(int i = 0; i < 10000; i++) {
+      final int x = random.nextInt(1 << Morton3.BITS) + Morton3.MIN;
+      final int y = random.nextInt(1 << Morton3.BITS) + Morton3.MIN;
+      final int z = random.nextInt(1 << Morton3.BITS) + Morton3.MIN;
+      assertVectorEquals(x, y, z, Hilbert3.decode(Hilbert3.encode(x, y, z), dst));
+    }
+  }
+
+  @Test
+  void testAdjacency() {
+    final Random random = new Random(42L);
+    final MutVector3i a = MutVector3i.zero();
+    final MutVector3i b = MutVector3i.zero();
+    for(int i = 0; i < 10000; i++) {
+      final long code = random.nextLong() & (Long.MAX_VALUE - 1);
+      Hilbert3.decode(code, a);
+      Hilbert3.decode(code + 1, b);
+      assertEquals(1, Math.abs(a.x() - b.x()) + Math.abs(a.y() - b.y()) + Math.abs(a.z() - b.z()));
+    }
+  }
+
+  @Test
+  void testCube() {
+    // the first 8^n codes fill a cube with sides of 2^n
+    final Set<ImVector3i> seen = new HashSet<>();
+    for(long code = 0; code < 512; code++) {
+      final ImVector3i vector = Hilbert3.decode(code);
+      assertTrue(vector.x() - Morton3.MIN < 8 && vector.y() - Morton3.MIN < 8 && vector.z() - Morton3.MIN < 8);
+      assertTrue(seen.add(vector));
+    }
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.curve;
+
+import net.kyori.math.vector.i.ImVector3i;
+import net.kyori.math.vector.i.MutVector3i;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Morton3Test {
+  @Test
+  void testSpread() {
+    assertEquals(0L, Morton3.spread(0));
+    assertEquals(1L, Morton3.spread(1));
+    assertEquals(0b1001L, Morton3.spread(0b11));
+    assertEquals(0x1249249249249249L, Morton3.spread(Morton3.MASK));
+    assertEquals(0x1249249249249249L, Morton3.spread(-1));
+    final Random random = new Random(42L);
+    for(int i = 0; i < 10000; i++) {
+      final int value = random.nextInt(1 << Morton3.BITS);
+      assertEquals(value, Morton3.compact(Morton3.spread(value)));
+    }
+  }
+
+  @Test
+  void testEncode() {
+    assertEquals(0L, Morton3.encode(Morton3.MIN, Morton3.MIN, Morton3.MIN));
+    assertEquals(1L, Morton3.encode(Morton3.MIN + 1, Morton3.MIN, Morton3.MIN));
+    assertEquals(2L, Morton3.encode(Morton3.MIN, Morton3.MIN + 1, Morton3.MIN));
+    assertEquals(4L, Morton3.encode(Morton3.MIN, Morton3.MIN, Morton3.MIN + 1));
+    assertEquals(Long.MAX_VALUE, Morton3.encode(Morton3.MAX, Morton3.MAX, Morton3.MAX));
+    assertEquals(Morton3.encode(1, 2, 3), Morton3.encode(ImVector3i.of(1, 2, 3)));
+    // the bias keeps negative coordinates below positive ones
+    assertTrue(Morton3.encode(-1, -1, -1) < Morton3.encode(0, 0, 0));
+    assertTrue(Morton3.encode(-1, 0, 0) < Morton3.encode(0, 0, 0));
+  }
+
+  @Test
+  void testDecode() {
+    assertVectorEquals(1, -2, 3, Morton3.decode(Morton3.encode(1, -2, 3)));
+    assertVectorEquals(Morton3.MIN, Morton3.MAX, 0, Morton3.decode(Morton3.encode(Morton3.MIN, Morton3.MAX, 0)));
+    final MutVector3i dst = MutVector3i.zero();
+    assertSame(dst, Morton3.decode(Morton3.encode(-4, 5, -6), dst));
+    assertVectorEquals(-4, 5, -6, dst);
+    // components outside of the range wrap around
+    assertEquals(Morton3.MIN, Morton3.x(Morton3.encode(Morton3.MAX + 1, 0, 0)));
+  }
+
+  @Test
+  void testDecode_random() {
+    final Random random = new Random(42L);
+    for(int i = 0; i < 10000; i++) {
+      final int x = random.nextInt(1 << Morton3.BITS) + Morton3.MIN;
+      final int y = random.nextInt(1 << Morton3.BITS) + Morton3.MIN;
+      final int z = random.nextInt(1 << Morton3.BITS) + Morton3.MIN;
+      final long code = Morton3.encode(x, y, z);
+      assertEquals(x, Morton3.x(code));
+      assertEquals(y, Morton3.y(code));
+      assertEquals(z, Morton3.z(code));
+    }
+  }
+
+  @Test
+  void testRanges() {
+    assertThrows(IllegalArgumentException.class, () -> Morton3.ranges(0, 0, 0, 1, 1, 1, 0));
+    assertEquals(0, Morton3.ranges(1, 0, 0, 0, 0, 0, 16).length);
+    assertEquals(0, Morton3.ranges(Morton3.MAX + 1, 0, 0, Morton3.MAX + 2, 0, 0, 16).length);
+    final long code = Morton3.encode(3, 4, 5);
+    assertEquals(Arrays.toString(new long[]{code, code}), Arrays.toString(Morton3.ranges(3, 4, 5, 3, 4, 5, 16)));
+    // an aligned cube is a single range
+    final long[] cube = Morton3.ranges(ImVector3i.of(0, 0, 0), ImVector3i.of(7, 7, 7), 16);
+    assertEquals(2, cube.length);
+    assertEquals(Morton3.encode(0, 0, 0), cube[0]);
+    assertEquals(Morton3.encode(7, 7, 7), cube[1]);
+    final long[] everything = Morton3.ranges(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, 1);
+    assertEquals(Arrays.toString(new long[]{0L, Long.MAX_VALUE}), Arrays.toString(everything));
+  }
+
+  @Test
+  void testRanges_random() {
+    final Random random = new Random(42L);
+    for(int i = 0; i < 200; i++) {
+      final int minX = random.nextInt(40) - 20;
+      final int minY = random.nextInt(40) - 20;
+      final int minZ = random.nextInt(40) - 20;
+      final int maxX = minX + random.nextInt(12);
+      final int maxY = minY + random.nextInt(12);
+      final int maxZ = minZ + random.nextInt(12);
+      final long volume = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+      final long[] exact = Morton3.ranges(minX, minY, minZ, maxX, maxY, maxZ, Integer.MAX_VALUE);
+      assertRanges(exact);
+      assertEquals(volume, covered(exact));
+      final int maxRanges = 1 + random.nextInt(8);
+      final long[] bounded = Morton3.ranges(minX, minY, minZ, maxX, maxY, maxZ, maxRanges);
+      assertRanges(bounded);
+      assertTrue(bounded.length / 2 <= maxRanges);
+      assertTrue(covered(bounded) >= volume);
+      for(int x = minX; x <= maxX; x++) {
+        for(int y = minY; y <= maxY; y++) {
+          for(int z = minZ; z <= maxZ; z++) {
+            final long code = Morton3.encode(x, y, z);
+            assertTrue(contains(exact, code));
+            assertTrue(contains(bounded, code));
+          }
+        }
+      }
+    }
+  }
+
+  private static void assertRanges(final long[] ranges) {
+    assertEquals(0, ranges.length % 2);
+    for(int i = 0; i < ranges.length; i += 2) {
+      assertTrue(ranges[i] <= ranges[i + 1]);
+      // sorted, disjoint and merged
+      if(i > 0) assertTrue(ranges[i - 1] + 1 < ranges[i]);
+    }
+  }
+
+  private static long covered(final long[] ranges) {
+    long covered = 0;
+    for(int i = 0; i < ranges.length; i += 2) {
+      final long length = ranges[i + 1] - ranges[i] + 1;
+      // the whole curve is one more code than a long can count
+      if(length <= 0 || covered + length < 0) return Long.MAX_VALUE;
+      covered += length;
+    }
+    return covered;
+  }
+
+  private static boolean contains(final long[] ranges, final long code) {
+    for(int i = 0; i < ranges.length; i += 2) {
+      if(code >= ranges[i] && code <= ranges[i + 1]) return true;
+    }
+    return false;
+  }
+}
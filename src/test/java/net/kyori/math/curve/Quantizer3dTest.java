@@ -0,0 +1,102 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.curve;
+
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.i.MutVector3i;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Quantizer3dTest {
+  @Test
+  void testOf() {
+    final Quantizer3d quantizer = Quantizer3d.of(ImVector3d.of(1d, 2d, 3d), 4d);
+    assertEquals(1d, quantizer.originX());
+    assertEquals(2d, quantizer.originY());
+    assertEquals(3d, quantizer.originZ());
+    assertEquals(4d, quantizer.scale());
+    assertThrows(IllegalArgumentException.class, () -> Quantizer3d.of(0d, 0d, 0d, 0d));
+    assertThrows(IllegalArgumentException.class, () -> Quantizer3d.of(0d, 0d, 0d, Double.NaN));
+    assertThrows(IllegalArgumentException.class, () -> Quantizer3d.of(0d, 0d, 0d, Double.POSITIVE_INFINITY));
+  }
+
+  @Test
+  void testQuantize() {
+    final Quantizer3d quantizer = Quantizer3d.of(1d, 2d, 3d, 2d);
+    assertEquals(0, quantizer.x(1d));
+    assertEquals(0, quantizer.x(1.49d));
+    assertEquals(1, quantizer.x(1.5d));
+    assertEquals(-1, quantizer.y(1.9d));
+    assertEquals(4, quantizer.z(5d));
+    assertEquals(Morton3.MIN, quantizer.x(-1e300d));
+    assertEquals(Morton3.MAX, quantizer.x(1e300d));
+    assertEquals(0, quantizer.x(Double.NaN));
+    final MutVector3i dst = MutVector3i.zero();
+    assertSame(dst, quantizer.quantize(1d, 2d, 3d, dst));
+    assertVectorEquals(0, 0, 0, dst);
+  }
+
+  @Test
+  void testDequantize() {
+    final Quantizer3d quantizer = Quantizer3d.of(1d, 2d, 3d, 2d);
+    final MutVector3d dst = MutVector3d.zero();
+    assertSame(dst, quantizer.dequantize(0, -1, 4, dst));
+    assertVectorEquals(1.25d, 1.75d, 5.25d, dst);
+  }
+
+  @Test
+  void testFit() {
+    final Quantizer3d quantizer = Quantizer3d.fit(ImVector3d.of(-10d, 0d, 0d), ImVector3d.of(10d, 5d, 5d));
+    assertEquals(0d, quantizer.originX());
+    assertEquals(2.5d, quantizer.originY());
+    assertTrue(quantizer.x(-10d) >= Morton3.MIN && quantizer.x(-10d) < Morton3.MIN + 2);
+    assertTrue(quantizer.x(10d) <= Morton3.MAX && quantizer.x(10d) > Morton3.MAX - 2);
+    assertEquals(1d, Quantizer3d.fit(1d, 1d, 1d, 1d, 1d, 1d).scale());
+  }
+
+  @Test
+  void testEncode() {
+    final Random random = new Random(42L);
+    final Quantizer3d quantizer = Quantizer3d.fit(-1000d, 0d, -1000d, 1000d, 256d, 1000d);
+    final MutVector3d dst = MutVector3d.zero();
+    final double tolerance = 1d / quantizer.scale();
+    for(final Curve curve : Curve.values()) {
+      for(int i = 0; i < 1000; i++) {
+        final ImVector3d vector = ImVector3d.of(random.nextDouble() * 2000d - 1000d, random.nextDouble() * 256d, random.nextDouble() * 2000d - 1000d);
+        quantizer.decode(curve, quantizer.encode(curve, vector), dst);
+        assertEquals(vector.x(), dst.x(), tolerance);
+        assertEquals(vector.y(), dst.y(), tolerance);
+        assertEquals(vector.z(), dst.z(), tolerance);
+      }
+    }
+  }
+}
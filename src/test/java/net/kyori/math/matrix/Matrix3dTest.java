@@ -0,0 +1,181 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.matrix;
+
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Matrix3dTest {
+  private static final double DELTA = 1e-9d;
+  private static final double HALF_PI = Math.PI / 2d;
+
+  // diagonally dominant, so that the matrices stay well conditioned
+  private static Matrix3d random(final Random random) {
+    final double[] values = new double[9];
+    for(int i = 0; i < values.length; i++) {
+      values[i] = random.nextDouble() * 4d - 2d + (i % 4 == 0 ? 4d : 0d);
+    }
+    return Matrix3d.of(
+      values[0], values[1], values[2],
+      values[3], values[4], values[5],
+      values[6], values[7], values[8]
+    );
+  }
+
+  private static void assertMatrixEquals(final Matrix3d expected, final Matrix3d actual) {
+    assertArrayEquals(expected.get(new double[9], 0), actual.get(new double[9], 0), DELTA);
+  }
+
+  @Test
+  void testOf() {
+    final Matrix3d matrix = Matrix3d.of(
+      1d, 2d, 3d,
+      4d, 5d, 6d,
+      7d, 8d, 9d
+    );
+    assertEquals(1d, matrix.m00());
+    assertEquals(6d, matrix.m12());
+    assertEquals(7d, matrix.m20());
+    final Matrix3d copy = matrix.copy();
+    assertNotSame(matrix, copy);
+    assertEquals(matrix, copy);
+    assertEquals(matrix.hashCode(), copy.hashCode());
+    assertEquals(matrix, Matrix3d.from(matrix));
+    assertEquals(0d, matrix.determinant(), DELTA);
+    assertEquals(Matrix3d.identity(), matrix.setIdentity());
+  }
+
+  @Test
+  void testFrom() {
+    final Matrix4d matrix = Matrix4d.rotation(0.5d, 1d, 2d, 3d).translate(4d, 5d, 6d);
+    assertMatrixEquals(Matrix3d.rotation(0.5d, 1d, 2d, 3d), Matrix3d.from(matrix));
+  }
+
+  @Test
+  void testMul() {
+    final Random random = new Random(42L);
+    final MutVector3d expected = MutVector3d.zero();
+    final MutVector3d actual = MutVector3d.zero();
+    for(int i = 0; i < 100; i++) {
+      final Matrix3d a = random(random);
+      final Matrix3d b = random(random);
+      a.transform(b.transform(1d, 2d, 3d, expected), expected);
+      final Matrix3d product = a.copy();
+      assertSame(product, product.mul(b));
+      product.transform(1d, 2d, 3d, actual);
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), actual, DELTA * 100d);
+      assertMatrixEquals(product, b.copy().premul(a));
+    }
+  }
+
+  @Test
+  void testRotation() {
+    final MutVector3d dst = MutVector3d.zero();
+    assertSame(dst, Matrix3d.rotationX(HALF_PI).transform(ImVector3d.of(0d, 1d, 0d), dst));
+    assertVectorEquals(0d, 0d, 1d, dst, DELTA);
+    assertVectorEquals(0d, 0d, -1d, Matrix3d.rotationY(HALF_PI).transform(1d, 0d, 0d, dst), DELTA);
+    assertVectorEquals(0d, 1d, 0d, Matrix3d.rotationZ(HALF_PI).transform(1d, 0d, 0d, dst), DELTA);
+    assertMatrixEquals(Matrix3d.rotationY(0.3d), Matrix3d.rotation(0.3d, ImVector3d.of(0d, 3d, 0d)));
+    assertMatrixEquals(Matrix3d.scaling(2d).mul(Matrix3d.rotationZ(0.3d)), Matrix3d.scaling(2d).rotate(0.3d, ImVector3d.of(0d, 0d, 1d)));
+  }
+
+  @Test
+  void testScale() {
+    assertVectorEquals(2d, 6d, 12d, Matrix3d.scaling(2d, 3d, 4d).transform(1d, 2d, 3d, MutVector3d.zero()));
+    assertMatrixEquals(Matrix3d.rotationX(1d).mul(Matrix3d.scaling(2d, 3d, 4d)), Matrix3d.rotationX(1d).scale(2d, 3d, 4d));
+    assertMatrixEquals(Matrix3d.scaling(3d), Matrix3d.identity().scale(3d));
+  }
+
+  @Test
+  void testTranspose() {
+    assertEquals(Matrix3d.of(
+      1d, 4d, 7d,
+      2d, 5d, 8d,
+      3d, 6d, 9d
+    ), Matrix3d.of(
+      1d, 2d, 3d,
+      4d, 5d, 6d,
+      7d, 8d, 9d
+    ).transpose());
+  }
+
+  @Test
+  void testInvert() {
+    final Random random = new Random(42L);
+    for(int i = 0; i < 100; i++) {
+      final Matrix3d matrix = random(random);
+      final Matrix3d inverse = matrix.copy();
+      assertSame(inverse, inverse.invert());
+      assertMatrixEquals(Matrix3d.identity(), matrix.copy().mul(inverse));
+    }
+    assertThrows(ArithmeticException.class, () -> Matrix3d.scaling(0d, 1d, 1d).invert());
+  }
+
+  @Test
+  void testNormal() {
+    final Matrix4d matrix = Matrix4d.scaling(1d, 2d, 1d).translate(5d, 5d, 5d);
+    final Matrix3d normal = Matrix3d.normal(matrix);
+    final MutVector3d dst = MutVector3d.zero();
+    // the normal of the plane x = y stays perpendicular to the scaled plane x = 2y
+    normal.transform(1d, -1d, 0d, dst);
+    final MutVector3d tangent = matrix.transformDirection(1d, 1d, 0d, MutVector3d.zero());
+    assertEquals(0d, dst.x() * tangent.x() + dst.y() * tangent.y() + dst.z() * tangent.z(), DELTA);
+  }
+
+  @Test
+  void testTransform_bulk() {
+    final Random random = new Random(42L);
+    final Matrix3d matrix = random(random);
+    final double[] src = new double[300];
+    for(int i = 0; i < src.length; i++) {
+      src[i] = random.nextDouble();
+    }
+    final double[] dst = new double[300];
+    matrix.transform(src, 0, dst, 0, 100);
+    final Vector3dBuffer buffer = Vector3dBuffer.create(100);
+    for(int i = 0; i < 100; i++) {
+      buffer.set(i, src[i * 3], src[i * 3 + 1], src[i * 3 + 2]);
+    }
+    matrix.transform(buffer, 0, 100, buffer);
+    final MutVector3d expected = MutVector3d.zero();
+    for(int i = 0; i < 100; i++) {
+      matrix.transform(src[i * 3], src[i * 3 + 1], src[i * 3 + 2], expected);
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), ImVector3d.of(dst[i * 3], dst[i * 3 + 1], dst[i * 3 + 2]));
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), buffer.get(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> matrix.transform(src, 1, dst, 0, 100));
+    assertThrows(IndexOutOfBoundsException.class, () -> matrix.transform(buffer, 50, 40, buffer));
+  }
+}
@@ -0,0 +1,280 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.matrix;
+
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Matrix4dTest {
+  private static final double DELTA = 1e-9d;
+  private static final double HALF_PI = Math.PI / 2d;
+
+  // diagonally dominant, so that the matrices stay well conditioned
+  private static Matrix4d random(final Random random) {
+    final double[] values = new double[16];
+    for(int i = 0; i < values.length; i++) {
+      values[i] = random.nextDouble() * 4d - 2d + (i % 5 == 0 ? 4d : 0d);
+    }
+    return Matrix4d.of(
+      values[0], values[1], values[2], values[3],
+      values[4], values[5], values[6], values[7],
+      values[8], values[9], values[10], values[11],
+      values[12], values[13], values[14], values[15]
+    );
+  }
+
+  private static void assertMatrixEquals(final Matrix4d expected, final Matrix4d actual) {
+    assertArrayEquals(expected.get(new double[16], 0), actual.get(new double[16], 0), DELTA);
+  }
+
+  @Test
+  void testOf() {
+    final Matrix4d matrix = Matrix4d.of(
+      1d, 2d, 3d, 4d,
+      5d, 6d, 7d, 8d,
+      9d, 10d, 11d, 12d,
+      13d, 14d, 15d, 16d
+    );
+    assertEquals(1d, matrix.m00());
+    assertEquals(4d, matrix.m03());
+    assertEquals(7d, matrix.m12());
+    assertEquals(13d, matrix.m30());
+    assertEquals(16d, matrix.m33());
+    final double[] values = matrix.get(new double[18], 2);
+    assertEquals(0d, values[1]);
+    assertEquals(1d, values[2]);
+    assertEquals(16d, values[17]);
+    final Matrix4d copy = matrix.copy();
+    assertNotSame(matrix, copy);
+    assertEquals(matrix, copy);
+    assertEquals(matrix.hashCode(), copy.hashCode());
+    assertNotEquals(matrix, Matrix4d.identity());
+    assertEquals(matrix, Matrix4d.from(matrix));
+  }
+
+  @Test
+  void testIdentity() {
+    final Matrix4d matrix = Matrix4d.identity();
+    assertVectorEquals(1d, 2d, 3d, matrix.transformPosition(1d, 2d, 3d, MutVector3d.zero()));
+    assertEquals(1d, matrix.determinant());
+    assertEquals(Matrix4d.identity(), Matrix4d.translation(1d, 2d, 3d).setIdentity());
+  }
+
+  @Test
+  void testMul() {
+    final Matrix4d a = Matrix4d.translation(1d, 2d, 3d);
+    final Matrix4d b = Matrix4d.scaling(2d);
+    final MutVector3d dst = MutVector3d.zero();
+    // scale first, then translate
+    assertSame(a, a.mul(b));
+    assertVectorEquals(3d, 4d, 5d, a.transformPosition(1d, 1d, 1d, dst));
+    final Matrix4d c = Matrix4d.translation(1d, 2d, 3d);
+    assertSame(c, c.premul(b));
+    assertVectorEquals(4d, 6d, 8d, c.transformPosition(1d, 1d, 1d, dst));
+  }
+
+  @Test
+  void testMul_random() {
+    final Random random = new Random(42L);
+    final MutVector3d expected = MutVector3d.zero();
+    final MutVector3d actual = MutVector3d.zero();
+    for(int i = 0; i < 100; i++) {
+      final Matrix4d a = random(random);
+      final Matrix4d b = random(random);
+      final double x = random.nextDouble();
+      final double y = random.nextDouble();
+      final double z = random.nextDouble();
+      a.transformProject(b.transformProject(x, y, z, expected), expected);
+      a.copy().mul(b).transformProject(x, y, z, actual);
+      final double tolerance = DELTA * (1d + Math.abs(expected.x()) + Math.abs(expected.y()) + Math.abs(expected.z()));
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), actual, tolerance);
+      assertMatrixEquals(a.copy().mul(b), b.copy().premul(a));
+    }
+  }
+
+  @Test
+  void testTranslation() {
+    final Matrix4d matrix = Matrix4d.translation(ImVector3d.of(1d, 2d, 3d));
+    final MutVector3d dst = MutVector3d.zero();
+    assertSame(dst, matrix.transformPosition(ImVector3d.of(1d, 1d, 1d), dst));
+    assertVectorEquals(2d, 3d, 4d, dst);
+    assertSame(dst, matrix.transformDirection(ImVector3d.of(1d, 1d, 1d), dst));
+    assertVectorEquals(1d, 1d, 1d, dst);
+    assertMatrixEquals(Matrix4d.translation(1d, 2d, 3d).mul(Matrix4d.translation(4d, 5d, 6d)), Matrix4d.translation(1d, 2d, 3d).translate(ImVector3d.of(4d, 5d, 6d)));
+  }
+
+  @Test
+  void testScaling() {
+    final MutVector3d dst = MutVector3d.zero();
+    assertVectorEquals(2d, 6d, 12d, Matrix4d.scaling(2d, 3d, 4d).transformPosition(1d, 2d, 3d, dst));
+    assertEquals(24d, Matrix4d.scaling(2d, 3d, 4d).determinant(), DELTA);
+    assertMatrixEquals(Matrix4d.translation(1d, 2d, 3d).mul(Matrix4d.scaling(2d, 3d, 4d)), Matrix4d.translation(1d, 2d, 3d).scale(2d, 3d, 4d));
+    assertMatrixEquals(Matrix4d.scaling(5d), Matrix4d.identity().scale(5d));
+  }
+
+  @Test
+  void testRotation() {
+    final MutVector3d dst = MutVector3d.zero();
+    assertVectorEquals(0d, 0d, 1d, Matrix4d.rotationX(HALF_PI).transformPosition(0d, 1d, 0d, dst), DELTA);
+    assertVectorEquals(0d, 0d, -1d, Matrix4d.rotationY(HALF_PI).transformPosition(1d, 0d, 0d, dst), DELTA);
+    assertVectorEquals(0d, 1d, 0d, Matrix4d.rotationZ(HALF_PI).transformPosition(1d, 0d, 0d, dst), DELTA);
+    assertMatrixEquals(Matrix4d.rotationX(0.3d), Matrix4d.rotation(0.3d, 2d, 0d, 0d));
+    assertMatrixEquals(Matrix4d.rotationY(0.3d), Matrix4d.rotation(0.3d, ImVector3d.of(0d, 1d, 0d)));
+    assertMatrixEquals(Matrix4d.rotationZ(0.3d), Matrix4d.rotation(0.3d, 0d, 0d, 1d));
+    assertEquals(1d, Matrix4d.rotation(1.234d, 1d, 2d, 3d).determinant(), DELTA);
+    final Matrix4d translated = Matrix4d.translation(1d, 2d, 3d);
+    assertMatrixEquals(translated.copy().mul(Matrix4d.rotation(0.7d, 1d, 1d, 0d)), translated.rotate(0.7d, ImVector3d.of(1d, 1d, 0d)));
+  }
+
+  @Test
+  void testTranspose() {
+    final Matrix4d matrix = Matrix4d.of(
+      1d, 2d, 3d, 4d,
+      5d, 6d, 7d, 8d,
+      9d, 10d, 11d, 12d,
+      13d, 14d, 15d, 16d
+    );
+    assertSame(matrix, matrix.transpose());
+    assertEquals(Matrix4d.of(
+      1d, 5d, 9d, 13d,
+      2d, 6d, 10d, 14d,
+      3d, 7d, 11d, 15d,
+      4d, 8d, 12d, 16d
+    ), matrix);
+    assertEquals(0d, matrix.determinant(), DELTA);
+  }
+
+  @Test
+  void testInvert() {
+    final Random random = new Random(42L);
+    for(int i = 0; i < 100; i++) {
+      final Matrix4d matrix = random(random);
+      final Matrix4d inverse = matrix.copy();
+      assertSame(inverse, inverse.invert());
+      assertMatrixEquals(Matrix4d.identity(), matrix.copy().mul(inverse));
+      assertEquals(1d / matrix.determinant(), inverse.determinant(), Math.abs(inverse.determinant()) * DELTA);
+    }
+    assertMatrixEquals(Matrix4d.translation(-1d, -2d, -3d), Matrix4d.translation(1d, 2d, 3d).invert());
+    assertThrows(ArithmeticException.class, () -> Matrix4d.scaling(1d, 0d, 1d).invert());
+  }
+
+  @Test
+  void testLookAt() {
+    final Matrix4d view = Matrix4d.lookAt(ImVector3d.of(1d, 2d, 3d), ImVector3d.of(1d, 2d, -7d), ImVector3d.of(0d, 1d, 0d));
+    final MutVector3d dst = MutVector3d.zero();
+    assertVectorEquals(0d, 0d, 0d, view.transformPosition(1d, 2d, 3d, dst), DELTA);
+    assertVectorEquals(0d, 0d, -10d, view.transformPosition(1d, 2d, -7d, dst), DELTA);
+    assertVectorEquals(1d, 1d, 0d, view.transformPosition(2d, 3d, 3d, dst), DELTA);
+    // looking down the x axis puts +z on the right
+    final Matrix4d side = Matrix4d.lookAt(ImVector3d.of(0d, 0d, 0d), ImVector3d.of(1d, 0d, 0d), ImVector3d.of(0d, 1d, 0d));
+    assertVectorEquals(1d, 0d, 0d, side.transformDirection(0d, 0d, 1d, dst), DELTA);
+  }
+
+  @Test
+  void testPerspective() {
+    final Matrix4d projection = Matrix4d.perspective(HALF_PI, 2d, 1d, 100d);
+    final MutVector3d dst = MutVector3d.zero();
+    assertVectorEquals(0d, 0d, -1d, projection.transformProject(0d, 0d, -1d, dst), DELTA);
+    assertVectorEquals(0d, 0d, 1d, projection.transformProject(0d, 0d, -100d, dst), DELTA);
+    assertVectorEquals(1d, 1d, 1d, projection.transformProject(ImVector3d.of(200d, 100d, -100d), dst), DELTA);
+    assertThrows(IllegalArgumentException.class, () -> Matrix4d.perspective(HALF_PI, 1d, 0d, 100d));
+    assertThrows(IllegalArgumentException.class, () -> Matrix4d.perspective(HALF_PI, 1d, 10d, 10d));
+  }
+
+  @Test
+  void testTransformPositions() {
+    final Random random = new Random(42L);
+    final Matrix4d matrix = random(random);
+    final double[] src = new double[3 * 100 + 1];
+    for(int i = 0; i < src.length; i++) {
+      src[i] = random.nextDouble();
+    }
+    final double[] positions = new double[src.length];
+    final double[] directions = new double[src.length];
+    matrix.transformPositions(src, 1, positions, 0, 100);
+    matrix.transformDirections(src, 1, directions, 0, 100);
+    final MutVector3d dst = MutVector3d.zero();
+    for(int i = 0; i < 100; i++) {
+      matrix.transformPosition(src[i * 3 + 1], src[i * 3 + 2], src[i * 3 + 3], dst);
+      assertVectorEquals(dst.x(), dst.y(), dst.z(), ImVector3d.of(positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2]));
+      matrix.transformDirection(src[i * 3 + 1], src[i * 3 + 2], src[i * 3 + 3], dst);
+      assertVectorEquals(dst.x(), dst.y(), dst.z(), ImVector3d.of(directions[i * 3], directions[i * 3 + 1], directions[i * 3 + 2]));
+    }
+    // in place
+    matrix.transformPositions(src, 1, src, 1, 100);
+    for(int i = 0; i < 300; i++) {
+      assertEquals(positions[i], src[i + 1]);
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> matrix.transformPositions(src, 2, positions, 0, 100));
+    assertThrows(IndexOutOfBoundsException.class, () -> matrix.transformDirections(src, 0, positions, 2, 100));
+    assertThrows(IndexOutOfBoundsException.class, () -> matrix.transformPositions(src, 0, positions, 0, -1));
+  }
+
+  @Test
+  void testTransformPositions_buffer() {
+    final Random random = new Random(42L);
+    final Matrix4d matrix = random(random);
+    final Vector3dBuffer src = Vector3dBuffer.create(100);
+    for(int i = 0; i < src.size(); i++) {
+      src.set(i, random.nextDouble(), random.nextDouble(), random.nextDouble());
+    }
+    final Vector3dBuffer positions = Vector3dBuffer.create(100);
+    final Vector3dBuffer directions = Vector3dBuffer.create(100);
+    matrix.transformPositions(src, 10, 90, positions);
+    matrix.transformDirections(src, 10, 90, directions);
+    final MutVector3d dst = MutVector3d.zero();
+    for(int i = 0; i < src.size(); i++) {
+      if(i < 10 || i >= 90) {
+        assertVectorEquals(0d, 0d, 0d, positions.get(i));
+        continue;
+      }
+      matrix.transformPosition(src.get(i), dst);
+      assertVectorEquals(dst.x(), dst.y(), dst.z(), positions.get(i));
+      matrix.transformDirection(src.get(i), dst);
+      assertVectorEquals(dst.x(), dst.y(), dst.z(), directions.get(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> matrix.transformPositions(src, 0, 101, positions));
+    assertThrows(IndexOutOfBoundsException.class, () -> matrix.transformDirections(src, 0, 100, Vector3dBuffer.create(99)));
+  }
+
+  @Test
+  void testToString() {
+    assertEquals(
+      "Matrix4d{[1.000000, 0.000000, 0.000000, 2.000000], [0.000000, 1.000000, 0.000000, 3.000000], [0.000000, 0.000000, 1.000000, 4.000000], [0.000000, 0.000000, 0.000000, 1.000000]}",
+      Matrix4d.translation(2d, 3d, 4d).toString()
+    );
+  }
+}
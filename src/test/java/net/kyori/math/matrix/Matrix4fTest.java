@@ -0,0 +1,280 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.matrix;
+
+import net.kyori.math.vector.f.ImVector3f;
+import net.kyori.math.vector.f.MutVector3f;
+import net.kyori.math.vector.f.Vector3fBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Matrix4fTest {
+  private static final float DELTA = 1e-5f;
+  private static final float HALF_PI = (float) Math.PI / 2f;
+
+  // diagonally dominant, so that the matrices stay well conditioned
+  private static Matrix4f random(final Random random) {
+    final float[] values = new float[16];
+    for(int i = 0; i < values.length; i++) {
+      values[i] = random.nextFloat() * 4f - 2f + (i % 5 == 0 ? 4f : 0f);
+    }
+    return Matrix4f.of(
+      values[0], values[1], values[2], values[3],
+      values[4], values[5], values[6], values[7],
+      values[8], values[9], values[10], values[11],
+      values[12], values[13], values[14], values[15]
+    );
+  }
+
+  private static void assertMatrixEquals(final Matrix4f expected, final Matrix4f actual) {
+    assertArrayEquals(expected.get(new float[16], 0), actual.get(new float[16], 0), DELTA);
+  }
+
+  @Test
+  void testOf() {
+    final Matrix4f matrix = Matrix4f.of(
+      1f, 2f, 3f, 4f,
+      5f, 6f, 7f, 8f,
+      9f, 10f, 11f, 12f,
+      13f, 14f, 15f, 16f
+    );
+    assertEquals(1f, matrix.m00());
+    assertEquals(4f, matrix.m03());
+    assertEquals(7f, matrix.m12());
+    assertEquals(13f, matrix.m30());
+    assertEquals(16f, matrix.m33());
+    final float[] values = matrix.get(new float[18], 2);
+    assertEquals(0f, values[1]);
+    assertEquals(1f, values[2]);
+    assertEquals(16f, values[17]);
+    final Matrix4f copy = matrix.copy();
+    assertNotSame(matrix, copy);
+    assertEquals(matrix, copy);
+    assertEquals(matrix.hashCode(), copy.hashCode());
+    assertNotEquals(matrix, Matrix4f.identity());
+    assertEquals(matrix, Matrix4f.from(matrix));
+  }
+
+  @Test
+  void testIdentity() {
+    final Matrix4f matrix = Matrix4f.identity();
+    assertVectorEquals(1f, 2f, 3f, matrix.transformPosition(1f, 2f, 3f, MutVector3f.zero()));
+    assertEquals(1f, matrix.determinant());
+    assertEquals(Matrix4f.identity(), Matrix4f.translation(1f, 2f, 3f).setIdentity());
+  }
+
+  @Test
+  void testMul() {
+    final Matrix4f a = Matrix4f.translation(1f, 2f, 3f);
+    final Matrix4f b = Matrix4f.scaling(2f);
+    final MutVector3f dst = MutVector3f.zero();
+    // scale first, then translate
+    assertSame(a, a.mul(b));
+    assertVectorEquals(3f, 4f, 5f, a.transformPosition(1f, 1f, 1f, dst));
+    final Matrix4f c = Matrix4f.translation(1f, 2f, 3f);
+    assertSame(c, c.premul(b));
+    assertVectorEquals(4f, 6f, 8f, c.transformPosition(1f, 1f, 1f, dst));
+  }
+
+  @Test
+  void testMul_random() {
+    final Random random = new Random(42L);
+    final MutVector3f expected = MutVector3f.zero();
+    final MutVector3f actual = MutVector3f.zero();
+    for(int i = 0; i < 100; i++) {
+      final Matrix4f a = random(random);
+      final Matrix4f b = random(random);
+      final float x = random.nextFloat();
+      final float y = random.nextFloat();
+      final float z = random.nextFloat();
+      a.transformProject(b.transformProject(x, y, z, expected), expected);
+      a.copy().mul(b).transformProject(x, y, z, actual);
+      final float tolerance = DELTA * (1f + Math.abs(expected.x()) + Math.abs(expected.y()) + Math.abs(expected.z()));
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), actual, tolerance);
+      assertMatrixEquals(a.copy().mul(b), b.copy().premul(a));
+    }
+  }
+
+  @Test
+  void testTranslation() {
+    final Matrix4f matrix = Matrix4f.translation(ImVector3f.of(1f, 2f, 3f));
+    final MutVector3f dst = MutVector3f.zero();
+    assertSame(dst, matrix.transformPosition(ImVector3f.of(1f, 1f, 1f), dst));
+    assertVectorEquals(2f, 3f, 4f, dst);
+    assertSame(dst, matrix.transformDirection(ImVector3f.of(1f, 1f, 1f), dst));
+    assertVectorEquals(1f, 1f, 1f, dst);
+    assertMatrixEquals(Matrix4f.translation(1f, 2f, 3f).mul(Matrix4f.translation(4f, 5f, 6f)), Matrix4f.translation(1f, 2f, 3f).translate(ImVector3f.of(4f, 5f, 6f)));
+  }
+
+  @Test
+  void testScaling() {
+    final MutVector3f dst = MutVector3f.zero();
+    assertVectorEquals(2f, 6f, 12f, Matrix4f.scaling(2f, 3f, 4f).transformPosition(1f, 2f, 3f, dst));
+    assertEquals(24f, Matrix4f.scaling(2f, 3f, 4f).determinant(), DELTA);
+    assertMatrixEquals(Matrix4f.translation(1f, 2f, 3f).mul(Matrix4f.scaling(2f, 3f, 4f)), Matrix4f.translation(1f, 2f, 3f).scale(2f, 3f, 4f));
+    assertMatrixEquals(Matrix4f.scaling(5f), Matrix4f.identity().scale(5f));
+  }
+
+  @Test
+  void testRotation() {
+    final MutVector3f dst = MutVector3f.zero();
+    assertVectorEquals(0f, 0f, 1f, Matrix4f.rotationX(HALF_PI).transformPosition(0f, 1f, 0f, dst), DELTA);
+    assertVectorEquals(0f, 0f, -1f, Matrix4f.rotationY(HALF_PI).transformPosition(1f, 0f, 0f, dst), DELTA);
+    assertVectorEquals(0f, 1f, 0f, Matrix4f.rotationZ(HALF_PI).transformPosition(1f, 0f, 0f, dst), DELTA);
+    assertMatrixEquals(Matrix4f.rotationX(0.3f), Matrix4f.rotation(0.3f, 2f, 0f, 0f));
+    assertMatrixEquals(Matrix4f.rotationY(0.3f), Matrix4f.rotation(0.3f, ImVector3f.of(0f, 1f, 0f)));
+    assertMatrixEquals(Matrix4f.rotationZ(0.3f), Matrix4f.rotation(0.3f, 0f, 0f, 1f));
+    assertEquals(1f, Matrix4f.rotation(1.234f, 1f, 2f, 3f).determinant(), DELTA);
+    final Matrix4f translated = Matrix4f.translation(1f, 2f, 3f);
+    assertMatrixEquals(translated.copy().mul(Matrix4f.rotation(0.7f, 1f, 1f, 0f)), translated.rotate(0.7f, ImVector3f.of(1f, 1f, 0f)));
+  }
+
+  @Test
+  void testTranspose() {
+    final Matrix4f matrix = Matrix4f.of(
+      1f, 2f, 3f, 4f,
+      5f, 6f, 7f, 8f,
+      9f, 10f, 11f, 12f,
+      13f, 14f, 15f, 16f
+    );
+    assertSame(matrix, matrix.transpose());
+    assertEquals(Matrix4f.of(
+      1f, 5f, 9f, 13f,
+      2f, 6f, 10f, 14f,
+      3f, 7f, 11f, 15f,
+      4f, 8f, 12f, 16f
+    ), matrix);
+    assertEquals(0f, matrix.determinant(), DELTA);
+  }
+
+  @Test
+  void testInvert() {
+    final Random random = new Random(42L);
+    for(int i = 0; i < 100; i++) {
+      final Matrix4f matrix = random(random);
+      final Matrix4f inverse = matrix.copy();
+      assertSame(inverse, inverse.invert());
+      assertMatrixEquals(Matrix4f.identity(), matrix.copy().mul(inverse));
+      assertEquals(1f / matrix.determinant(), inverse.determinant(), Math.abs(inverse.determinant()) * DELTA);
+    }
+    assertMatrixEquals(Matrix4f.translation(-1f, -2f, -3f), Matrix4f.translation(1f, 2f, 3f).invert());
+    assertThrows(ArithmeticException.class, () -> Matrix4f.scaling(1f, 0f, 1f).invert());
+  }
+
+  @Test
+  void testLookAt() {
+    final Matrix4f view = Matrix4f.lookAt(ImVector3f.of(1f, 2f, 3f), ImVector3f.of(1f, 2f, -7f), ImVector3f.of(0f, 1f, 0f));
+    final MutVector3f dst = MutVector3f.zero();
+    assertVectorEquals(0f, 0f, 0f, view.transformPosition(1f, 2f, 3f, dst), DELTA);
+    assertVectorEquals(0f, 0f, -10f, view.transformPosition(1f, 2f, -7f, dst), DELTA);
+    assertVectorEquals(1f, 1f, 0f, view.transformPosition(2f, 3f, 3f, dst), DELTA);
+    // looking down the x axis puts +z on the right
+    final Matrix4f side = Matrix4f.lookAt(ImVector3f.of(0f, 0f, 0f), ImVector3f.of(1f, 0f, 0f), ImVector3f.of(0f, 1f, 0f));
+    assertVectorEquals(1f, 0f, 0f, side.transformDirection(0f, 0f, 1f, dst), DELTA);
+  }
+
+  @Test
+  void testPerspective() {
+    final Matrix4f projection = Matrix4f.perspective(HALF_PI, 2f, 1f, 100f);
+    final MutVector3f dst = MutVector3f.zero();
+    assertVectorEquals(0f, 0f, -1f, projection.transformProject(0f, 0f, -1f, dst), DELTA);
+    assertVectorEquals(0f, 0f, 1f, projection.transformProject(0f, 0f, -100f, dst), DELTA);
+    assertVectorEquals(1f, 1f, 1f, projection.transformProject(ImVector3f.of(200f, 100f, -100f), dst), DELTA);
+    assertThrows(IllegalArgumentException.class, () -> Matrix4f.perspective(HALF_PI, 1f, 0f, 100f));
+    assertThrows(IllegalArgumentException.class, () -> Matrix4f.perspective(HALF_PI, 1f, 10f, 10f));
+  }
+
+  @Test
+  void testTransformPositions() {
+    final Random random = new Random(42L);
+    final Matrix4f matrix = random(random);
+    final float[] src = new float[3 * 100 + 1];
+    for(int i = 0; i < src.length; i++) {
+      src[i] = random.nextFloat();
+    }
+    final float[] positions = new float[src.length];
+    final float[] directions = new float[src.length];
+    matrix.transformPositions(src, 1, positions, 0, 100);
+    matrix.transformDirections(src, 1, directions, 0, 100);
+    final MutVector3f dst = MutVector3f.zero();
+    for(int i = 0; i < 100; i++) {
+      matrix.transformPosition(src[i * 3 + 1], src[i * 3 + 2], src[i * 3 + 3], dst);
+      assertVectorEquals(dst.x(), dst.y(), dst.z(), ImVector3f.of(positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2]));
+      matrix.transformDirection(src[i * 3 + 1], src[i * 3 + 2], src[i * 3 + 3], dst);
+      assertVectorEquals(dst.x(), dst.y(), dst.z(), ImVector3f.of(directions[i * 3], directions[i * 3 + 1], directions[i * 3 + 2]));
+    }
+    // in place
+    matrix.transformPositions(src, 1, src, 1, 100);
+    for(int i = 0; i < 300; i++) {
+      assertEquals(positions[i], src[i + 1]);
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> matrix.transformPositions(src, 2, positions, 0, 100));
+    assertThrows(IndexOutOfBoundsException.class, () -> matrix.transformDirections(src, 0, positions, 2, 100));
+    assertThrows(IndexOutOfBoundsException.class, () -> matrix.transformPositions(src, 0, positions, 0, -1));
+  }
+
+  @Test
+  void testTransformPositions_buffer() {
+    final Random random = new Random(42L);
+    final Matrix4f matrix = random(random);
+    final Vector3fBuffer src = Vector3fBuffer.create(100);
+    for(int i = 0; i < src.size(); i++) {
+      src.set(i, random.nextFloat(), random.nextFloat(), random.nextFloat());
+    }
+    final Vector3fBuffer positions = Vector3fBuffer.create(100);
+    final Vector3fBuffer directions = Vector3fBuffer.create(100);
+    matrix.transformPositions(src, 10, 90, positions);
+    matrix.transformDirections(src, 10, 90, directions);
+    final MutVector3f dst = MutVector3f.zero();
+    for(int i = 0; i < src.size(); i++) {
+      if(i < 10 || i >= 90) {
+        assertVectorEquals(0f, 0f, 0f, positions.get(i));
+        continue;
+      }
+      matrix.transformPosition(src.get(i), dst);
+      assertVectorEquals(dst.x(), dst.y(), dst.z(), positions.get(i));
+      matrix.transformDirection(src.get(i), dst);
+      assertVectorEquals(dst.x(), dst.y(), dst.z(), directions.get(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> matrix.transformPositions(src, 0, 101, positions));
+    assertThrows(IndexOutOfBoundsException.class, () -> matrix.transformDirections(src, 0, 100, Vector3fBuffer.create(99)));
+  }
+
+  @Test
+  void testToString() {
+    assertEquals(
+      "Matrix4f{[1.000000, 0.000000, 0.000000, 2.000000], [0.000000, 1.000000, 0.000000, 3.000000], [0.000000, 0.000000, 1.000000, 4.000000], [0.000000, 0.000000, 0.000000, 1.000000]}",
+      Matrix4f.translation(2f, 3f, 4f).toString()
+    );
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MemoryTest {
+  @Test
+  void testAllocate() {
+    final Memory memory = Memory.allocate(32);
+    assertEquals(32, memory.byteSize());
+    assertEquals(0L, memory.getLong(24));
+    assertThrows(IllegalArgumentException.class, () -> Memory.allocate(-1));
+  }
+
+  @Test
+  void testReadWrite() {
+    final Memory memory = Memory.allocate(32);
+    memory.putInt(0, 42);
+    memory.putFloat(4, 1.5f);
+    memory.putDouble(8, -2.25d);
+    memory.putLong(16, Long.MIN_VALUE);
+    assertEquals(42, memory.getInt(0));
+    assertEquals(1.5f, memory.getFloat(4));
+    assertEquals(-2.25d, memory.getDouble(8));
+    assertEquals(Long.MIN_VALUE, memory.getLong(16));
+  }
+
+  @Test
+  void testOutOfBounds() {
+    final Memory memory = Memory.allocate(16);
+    assertThrows(IndexOutOfBoundsException.class, () -> memory.getDouble(16));
+    assertThrows(IndexOutOfBoundsException.class, () -> memory.putInt(-1, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> memory.getInt(1L << 32));
+  }
+
+  @Test
+  void testWrap() {
+    final ByteBuffer buffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+    final Memory memory = Memory.wrap(buffer);
+    memory.putInt(4, 0x01020304);
+    assertEquals(8, memory.byteSize());
+    assertEquals(0x04, buffer.get(4));
+  }
+
+  @Test
+  void testMap() throws IOException {
+    final Path path = Files.createTempFile("memory", ".bin");
+    try {
+      try(final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        final Memory memory = Memory.map(channel, FileChannel.MapMode.READ_WRITE, 8, 24);
+        assertEquals(24, memory.byteSize());
+        memory.putInt(0, 42);
+        memory.putDouble(16, -2.25d);
+        memory.force();
+        assertThrows(IndexOutOfBoundsException.class, () -> memory.getDouble(17));
+        assertThrows(IllegalArgumentException.class, () -> Memory.map(channel, FileChannel.MapMode.READ_ONLY, -1, 8));
+      }
+      // the mapping extended the file, and wrote to it in native order
+      final ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.nativeOrder());
+      assertEquals(32, bytes.capacity());
+      assertEquals(42, bytes.getInt(8));
+      assertEquals(-2.25d, bytes.getDouble(24));
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  void testMapChunks() throws IOException {
+    final Path path = Files.createTempFile("memory", ".bin");
+    try(final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      // chunks of 16 bytes, so values straddle chunk boundaries at most offsets
+      final Memory memory = MappedMemory.map(channel, FileChannel.MapMode.READ_WRITE, 4, 100, 4);
+      assertEquals(100, memory.byteSize());
+      for(int offset = 0; offset + Long.BYTES <= 100; offset++) {
+        memory.putLong(offset, 0x0102030405060708L * offset);
+        assertEquals(0x0102030405060708L * offset, memory.getLong(offset));
+        memory.putDouble(offset, offset + 0.5d);
+        assertEquals(offset + 0.5d, memory.getDouble(offset));
+      }
+      memory.putInt(96, 7);
+      assertEquals(7, memory.getInt(96));
+      assertThrows(IndexOutOfBoundsException.class, () -> memory.getLong(93));
+      assertThrows(IndexOutOfBoundsException.class, () -> memory.getInt(-1));
+      memory.force();
+      assertEquals(104, channel.size());
+    } finally {
+      Files.delete(path);
+    }
+  }
+}
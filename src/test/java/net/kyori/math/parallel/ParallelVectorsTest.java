@@ -0,0 +1,205 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.parallel;
+
+import net.kyori.math.aabb.Aabbd;
+import net.kyori.math.matrix.Matrix4d;
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import net.kyori.math.vector.f.MutVector3f;
+import net.kyori.math.vector.f.Vector3fBuffer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelVectorsTest {
+  private static final int SIZE = 10000;
+  private static ForkJoinPool pool;
+
+  @BeforeAll
+  static void createPool() {
+    pool = new ForkJoinPool(4);
+  }
+
+  @AfterAll
+  static void shutdownPool() {
+    pool.shutdown();
+  }
+
+  @Test
+  void testOf() {
+    final ParallelVectors parallel = ParallelVectors.of(pool, 64);
+    assertEquals(pool, parallel.pool());
+    assertEquals(64, parallel.threshold());
+    assertEquals(ParallelVectors.DEFAULT_THRESHOLD, ParallelVectors.of(pool).threshold());
+    assertEquals(ForkJoinPool.commonPool(), ParallelVectors.common().pool());
+    assertThrows(IllegalArgumentException.class, () -> ParallelVectors.of(pool, 0));
+  }
+
+  @Test
+  void testMap() {
+    final Vector3dBuffer src = randomDoubles(new Random(42L));
+    final Vector3dBuffer dst = Vector3dBuffer.create(SIZE);
+    ParallelVectors.of(pool, 64).map(src, 10, SIZE - 10, dst, (x, y, z, result) -> result.set(z, x * 2d, y + 1d));
+    for(int i = 0; i < SIZE; i++) {
+      if(i < 10 || i >= SIZE - 10) {
+        assertEquals(0d, dst.x(i));
+      } else {
+        assertEquals(src.z(i), dst.x(i));
+        assertEquals(src.x(i) * 2d, dst.y(i));
+        assertEquals(src.y(i) + 1d, dst.z(i));
+      }
+    }
+  }
+
+  @Test
+  void testMap_float() {
+    final Vector3fBuffer buffer = randomFloats(new Random(42L));
+    final float[] xs = buffer.xs().clone();
+    ParallelVectors.of(pool, 64).map(buffer, 0, SIZE, buffer, (x, y, z, result) -> result.set(x * 3f, y, z));
+    for(int i = 0; i < SIZE; i++) {
+      assertEquals(xs[i] * 3f, buffer.x(i));
+    }
+  }
+
+  @Test
+  void testTransformPositions() {
+    final Vector3dBuffer src = randomDoubles(new Random(42L));
+    final Matrix4d matrix = Matrix4d.rotationY(0.5d).translate(1d, 2d, 3d);
+    final Vector3dBuffer expected = Vector3dBuffer.create(SIZE);
+    final Vector3dBuffer actual = Vector3dBuffer.create(SIZE);
+    matrix.transformPositions(src, 0, SIZE, expected);
+    ParallelVectors.of(pool, 64).transformPositions(matrix, src, 0, SIZE, actual);
+    assertArrayEquals(expected.xs(), actual.xs());
+    assertArrayEquals(expected.ys(), actual.ys());
+    assertArrayEquals(expected.zs(), actual.zs());
+  }
+
+  @Test
+  void testSum() {
+    final Vector3dBuffer buffer = randomDoubles(new Random(42L));
+    double x = 0d;
+    double y = 0d;
+    double z = 0d;
+    for(int i = 0; i < SIZE; i++) {
+      x += buffer.x(i);
+      y += buffer.y(i);
+      z += buffer.z(i);
+    }
+    final MutVector3d sequential = ParallelVectors.of(pool, SIZE).sum(buffer, 0, SIZE, MutVector3d.zero());
+    assertEquals(x, sequential.x());
+    assertEquals(y, sequential.y());
+    assertEquals(z, sequential.z());
+    final MutVector3d parallel = ParallelVectors.of(pool, 64).sum(buffer, 0, SIZE, MutVector3d.zero());
+    assertEquals(x, parallel.x(), 1e-6d);
+    assertEquals(y, parallel.y(), 1e-6d);
+    assertEquals(z, parallel.z(), 1e-6d);
+    assertEquals(MutVector3d.zero(), ParallelVectors.of(pool, 64).sum(buffer, 5, 5, MutVector3d.of(1d)));
+  }
+
+  @Test
+  void testSum_deterministic() {
+    final Vector3dBuffer buffer = randomDoubles(new Random(42L));
+    final MutVector3d expected = ParallelVectors.of(pool, 100).sum(buffer, 3, SIZE, MutVector3d.zero());
+    final ForkJoinPool single = new ForkJoinPool(1);
+    try {
+      for(int run = 0; run < 20; run++) {
+        assertEquals(expected, ParallelVectors.of(pool, 100).sum(buffer, 3, SIZE, MutVector3d.zero()));
+      }
+      assertEquals(expected, ParallelVectors.of(single, 100).sum(buffer, 3, SIZE, MutVector3d.zero()));
+      assertEquals(expected, ParallelVectors.of(ForkJoinPool.commonPool(), 100).sum(buffer, 3, SIZE, MutVector3d.zero()));
+    } finally {
+      single.shutdown();
+    }
+  }
+
+  @Test
+  void testSum_float() {
+    final Vector3fBuffer buffer = randomFloats(new Random(42L));
+    double x = 0d;
+    for(int i = 0; i < SIZE; i++) {
+      x += buffer.x(i);
+    }
+    assertEquals((float) x, ParallelVectors.of(pool, 64).sum(buffer, 0, SIZE, MutVector3f.zero()).x(), 1e-3f);
+  }
+
+  @Test
+  void testMinMaxBounds() {
+    final Vector3dBuffer buffer = randomDoubles(new Random(42L));
+    buffer.set(1234, -1000d, 2000d, 500d);
+    buffer.set(8765, 1000d, -2000d, -500d);
+    final ParallelVectors parallel = ParallelVectors.of(pool, 64);
+    assertEquals(MutVector3d.of(-1000d, -2000d, -500d), parallel.min(buffer, 0, SIZE, MutVector3d.zero()));
+    assertEquals(MutVector3d.of(1000d, 2000d, 500d), parallel.max(buffer, 0, SIZE, MutVector3d.zero()));
+    assertEquals(Aabbd.of(-1000d, -2000d, -500d, 1000d, 2000d, 500d), parallel.bounds(buffer, 0, SIZE, Aabbd.of(0d, 0d, 0d, 0d, 0d, 0d)));
+    assertEquals(MutVector3d.of(Double.POSITIVE_INFINITY), parallel.min(buffer, 7, 7, MutVector3d.zero()));
+    assertEquals(MutVector3d.of(Double.NEGATIVE_INFINITY), parallel.max(buffer, 7, 7, MutVector3d.zero()));
+    assertThrows(IllegalArgumentException.class, () -> parallel.bounds(buffer, 7, 7, Aabbd.of(0d, 0d, 0d, 0d, 0d, 0d)));
+  }
+
+  @Test
+  void testMinMaxBounds_float() {
+    final Vector3fBuffer buffer = randomFloats(new Random(42L));
+    buffer.set(4321, -1000f, 2000f, 5f);
+    final ParallelVectors parallel = ParallelVectors.of(pool, 64);
+    assertEquals(MutVector3f.of(-1000f, -1f, -1f), parallel.min(buffer, 0, SIZE, MutVector3f.zero()));
+    assertEquals(MutVector3f.of(1f, 2000f, 5f), parallel.max(buffer, 0, SIZE, MutVector3f.zero()));
+    assertEquals(Aabbd.of(-1000d, -1d, -1d, 1d, 2000d, 5d), parallel.bounds(buffer, 0, SIZE, Aabbd.of(0d, 0d, 0d, 0d, 0d, 0d)));
+  }
+
+  @Test
+  void testOutOfBounds() {
+    final ParallelVectors parallel = ParallelVectors.of(pool, 64);
+    final Vector3dBuffer buffer = Vector3dBuffer.create(10);
+    assertThrows(IndexOutOfBoundsException.class, () -> parallel.sum(buffer, 0, 11, MutVector3d.zero()));
+    assertThrows(IndexOutOfBoundsException.class, () -> parallel.min(buffer, 5, 4, MutVector3d.zero()));
+    assertThrows(IndexOutOfBoundsException.class, () -> parallel.map(buffer, 0, 10, Vector3dBuffer.create(9), (x, y, z, result) -> result.set(x, y, z)));
+  }
+
+  private static Vector3dBuffer randomDoubles(final Random random) {
+    final Vector3dBuffer buffer = Vector3dBuffer.create(SIZE);
+    for(int i = 0; i < SIZE; i++) {
+      buffer.set(i, random.nextDouble() * 200d - 100d, random.nextDouble() * 200d - 100d, random.nextDouble() * 200d - 100d);
+    }
+    return buffer;
+  }
+
+  // components in [-1, 1], with the extremes present
+  private static Vector3fBuffer randomFloats(final Random random) {
+    final Vector3fBuffer buffer = Vector3fBuffer.create(SIZE);
+    for(int i = 0; i < SIZE; i++) {
+      buffer.set(i, random.nextFloat() * 2f - 1f, random.nextFloat() * 2f - 1f, random.nextFloat() * 2f - 1f);
+    }
+    buffer.set(0, -1f, -1f, -1f);
+    buffer.set(SIZE - 1, 1f, 1f, 1f);
+    return buffer;
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.quaternion;
+
+import net.kyori.math.matrix.Matrix3d;
+import net.kyori.math.matrix.Matrix4d;
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QuaterniondTest {
+  private static final double DELTA = 1e-9d;
+  private static final double HALF_PI = Math.PI / 2d;
+
+  private static Quaterniond random(final Random random) {
+    return Quaterniond.axisAngle(random.nextDouble() * 6d - 3d, random.nextDouble() - 0.5d, random.nextDouble() - 0.5d, random.nextDouble() - 0.5d);
+  }
+
+  private static void assertQuaternionEquals(final Quaterniond expected, final Quaterniond actual) {
+    assertEquals(expected.x(), actual.x(), DELTA, "x");
+    assertEquals(expected.y(), actual.y(), DELTA, "y");
+    assertEquals(expected.z(), actual.z(), DELTA, "z");
+    assertEquals(expected.w(), actual.w(), DELTA, "w");
+  }
+
+  // q and -q describe the same rotation
+  private static void assertSameRotation(final Quaterniond expected, final Quaterniond actual) {
+    assertEquals(1d, Math.abs(expected.dot(actual)), DELTA);
+  }
+
+  @Test
+  void testOf() {
+    final Quaterniond quaternion = Quaterniond.of(1d, 2d, 3d, 4d);
+    assertEquals(1d, quaternion.x());
+    assertEquals(2d, quaternion.y());
+    assertEquals(3d, quaternion.z());
+    assertEquals(4d, quaternion.w());
+    assertEquals(30d, quaternion.lengthSquared());
+    final Quaterniond copy = quaternion.copy();
+    assertNotSame(quaternion, copy);
+    assertEquals(quaternion, copy);
+    assertEquals(quaternion.hashCode(), copy.hashCode());
+    assertEquals(quaternion, Quaterniond.from(quaternion));
+    assertEquals(Quaterniond.identity(), quaternion.setIdentity());
+    assertEquals("Quaterniond{x=0.000000, y=0.000000, z=0.000000, w=1.000000}", quaternion.toString());
+  }
+
+  @Test
+  void testAxisAngle() {
+    final MutVector3d dst = MutVector3d.zero();
+    assertVectorEquals(1d, 2d, 3d, Quaterniond.identity().rotate(1d, 2d, 3d, dst));
+    assertSame(dst, Quaterniond.axisAngle(HALF_PI, ImVector3d.of(0d, 2d, 0d)).rotate(ImVector3d.of(1d, 0d, 0d), dst));
+    assertVectorEquals(0d, 0d, -1d, dst, DELTA);
+    final Random random = new Random(42L);
+    final MutVector3d expected = MutVector3d.zero();
+    for(int i = 0; i < 100; i++) {
+      final double angle = random.nextDouble() * 6d - 3d;
+      final ImVector3d axis = ImVector3d.of(random.nextDouble() - 0.5d, random.nextDouble() - 0.5d, random.nextDouble() - 0.5d);
+      final ImVector3d vector = ImVector3d.of(random.nextDouble(), random.nextDouble(), random.nextDouble());
+      Matrix4d.rotation(angle, axis).transformDirection(vector, expected);
+      final Quaterniond quaternion = Quaterniond.axisAngle(angle, axis);
+      assertEquals(1d, quaternion.length(), DELTA);
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), quaternion.rotate(vector, dst), DELTA);
+    }
+  }
+
+  @Test
+  void testYawPitchRoll() {
+    final Random random = new Random(42L);
+    final MutVector3d expected = MutVector3d.zero();
+    final MutVector3d actual = MutVector3d.zero();
+    for(int i = 0; i < 100; i++) {
+      final double yaw = random.nextDouble() * 6d - 3d;
+      final double pitch = random.nextDouble() * 3d - 1.5d;
+      final double roll = random.nextDouble() * 6d - 3d;
+      Matrix4d.rotationY(yaw).mul(Matrix4d.rotationX(pitch)).mul(Matrix4d.rotationZ(roll)).transformDirection(1d, 2d, 3d, expected);
+      Quaterniond.yawPitchRoll(yaw, pitch, roll).rotate(1d, 2d, 3d, actual);
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), actual, DELTA);
+    }
+  }
+
+  @Test
+  void testMul() {
+    final Random random = new Random(42L);
+    final MutVector3d expected = MutVector3d.zero();
+    final MutVector3d actual = MutVector3d.zero();
+    for(int i = 0; i < 100; i++) {
+      final Quaterniond a = random(random);
+      final Quaterniond b = random(random);
+      a.rotate(b.rotate(1d, 2d, 3d, expected), expected);
+      final Quaterniond product = a.copy();
+      assertSame(product, product.mul(b));
+      product.rotate(1d, 2d, 3d, actual);
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), actual, DELTA);
+      assertQuaternionEquals(product, b.copy().premul(a));
+    }
+  }
+
+  @Test
+  void testConjugate() {
+    final Quaterniond quaternion = Quaterniond.axisAngle(1d, 1d, 2d, 3d);
+    final MutVector3d dst = quaternion.rotate(4d, 5d, 6d, MutVector3d.zero());
+    assertSame(quaternion, quaternion.conjugate());
+    assertVectorEquals(4d, 5d, 6d, quaternion.rotate(dst, dst), DELTA);
+    assertEquals(Quaterniond.of(-1d, -2d, -3d, 4d), Quaterniond.of(1d, 2d, 3d, 4d).conjugate());
+  }
+
+  @Test
+  void testInvert() {
+    final Quaterniond quaternion = Quaterniond.of(1d, 2d, 3d, 4d);
+    assertQuaternionEquals(Quaterniond.identity(), quaternion.copy().mul(quaternion.copy().invert()));
+    assertEquals(1d, Quaterniond.of(1d, 2d, 3d, 4d).normalize().length(), DELTA);
+  }
+
+  @Test
+  void testSlerp() {
+    final Quaterniond a = Quaterniond.axisAngle(0.2d, 0d, 1d, 0d);
+    final Quaterniond b = Quaterniond.axisAngle(1.4d, 0d, 1d, 0d);
+    assertQuaternionEquals(a, a.copy().slerp(b, 0d));
+    assertQuaternionEquals(b, a.copy().slerp(b, 1d));
+    assertQuaternionEquals(Quaterniond.axisAngle(0.5d, 0d, 1d, 0d), a.copy().slerp(b, 0.25d));
+    // -b is the same rotation, and must still take the shorter arc
+    final Quaterniond negated = Quaterniond.of(-b.x(), -b.y(), -b.z(), -b.w());
+    assertSameRotation(Quaterniond.axisAngle(0.8d, 0d, 1d, 0d), a.copy().slerp(negated, 0.5d));
+    // nearly identical quaternions fall back to nlerp
+    final Quaterniond c = Quaterniond.axisAngle(0.2001d, 0d, 1d, 0d);
+    assertQuaternionEquals(Quaterniond.axisAngle(0.20005d, 0d, 1d, 0d), a.copy().slerp(c, 0.5d));
+  }
+
+  @Test
+  void testNlerp() {
+    final Quaterniond a = Quaterniond.axisAngle(0.2d, 1d, 0d, 0d);
+    final Quaterniond b = Quaterniond.axisAngle(1.4d, 1d, 0d, 0d);
+    assertQuaternionEquals(a, a.copy().nlerp(b, 0d));
+    assertQuaternionEquals(b, a.copy().nlerp(b, 1d));
+    // symmetric about the midpoint
+    assertQuaternionEquals(Quaterniond.axisAngle(0.8d, 1d, 0d, 0d), a.copy().nlerp(b, 0.5d));
+    final Quaterniond negated = Quaterniond.of(-b.x(), -b.y(), -b.z(), -b.w());
+    assertSameRotation(Quaterniond.axisAngle(0.8d, 1d, 0d, 0d), a.copy().nlerp(negated, 0.5d));
+  }
+
+  @Test
+  void testGet() {
+    final Quaterniond quaternion = Quaterniond.axisAngle(0.7d, 1d, 2d, 3d);
+    final Matrix4d expected = Matrix4d.rotation(0.7d, 1d, 2d, 3d);
+    final Matrix4d actual = Matrix4d.identity();
+    assertSame(actual, quaternion.get(actual));
+    final MutVector3d a = expected.transformPosition(4d, 5d, 6d, MutVector3d.zero());
+    final MutVector3d b = actual.transformPosition(4d, 5d, 6d, MutVector3d.zero());
+    assertVectorEquals(a.x(), a.y(), a.z(), b, DELTA);
+  }
+
+  @Test
+  void testGet_matrix3() {
+    final Quaterniond quaternion = Quaterniond.axisAngle(0.7d, 1d, 2d, 3d);
+    final Matrix3d actual = quaternion.get(Matrix3d.identity());
+    final MutVector3d a = Matrix3d.rotation(0.7d, 1d, 2d, 3d).transform(4d, 5d, 6d, MutVector3d.zero());
+    assertVectorEquals(a.x(), a.y(), a.z(), actual.transform(4d, 5d, 6d, MutVector3d.zero()), DELTA);
+  }
+
+  @Test
+  void testRotate_bulk() {
+    final Random random = new Random(42L);
+    final Quaterniond quaternion = random(random);
+    final double[] src = new double[300];
+    for(int i = 0; i < src.length; i++) {
+      src[i] = random.nextDouble();
+    }
+    final double[] dst = new double[301];
+    quaternion.rotate(src, 0, dst, 1, 100);
+    final Vector3dBuffer buffer = Vector3dBuffer.create(100);
+    for(int i = 0; i < 100; i++) {
+      buffer.set(i, src[i * 3], src[i * 3 + 1], src[i * 3 + 2]);
+    }
+    quaternion.rotate(buffer, 0, 100, buffer);
+    final MutVector3d expected = MutVector3d.zero();
+    for(int i = 0; i < 100; i++) {
+      quaternion.rotate(src[i * 3], src[i * 3 + 1], src[i * 3 + 2], expected);
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), ImVector3d.of(dst[i * 3 + 1], dst[i * 3 + 2], dst[i * 3 + 3]));
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), buffer.get(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> quaternion.rotate(src, 1, dst, 0, 100));
+    assertThrows(IndexOutOfBoundsException.class, () -> quaternion.rotate(buffer, 0, 101, buffer));
+  }
+
+  @Test
+  void testPremul_bulk() {
+    final Random random = new Random(42L);
+    final Quaterniond delta = random(random);
+    final Quaterniond[] orientations = new Quaterniond[50];
+    final double[] packed = new double[200];
+    for(int i = 0; i < orientations.length; i++) {
+      orientations[i] = random(random);
+      packed[i * 4] = orientations[i].x();
+      packed[i * 4 + 1] = orientations[i].y();
+      packed[i * 4 + 2] = orientations[i].z();
+      packed[i * 4 + 3] = orientations[i].w();
+    }
+    delta.premul(packed, 0, 50);
+    for(int i = 0; i < orientations.length; i++) {
+      assertQuaternionEquals(orientations[i].premul(delta), Quaterniond.of(packed[i * 4], packed[i * 4 + 1], packed[i * 4 + 2], packed[i * 4 + 3]));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> delta.premul(packed, 1, 50));
+  }
+}
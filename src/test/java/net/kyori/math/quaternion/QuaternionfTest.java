@@ -0,0 +1,227 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.quaternion;
+
+import net.kyori.math.matrix.Matrix4f;
+import net.kyori.math.vector.f.ImVector3f;
+import net.kyori.math.vector.f.MutVector3f;
+import net.kyori.math.vector.f.Vector3fBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QuaternionfTest {
+  private static final float DELTA = 1e-5f;
+  private static final float HALF_PI = (float) Math.PI / 2f;
+
+  private static Quaternionf random(final Random random) {
+    return Quaternionf.axisAngle(random.nextFloat() * 6f - 3f, random.nextFloat() - 0.5f, random.nextFloat() - 0.5f, random.nextFloat() - 0.5f);
+  }
+
+  private static void assertQuaternionEquals(final Quaternionf expected, final Quaternionf actual) {
+    assertEquals(expected.x(), actual.x(), DELTA, "x");
+    assertEquals(expected.y(), actual.y(), DELTA, "y");
+    assertEquals(expected.z(), actual.z(), DELTA, "z");
+    assertEquals(expected.w(), actual.w(), DELTA, "w");
+  }
+
+  // q and -q describe the same rotation
+  private static void assertSameRotation(final Quaternionf expected, final Quaternionf actual) {
+    assertEquals(1f, Math.abs(expected.dot(actual)), DELTA);
+  }
+
+  @Test
+  void testOf() {
+    final Quaternionf quaternion = Quaternionf.of(1f, 2f, 3f, 4f);
+    assertEquals(1f, quaternion.x());
+    assertEquals(2f, quaternion.y());
+    assertEquals(3f, quaternion.z());
+    assertEquals(4f, quaternion.w());
+    assertEquals(30f, quaternion.lengthSquared());
+    final Quaternionf copy = quaternion.copy();
+    assertNotSame(quaternion, copy);
+    assertEquals(quaternion, copy);
+    assertEquals(quaternion.hashCode(), copy.hashCode());
+    assertEquals(quaternion, Quaternionf.from(quaternion));
+    assertEquals(Quaternionf.identity(), quaternion.setIdentity());
+    assertEquals("Quaternionf{x=0.000000, y=0.000000, z=0.000000, w=1.000000}", quaternion.toString());
+  }
+
+  @Test
+  void testAxisAngle() {
+    final MutVector3f dst = MutVector3f.zero();
+    assertVectorEquals(1f, 2f, 3f, Quaternionf.identity().rotate(1f, 2f, 3f, dst));
+    assertSame(dst, Quaternionf.axisAngle(HALF_PI, ImVector3f.of(0f, 2f, 0f)).rotate(ImVector3f.of(1f, 0f, 0f), dst));
+    assertVectorEquals(0f, 0f, -1f, dst, DELTA);
+    final Random random = new Random(42L);
+    final MutVector3f expected = MutVector3f.zero();
+    for(int i = 0; i < 100; i++) {
+      final float angle = random.nextFloat() * 6f - 3f;
+      final ImVector3f axis = ImVector3f.of(random.nextFloat() - 0.5f, random.nextFloat() - 0.5f, random.nextFloat() - 0.5f);
+      final ImVector3f vector = ImVector3f.of(random.nextFloat(), random.nextFloat(), random.nextFloat());
+      Matrix4f.rotation(angle, axis).transformDirection(vector, expected);
+      final Quaternionf quaternion = Quaternionf.axisAngle(angle, axis);
+      assertEquals(1f, quaternion.length(), DELTA);
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), quaternion.rotate(vector, dst), DELTA);
+    }
+  }
+
+  @Test
+  void testYawPitchRoll() {
+    final Random random = new Random(42L);
+    final MutVector3f expected = MutVector3f.zero();
+    final MutVector3f actual = MutVector3f.zero();
+    for(int i = 0; i < 100; i++) {
+      final float yaw = random.nextFloat() * 6f - 3f;
+      final float pitch = random.nextFloat() * 3f - 1.5f;
+      final float roll = random.nextFloat() * 6f - 3f;
+      Matrix4f.rotationY(yaw).mul(Matrix4f.rotationX(pitch)).mul(Matrix4f.rotationZ(roll)).transformDirection(1f, 2f, 3f, expected);
+      Quaternionf.yawPitchRoll(yaw, pitch, roll).rotate(1f, 2f, 3f, actual);
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), actual, DELTA);
+    }
+  }
+
+  @Test
+  void testMul() {
+    final Random random = new Random(42L);
+    final MutVector3f expected = MutVector3f.zero();
+    final MutVector3f actual = MutVector3f.zero();
+    for(int i = 0; i < 100; i++) {
+      final Quaternionf a = random(random);
+      final Quaternionf b = random(random);
+      a.rotate(b.rotate(1f, 2f, 3f, expected), expected);
+      final Quaternionf product = a.copy();
+      assertSame(product, product.mul(b));
+      product.rotate(1f, 2f, 3f, actual);
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), actual, DELTA);
+      assertQuaternionEquals(product, b.copy().premul(a));
+    }
+  }
+
+  @Test
+  void testConjugate() {
+    final Quaternionf quaternion = Quaternionf.axisAngle(1f, 1f, 2f, 3f);
+    final MutVector3f dst = quaternion.rotate(4f, 5f, 6f, MutVector3f.zero());
+    assertSame(quaternion, quaternion.conjugate());
+    assertVectorEquals(4f, 5f, 6f, quaternion.rotate(dst, dst), DELTA);
+    assertEquals(Quaternionf.of(-1f, -2f, -3f, 4f), Quaternionf.of(1f, 2f, 3f, 4f).conjugate());
+  }
+
+  @Test
+  void testInvert() {
+    final Quaternionf quaternion = Quaternionf.of(1f, 2f, 3f, 4f);
+    assertQuaternionEquals(Quaternionf.identity(), quaternion.copy().mul(quaternion.copy().invert()));
+    assertEquals(1f, Quaternionf.of(1f, 2f, 3f, 4f).normalize().length(), DELTA);
+  }
+
+  @Test
+  void testSlerp() {
+    final Quaternionf a = Quaternionf.axisAngle(0.2f, 0f, 1f, 0f);
+    final Quaternionf b = Quaternionf.axisAngle(1.4f, 0f, 1f, 0f);
+    assertQuaternionEquals(a, a.copy().slerp(b, 0f));
+    assertQuaternionEquals(b, a.copy().slerp(b, 1f));
+    assertQuaternionEquals(Quaternionf.axisAngle(0.5f, 0f, 1f, 0f), a.copy().slerp(b, 0.25f));
+    // -b is the same rotation, and must still take the shorter arc
+    final Quaternionf negated = Quaternionf.of(-b.x(), -b.y(), -b.z(), -b.w());
+    assertSameRotation(Quaternionf.axisAngle(0.8f, 0f, 1f, 0f), a.copy().slerp(negated, 0.5f));
+    // nearly identical quaternions fall back to nlerp
+    final Quaternionf c = Quaternionf.axisAngle(0.2001f, 0f, 1f, 0f);
+    assertQuaternionEquals(Quaternionf.axisAngle(0.20005f, 0f, 1f, 0f), a.copy().slerp(c, 0.5f));
+  }
+
+  @Test
+  void testNlerp() {
+    final Quaternionf a = Quaternionf.axisAngle(0.2f, 1f, 0f, 0f);
+    final Quaternionf b = Quaternionf.axisAngle(1.4f, 1f, 0f, 0f);
+    assertQuaternionEquals(a, a.copy().nlerp(b, 0f));
+    assertQuaternionEquals(b, a.copy().nlerp(b, 1f));
+    // symmetric about the midpoint
+    assertQuaternionEquals(Quaternionf.axisAngle(0.8f, 1f, 0f, 0f), a.copy().nlerp(b, 0.5f));
+    final Quaternionf negated = Quaternionf.of(-b.x(), -b.y(), -b.z(), -b.w());
+    assertSameRotation(Quaternionf.axisAngle(0.8f, 1f, 0f, 0f), a.copy().nlerp(negated, 0.5f));
+  }
+
+  @Test
+  void testGet() {
+    final Quaternionf quaternion = Quaternionf.axisAngle(0.7f, 1f, 2f, 3f);
+    final Matrix4f expected = Matrix4f.rotation(0.7f, 1f, 2f, 3f);
+    final Matrix4f actual = Matrix4f.identity();
+    assertSame(actual, quaternion.get(actual));
+    final MutVector3f a = expected.transformPosition(4f, 5f, 6f, MutVector3f.zero());
+    final MutVector3f b = actual.transformPosition(4f, 5f, 6f, MutVector3f.zero());
+    assertVectorEquals(a.x(), a.y(), a.z(), b, DELTA);
+  }
+
+
+  @Test
+  void testRotate_bulk() {
+    final Random random = new Random(42L);
+    final Quaternionf quaternion = random(random);
+    final float[] src = new float[300];
+    for(int i = 0; i < src.length; i++) {
+      src[i] = random.nextFloat();
+    }
+    final float[] dst = new float[301];
+    quaternion.rotate(src, 0, dst, 1, 100);
+    final Vector3fBuffer buffer = Vector3fBuffer.create(100);
+    for(int i = 0; i < 100; i++) {
+      buffer.set(i, src[i * 3], src[i * 3 + 1], src[i * 3 + 2]);
+    }
+    quaternion.rotate(buffer, 0, 100, buffer);
+    final MutVector3f expected = MutVector3f.zero();
+    for(int i = 0; i < 100; i++) {
+      quaternion.rotate(src[i * 3], src[i * 3 + 1], src[i * 3 + 2], expected);
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), ImVector3f.of(dst[i * 3 + 1], dst[i * 3 + 2], dst[i * 3 + 3]));
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), buffer.get(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> quaternion.rotate(src, 1, dst, 0, 100));
+    assertThrows(IndexOutOfBoundsException.class, () -> quaternion.rotate(buffer, 0, 101, buffer));
+  }
+
+  @Test
+  void testPremul_bulk() {
+    final Random random = new Random(42L);
+    final Quaternionf delta = random(random);
+    final Quaternionf[] orientations = new Quaternionf[50];
+    final float[] packed = new float[200];
+    for(int i = 0; i < orientations.length; i++) {
+      orientations[i] = random(random);
+      packed[i * 4] = orientations[i].x();
+      packed[i * 4 + 1] = orientations[i].y();
+      packed[i * 4 + 2] = orientations[i].z();
+      packed[i * 4 + 3] = orientations[i].w();
+    }
+    delta.premul(packed, 0, 50);
+    for(int i = 0; i < orientations.length; i++) {
+      assertQuaternionEquals(orientations[i].premul(delta), Quaternionf.of(packed[i * 4], packed[i * 4 + 1], packed[i * 4 + 2], packed[i * 4 + 3]));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> delta.premul(packed, 1, 50));
+  }
+}
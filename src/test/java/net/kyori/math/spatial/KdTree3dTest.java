@@ -0,0 +1,172 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.spatial;
+
+import net.kyori.math.aabb.Aabbd;
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KdTree3dTest {
+  @Test
+  void testEmpty() {
+    final KdTree3d tree = KdTree3d.build(new Vector3d[0]);
+    assertEquals(0, tree.size());
+    assertEquals(-1, tree.nearest(0d, 0d, 0d));
+    assertEquals(0, tree.nearest(0d, 0d, 0d, 4, new int[4], new double[4]));
+    assertEquals(0, tree.radius(0d, 0d, 0d, 10d, new int[4]));
+    assertEquals(0, tree.box(-1d, -1d, -1d, 1d, 1d, 1d, new int[4]));
+  }
+
+  @Test
+  void testNearest() {
+    final KdTree3d tree = KdTree3d.build(new Vector3d[]{
+      ImVector3d.of(0d, 0d, 0d),
+      ImVector3d.of(10d, 0d, 0d),
+      ImVector3d.of(0d, 10d, 0d),
+      ImVector3d.of(0d, 0d, 10d)
+    });
+    assertEquals(4, tree.size());
+    assertEquals(0, tree.nearest(1d, 1d, 1d));
+    assertEquals(1, tree.nearest(ImVector3d.of(8d, 1d, 0d)));
+    final int[] indices = new int[3];
+    final double[] distances = new double[3];
+    assertEquals(3, tree.nearest(9d, 1d, 0d, 3, indices, distances));
+    assertArrayEquals(new int[]{1, 0, 2}, indices);
+    assertArrayEquals(new double[]{2d, 82d, 162d}, distances);
+  }
+
+  @Test
+  void testNearest_fewerPoints() {
+    final KdTree3d tree = KdTree3d.build(new Vector3d[]{ImVector3d.of(1d, 2d, 3d), ImVector3d.of(4d, 5d, 6d)});
+    final int[] indices = new int[5];
+    assertEquals(2, tree.nearest(0d, 0d, 0d, 5, indices, new double[5]));
+    assertEquals(0, indices[0]);
+    assertEquals(1, indices[1]);
+  }
+
+  @Test
+  void testNearest_bounds() {
+    final KdTree3d tree = KdTree3d.build(new Vector3d[]{ImVector3d.zero()});
+    assertThrows(IndexOutOfBoundsException.class, () -> tree.nearest(0d, 0d, 0d, 3, new int[2], new double[3]));
+    assertThrows(IndexOutOfBoundsException.class, () -> tree.nearest(0d, 0d, 0d, -1, new int[2], new double[3]));
+  }
+
+  @Test
+  void testRadius_overflow() {
+    final Vector3d[] points = new Vector3d[10];
+    Arrays.fill(points, ImVector3d.zero());
+    final KdTree3d tree = KdTree3d.build(points);
+    final int[] indices = new int[4];
+    assertEquals(10, tree.radius(0d, 0d, 0d, 0d, indices));
+    assertEquals(10, tree.box(Aabbd.of(0d, 0d, 0d, 0d, 0d, 0d), indices));
+    assertEquals(0, tree.radius(1d, 0d, 0d, 0.5d, indices));
+  }
+
+  @Test
+  void testRandom() {
+    this.testRandom(1000);
+  }
+
+  @Test
+  void testRandom_parallel() {
+    this.testRandom(50000);
+  }
+
+  private void testRandom(final int size) {
+    final Random random = new Random(42L);
+    final Vector3dBuffer points = Vector3dBuffer.create(size);
+    for(int i = 0; i < size; i++) {
+      // a coarse grid, so that there are duplicate points and ties along each axis
+      points.set(i, random.nextInt(40), random.nextInt(40) * 0.5d, random.nextDouble() * 20d);
+    }
+    final KdTree3d tree = KdTree3d.build(points);
+    assertEquals(size, tree.size());
+    final int[] indices = new int[size];
+    final double[] distances = new double[size];
+    for(int query = 0; query < 50; query++) {
+      final double x = random.nextDouble() * 44d - 2d;
+      final double y = random.nextDouble() * 24d - 2d;
+      final double z = random.nextDouble() * 24d - 2d;
+      final double[] expected = new double[size];
+      for(int i = 0; i < size; i++) {
+        expected[i] = distanceSquared(points, i, x, y, z);
+      }
+      final double[] sorted = expected.clone();
+      Arrays.sort(sorted);
+
+      assertEquals(sorted[0], expected[tree.nearest(x, y, z)]);
+
+      final int k = 1 + random.nextInt(32);
+      assertEquals(k, tree.nearest(x, y, z, k, indices, distances));
+      for(int i = 0; i < k; i++) {
+        assertEquals(sorted[i], distances[i]);
+        assertEquals(expected[indices[i]], distances[i]);
+      }
+
+      final double radius = random.nextDouble() * 4d;
+      final int inside = tree.radius(x, y, z, radius, indices);
+      final int[] found = Arrays.copyOf(indices, inside);
+      Arrays.sort(found);
+      assertArrayEquals(bruteRadius(expected, radius * radius), found);
+
+      final double minX = x - random.nextDouble() * 4d;
+      final double minY = y - random.nextDouble() * 4d;
+      final double minZ = z - random.nextDouble() * 4d;
+      final double maxX = x + random.nextDouble() * 4d;
+      final double maxY = y + random.nextDouble() * 4d;
+      final double maxZ = z + random.nextDouble() * 4d;
+      final int contained = tree.box(minX, minY, minZ, maxX, maxY, maxZ, indices);
+      final int[] boxed = Arrays.copyOf(indices, contained);
+      Arrays.sort(boxed);
+      assertArrayEquals(bruteBox(points, minX, minY, minZ, maxX, maxY, maxZ), boxed);
+    }
+  }
+
+  private static double distanceSquared(final Vector3dBuffer points, final int index, final double x, final double y, final double z) {
+    final double dx = x - points.x(index);
+    final double dy = y - points.y(index);
+    final double dz = z - points.z(index);
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  private static int[] bruteRadius(final double[] distances, final double radiusSquared) {
+    return IntStream.range(0, distances.length).filter(i -> distances[i] <= radiusSquared).toArray();
+  }
+
+  private static int[] bruteBox(final Vector3dBuffer points, final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ) {
+    return IntStream.range(0, points.size())
+      .filter(i -> points.x(i) >= minX && points.x(i) <= maxX && points.y(i) >= minY && points.y(i) <= maxY && points.z(i) >= minZ && points.z(i) <= maxZ)
+      .toArray();
+  }
+}
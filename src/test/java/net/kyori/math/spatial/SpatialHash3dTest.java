@@ -0,0 +1,252 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.spatial;
+
+import net.kyori.math.aabb.Aabbd;
+import net.kyori.math.vector.d.ImVector3d;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpatialHash3dTest {
+  @Test
+  void testCreate() {
+    assertThrows(IllegalArgumentException.class, () -> SpatialHash3d.create(0d));
+    assertThrows(IllegalArgumentException.class, () -> SpatialHash3d.create(Double.NaN));
+    assertThrows(IllegalArgumentException.class, () -> SpatialHash3d.create(1d, 0));
+    final SpatialHash3d hash = SpatialHash3d.create(2d, 100);
+    assertEquals(2d, hash.cellSize());
+    assertEquals(0, hash.size());
+    assertEquals("SpatialHash3d{cellSize=2.0, buckets=128, size=0}", hash.toString());
+  }
+
+  @Test
+  void testCell() {
+    final SpatialHash3d hash = SpatialHash3d.create(4d);
+    assertEquals(0, hash.cell(0d));
+    assertEquals(0, hash.cell(3.9d));
+    assertEquals(1, hash.cell(4d));
+    assertEquals(-1, hash.cell(-0.1d));
+    assertEquals(-2, hash.cell(-4.1d));
+  }
+
+  @Test
+  void testInsertRemove() {
+    final SpatialHash3d hash = SpatialHash3d.create(4d);
+    hash.insert(1, 1d, 1d, 1d);
+    hash.insert(2, ImVector3d.of(5d, 1d, 1d));
+    assertEquals(2, hash.size());
+    final int[] ids = new int[4];
+    assertEquals(1, hash.radius(0d, 0d, 0d, 2d, ids));
+    assertEquals(1, ids[0]);
+    assertFalse(hash.remove(1, 5d, 5d, 5d));
+    assertFalse(hash.remove(2, 1d, 1d, 1d));
+    assertTrue(hash.remove(1, 1.5d, 1.5d, 1.5d));
+    assertEquals(1, hash.size());
+    assertEquals(0, hash.radius(0d, 0d, 0d, 2d, ids));
+    assertTrue(hash.remove(2, ImVector3d.of(5d, 1d, 1d)));
+    assertEquals(0, hash.size());
+  }
+
+  @Test
+  void testMove() {
+    final SpatialHash3d hash = SpatialHash3d.create(4d);
+    hash.insert(7, 1d, 1d, 1d);
+    final int[] ids = new int[4];
+    assertTrue(hash.move(7, 1d, 1d, 1d, 2d, 2d, 2d));
+    assertEquals(0, hash.radius(1d, 1d, 1d, 1d, ids));
+    assertEquals(1, hash.radius(2d, 2d, 2d, 0d, ids));
+    assertTrue(hash.move(7, ImVector3d.of(2d, 2d, 2d), ImVector3d.of(-50d, 20d, 9d)));
+    assertEquals(1, hash.radius(-50d, 20d, 9d, 0d, ids));
+    assertEquals(7, ids[0]);
+    assertEquals(0, hash.radius(2d, 2d, 2d, 1d, ids));
+    assertFalse(hash.move(7, 2d, 2d, 2d, 3d, 3d, 3d));
+    assertFalse(hash.move(7, 2d, 2d, 2d, 100d, 3d, 3d));
+    assertEquals(0, hash.radius(100d, 3d, 3d, 1d, ids));
+    assertEquals(1, hash.size());
+  }
+
+  @Test
+  void testRandom() {
+    final Random random = new Random(42L);
+    // few buckets, so that many cells share each of them and large queries scan every bucket
+    final SpatialHash3d hash = SpatialHash3d.create(3d, 16);
+    final double[] points = new double[500 * 3];
+    for(int i = 0; i < 500; i++) {
+      points[i * 3] = random.nextDouble() * 60d - 30d;
+      points[i * 3 + 1] = random.nextDouble() * 60d - 30d;
+      points[i * 3 + 2] = random.nextDouble() * 60d - 30d;
+      hash.insert(i, points[i * 3], points[i * 3 + 1], points[i * 3 + 2]);
+    }
+    final int[] ids = new int[500];
+    for(int query = 0; query < 200; query++) {
+      final double x = random.nextDouble() * 60d - 30d;
+      final double y = random.nextDouble() * 60d - 30d;
+      final double z = random.nextDouble() * 60d - 30d;
+      final double radius = random.nextDouble() * (query % 2 == 0 ? 3d : 20d);
+      final List<Integer> expected = new ArrayList<>();
+      for(int i = 0; i < 500; i++) {
+        final double dx = x - points[i * 3];
+        final double dy = y - points[i * 3 + 1];
+        final double dz = z - points[i * 3 + 2];
+        if(dx * dx + dy * dy + dz * dz <= radius * radius) expected.add(i);
+      }
+      assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), sorted(ids, hash.radius(x, y, z, radius, ids)));
+
+      final Aabbd box = Aabbd.of(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius);
+      expected.clear();
+      for(int i = 0; i < 500; i++) {
+        if(box.contains(points[i * 3], points[i * 3 + 1], points[i * 3 + 2])) expected.add(i);
+      }
+      assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), sorted(ids, hash.box(box, ids)));
+    }
+  }
+
+  @Test
+  void testRadius_overflow() {
+    final SpatialHash3d hash = SpatialHash3d.create(1d);
+    for(int i = 0; i < 10; i++) {
+      hash.insert(i, 0.5d, 0.5d, 0.5d);
+    }
+    final int[] ids = new int[3];
+    assertEquals(10, hash.radius(0.5d, 0.5d, 0.5d, 1d, ids));
+    assertEquals(10, hash.box(0d, 0d, 0d, 1d, 1d, 1d, ids));
+  }
+
+  @Test
+  void testRadius_edge() {
+    final SpatialHash3d hash = SpatialHash3d.create(1d);
+    hash.insert(1, Integer.MAX_VALUE, 0d, 0d);
+    final int[] ids = new int[1];
+    assertEquals(1, hash.radius(Integer.MAX_VALUE, 0d, 0d, 1e10d, ids));
+    assertEquals(1, hash.box(Integer.MAX_VALUE - 1d, -1d, -1d, Double.MAX_VALUE, 1d, 1d, ids));
+  }
+
+  // writers move disjoint sets of entities while readers query, then every entity must be exactly where it was last moved;
+  // readers must always find the one entity that never moves exactly once when their query covers it
+  @Test
+  void testConcurrent() throws Exception {
+    final int writers = 4;
+    final int readers = 2;
+    final int entities = 256;
+    final int moves = 20000;
+    final SpatialHash3d hash = SpatialHash3d.create(2d, 64);
+    final double[] positions = new double[writers * entities * 3];
+    final int stationary = writers * entities;
+    for(int id = 0; id < writers * entities; id++) {
+      hash.insert(id, 0d, 0d, 0d);
+    }
+    hash.insert(stationary, 1d, 2d, 3d);
+    final ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+    try {
+      final CountDownLatch start = new CountDownLatch(1);
+      final AtomicBoolean done = new AtomicBoolean();
+      final List<Future<?>> futures = new ArrayList<>();
+      for(int writer = 0; writer < writers; writer++) {
+        final int first = writer * entities;
+        final Random random = new Random(42L + writer);
+        futures.add(executor.submit(() -> {
+          start.await();
+          for(int i = 0; i < moves; i++) {
+            final int id = first + random.nextInt(entities);
+            final double x = random.nextDouble() * 40d - 20d;
+            final double y = random.nextDouble() * 40d - 20d;
+            final double z = random.nextDouble() * 40d - 20d;
+            if(!hash.move(id, positions[id * 3], positions[id * 3 + 1], positions[id * 3 + 2], x, y, z)) throw new AssertionError("lost " + id);
+            positions[id * 3] = x;
+            positions[id * 3 + 1] = y;
+            positions[id * 3 + 2] = z;
+          }
+          return null;
+        }));
+      }
+      for(int reader = 0; reader < readers; reader++) {
+        final Random random = new Random(-42L - reader);
+        futures.add(executor.submit(() -> {
+          final int[] ids = new int[writers * entities * 4];
+          start.await();
+          while(!done.get()) {
+            final double x = random.nextDouble() * 40d - 20d;
+            final double y = random.nextDouble() * 40d - 20d;
+            final double z = random.nextDouble() * 40d - 20d;
+            final double radius = random.nextDouble() * 10d;
+            final int count = hash.radius(x, y, z, radius, ids);
+            // moving entities may be seen any number of times, so only a full result can be checked
+            if(count > ids.length) continue;
+            int found = 0;
+            for(int i = 0; i < count; i++) {
+              if(ids[i] < 0 || ids[i] > stationary) throw new AssertionError("unknown id " + ids[i]);
+              if(ids[i] == stationary) found++;
+            }
+            final double dx = x - 1d;
+            final double dy = y - 2d;
+            final double dz = z - 3d;
+            final int expected = dx * dx + dy * dy + dz * dz <= radius * radius ? 1 : 0;
+            if(found != expected) throw new AssertionError("found stationary entity " + found + " times, expected " + expected);
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for(int i = 0; i < writers; i++) {
+        futures.get(i).get(30, TimeUnit.SECONDS);
+      }
+      done.set(true);
+      for(final Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(stationary + 1, hash.size());
+    final int[] ids = new int[stationary + 1];
+    assertEquals(stationary + 1, hash.box(-20d, -20d, -20d, 20d, 20d, 20d, ids));
+    assertEquals(stationary + 1, Arrays.stream(ids).distinct().count());
+    for(int id = 0; id < writers * entities; id++) {
+      final int count = hash.radius(positions[id * 3], positions[id * 3 + 1], positions[id * 3 + 2], 0d, ids);
+      assertTrue(Arrays.stream(ids, 0, count).anyMatch(Integer.valueOf(id)::equals), "missing " + id);
+    }
+  }
+
+  private static int[] sorted(final int[] ids, final int count) {
+    final int[] sorted = Arrays.copyOf(ids, count);
+    Arrays.sort(sorted);
+    return sorted;
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.spatial;
+
+import net.kyori.math.Direction;
+import net.kyori.math.Mth;
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.i.ImVector3i;
+import net.kyori.math.vector.i.MutVector3i;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VoxelTraversalTest {
+  private static final double DELTA = 1e-12d;
+
+  @Test
+  void testNext() {
+    final VoxelTraversal traversal = VoxelTraversal.create().reset(0.5d, 0.5d, 0.5d, 1d, 0d, 0d, 2d);
+    assertTrue(traversal.next());
+    assertVectorEquals(0, 0, 0, traversal.position(MutVector3i.zero()));
+    assertNull(traversal.face());
+    assertEquals(0d, traversal.distance());
+    assertTrue(traversal.next());
+    assertEquals(1, traversal.x());
+    assertEquals(0, traversal.y());
+    assertEquals(0, traversal.z());
+    assertSame(Direction.WEST, traversal.face());
+    assertEquals(0.5d, traversal.distance(), DELTA);
+    assertTrue(traversal.next());
+    assertEquals(2, traversal.x());
+    assertEquals(1.5d, traversal.distance(), DELTA);
+    assertFalse(traversal.next());
+    assertFalse(traversal.next());
+  }
+
+  @Test
+  void testNext_faces() {
+    final VoxelTraversal traversal = VoxelTraversal.create();
+    final Object[][] cases = {
+      {ImVector3d.of(1d, 0d, 0d), Direction.WEST, ImVector3i.of(1, 0, 0)},
+      {ImVector3d.of(-1d, 0d, 0d), Direction.EAST, ImVector3i.of(-1, 0, 0)},
+      {ImVector3d.of(0d, 1d, 0d), Direction.DOWN, ImVector3i.of(0, 1, 0)},
+      {ImVector3d.of(0d, -1d, 0d), Direction.UP, ImVector3i.of(0, -1, 0)},
+      {ImVector3d.of(0d, 0d, 1d), Direction.NORTH, ImVector3i.of(0, 0, 1)},
+      {ImVector3d.of(0d, 0d, -1d), Direction.SOUTH, ImVector3i.of(0, 0, -1)}
+    };
+    for(final Object[] c : cases) {
+      traversal.reset(ImVector3d.of(0.5d, 0.5d, 0.5d), (ImVector3d) c[0], 1d);
+      assertTrue(traversal.next());
+      assertTrue(traversal.next());
+      assertSame(c[1], traversal.face());
+      assertEquals(c[2], traversal.position(MutVector3i.zero()).toImmutable());
+    }
+  }
+
+  @Test
+  void testNext_negative() {
+    // floors towards negative infinity, and crosses an integer origin straight away
+    final VoxelTraversal traversal = VoxelTraversal.create().reset(-0.5d, 0d, 2d, 0d, -1d, 0d, 1.5d);
+    assertTrue(traversal.next());
+    assertVectorEquals(-1, 0, 2, traversal.position(MutVector3i.zero()));
+    assertTrue(traversal.next());
+    assertVectorEquals(-1, -1, 2, traversal.position(MutVector3i.zero()));
+    assertEquals(0d, traversal.distance());
+    assertTrue(traversal.next());
+    assertVectorEquals(-1, -2, 2, traversal.position(MutVector3i.zero()));
+    assertEquals(1d, traversal.distance(), DELTA);
+    assertFalse(traversal.next());
+  }
+
+  @Test
+  void testNext_unnormalized() {
+    final VoxelTraversal traversal = VoxelTraversal.create().reset(0.5d, 0.5d, 0.5d, 0d, 0d, 10d, 5d);
+    int count = 0;
+    while(traversal.next()) count++;
+    assertEquals(6, count);
+    assertEquals(5.5d, traversal.distance(), DELTA);
+  }
+
+  @Test
+  void testReset() {
+    assertThrows(IllegalArgumentException.class, () -> VoxelTraversal.create().reset(0d, 0d, 0d, 0d, 0d, 0d, 1d));
+    assertThrows(IllegalArgumentException.class, () -> VoxelTraversal.create().reset(0d, 0d, 0d, Double.NaN, 0d, 0d, 1d));
+    assertFalse(VoxelTraversal.create().next());
+    assertFalse(VoxelTraversal.create().reset(0d, 0d, 0d, 1d, 0d, 0d, -1d).next());
+  }
+
+  @Test
+  void testTraverse() {
+    final List<ImVector3i> visited = new ArrayList<>();
+    final boolean stopped = VoxelTraversal.traverse(ImVector3d.of(0.5d, 0.5d, 0.5d), ImVector3d.of(1d, 1d, 0d), 100d, (x, y, z, face, distance) -> {
+      visited.add(ImVector3i.of(x, y, z));
+      return visited.size() < 4;
+    });
+    assertTrue(stopped);
+    assertEquals(4, visited.size());
+    assertEquals(ImVector3i.of(0, 0, 0), visited.get(0));
+    assertFalse(VoxelTraversal.traverse(ImVector3d.of(0.5d, 0.5d, 0.5d), ImVector3d.of(1d, 1d, 0d), 3d, (x, y, z, face, distance) -> true));
+  }
+
+  @Test
+  void testTraverse_random() {
+    final Random random = new Random(42L);
+    final VoxelTraversal traversal = VoxelTraversal.create();
+    for(int i = 0; i < 200; i++) {
+      final double ox = random.nextDouble() * 20d - 10d;
+      final double oy = random.nextDouble() * 20d - 10d;
+      final double oz = random.nextDouble() * 20d - 10d;
+      double dx = random.nextGaussian();
+      double dy = random.nextGaussian();
+      double dz = random.nextGaussian();
+      final double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+      dx /= length;
+      dy /= length;
+      dz /= length;
+      final double maxDistance = random.nextDouble() * 20d;
+      traversal.reset(ox, oy, oz, dx, dy, dz, maxDistance);
+      final Set<ImVector3i> visited = new HashSet<>();
+      int px = 0;
+      int py = 0;
+      int pz = 0;
+      double previousDistance = 0d;
+      while(traversal.next()) {
+        if(traversal.face() != null) {
+          // each step moves to a neighbour through the face it reports
+          final Direction face = traversal.face();
+          assertEquals(px - face.x(), traversal.x());
+          assertEquals(py - face.y(), traversal.y());
+          assertEquals(pz - face.z(), traversal.z());
+        }
+        assertTrue(traversal.distance() >= previousDistance && traversal.distance() <= maxDistance);
+        previousDistance = traversal.distance();
+        px = traversal.x();
+        py = traversal.y();
+        pz = traversal.z();
+        visited.add(ImVector3i.of(px, py, pz));
+      }
+      // every voxel sampled along the ray is visited
+      for(double t = 0d; t <= maxDistance; t += 0.01d) {
+        final ImVector3i voxel = ImVector3i.of(Mth.floor(ox + dx * t), Mth.floor(oy + dy * t), Mth.floor(oz + dz * t));
+        assertTrue(visited.contains(voxel), voxel::toString);
+      }
+    }
+  }
+}
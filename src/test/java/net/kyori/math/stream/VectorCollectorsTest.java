@@ -0,0 +1,131 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.stream;
+
+import net.kyori.math.aabb.Aabbd;
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import net.kyori.math.vector.f.ImVector3f;
+import net.kyori.math.vector.f.Vector3f;
+import net.kyori.math.vector.f.Vector3fBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static net.kyori.math.AllocationAssertions.assertAllocatesAtMost;
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VectorCollectorsTest {
+  private static final int SIZE = 10_000;
+
+  private static Vector3dBuffer random() {
+    final Random random = new Random(42L);
+    final Vector3dBuffer buffer = Vector3dBuffer.create(SIZE);
+    for(int i = 0; i < SIZE; i++) {
+      buffer.set(i, random.nextInt(2001) - 1000, random.nextInt(2001) - 1000, random.nextInt(2001) - 1000);
+    }
+    return buffer;
+  }
+
+  private static Stream<Vector3d> stream(final Vector3dBuffer buffer, final boolean parallel) {
+    return parallel ? VectorStreams.streamReusing(buffer).parallel() : VectorStreams.streamReusing(buffer);
+  }
+
+  @Test
+  void testDoubles() {
+    final Vector3dBuffer buffer = random();
+    double sx = 0d;
+    double sy = 0d;
+    double sz = 0d;
+    double minX = Double.POSITIVE_INFINITY;
+    double minY = Double.POSITIVE_INFINITY;
+    double minZ = Double.POSITIVE_INFINITY;
+    double maxX = Double.NEGATIVE_INFINITY;
+    double maxY = Double.NEGATIVE_INFINITY;
+    double maxZ = Double.NEGATIVE_INFINITY;
+    for(int i = 0; i < SIZE; i++) {
+      sx += buffer.x(i);
+      sy += buffer.y(i);
+      sz += buffer.z(i);
+      minX = Math.min(minX, buffer.x(i));
+      minY = Math.min(minY, buffer.y(i));
+      minZ = Math.min(minZ, buffer.z(i));
+      maxX = Math.max(maxX, buffer.x(i));
+      maxY = Math.max(maxY, buffer.y(i));
+      maxZ = Math.max(maxZ, buffer.z(i));
+    }
+    // integral components sum exactly, in any order
+    for(final boolean parallel : new boolean[]{false, true}) {
+      assertVectorEquals(sx, sy, sz, stream(buffer, parallel).collect(VectorCollectors.sum3d()));
+      assertVectorEquals(sx / SIZE, sy / SIZE, sz / SIZE, stream(buffer, parallel).collect(VectorCollectors.mean3d()));
+      assertVectorEquals(minX, minY, minZ, stream(buffer, parallel).collect(VectorCollectors.min3d()));
+      assertVectorEquals(maxX, maxY, maxZ, stream(buffer, parallel).collect(VectorCollectors.max3d()));
+      final Aabbd bounds = stream(buffer, parallel).collect(VectorCollectors.bounds3d());
+      assertVectorEquals(minX, minY, minZ, bounds.min(MutVector3d.zero()));
+      assertVectorEquals(maxX, maxY, maxZ, bounds.max(MutVector3d.zero()));
+    }
+  }
+
+  @Test
+  void testFloats() {
+    final Vector3fBuffer buffer = Vector3fBuffer.create(4);
+    buffer.set(0, 1f, 2f, 3f);
+    buffer.set(1, -1f, 4f, 0f);
+    buffer.set(2, 2f, -2f, 5f);
+    buffer.set(3, 2f, 0f, 0f);
+    assertVectorEquals(4f, 4f, 8f, VectorStreams.streamReusing(buffer).collect(VectorCollectors.sum3f()));
+    assertVectorEquals(1f, 1f, 2f, VectorStreams.streamReusing(buffer).collect(VectorCollectors.mean3f()));
+    assertVectorEquals(-1f, -2f, 0f, VectorStreams.streamReusing(buffer).collect(VectorCollectors.min3f()));
+    assertVectorEquals(2f, 4f, 5f, VectorStreams.streamReusing(buffer).parallel().collect(VectorCollectors.max3f()));
+    final Aabbd bounds = Arrays.<Vector3f>asList(ImVector3f.of(1f, 2f, 3f), ImVector3f.of(-1f, 5f, 0f)).stream().collect(VectorCollectors.bounds3f());
+    assertVectorEquals(-1d, 2d, 0d, bounds.min(MutVector3d.zero()));
+    assertVectorEquals(1d, 5d, 3d, bounds.max(MutVector3d.zero()));
+  }
+
+  @Test
+  void testEmpty() {
+    final Vector3dBuffer empty = Vector3dBuffer.create(0);
+    assertEquals(ImVector3d.zero(), VectorStreams.streamReusing(empty).collect(VectorCollectors.sum3d()));
+    assertEquals(ImVector3d.zero(), VectorStreams.streamReusing(empty).collect(VectorCollectors.mean3d()));
+    assertEquals(ImVector3f.zero(), VectorStreams.streamReusing(Vector3fBuffer.create(0)).collect(VectorCollectors.mean3f()));
+    assertVectorEquals(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, VectorStreams.streamReusing(empty).collect(VectorCollectors.min3d()));
+    assertVectorEquals(Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, VectorStreams.streamReusing(empty).collect(VectorCollectors.max3d()));
+    assertThrows(IllegalArgumentException.class, () -> VectorStreams.streamReusing(empty).collect(VectorCollectors.bounds3d()));
+    assertThrows(IllegalArgumentException.class, () -> Stream.<Vector3f>empty().collect(VectorCollectors.bounds3f()));
+  }
+
+  @Test
+  void testAllocationPerVector() {
+    final Vector3dBuffer buffer = random();
+    // the stream pipeline allocates a fixed handful of objects, where one per vector would be 10000 of them
+    assertAllocatesAtMost(4096, () -> VectorStreams.streamReusing(buffer).collect(VectorCollectors.sum3d()));
+    assertAllocatesAtMost(4096, () -> VectorStreams.streamReusing(buffer).collect(VectorCollectors.bounds3d()));
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.stream;
+
+import net.kyori.math.vector.d.DirectVector3dBuffer;
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.Vector3d;
+import net.kyori.math.vector.d.Vector3dBuffer;
+import net.kyori.math.vector.f.DirectVector3fBuffer;
+import net.kyori.math.vector.f.ImVector3f;
+import net.kyori.math.vector.f.Vector3f;
+import net.kyori.math.vector.f.Vector3fBuffer;
+import net.kyori.math.vector.i.DirectVector3iBuffer;
+import net.kyori.math.vector.i.ImVector3i;
+import net.kyori.math.vector.i.Vector3i;
+import net.kyori.math.vector.i.Vector3iBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VectorStreamsTest {
+  private static final int SIZE = 1000;
+
+  @Test
+  void testBuffer() {
+    final Vector3dBuffer buffer = Vector3dBuffer.create(SIZE);
+    for(int i = 0; i < SIZE; i++) {
+      buffer.set(i, i, -i, 2 * i);
+    }
+    final List<ImVector3d> vectors = VectorStreams.streamReusing(buffer).map(vector -> ImVector3d.of(vector.x(), vector.y(), vector.z())).collect(Collectors.toList());
+    assertEquals(SIZE, vectors.size());
+    for(int i = 0; i < SIZE; i++) {
+      assertEquals(buffer.get(i), vectors.get(i));
+    }
+    assertEquals(ImVector3d.of(10d, -10d, 20d), VectorStreams.streamReusing(buffer, 10, 20).findFirst().map(Vector3d::copy).orElse(null));
+    assertEquals(10, VectorStreams.streamReusing(buffer, 10, 20).count());
+    assertThrows(IndexOutOfBoundsException.class, () -> VectorStreams.streamReusing(buffer, 10, SIZE + 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> VectorStreams.streamReusing(buffer, 10, 9));
+  }
+
+  @Test
+  void testParallel() {
+    final Vector3fBuffer buffer = Vector3fBuffer.create(SIZE);
+    for(int i = 0; i < SIZE; i++) {
+      buffer.set(i, i, 1f, -i);
+    }
+    // every vector is seen exactly once, whatever the split
+    assertEquals((long) SIZE * (SIZE - 1) / 2, VectorStreams.streamReusing(buffer).parallel().mapToLong(vector -> (long) vector.x()).sum());
+    assertEquals(SIZE, VectorStreams.streamReusing(buffer).parallel().mapToDouble(Vector3f::y).sum());
+    final DirectVector3fBuffer direct = DirectVector3fBuffer.create(SIZE).load(0, SIZE, buffer);
+    assertEquals((long) SIZE * (SIZE - 1) / 2, VectorStreams.streamReusing(direct).parallel().mapToLong(vector -> (long) -vector.z()).sum());
+  }
+
+  @Test
+  void testSplit() {
+    final Spliterator<Vector3i> spliterator = VectorStreams.spliteratorReusing(Vector3iBuffer.create(SIZE));
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+    assertEquals(SIZE, spliterator.getExactSizeIfKnown());
+    final Spliterator<Vector3i> prefix = spliterator.trySplit();
+    assertEquals(SIZE / 2, prefix.estimateSize());
+    assertEquals(SIZE / 2, spliterator.estimateSize());
+    final Spliterator<Vector3i> single = VectorStreams.spliteratorReusing(Vector3iBuffer.create(1));
+    assertNull(single.trySplit());
+    assertTrue(single.tryAdvance(vector -> { }));
+    assertTrue(!single.tryAdvance(vector -> { }));
+  }
+
+  @Test
+  void testReused() {
+    final DirectVector3iBuffer buffer = DirectVector3iBuffer.create(3);
+    buffer.set(1, 1, 2, 3);
+    final List<Vector3i> seen = new ArrayList<>();
+    VectorStreams.spliteratorReusing(buffer).forEachRemaining(seen::add);
+    // one vector is handed to every action; copies keep their values
+    assertSame(seen.get(0), seen.get(2));
+    assertEquals(ImVector3i.of(1, 2, 3), VectorStreams.streamReusing(buffer).skip(1).findFirst().map(Vector3i::copy).orElse(null));
+    // operations that keep vectors keep the reused one, unless they are copied first
+    final Vector3i[] kept = VectorStreams.streamReusing(buffer).toArray(Vector3i[]::new);
+    assertSame(kept[0], kept[2]);
+    assertEquals(ImVector3i.of(1, 2, 3), VectorStreams.streamReusing(buffer).map(Vector3i::copy).toArray(Vector3i[]::new)[1]);
+    assertEquals(0, VectorStreams.streamReusing(DirectVector3iBuffer.create(0)).count());
+    assertEquals(0, VectorStreams.streamReusing(DirectVector3dBuffer.create(0)).count());
+  }
+
+  @Test
+  void testInterleaved() {
+    final double[] array = {1d, 2d, 3d, 4d, 5d, 6d, 7d, 8d, 9d};
+    assertEquals(3, VectorStreams.streamReusing(array).count());
+    assertEquals(ImVector3d.of(4d, 5d, 6d), VectorStreams.streamReusing(array, 1, 2).map(Vector3d::copy).findFirst().orElse(null));
+    assertEquals(12d, VectorStreams.streamReusing(array).mapToDouble(Vector3d::x).sum());
+    assertEquals(ImVector3f.of(7f, 8f, 9f), VectorStreams.streamReusing(new float[]{1f, 2f, 3f, 7f, 8f, 9f}).skip(1).map(Vector3f::copy).findFirst().orElse(null));
+    assertEquals(2, VectorStreams.streamReusing(new int[6]).count());
+    assertThrows(IllegalArgumentException.class, () -> VectorStreams.streamReusing(new double[4]));
+    assertThrows(IndexOutOfBoundsException.class, () -> VectorStreams.streamReusing(array, 0, 4));
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector;
+
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.MutVector3d;
+import net.kyori.math.vector.f.ImVector3f;
+import net.kyori.math.vector.f.MutVector3f;
+import net.kyori.math.vector.i.ImVector3i;
+import net.kyori.math.vector.i.MutVector3i;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static net.kyori.math.AllocationAssertions.assertAllocationFree;
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VectorArenaTest {
+  @Test
+  void testCreate() {
+    final VectorArena arena = VectorArena.create(2);
+    assertEquals(0, arena.allocated());
+    assertVectorEquals(1d, 2d, 3d, arena.vector3d(1d, 2d, 3d));
+    assertVectorEquals(1f, 2f, 3f, arena.vector3f(ImVector3f.of(1f, 2f, 3f)));
+    assertVectorEquals(1, 2, 3, arena.vector3i(1, 2, 3));
+    assertVectorEquals(0, 0, 0, arena.vector3i());
+    assertEquals(4, arena.allocated());
+    assertThrows(IllegalArgumentException.class, () -> VectorArena.create(-1));
+  }
+
+  @Test
+  void testReset() {
+    final VectorArena arena = VectorArena.create(2);
+    final MutVector3d first = arena.vector3d(ImVector3d.of(1d, 2d, 3d));
+    final MutVector3d second = arena.vector3d(4d, 5d, 6d);
+    assertNotSame(first, second);
+    arena.reset();
+    assertEquals(0, arena.allocated());
+    // vectors are handed out again in the same order, zeroed
+    assertSame(first, arena.vector3d());
+    assertVectorEquals(0d, 0d, 0d, first);
+    assertSame(second, arena.vector3d());
+  }
+
+  @Test
+  void testGrow() {
+    final VectorArena arena = VectorArena.create(0);
+    final MutVector3i[] vectors = new MutVector3i[1000];
+    for(int i = 0; i < vectors.length; i++) {
+      vectors[i] = arena.vector3i(i, -i, 0);
+    }
+    for(int i = 0; i < vectors.length; i++) {
+      assertVectorEquals(i, -i, 0, vectors[i]);
+    }
+    arena.reset();
+    for(int i = 0; i < vectors.length; i++) {
+      assertSame(vectors[i], arena.vector3i());
+    }
+  }
+
+  @Test
+  void testLocal() throws InterruptedException {
+    final VectorArena arena = VectorArena.local();
+    assertSame(arena, VectorArena.local());
+    final AtomicReference<VectorArena> other = new AtomicReference<>();
+    final Thread thread = new Thread(() -> other.set(VectorArena.local()));
+    thread.start();
+    thread.join();
+    assertNotSame(arena, other.get());
+  }
+
+  @Test
+  void testDebug() {
+    final VectorArena arena = VectorArena.debug();
+    final MutVector3d d = arena.vector3d(1d, 2d, 3d);
+    final MutVector3f f = arena.vector3f(1f, 2f, 3f);
+    final MutVector3i i = arena.vector3i(ImVector3i.of(1, 2, 3));
+    // before the reset the vectors behave as any other
+    assertVectorEquals(3d, 5d, 7d, d.add(ImVector3d.of(2d, 3d, 4d)));
+    assertEquals(ImVector3f.of(1f, 2f, 3f), f);
+    assertEquals(14, i.lengthSquared());
+    assertEquals(3, arena.allocated());
+    arena.reset();
+    assertNotSame(d, arena.vector3d());
+    assertThrows(IllegalStateException.class, d::x);
+    assertThrows(IllegalStateException.class, () -> d.add(1d, 1d, 1d));
+    assertThrows(IllegalStateException.class, d::length);
+    assertThrows(IllegalStateException.class, d::toImmutable);
+    assertThrows(IllegalStateException.class, () -> ImVector3d.of(1d, 2d, 3d).add(d));
+    assertThrows(IllegalStateException.class, f::normalize);
+    assertThrows(IllegalStateException.class, f::array);
+    assertThrows(IllegalStateException.class, () -> i.set(0, 0, 0));
+    assertThrows(IllegalStateException.class, i::copy);
+    assertThrows(IllegalStateException.class, i::hashCode);
+  }
+
+  @Test
+  void testAllocationFree() {
+    final VectorArena arena = VectorArena.create();
+    final ImVector3d that = ImVector3d.of(0.5d, -1d, 2d);
+    assertAllocationFree(() -> {
+      final MutVector3d a = arena.vector3d(1d, 2d, 3d).add(that);
+      final MutVector3d b = arena.vector3d(that).mul(2d);
+      a.cross(b, arena.vector3d()).normalize();
+      arena.vector3i(1, 2, 3).add(arena.vector3i(4, 5, 6));
+      arena.reset();
+    });
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.d;
+
+import net.kyori.math.memory.Memory;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DirectVector3dBufferTest {
+  @Test
+  void testCreate() {
+    final DirectVector3dBuffer buffer = DirectVector3dBuffer.create(4);
+    assertEquals(4, buffer.size());
+    assertEquals(4 * 3 * Double.BYTES, buffer.memory().byteSize());
+    assertVectorEquals(0d, 0d, 0d, buffer.get(3));
+  }
+
+  @Test
+  void testWrap() {
+    final DirectVector3dBuffer buffer = DirectVector3dBuffer.wrap(Memory.wrap(ByteBuffer.allocate(2 * 3 * Double.BYTES + 1)));
+    assertEquals(2, buffer.size());
+    assertEquals(1, DirectVector3dBuffer.wrap(buffer.memory(), 1).size());
+    assertThrows(IllegalArgumentException.class, () -> DirectVector3dBuffer.wrap(buffer.memory(), 3));
+    assertThrows(IllegalArgumentException.class, () -> DirectVector3dBuffer.wrap(buffer.memory(), -1));
+  }
+
+  @Test
+  void testGetSet() {
+    final DirectVector3dBuffer buffer = DirectVector3dBuffer.create(4);
+    buffer.set(1, 1d, 2d, 3d);
+    buffer.set(2, ImVector3d.of(4d, 5d, 6d));
+    assertEquals(1d, buffer.x(1));
+    assertEquals(2d, buffer.y(1));
+    assertEquals(3d, buffer.z(1));
+    assertVectorEquals(4d, 5d, 6d, buffer.get(2));
+    final MutVector3d dst = MutVector3d.zero();
+    assertSame(dst, buffer.get(1, dst));
+    assertVectorEquals(1d, 2d, 3d, dst);
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(4));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.set(-1, 0d, 0d, 0d));
+  }
+
+  @Test
+  void testLoadStore() {
+    final Vector3dBuffer src = Vector3dBuffer.create(4);
+    src.set(0, 1d, 2d, 3d);
+    src.set(3, 4d, 5d, 6d);
+    final DirectVector3dBuffer buffer = DirectVector3dBuffer.create(4).load(0, 4, src);
+    assertVectorEquals(4d, 5d, 6d, buffer.get(3));
+    final Vector3dBuffer dst = buffer.store(1, 4, Vector3dBuffer.create(4));
+    assertVectorEquals(0d, 0d, 0d, dst.get(0));
+    assertVectorEquals(4d, 5d, 6d, dst.get(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.load(0, 5, src));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.load(0, 4, Vector3dBuffer.create(3)));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.store(0, 4, Vector3dBuffer.create(3)));
+  }
+
+  @Test
+  void testView() {
+    final DirectVector3dBuffer buffer = DirectVector3dBuffer.create(2);
+    buffer.set(0, 1d, 2d, 3d);
+    buffer.set(1, 3d, 4d, 0d);
+    final DirectVector3d view = buffer.view(0);
+    assertVectorEquals(1d, 2d, 3d, view);
+    assertSame(view, view.index(1));
+    assertEquals(1, view.index());
+    assertEquals(5d, view.length());
+    assertEquals(ImVector3d.of(3d, 4d, 0d), view);
+    assertEquals(ImVector3d.of(3d, 4d, 0d).hashCode(), view.hashCode());
+    buffer.set(1, 6d, 8d, 0d);
+    assertVectorEquals(6d, 8d, 0d, view);
+    assertThrows(IndexOutOfBoundsException.class, () -> view.index(2));
+  }
+
+  @Test
+  void testViewOperations() {
+    final DirectVector3dBuffer buffer = DirectVector3dBuffer.create(1);
+    buffer.set(0, 1.5d, -2.5d, 4d);
+    final DirectVector3d view = buffer.view(0);
+    final ImVector3d vector = buffer.get(0);
+    assertEquals(vector.add(1d, 2d, 3d), view.add(1d, 2d, 3d));
+    assertEquals(vector.sub(1d, 2d, 3d), view.sub(1d, 2d, 3d));
+    assertEquals(vector.mul(1d, 2d, 3d), view.mul(1d, 2d, 3d));
+    assertEquals(vector.div(1d, 2d, 3d), view.div(1d, 2d, 3d));
+    assertEquals(vector.abs(), view.abs());
+    assertEquals(vector.ceil(), view.ceil());
+    assertEquals(vector.floor(), view.floor());
+    assertEquals(vector.negate(), view.negate());
+    assertEquals(vector.normalize(), view.normalize());
+    assertEquals(vector.pow(2d), view.pow(2d));
+    assertEquals(vector.round(), view.round());
+    assertEquals(vector.map(Math::abs), view.map(Math::abs));
+    assertEquals(vector.x(0d), view.x(0d));
+    // operations leave the buffer untouched
+    assertVectorEquals(1.5d, -2.5d, 4d, buffer.get(0));
+  }
+
+  @Test
+  void testViewCopy() {
+    final DirectVector3dBuffer buffer = DirectVector3dBuffer.create(1);
+    buffer.set(0, 1d, 2d, 3d);
+    final DirectVector3d view = buffer.view(0);
+    final Vector3d copy = view.copy();
+    assertNotSame(view, copy);
+    buffer.set(0, 4d, 5d, 6d);
+    assertVectorEquals(1d, 2d, 3d, copy);
+  }
+}
@@ -23,14 +23,19 @@
  */
 package net.kyori.math.vector.d;
 
+import net.kyori.math.quaternion.Quaterniond;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static com.google.common.truth.Truth.assertThat;
+import static net.kyori.math.AllocationAssertions.assertAllocationFree;
 import static net.kyori.math.MathAssertions.assertImVectorEquals;
 import static net.kyori.math.MathAssertions.assertThat;
 import static net.kyori.math.MathAssertions.assertVectorEquals;
 import static net.kyori.math.vector.d.ImVector3d.of;
 import static net.kyori.math.vector.d.ImVector3d.zero;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -50,6 +55,36 @@ class ImVector3dTest {
     assertVectorEquals(1d, 1d, 1d, of(1d));
   }
 
+  @Test
+  void testDirection() {
+    assertVectorEquals(0d, 0d, 1d, ImVector3d.direction(0d, 0d), 1e-4d);
+    assertVectorEquals(1d, 0d, 0d, ImVector3d.direction(Math.PI / 2d, 0d), 1e-4d);
+    assertVectorEquals(0d, -1d, 0d, ImVector3d.direction(0d, Math.PI / 2d), 1e-4d);
+    final Random random = new Random(42L);
+    final MutVector3d expected = MutVector3d.zero();
+    for(int i = 0; i < 100; i++) {
+      final double yaw = random.nextDouble() * 20d - 10d;
+      final double pitch = random.nextDouble() * Math.PI - Math.PI / 2d;
+      // the same convention as rotating the forward vector by a yaw and pitch
+      Quaterniond.yawPitchRoll(yaw, pitch, 0d).rotate(0d, 0d, 1d, expected);
+      assertVectorEquals(expected.x(), expected.y(), expected.z(), ImVector3d.direction(yaw, pitch), 2e-4d);
+    }
+  }
+
+  @Test
+  void testYawPitch() {
+    final Random random = new Random(42L);
+    for(int i = 0; i < 100; i++) {
+      final double yaw = random.nextDouble() * Math.PI * 2d - Math.PI;
+      final double pitch = random.nextDouble() * Math.PI - Math.PI / 2d;
+      final Vector3d direction = of(Math.sin(yaw) * Math.cos(pitch), -Math.sin(pitch), Math.cos(yaw) * Math.cos(pitch)).mul(3d);
+      assertEquals(pitch, direction.pitch(), 1e-5d);
+      if(Math.abs(Math.cos(pitch)) > 1e-3d) assertEquals(yaw, direction.yaw(), 1e-5d);
+    }
+    assertEquals(0d, zero().yaw());
+    assertEquals(0d, zero().pitch());
+  }
+
   @Test
   void testGetX() {
     assertEquals(0d, zero().x());
@@ -258,6 +293,58 @@ class ImVector3dTest {
     assertTrue(of(0d, Double.NaN, 0d).anyNaN());
   }
 
+  @Test
+  void testDot() {
+    assertEquals(32d, of(1d, 2d, 3d).dot(of(4d, 5d, 6d)));
+    assertEquals(0d, of(1d, 0d, 0d).dot(0d, 1d, 0d));
+  }
+
+  @Test
+  void testDistance() {
+    assertEquals(25d, of(1d, 2d, 3d).distanceSquared(of(4d, 6d, 3d)));
+    assertEquals(5d, of(1d, 2d, 3d).distance(4d, 6d, 3d));
+    assertEquals(0d, of(1d, 2d, 3d).distance(of(1d, 2d, 3d)));
+  }
+
+  @Test
+  void testAngle() {
+    assertEquals(Math.PI / 2d, of(1d, 0d, 0d).angle(of(0d, 3d, 0d)), 1e-15d);
+    assertEquals(Math.PI, of(1d, 0d, 0d).angle(of(-2d, 0d, 0d)), 1e-15d);
+    assertEquals(0d, of(1d, 1d, 1d).angle(of(2d, 2d, 2d)), 1e-15d);
+    // acos of the normalized dot product would round this to zero
+    assertEquals(1e-9d, of(1d, 0d, 0d).angle(of(1d, 1e-9d, 0d)), 1e-20d);
+  }
+
+  @Test
+  void testCross() {
+    assertVectorEquals(0d, 0d, 1d, of(1d, 0d, 0d).cross(of(0d, 1d, 0d), MutVector3d.zero()));
+    assertVectorEquals(-3d, 6d, -3d, of(1d, 2d, 3d).cross(of(4d, 5d, 6d), MutVector3d.zero()));
+    final MutVector3d self = MutVector3d.of(1d, 2d, 3d);
+    assertSame(self, self.cross(of(4d, 5d, 6d), self));
+    assertVectorEquals(-3d, 6d, -3d, self);
+    assertArrayEquals(new double[]{0d, -3d, 6d, -3d}, of(1d, 2d, 3d).cross(of(4d, 5d, 6d), new double[4], 1));
+  }
+
+  @Test
+  void testLerp() {
+    assertVectorEquals(1d, 2d, 3d, of(1d, 2d, 3d).lerp(of(5d, 6d, 7d), 0d, MutVector3d.zero()));
+    assertVectorEquals(3d, 4d, 5d, of(1d, 2d, 3d).lerp(of(5d, 6d, 7d), 0.5d, MutVector3d.zero()));
+    assertArrayEquals(new double[]{5d, 6d, 7d}, of(1d, 2d, 3d).lerp(of(5d, 6d, 7d), 1d, new double[3], 0));
+  }
+
+  @Test
+  void testReflect() {
+    assertVectorEquals(1d, 1d, 0d, of(1d, -1d, 0d).reflect(of(0d, 1d, 0d), MutVector3d.zero()));
+    assertArrayEquals(new double[]{-2d, 3d, 4d}, of(2d, 3d, 4d).reflect(of(1d, 0d, 0d), new double[3], 0));
+  }
+
+  @Test
+  void testProject() {
+    assertVectorEquals(3d, 0d, 0d, of(3d, 4d, 5d).project(of(2d, 0d, 0d), MutVector3d.zero()));
+    assertVectorEquals(2d, 2d, 0d, of(3d, 1d, 7d).project(of(1d, 1d, 0d), MutVector3d.zero()));
+    assertArrayEquals(new double[]{-0d, 4d, -0d}, of(3d, 4d, 5d).project(of(0d, -1d, 0d), new double[3], 0));
+  }
+
   @Test
   void testEquals() {
     assertEquals(zero(), zero());
@@ -271,4 +358,17 @@ class ImVector3dTest {
     assertEquals(zero().hashCode(), of(0d, 0d, 0d).hashCode());
     assertNotEquals(zero().hashCode(), of(0d, 0d, 1d).hashCode());
   }
+
+  @Test
+  void testAllocationFree() {
+    final Vector3d a = of(1d, 2d, 3d);
+    final Vector3d b = of(-4d, 5d, 0.5d);
+    final MutVector3d dst = MutVector3d.zero();
+    final double[] array = new double[3];
+    final double[] sink = new double[1];
+    assertAllocationFree(() -> sink[0] += a.dot(b) + a.distanceSquared(b) + a.distance(b) + a.lengthSquared() + a.angle(b));
+    assertAllocationFree(() -> sink[0] += a.yaw() + a.pitch());
+    assertAllocationFree(() -> sink[0] += a.cross(b, dst).x() + a.lerp(b, 0.25d, dst).y() + a.project(b, dst).z());
+    assertAllocationFree(() -> sink[0] += a.reflect(b, array, 0)[1]);
+  }
 }
@@ -0,0 +1,230 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.d;
+
+import net.kyori.math.Mth;
+import net.kyori.math.vector.i.Vector3iBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Vector3dBufferTest {
+  private static final int SIZE = 67;
+  private static final int FROM = 3;
+  private static final int TO = 61;
+  private Vector3d[] vectors;
+  private Vector3d[] others;
+  private Vector3dBuffer buffer;
+  private Vector3dBuffer other;
+
+  @BeforeEach
+  void setup() {
+    final Random random = new Random(42L);
+    this.vectors = new Vector3d[SIZE];
+    this.others = new Vector3d[SIZE];
+    this.buffer = Vector3dBuffer.create(SIZE);
+    this.other = Vector3dBuffer.create(SIZE);
+    for(int i = 0; i < SIZE; i++) {
+      this.vectors[i] = ImVector3d.of(random.nextDouble() * 200d - 100d, random.nextDouble() * 200d - 100d, random.nextDouble() * 200d - 100d);
+      this.others[i] = ImVector3d.of(random.nextDouble() * 200d - 100d, random.nextDouble() * 200d - 100d, random.nextDouble() * 200d - 100d);
+      this.buffer.set(i, this.vectors[i]);
+      this.other.set(i, this.others[i]);
+    }
+  }
+
+  private void assertBufferEquals(final UnaryOperator<Vector3d> expected) {
+    for(int i = 0; i < SIZE; i++) {
+      final Vector3d vector = i >= FROM && i < TO ? expected.apply(this.vectors[i]) : this.vectors[i];
+      assertVectorEquals(vector.x(), vector.y(), vector.z(), this.buffer.get(i));
+    }
+  }
+
+  private void assertBufferBinaryEquals(final BinaryOperator<Vector3d> expected) {
+    for(int i = 0; i < SIZE; i++) {
+      final Vector3d vector = i >= FROM && i < TO ? expected.apply(this.vectors[i], this.others[i]) : this.vectors[i];
+      assertVectorEquals(vector.x(), vector.y(), vector.z(), this.buffer.get(i));
+    }
+  }
+
+  @Test
+  void testCreate() {
+    final Vector3dBuffer buffer = Vector3dBuffer.create(4);
+    assertEquals(4, buffer.size());
+    assertVectorEquals(0d, 0d, 0d, buffer.get(3));
+  }
+
+  @Test
+  void testWrap() {
+    final double[] x = {1d, 2d};
+    final Vector3dBuffer buffer = Vector3dBuffer.wrap(x, new double[]{3d, 4d}, new double[]{5d, 6d});
+    assertSame(x, buffer.xs());
+    assertVectorEquals(2d, 4d, 6d, buffer.get(1));
+    assertThrows(IllegalArgumentException.class, () -> Vector3dBuffer.wrap(x, new double[1], new double[2]));
+  }
+
+  @Test
+  void testGetSet() {
+    this.buffer.set(0, 1d, 2d, 3d);
+    assertEquals(1d, this.buffer.x(0));
+    assertEquals(2d, this.buffer.y(0));
+    assertEquals(3d, this.buffer.z(0));
+    final MutVector3d dst = MutVector3d.zero();
+    assertSame(dst, this.buffer.get(0, dst));
+    assertVectorEquals(1d, 2d, 3d, dst);
+  }
+
+  @Test
+  void testRange() {
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.add(-1, 2, 1d, 1d, 1d));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.add(2, 1, 1d, 1d, 1d));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.add(0, SIZE + 1, 1d, 1d, 1d));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.add(0, SIZE, Vector3dBuffer.create(SIZE - 1)));
+  }
+
+  @Test
+  void testRange_dst() {
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.lengthSquared(0, SIZE, new double[SIZE - 1]));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.dot(0, SIZE, this.other, new double[SIZE - 1]));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.floor(0, SIZE, Vector3iBuffer.create(SIZE - 1)));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.ceil(0, SIZE, Vector3iBuffer.create(SIZE - 1)));
+  }
+
+  @Test
+  void testAdd() {
+    this.buffer.add(FROM, TO, 1d, 2d, 3d);
+    this.assertBufferEquals(v0 -> v0.add(1d, 2d, 3d));
+  }
+
+  @Test
+  void testAdd_buffer() {
+    this.buffer.add(FROM, TO, this.other);
+    this.assertBufferBinaryEquals(Vector3d::add);
+  }
+
+  @Test
+  void testSub() {
+    this.buffer.sub(FROM, TO, 1d, 2d, 3d);
+    this.assertBufferEquals(v0 -> v0.sub(1d, 2d, 3d));
+  }
+
+  @Test
+  void testSub_buffer() {
+    this.buffer.sub(FROM, TO, this.other);
+    this.assertBufferBinaryEquals(Vector3d::sub);
+  }
+
+  @Test
+  void testMul() {
+    this.buffer.mul(FROM, TO, 1.5d, 2d, -3d);
+    this.assertBufferEquals(v0 -> v0.mul(1.5d, 2d, -3d));
+    this.buffer.mul(FROM, TO, 2d);
+    this.assertBufferEquals(v0 -> v0.mul(1.5d, 2d, -3d).mul(2d));
+  }
+
+  @Test
+  void testMul_buffer() {
+    this.buffer.mul(FROM, TO, this.other);
+    this.assertBufferBinaryEquals(Vector3d::mul);
+  }
+
+  @Test
+  void testNormalize() {
+    this.buffer.normalize(FROM, TO);
+    this.assertBufferEquals(Vector3d::normalize);
+  }
+
+  @Test
+  void testLengthSquared() {
+    final double[] lengths = this.buffer.lengthSquared(FROM, TO, new double[SIZE]);
+    for(int i = 0; i < SIZE; i++) {
+      assertEquals(i >= FROM && i < TO ? this.vectors[i].lengthSquared() : 0d, lengths[i]);
+    }
+  }
+
+  @Test
+  void testDot() {
+    final double[] dots = this.buffer.dot(FROM, TO, this.other, new double[SIZE]);
+    for(int i = 0; i < SIZE; i++) {
+      final Vector3d a = this.vectors[i];
+      final Vector3d b = this.others[i];
+      assertEquals(i >= FROM && i < TO ? a.x() * b.x() + a.y() * b.y() + a.z() * b.z() : 0d, dots[i]);
+    }
+  }
+
+  @Test
+  void testFloor() {
+    this.buffer.floor(FROM, TO);
+    this.assertBufferEquals(Vector3d::floor);
+  }
+
+  @Test
+  void testFloor_buffer() {
+    final Vector3iBuffer blocks = this.buffer.floor(FROM, TO, Vector3iBuffer.create(SIZE));
+    for(int i = FROM; i < TO; i++) {
+      final Vector3d expected = this.vectors[i].floor();
+      assertVectorEquals((int) expected.x(), (int) expected.y(), (int) expected.z(), blocks.get(i));
+    }
+  }
+
+  @Test
+  void testCeil() {
+    this.buffer.ceil(FROM, TO);
+    this.assertBufferEquals(Vector3d::ceil);
+  }
+
+  @Test
+  void testCeil_buffer() {
+    final Vector3iBuffer blocks = this.buffer.ceil(FROM, TO, Vector3iBuffer.create(SIZE));
+    for(int i = FROM; i < TO; i++) {
+      final Vector3d expected = this.vectors[i].ceil();
+      assertVectorEquals((int) expected.x(), (int) expected.y(), (int) expected.z(), blocks.get(i));
+    }
+  }
+
+  @Test
+  void testMinimum() {
+    this.buffer.minimum(FROM, TO, this.other);
+    this.assertBufferBinaryEquals(Vector3d::minimum);
+  }
+
+  @Test
+  void testMaximum() {
+    this.buffer.maximum(FROM, TO, this.other);
+    this.assertBufferBinaryEquals(Vector3d::maximum);
+  }
+
+  @Test
+  void testClamp() {
+    this.buffer.clamp(FROM, TO, -25d, 50d);
+    this.assertBufferEquals(vector -> ImVector3d.of(Mth.clamp(vector.x(), -25d, 50d), Mth.clamp(vector.y(), -25d, 50d), Mth.clamp(vector.z(), -25d, 50d)));
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.d;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static net.kyori.math.AllocationAssertions.assertAllocatesAtMost;
+import static net.kyori.math.AllocationAssertions.assertAllocationFree;
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Vector3dExpressionTest {
+  @Test
+  void testMatchesEager() {
+    final Random random = new Random(42L);
+    for(int i = 0; i < 1000; i++) {
+      final ImVector3d a = ImVector3d.of(random.nextGaussian() * 10d, random.nextGaussian() * 10d, random.nextGaussian() * 10d);
+      final ImVector3d b = ImVector3d.of(random.nextGaussian() * 10d, random.nextGaussian() * 10d, random.nextGaussian() * 10d);
+      final double s = random.nextGaussian();
+      assertEquals(a.sub(b).mul(s).add(b).normalize(), Vector3dExpression.create().sub(b).mul(s).add(b).normalize().apply(a));
+      assertEquals(a.add(1d, 2d, 3d).sub(s).div(b).abs().floor(), Vector3dExpression.create().add(1d, 2d, 3d).sub(s).div(b).abs().floor().apply(a));
+      assertEquals(a.mul(b).div(s, 2d, -s).negate().ceil().round(), Vector3dExpression.create().mul(b).div(s, 2d, -s).negate().ceil().round().apply(a));
+      assertEquals(a.minimum(b).add(s).maximum(b).sub(1d, 0d, -1d).mul(s, s, 2d).div(3d).round(), Vector3dExpression.create().minimum(b).add(s).maximum(b).sub(1d, 0d, -1d).mul(s, s, 2d).div(3d).round().apply(a));
+      assertEquals(a.cross(b, MutVector3d.zero()).toImmutable(), Vector3dExpression.create().cross(b).apply(a));
+    }
+  }
+
+  @Test
+  void testLazyOperands() {
+    final MutVector3d operand = MutVector3d.of(1d, 1d, 1d);
+    final Vector3dExpression expression = Vector3dExpression.create().add(operand);
+    assertVectorEquals(2d, 3d, 4d, expression.apply(ImVector3d.of(1d, 2d, 3d)));
+    // vectors are read on evaluation, so later changes are seen
+    operand.set(5d, 6d, 7d);
+    assertVectorEquals(6d, 8d, 10d, expression.apply(ImVector3d.of(1d, 2d, 3d)));
+  }
+
+  @Test
+  void testApply() {
+    final Vector3dExpression expression = Vector3dExpression.create().mul(2d).add(1d, 0d, 0d);
+    assertVectorEquals(3d, 4d, 6d, expression.apply(ImVector3d.of(1d, 2d, 3d)));
+    final MutVector3d vector = MutVector3d.of(1d, 1d, 1d);
+    assertSame(vector, expression.apply(vector, vector));
+    assertVectorEquals(3d, 2d, 2d, vector);
+    assertVectorEquals(1d, 2d, 3d, Vector3dExpression.create().apply(ImVector3d.of(1d, 2d, 3d)));
+  }
+
+  @Test
+  void testApplyArray() {
+    final Vector3dExpression expression = Vector3dExpression.create().sub(1d).negate();
+    final double[] src = {0d, 1d, 2d, 3d, 4d, 5d, 6d, 7d, 8d};
+    final double[] dst = new double[10];
+    assertSame(dst, expression.apply(src, 3, dst, 1, 2));
+    assertEquals(-2d, dst[1]);
+    assertEquals(-7d, dst[6]);
+    assertEquals(0d, dst[7]);
+    // in place
+    expression.apply(src, 0, src, 0, 3);
+    assertEquals(1d, src[0]);
+    assertEquals(-7d, src[8]);
+    assertThrows(IndexOutOfBoundsException.class, () -> expression.apply(src, 1, dst, 0, 3));
+    assertThrows(IndexOutOfBoundsException.class, () -> expression.apply(src, 0, dst, 2, 3));
+    assertThrows(IndexOutOfBoundsException.class, () -> expression.apply(src, 0, dst, 0, -1));
+  }
+
+  @Test
+  void testLongChain() {
+    final Vector3dExpression expression = Vector3dExpression.create();
+    Vector3d eager = ImVector3d.of(1d, 2d, 3d);
+    for(int i = 0; i < 100; i++) {
+      expression.add(i, -i, 2d * i).mul(0.5d);
+      eager = eager.add(i, -i, 2d * i).mul(0.5d);
+    }
+    assertEquals(eager, expression.apply(ImVector3d.of(1d, 2d, 3d)));
+  }
+
+  @Test
+  void testAllocationFree() {
+    final ImVector3d b = ImVector3d.of(0.5d, -1d, 2d);
+    final Vector3dExpression expression = Vector3dExpression.create().sub(b).mul(2d).add(b).normalize();
+    final MutVector3d vector = MutVector3d.of(1d, 2d, 3d);
+    assertAllocationFree(() -> expression.apply(vector, vector));
+  }
+
+  // applying to an immutable vector creates the result and nothing else
+  @Test
+  void testApplyAllocation() {
+    final ImVector3d a = ImVector3d.of(1d, 2d, 3d);
+    final ImVector3d b = ImVector3d.of(0.5d, -1d, 2d);
+    final Vector3dExpression expression = Vector3dExpression.create().sub(b).mul(2d).add(b).normalize();
+    assertAllocatesAtMost(48L, () -> expression.apply(a));
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.f;
+
+import net.kyori.math.memory.Memory;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DirectVector3fBufferTest {
+  @Test
+  void testCreate() {
+    final DirectVector3fBuffer buffer = DirectVector3fBuffer.create(4);
+    assertEquals(4, buffer.size());
+    assertEquals(4 * 3 * Float.BYTES, buffer.memory().byteSize());
+    assertVectorEquals(0f, 0f, 0f, buffer.get(3));
+  }
+
+  @Test
+  void testWrap() {
+    final DirectVector3fBuffer buffer = DirectVector3fBuffer.wrap(Memory.wrap(ByteBuffer.allocate(2 * 3 * Float.BYTES + 1)));
+    assertEquals(2, buffer.size());
+    assertEquals(1, DirectVector3fBuffer.wrap(buffer.memory(), 1).size());
+    assertThrows(IllegalArgumentException.class, () -> DirectVector3fBuffer.wrap(buffer.memory(), 3));
+    assertThrows(IllegalArgumentException.class, () -> DirectVector3fBuffer.wrap(buffer.memory(), -1));
+  }
+
+  @Test
+  void testGetSet() {
+    final DirectVector3fBuffer buffer = DirectVector3fBuffer.create(4);
+    buffer.set(1, 1f, 2f, 3f);
+    buffer.set(2, ImVector3f.of(4f, 5f, 6f));
+    assertEquals(1f, buffer.x(1));
+    assertEquals(2f, buffer.y(1));
+    assertEquals(3f, buffer.z(1));
+    assertVectorEquals(4f, 5f, 6f, buffer.get(2));
+    final MutVector3f dst = MutVector3f.zero();
+    assertSame(dst, buffer.get(1, dst));
+    assertVectorEquals(1f, 2f, 3f, dst);
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(4));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.set(-1, 0f, 0f, 0f));
+  }
+
+  @Test
+  void testLoadStore() {
+    final Vector3fBuffer src = Vector3fBuffer.create(4);
+    src.set(0, 1f, 2f, 3f);
+    src.set(3, 4f, 5f, 6f);
+    final DirectVector3fBuffer buffer = DirectVector3fBuffer.create(4).load(0, 4, src);
+    assertVectorEquals(4f, 5f, 6f, buffer.get(3));
+    final Vector3fBuffer dst = buffer.store(1, 4, Vector3fBuffer.create(4));
+    assertVectorEquals(0f, 0f, 0f, dst.get(0));
+    assertVectorEquals(4f, 5f, 6f, dst.get(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.load(0, 5, src));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.load(0, 4, Vector3fBuffer.create(3)));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.store(0, 4, Vector3fBuffer.create(3)));
+  }
+
+  @Test
+  void testView() {
+    final DirectVector3fBuffer buffer = DirectVector3fBuffer.create(2);
+    buffer.set(0, 1f, 2f, 3f);
+    buffer.set(1, 3f, 4f, 0f);
+    final DirectVector3f view = buffer.view(0);
+    assertVectorEquals(1f, 2f, 3f, view);
+    assertSame(view, view.index(1));
+    assertEquals(1, view.index());
+    assertEquals(5f, view.length());
+    assertEquals(ImVector3f.of(3f, 4f, 0f), view);
+    assertEquals(ImVector3f.of(3f, 4f, 0f).hashCode(), view.hashCode());
+    buffer.set(1, 6f, 8f, 0f);
+    assertVectorEquals(6f, 8f, 0f, view);
+    assertThrows(IndexOutOfBoundsException.class, () -> view.index(2));
+  }
+
+  @Test
+  void testViewOperations() {
+    final DirectVector3fBuffer buffer = DirectVector3fBuffer.create(1);
+    buffer.set(0, 1.5f, -2.5f, 4f);
+    final DirectVector3f view = buffer.view(0);
+    final ImVector3f vector = buffer.get(0);
+    assertEquals(vector.add(1f, 2f, 3f), view.add(1f, 2f, 3f));
+    assertEquals(vector.sub(1f, 2f, 3f), view.sub(1f, 2f, 3f));
+    assertEquals(vector.mul(1f, 2f, 3f), view.mul(1f, 2f, 3f));
+    assertEquals(vector.div(1f, 2f, 3f), view.div(1f, 2f, 3f));
+    assertEquals(vector.abs(), view.abs());
+    assertEquals(vector.ceil(), view.ceil());
+    assertEquals(vector.floor(), view.floor());
+    assertEquals(vector.negate(), view.negate());
+    assertEquals(vector.normalize(), view.normalize());
+    assertEquals(vector.pow(2f), view.pow(2f));
+    assertEquals(vector.round(), view.round());
+    assertEquals(vector.map(Math::abs), view.map(Math::abs));
+    assertEquals(vector.x(0f), view.x(0f));
+    // operations leave the buffer untouched
+    assertVectorEquals(1.5f, -2.5f, 4f, buffer.get(0));
+  }
+
+  @Test
+  void testViewCopy() {
+    final DirectVector3fBuffer buffer = DirectVector3fBuffer.create(1);
+    buffer.set(0, 1f, 2f, 3f);
+    final DirectVector3f view = buffer.view(0);
+    final Vector3f copy = view.copy();
+    assertNotSame(view, copy);
+    buffer.set(0, 4f, 5f, 6f);
+    assertVectorEquals(1f, 2f, 3f, copy);
+  }
+}
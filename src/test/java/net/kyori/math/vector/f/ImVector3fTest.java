@@ -32,6 +32,7 @@ import static net.kyori.math.MathAssertions.assertThat;
 import static net.kyori.math.MathAssertions.assertVectorEquals;
 import static net.kyori.math.vector.f.ImVector3f.of;
 import static net.kyori.math.vector.f.ImVector3f.zero;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -139,6 +140,16 @@ class ImVector3fTest {
     assertImVectorEquals(-1.2f, -2.3f, -3.4f, of(1.2f, 2.3f, 3.4f), Vector3f::negate);
   }
 
+  @Test
+  void testFastNormalize() {
+    assertVectorEquals(0.6f, 0f, 0.8f, of(3f, 0f, 4f).fastNormalize(), 1e-5f);
+    assertVectorEquals(0f, -1f, 0f, of(0f, -1e-10f, 0f).fastNormalize(), 1e-5f);
+    assertSame(zero(), zero().fastNormalize());
+    final Vector3f vector = of(1f, 2f, 3f);
+    final Vector3f normalized = vector.normalize();
+    assertVectorEquals(normalized.x(), normalized.y(), normalized.z(), vector.fastNormalize(), 1e-5f);
+  }
+
   @Test
   void testNormalize() {
     assertImVectorEquals(1f, 0f, 0f, of(2f, 0f, 0f), Vector3f::normalize);
@@ -259,6 +270,37 @@ class ImVector3fTest {
     assertTrue(of(0f, Float.NaN, 0f).anyNaN());
   }
 
+  @Test
+  void testDot() {
+    assertEquals(32f, of(1f, 2f, 3f).dot(of(4f, 5f, 6f)));
+    assertEquals(0f, of(1f, 0f, 0f).dot(0f, 1f, 0f));
+  }
+
+  @Test
+  void testDistance() {
+    assertEquals(25f, of(1f, 2f, 3f).distanceSquared(of(4f, 6f, 3f)));
+    assertEquals(5f, of(1f, 2f, 3f).distance(4f, 6f, 3f));
+  }
+
+  @Test
+  void testAngle() {
+    assertEquals((float) Math.PI / 2f, of(1f, 0f, 0f).angle(of(0f, 3f, 0f)), 1e-6f);
+    assertEquals((float) Math.PI, of(1f, 0f, 0f).angle(of(-2f, 0f, 0f)), 1e-6f);
+  }
+
+  @Test
+  void testCross() {
+    assertVectorEquals(-3f, 6f, -3f, of(1f, 2f, 3f).cross(of(4f, 5f, 6f), MutVector3f.zero()));
+    assertArrayEquals(new float[]{-3f, 6f, -3f}, of(1f, 2f, 3f).cross(of(4f, 5f, 6f), new float[3], 0));
+  }
+
+  @Test
+  void testLerpReflectProject() {
+    assertVectorEquals(3f, 4f, 5f, of(1f, 2f, 3f).lerp(of(5f, 6f, 7f), 0.5f, MutVector3f.zero()));
+    assertVectorEquals(1f, 1f, 0f, of(1f, -1f, 0f).reflect(of(0f, 1f, 0f), MutVector3f.zero()));
+    assertArrayEquals(new float[]{2f, 2f, 0f}, of(3f, 1f, 7f).project(of(1f, 1f, 0f), new float[3], 0));
+  }
+
   @Test
   void testEquals() {
     assertEquals(zero(), zero());
@@ -0,0 +1,321 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.f;
+
+import net.kyori.math.Mth;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static net.kyori.math.MathAssertions.assertMutVectorEquals;
+import static net.kyori.math.MathAssertions.assertThat;
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static net.kyori.math.vector.f.MutVector3f.from;
+import static net.kyori.math.vector.f.MutVector3f.of;
+import static net.kyori.math.vector.f.MutVector3f.zero;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MutVector3fTest {
+  @Test
+  void testConstructor() {
+    assertVectorEquals(1f, 2f, 3f, new MutVector3f(1f, 2f, 3f));
+  }
+
+  @Test
+  void testOf() {
+    assertNotSame(zero(), zero());
+    assertVectorEquals(0f, 0f, 0f, zero());
+    assertVectorEquals(1f, 1f, 1f, of(1f));
+    assertVectorEquals(1f, 2f, 3f, of(1f, 2f, 3f));
+  }
+
+  @Test
+  void testFrom() {
+    assertVectorEquals(1f, 2f, 3f, from(ImVector3f.of(1f, 2f, 3f)));
+  }
+
+  @Test
+  void testGetX() {
+    assertEquals(0f, zero().x());
+    assertEquals(1.5f, of(1.5f, 0f, 0f).x());
+  }
+
+  @Test
+  void testSetX() {
+    assertMutVectorEquals(1.5f, 0f, 0f, zero(), v0 -> v0.x(1.5f));
+  }
+
+  @Test
+  void testGetY() {
+    assertEquals(0f, zero().y());
+    assertEquals(1.5f, of(0f, 1.5f, 0f).y());
+  }
+
+  @Test
+  void testSetY() {
+    assertMutVectorEquals(0f, 1.5f, 0f, zero(), v0 -> v0.y(1.5f));
+  }
+
+  @Test
+  void testGetZ() {
+    assertEquals(0f, zero().z());
+    assertEquals(1.5f, of(0f, 0f, 1.5f).z());
+  }
+
+  @Test
+  void testSetZ() {
+    assertMutVectorEquals(0f, 0f, 1.5f, zero(), v0 -> v0.z(1.5f));
+  }
+
+  @Test
+  void testSet() {
+    assertMutVectorEquals(1f, 1f, 1f, zero(), v0 -> ((MutVector3f) v0).set(1f));
+    assertMutVectorEquals(1f, 2f, 3f, zero(), v0 -> ((MutVector3f) v0).set(1f, 2f, 3f));
+  }
+
+  @Test
+  void testSetFrom() {
+    assertMutVectorEquals(1f, 2f, 3f, zero(), v0 -> ((MutVector3f) v0).setFrom(ImVector3f.of(1f, 2f, 3f)));
+  }
+
+  @Test
+  void testCopy() {
+    final MutVector3f v0 = of(1f, 2f, 3f);
+    final MutVector3f v1 = v0.copy();
+    assertNotSame(v0, v1);
+    assertEquals(v0, v1);
+    v1.add(1f);
+    assertVectorEquals(1f, 2f, 3f, v0);
+  }
+
+  @Test
+  void testToImmutable() {
+    assertSame(ImVector3f.zero(), zero().toImmutable());
+    final MutVector3f v0 = of(1f, 2f, 3f);
+    final ImVector3f v1 = v0.toImmutable();
+    v0.add(1f);
+    assertVectorEquals(1f, 2f, 3f, v1);
+  }
+
+  @Test
+  void testIsZero() {
+    assertTrue(zero().isZero());
+    assertFalse(of(0f, 0f, 1f).isZero());
+  }
+
+  @Test
+  void testAdd() {
+    assertMutVectorEquals(1f, 2f, 3f, zero(), v0 -> v0.add(1f, 2f, 3f));
+    assertMutVectorEquals(1f, 2f, 3f, zero(), v0 -> v0.add(of(1f, 2f, 3f)));
+    assertMutVectorEquals(1f, 1f, 1f, zero(), v0 -> v0.add(1f));
+  }
+
+  @Test
+  void testSub() {
+    assertMutVectorEquals(-1f, -2f, -3f, zero(), v0 -> v0.sub(1f, 2f, 3f));
+    assertMutVectorEquals(-1f, -2f, -3f, zero(), v0 -> v0.sub(of(1f, 2f, 3f)));
+    assertMutVectorEquals(-1f, -1f, -1f, zero(), v0 -> v0.sub(1f));
+  }
+
+  @Test
+  void testMul() {
+    assertMutVectorEquals(1f, 2f, 3f, of(1f, 1f, 1f), v0 -> v0.mul(1f, 2f, 3f));
+    assertMutVectorEquals(1f, 2f, 3f, of(1f, 1f, 1f), v0 -> v0.mul(of(1f, 2f, 3f)));
+    assertMutVectorEquals(1f, 1f, 1f, of(1f, 1f, 1f), v0 -> v0.mul(1f));
+  }
+
+  @Test
+  void testDiv() {
+    assertMutVectorEquals(1f, 1.5f, 2f, of(2f, 3f, 4f), v0 -> v0.div(2f, 2f, 2f));
+    assertMutVectorEquals(1f, 1.5f, 2f, of(2f, 3f, 4f), v0 -> v0.div(of(2f, 2f, 2f)));
+    assertMutVectorEquals(1f, 1.5f, 2f, of(2f, 3f, 4f), v0 -> v0.div(2f));
+  }
+
+  @Test
+  void testAbs() {
+    assertMutVectorEquals(2.3f, 3.4f, 4.5f, of(-2.3f, -3.4f, -4.5f), Vector3f::abs);
+    assertMutVectorEquals(2.3f, 3.4f, 4.5f, of(2.3f, 3.4f, 4.5f), Vector3f::abs);
+  }
+
+  @Test
+  void testCeil() {
+    assertMutVectorEquals(2f, 3f, 4f, of(1.2f, 2.3f, 3.4f), Vector3f::ceil);
+  }
+
+  @Test
+  void testFloor() {
+    assertMutVectorEquals(1f, 2f, 3f, of(1.2f, 2.3f, 3.4f), Vector3f::floor);
+  }
+
+  @Test
+  void testNegate() {
+    assertMutVectorEquals(-1.2f, -2.3f, -3.4f, of(1.2f, 2.3f, 3.4f), Vector3f::negate);
+  }
+
+  @Test
+  void testFastNormalize() {
+    final MutVector3f vector = of(3f, 0f, 4f);
+    assertSame(vector, vector.fastNormalize());
+    assertVectorEquals(0.6f, 0f, 0.8f, vector, 1e-5f);
+    assertVectorEquals(0f, 0f, 0f, zero().fastNormalize());
+  }
+
+  @Test
+  void testNormalize() {
+    assertMutVectorEquals(1f, 0f, 0f, of(2f, 0f, 0f), Vector3f::normalize);
+    assertMutVectorEquals(0f, 1f, 0f, of(0f, 2f, 0f), Vector3f::normalize);
+    assertMutVectorEquals(0f, 0f, 1f, of(0f, 0f, 2f), Vector3f::normalize);
+  }
+
+  @Test
+  void testPow() {
+    assertMutVectorEquals(4f, 16f, 36f, of(2f, 4f, 6f), v0 -> v0.pow(2f));
+  }
+
+  @Test
+  void testRound() {
+    assertMutVectorEquals(2f, 5f, 6f, of(2.3f, 4.6f, 6.4f), Vector3f::round);
+  }
+
+  @Test
+  void testLengthSquared() {
+    assertEquals(50f, of(3f, 4f, 5f).lengthSquared());
+  }
+
+  @Test
+  void testLength() {
+    assertEquals(5f * Mth.sqrt(2f), of(3f, 4f, 5f).length());
+  }
+
+  @Test
+  void testMinimum() {
+    assertMutVectorEquals(2.1f, 4.3f, 8.1f, of(2.1f, 5.1f, 8.1f), v0 -> v0.minimum(of(3.2f, 4.3f, 9.4f)));
+  }
+
+  @Test
+  void testMaximum() {
+    assertMutVectorEquals(3.2f, 5.1f, 9.4f, of(2.1f, 5.1f, 8.1f), v0 -> v0.maximum(of(3.2f, 4.3f, 9.4f)));
+  }
+
+  @Test
+  void testArray() {
+    assertThat(zero().array()).usingExactEquality().containsExactly(0, 0, 0).inOrder();
+    assertThat(of(1, 2, 3).array()).usingExactEquality().containsExactly(1, 2, 3).inOrder();
+  }
+
+  @Test
+  void testStream() {
+    assertThat(zero().stream()).containsExactly(0d, 0d, 0d).inOrder();
+    assertThat(of(1f, 2f, 3f).stream()).containsExactly(1d, 2d, 3d).inOrder();
+  }
+
+  @Test
+  void testMap() {
+    assertMutVectorEquals(1f, 1f, 1f, zero(), v0 -> v0.map(x -> x + 1f, y -> y + 1f, z -> z + 1f));
+  }
+
+  @Test
+  void testAllMatch() {
+    assertTrue(zero().allMatch(value -> value == 0f));
+    final MutVector3f v0 = of(1f, 1f, 1f);
+    assertTrue(v0.allMatch(value -> value == 1f));
+    final MutVector3f v1 = of(1f, 2f, 3f);
+    assertFalse(v1.allMatch(value -> value == 1f));
+    assertFalse(v1.allMatch(value -> value == 2f));
+    assertFalse(v1.allMatch(value -> value == 3f));
+  }
+
+  @Test
+  void testAnyMatch() {
+    assertTrue(zero().anyMatch(value -> value == 0f));
+    final MutVector3f v0 = of(1f, 1f, 1f);
+    assertTrue(v0.anyMatch(value -> value == 1f));
+    final MutVector3f v1 = of(1f, 2f, 3f);
+    assertTrue(v1.anyMatch(value -> value == 1f));
+    assertTrue(v1.anyMatch(value -> value == 2f));
+    assertTrue(v1.anyMatch(value -> value == 3f));
+  }
+
+  @Test
+  void testAllFinite() {
+    assertTrue(zero().allFinite());
+    assertFalse(of(Float.NaN).allFinite());
+    assertFalse(of(0f, Float.NaN, 0f).allFinite());
+    assertFalse(of(Float.NEGATIVE_INFINITY).allFinite());
+  }
+
+  @Test
+  void testAnyFinite() {
+    assertTrue(zero().anyFinite());
+    assertFalse(of(Float.NaN).anyFinite());
+    assertTrue(of(0f, Float.NaN, 0f).anyFinite());
+    assertFalse(of(Float.NEGATIVE_INFINITY).anyFinite());
+  }
+
+  @Test
+  void testAllInfinite() {
+    assertFalse(zero().allInfinite());
+    assertTrue(of(Float.NEGATIVE_INFINITY).allInfinite());
+    assertTrue(of(Float.POSITIVE_INFINITY).allInfinite());
+  }
+
+  @Test
+  void testAnyInfinite() {
+    assertFalse(zero().anyInfinite());
+    assertFalse(of(1f).anyInfinite());
+    assertTrue(of(0f, Float.NEGATIVE_INFINITY, 0f).anyInfinite());
+  }
+
+  @Test
+  void testAllNaN() {
+    assertFalse(zero().allNaN());
+    assertTrue(of(Float.NaN).allNaN());
+    assertFalse(of(0f, Float.NaN, 0f).allNaN());
+  }
+
+  @Test
+  void testAnyNaN() {
+    assertFalse(zero().anyNaN());
+    assertTrue(of(Float.NaN).anyNaN());
+    assertTrue(of(0f, Float.NaN, 0f).anyNaN());
+  }
+
+  @Test
+  void testEquals() {
+    assertEquals(zero(), zero());
+    assertEquals(zero(), of(0f, 0f, 0f));
+    assertNotEquals(zero(), of(0f, 0f, 1f));
+  }
+
+  @Test
+  void testHashCode() {
+    assertEquals(zero().hashCode(), zero().hashCode());
+    assertEquals(zero().hashCode(), of(0f, 0f, 0f).hashCode());
+    assertNotEquals(zero().hashCode(), of(0f, 0f, 1f).hashCode());
+  }
+}
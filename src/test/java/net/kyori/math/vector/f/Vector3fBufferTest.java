@@ -0,0 +1,230 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.f;
+
+import net.kyori.math.Mth;
+import net.kyori.math.vector.i.Vector3iBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Vector3fBufferTest {
+  private static final int SIZE = 67;
+  private static final int FROM = 3;
+  private static final int TO = 61;
+  private Vector3f[] vectors;
+  private Vector3f[] others;
+  private Vector3fBuffer buffer;
+  private Vector3fBuffer other;
+
+  @BeforeEach
+  void setup() {
+    final Random random = new Random(42L);
+    this.vectors = new Vector3f[SIZE];
+    this.others = new Vector3f[SIZE];
+    this.buffer = Vector3fBuffer.create(SIZE);
+    this.other = Vector3fBuffer.create(SIZE);
+    for(int i = 0; i < SIZE; i++) {
+      this.vectors[i] = ImVector3f.of(random.nextFloat() * 200f - 100f, random.nextFloat() * 200f - 100f, random.nextFloat() * 200f - 100f);
+      this.others[i] = ImVector3f.of(random.nextFloat() * 200f - 100f, random.nextFloat() * 200f - 100f, random.nextFloat() * 200f - 100f);
+      this.buffer.set(i, this.vectors[i]);
+      this.other.set(i, this.others[i]);
+    }
+  }
+
+  private void assertBufferEquals(final UnaryOperator<Vector3f> expected) {
+    for(int i = 0; i < SIZE; i++) {
+      final Vector3f vector = i >= FROM && i < TO ? expected.apply(this.vectors[i]) : this.vectors[i];
+      assertVectorEquals(vector.x(), vector.y(), vector.z(), this.buffer.get(i));
+    }
+  }
+
+  private void assertBufferBinaryEquals(final BinaryOperator<Vector3f> expected) {
+    for(int i = 0; i < SIZE; i++) {
+      final Vector3f vector = i >= FROM && i < TO ? expected.apply(this.vectors[i], this.others[i]) : this.vectors[i];
+      assertVectorEquals(vector.x(), vector.y(), vector.z(), this.buffer.get(i));
+    }
+  }
+
+  @Test
+  void testCreate() {
+    final Vector3fBuffer buffer = Vector3fBuffer.create(4);
+    assertEquals(4, buffer.size());
+    assertVectorEquals(0f, 0f, 0f, buffer.get(3));
+  }
+
+  @Test
+  void testWrap() {
+    final float[] x = {1f, 2f};
+    final Vector3fBuffer buffer = Vector3fBuffer.wrap(x, new float[]{3f, 4f}, new float[]{5f, 6f});
+    assertSame(x, buffer.xs());
+    assertVectorEquals(2f, 4f, 6f, buffer.get(1));
+    assertThrows(IllegalArgumentException.class, () -> Vector3fBuffer.wrap(x, new float[1], new float[2]));
+  }
+
+  @Test
+  void testGetSet() {
+    this.buffer.set(0, 1f, 2f, 3f);
+    assertEquals(1f, this.buffer.x(0));
+    assertEquals(2f, this.buffer.y(0));
+    assertEquals(3f, this.buffer.z(0));
+    final MutVector3f dst = MutVector3f.zero();
+    assertSame(dst, this.buffer.get(0, dst));
+    assertVectorEquals(1f, 2f, 3f, dst);
+  }
+
+  @Test
+  void testRange() {
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.add(-1, 2, 1f, 1f, 1f));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.add(2, 1, 1f, 1f, 1f));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.add(0, SIZE + 1, 1f, 1f, 1f));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.add(0, SIZE, Vector3fBuffer.create(SIZE - 1)));
+  }
+
+  @Test
+  void testRange_dst() {
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.lengthSquared(0, SIZE, new float[SIZE - 1]));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.dot(0, SIZE, this.other, new float[SIZE - 1]));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.floor(0, SIZE, Vector3iBuffer.create(SIZE - 1)));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.ceil(0, SIZE, Vector3iBuffer.create(SIZE - 1)));
+  }
+
+  @Test
+  void testAdd() {
+    this.buffer.add(FROM, TO, 1f, 2f, 3f);
+    this.assertBufferEquals(v0 -> v0.add(1f, 2f, 3f));
+  }
+
+  @Test
+  void testAdd_buffer() {
+    this.buffer.add(FROM, TO, this.other);
+    this.assertBufferBinaryEquals(Vector3f::add);
+  }
+
+  @Test
+  void testSub() {
+    this.buffer.sub(FROM, TO, 1f, 2f, 3f);
+    this.assertBufferEquals(v0 -> v0.sub(1f, 2f, 3f));
+  }
+
+  @Test
+  void testSub_buffer() {
+    this.buffer.sub(FROM, TO, this.other);
+    this.assertBufferBinaryEquals(Vector3f::sub);
+  }
+
+  @Test
+  void testMul() {
+    this.buffer.mul(FROM, TO, 1.5f, 2f, -3f);
+    this.assertBufferEquals(v0 -> v0.mul(1.5f, 2f, -3f));
+    this.buffer.mul(FROM, TO, 2f);
+    this.assertBufferEquals(v0 -> v0.mul(1.5f, 2f, -3f).mul(2f));
+  }
+
+  @Test
+  void testMul_buffer() {
+    this.buffer.mul(FROM, TO, this.other);
+    this.assertBufferBinaryEquals(Vector3f::mul);
+  }
+
+  @Test
+  void testNormalize() {
+    this.buffer.normalize(FROM, TO);
+    this.assertBufferEquals(Vector3f::normalize);
+  }
+
+  @Test
+  void testLengthSquared() {
+    final float[] lengths = this.buffer.lengthSquared(FROM, TO, new float[SIZE]);
+    for(int i = 0; i < SIZE; i++) {
+      assertEquals(i >= FROM && i < TO ? this.vectors[i].lengthSquared() : 0f, lengths[i]);
+    }
+  }
+
+  @Test
+  void testDot() {
+    final float[] dots = this.buffer.dot(FROM, TO, this.other, new float[SIZE]);
+    for(int i = 0; i < SIZE; i++) {
+      final Vector3f a = this.vectors[i];
+      final Vector3f b = this.others[i];
+      assertEquals(i >= FROM && i < TO ? a.x() * b.x() + a.y() * b.y() + a.z() * b.z() : 0f, dots[i]);
+    }
+  }
+
+  @Test
+  void testFloor() {
+    this.buffer.floor(FROM, TO);
+    this.assertBufferEquals(Vector3f::floor);
+  }
+
+  @Test
+  void testFloor_buffer() {
+    final Vector3iBuffer blocks = this.buffer.floor(FROM, TO, Vector3iBuffer.create(SIZE));
+    for(int i = FROM; i < TO; i++) {
+      final Vector3f expected = this.vectors[i].floor();
+      assertVectorEquals((int) expected.x(), (int) expected.y(), (int) expected.z(), blocks.get(i));
+    }
+  }
+
+  @Test
+  void testCeil() {
+    this.buffer.ceil(FROM, TO);
+    this.assertBufferEquals(Vector3f::ceil);
+  }
+
+  @Test
+  void testCeil_buffer() {
+    final Vector3iBuffer blocks = this.buffer.ceil(FROM, TO, Vector3iBuffer.create(SIZE));
+    for(int i = FROM; i < TO; i++) {
+      final Vector3f expected = this.vectors[i].ceil();
+      assertVectorEquals((int) expected.x(), (int) expected.y(), (int) expected.z(), blocks.get(i));
+    }
+  }
+
+  @Test
+  void testMinimum() {
+    this.buffer.minimum(FROM, TO, this.other);
+    this.assertBufferBinaryEquals(Vector3f::minimum);
+  }
+
+  @Test
+  void testMaximum() {
+    this.buffer.maximum(FROM, TO, this.other);
+    this.assertBufferBinaryEquals(Vector3f::maximum);
+  }
+
+  @Test
+  void testClamp() {
+    this.buffer.clamp(FROM, TO, -25f, 50f);
+    this.assertBufferEquals(vector -> ImVector3f.of(Mth.clamp(vector.x(), -25f, 50f), Mth.clamp(vector.y(), -25f, 50f), Mth.clamp(vector.z(), -25f, 50f)));
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import net.kyori.math.memory.Memory;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DirectVector3iBufferTest {
+  @Test
+  void testCreate() {
+    final DirectVector3iBuffer buffer = DirectVector3iBuffer.create(4);
+    assertEquals(4, buffer.size());
+    assertEquals(4 * 3 * Integer.BYTES, buffer.memory().byteSize());
+    assertVectorEquals(0, 0, 0, buffer.get(3));
+  }
+
+  @Test
+  void testWrap() {
+    final DirectVector3iBuffer buffer = DirectVector3iBuffer.wrap(Memory.wrap(ByteBuffer.allocate(2 * 3 * Integer.BYTES + 1)));
+    assertEquals(2, buffer.size());
+    assertEquals(1, DirectVector3iBuffer.wrap(buffer.memory(), 1).size());
+    assertThrows(IllegalArgumentException.class, () -> DirectVector3iBuffer.wrap(buffer.memory(), 3));
+    assertThrows(IllegalArgumentException.class, () -> DirectVector3iBuffer.wrap(buffer.memory(), -1));
+  }
+
+  @Test
+  void testGetSet() {
+    final DirectVector3iBuffer buffer = DirectVector3iBuffer.create(4);
+    buffer.set(1, 1, 2, 3);
+    buffer.set(2, ImVector3i.of(4, 5, 6));
+    assertEquals(1, buffer.x(1));
+    assertEquals(2, buffer.y(1));
+    assertEquals(3, buffer.z(1));
+    assertVectorEquals(4, 5, 6, buffer.get(2));
+    final MutVector3i dst = MutVector3i.zero();
+    assertSame(dst, buffer.get(1, dst));
+    assertVectorEquals(1, 2, 3, dst);
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(4));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.set(-1, 0, 0, 0));
+  }
+
+  @Test
+  void testLoadStore() {
+    final Vector3iBuffer src = Vector3iBuffer.create(4);
+    src.set(0, 1, 2, 3);
+    src.set(3, 4, 5, 6);
+    final DirectVector3iBuffer buffer = DirectVector3iBuffer.create(4).load(0, 4, src);
+    assertVectorEquals(4, 5, 6, buffer.get(3));
+    final Vector3iBuffer dst = buffer.store(1, 4, Vector3iBuffer.create(4));
+    assertVectorEquals(0, 0, 0, dst.get(0));
+    assertVectorEquals(4, 5, 6, dst.get(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.load(0, 5, src));
+  }
+
+  @Test
+  void testView() {
+    final DirectVector3iBuffer buffer = DirectVector3iBuffer.create(2);
+    buffer.set(0, 1, 2, 3);
+    buffer.set(1, 3, 4, 0);
+    final DirectVector3i view = buffer.view(0);
+    assertVectorEquals(1, 2, 3, view);
+    assertSame(view, view.index(1));
+    assertEquals(1, view.index());
+    assertEquals(25, view.lengthSquared());
+    assertEquals(ImVector3i.of(3, 4, 0), view);
+    assertEquals(ImVector3i.of(3, 4, 0).hashCode(), view.hashCode());
+    buffer.set(1, 6, 8, 0);
+    assertVectorEquals(6, 8, 0, view);
+    assertThrows(IndexOutOfBoundsException.class, () -> view.index(2));
+  }
+
+  @Test
+  void testViewOperations() {
+    final DirectVector3iBuffer buffer = DirectVector3iBuffer.create(1);
+    buffer.set(0, 2, -3, 4);
+    final DirectVector3i view = buffer.view(0);
+    final ImVector3i vector = buffer.get(0);
+    assertEquals(vector.add(1, 2, 3), view.add(1, 2, 3));
+    assertEquals(vector.sub(1, 2, 3), view.sub(1, 2, 3));
+    assertEquals(vector.mul(1, 2, 3), view.mul(1, 2, 3));
+    assertEquals(vector.div(1, 2, 3), view.div(1, 2, 3));
+    assertEquals(vector.abs(), view.abs());
+    assertEquals(vector.negate(), view.negate());
+    assertEquals(vector.pow(2), view.pow(2));
+    assertEquals(vector.map(Math::abs), view.map(Math::abs));
+    assertEquals(vector.x(0), view.x(0));
+    // operations leave the buffer untouched
+    assertVectorEquals(2, -3, 4, buffer.get(0));
+  }
+
+  @Test
+  void testViewCopy() {
+    final DirectVector3iBuffer buffer = DirectVector3iBuffer.create(1);
+    buffer.set(0, 1, 2, 3);
+    final DirectVector3i view = buffer.view(0);
+    final Vector3i copy = view.copy();
+    assertNotSame(view, copy);
+    buffer.set(0, 4, 5, 6);
+    assertVectorEquals(1, 2, 3, copy);
+  }
+}
@@ -23,14 +23,18 @@
  */
 package net.kyori.math.vector.i;
 
+import net.kyori.math.vector.d.ImVector3d;
+import net.kyori.math.vector.d.MutVector3d;
 import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth.assertThat;
+import static net.kyori.math.AllocationAssertions.assertAllocationFree;
 import static net.kyori.math.MathAssertions.assertImVectorEquals;
 import static net.kyori.math.MathAssertions.assertThat;
 import static net.kyori.math.MathAssertions.assertVectorEquals;
 import static net.kyori.math.vector.i.ImVector3i.of;
 import static net.kyori.math.vector.i.ImVector3i.zero;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -192,6 +196,38 @@ class ImVector3iTest {
     assertTrue(v1.anyMatch(value -> value == 3));
   }
 
+  @Test
+  void testDot() {
+    assertEquals(32L, of(1, 2, 3).dot(of(4, 5, 6)));
+    assertEquals(2L * Integer.MAX_VALUE * Integer.MAX_VALUE, of(Integer.MAX_VALUE, Integer.MAX_VALUE, 0).dot(of(Integer.MAX_VALUE, Integer.MAX_VALUE, 0)));
+  }
+
+  @Test
+  void testDistance() {
+    assertEquals(25L, of(1, 2, 3).distanceSquared(of(4, 6, 3)));
+    assertEquals(5d, of(1, 2, 3).distance(4, 6, 3));
+    assertEquals(4L * Integer.MAX_VALUE * Integer.MAX_VALUE, of(Integer.MAX_VALUE, 0, 0).distanceSquared(-Integer.MAX_VALUE, 0, 0));
+  }
+
+  @Test
+  void testAngle() {
+    assertEquals(Math.PI / 2d, of(1, 0, 0).angle(of(0, 3, 0)), 1e-15d);
+  }
+
+  @Test
+  void testCross() {
+    assertVectorEquals(-3, 6, -3, of(1, 2, 3).cross(of(4, 5, 6), MutVector3i.zero()));
+    assertArrayEquals(new int[]{-3, 6, -3}, of(1, 2, 3).cross(of(4, 5, 6), new int[3], 0));
+  }
+
+  @Test
+  void testLerpReflectProject() {
+    assertVectorEquals(2.5d, 4d, 5d, of(1, 2, 3).lerp(of(4, 6, 7), 0.5d, MutVector3d.zero()));
+    assertArrayEquals(new double[]{1d, 1d, 0d}, of(1, -1, 0).reflect(ImVector3d.of(0d, 1d, 0d), new double[3], 0));
+    assertVectorEquals(2d, 2d, 0d, of(3, 1, 7).project(of(1, 1, 0), MutVector3d.zero()));
+    assertArrayEquals(new double[]{2d, 2d, 0d}, of(3, 1, 7).project(of(1, 1, 0), new double[3], 0));
+  }
+
   @Test
   void testEquals() {
     assertEquals(zero(), zero());
@@ -205,4 +241,15 @@ class ImVector3iTest {
     assertEquals(zero().hashCode(), of(0, 0, 0).hashCode());
     assertNotEquals(zero().hashCode(), of(0, 0, 1).hashCode());
   }
+
+  @Test
+  void testAllocationFree() {
+    final Vector3i a = of(1, 2, 3);
+    final Vector3i b = of(-4, 5, 6);
+    final MutVector3i dst = MutVector3i.zero();
+    final MutVector3d doubles = MutVector3d.zero();
+    final long[] sink = new long[1];
+    assertAllocationFree(() -> sink[0] += a.dot(b) + a.distanceSquared(b) + a.lengthSquared());
+    assertAllocationFree(() -> sink[0] += a.cross(b, dst).x() + (long) a.lerp(b, 0.5d, doubles).y());
+  }
 }
@@ -0,0 +1,162 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import net.kyori.math.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static net.kyori.math.AllocationAssertions.assertAllocationFree;
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PackedVector3iTest {
+  private static final PackedVector3i PACKED = PackedVector3i.DEFAULT;
+
+  @Test
+  void testOf() {
+    assertEquals(26, PACKED.xBits());
+    assertEquals(12, PACKED.yBits());
+    assertEquals(26, PACKED.zBits());
+    assertThrows(IllegalArgumentException.class, () -> PackedVector3i.of(0, 12, 26));
+    assertThrows(IllegalArgumentException.class, () -> PackedVector3i.of(33, 1, 1));
+    assertThrows(IllegalArgumentException.class, () -> PackedVector3i.of(32, 32, 1));
+  }
+
+  @Test
+  void testPack() {
+    assertEquals(0L, PACKED.pack(0, 0, 0));
+    assertVectorEquals(1, 2, 3, PACKED.unpack(PACKED.pack(1, 2, 3)));
+    assertVectorEquals(-1, -2, -3, PACKED.unpack(PACKED.pack(ImVector3i.of(-1, -2, -3))));
+    assertVectorEquals(-33554432, -2048, 33554431, PACKED.unpack(PACKED.pack(-33554432, -2048, 33554431)));
+    final MutVector3i dst = MutVector3i.zero();
+    assertSame(dst, PACKED.unpack(PACKED.pack(4, 5, 6), dst));
+    assertVectorEquals(4, 5, 6, dst);
+  }
+
+  @Test
+  void testPack_random() {
+    final Random random = new Random(42L);
+    final PackedVector3i packed = PackedVector3i.of(21, 21, 21);
+    for(int i = 0; i < 10000; i++) {
+      final int x = random.nextInt(1 << 21) - (1 << 20);
+      final int y = random.nextInt(1 << 21) - (1 << 20);
+      final int z = random.nextInt(1 << 21) - (1 << 20);
+      final long value = packed.pack(x, y, z);
+      assertEquals(x, packed.x(value));
+      assertEquals(y, packed.y(value));
+      assertEquals(z, packed.z(value));
+    }
+  }
+
+  @Test
+  void testPack_wide() {
+    final PackedVector3i packed = PackedVector3i.of(32, 16, 16);
+    assertVectorEquals(Integer.MIN_VALUE, -32768, 32767, packed.unpack(packed.pack(Integer.MIN_VALUE, -32768, 32767)));
+  }
+
+  @Test
+  void testFits() {
+    assertTrue(PACKED.fits(33554431, 2047, -33554432));
+    assertFalse(PACKED.fits(33554432, 0, 0));
+    assertFalse(PACKED.fits(0, -2049, 0));
+    assertTrue(PackedVector3i.of(32, 16, 16).fits(Integer.MAX_VALUE, 0, 0));
+  }
+
+  @Test
+  void testAdd() {
+    final Random random = new Random(42L);
+    for(int i = 0; i < 10000; i++) {
+      final int x = random.nextInt(2000000) - 1000000;
+      final int y = random.nextInt(2000) - 1000;
+      final int z = random.nextInt(2000000) - 1000000;
+      final int dx = random.nextInt(2000) - 1000;
+      final int dy = random.nextInt(2000) - 1000;
+      final int dz = random.nextInt(2000) - 1000;
+      final long expected = PACKED.pack(x + dx, y + dy, z + dz);
+      assertEquals(expected, PACKED.add(PACKED.pack(x, y, z), dx, dy, dz));
+      assertEquals(expected, PACKED.add(PACKED.pack(x, y, z), PACKED.pack(dx, dy, dz)));
+    }
+  }
+
+  @Test
+  void testAdd_wraps() {
+    assertVectorEquals(-33554432, -2048, -33554432, PACKED.unpack(PACKED.add(PACKED.pack(33554431, 2047, 33554431), 1, 1, 1)));
+  }
+
+  @Test
+  void testOffset() {
+    final long packed = PACKED.pack(10, -20, 30);
+    assertVectorEquals(15, -20, 30, PACKED.unpack(PACKED.offsetX(packed, 5)));
+    assertVectorEquals(10, -25, 30, PACKED.unpack(PACKED.offsetY(packed, -5)));
+    assertVectorEquals(10, -20, 35, PACKED.unpack(PACKED.offsetZ(packed, 5)));
+    assertVectorEquals(10, -20, 27, PACKED.unpack(PACKED.offset(packed, Direction.NORTH, 3)));
+  }
+
+  @Test
+  void testNeighbor() {
+    final long packed = PACKED.pack(-1, 0, 1);
+    final long[] neighbors = PACKED.neighbors(packed, new long[6]);
+    for(final Direction direction : Direction.values()) {
+      final long expected = PACKED.pack(-1 + direction.x(), direction.y(), 1 + direction.z());
+      assertEquals(expected, PACKED.neighbor(packed, direction));
+      assertEquals(expected, neighbors[direction.ordinal()]);
+    }
+  }
+
+  @Test
+  void testFloorDiv() {
+    final Random random = new Random(42L);
+    for(int i = 0; i < 10000; i++) {
+      final int x = random.nextInt(2000000) - 1000000;
+      final int y = random.nextInt(4096) - 2048;
+      final int z = random.nextInt(2000000) - 1000000;
+      final int divisor = 1 + random.nextInt(40);
+      assertEquals(PACKED.pack(Math.floorDiv(x, divisor), Math.floorDiv(y, divisor), Math.floorDiv(z, divisor)), PACKED.floorDiv(PACKED.pack(x, y, z), divisor));
+    }
+    assertThrows(IllegalArgumentException.class, () -> PACKED.floorDiv(0L, 0));
+  }
+
+  @Test
+  void testFloorShift() {
+    final long packed = PACKED.pack(-17, 17, -1);
+    assertVectorEquals(-2, 1, -1, PACKED.unpack(PACKED.floorShift(packed, 4)));
+    assertVectorEquals(-1, 0, -1, PACKED.unpack(PACKED.floorShift(packed, 31)));
+    assertEquals(packed, PACKED.floorShift(packed, 0));
+  }
+
+  @Test
+  void testAllocationFree() {
+    final MutVector3i dst = MutVector3i.zero();
+    final long[] sink = new long[1];
+    assertAllocationFree(() -> sink[0] += PACKED.pack(10, -20, 30) + PACKED.x(sink[0]) + PACKED.z(sink[0]));
+    assertAllocationFree(() -> sink[0] = PACKED.neighbor(PACKED.add(sink[0], 1, 2, 3), Direction.UP));
+    assertAllocationFree(() -> PACKED.unpack(sink[0], dst));
+  }
+}
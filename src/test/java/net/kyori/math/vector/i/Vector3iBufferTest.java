@@ -0,0 +1,173 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+import static net.kyori.math.MathAssertions.assertVectorEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Vector3iBufferTest {
+  private static final int SIZE = 67;
+  private static final int FROM = 3;
+  private static final int TO = 61;
+  private Vector3i[] vectors;
+  private Vector3i[] others;
+  private Vector3iBuffer buffer;
+  private Vector3iBuffer other;
+
+  @BeforeEach
+  void setup() {
+    final Random random = new Random(42L);
+    this.vectors = new Vector3i[SIZE];
+    this.others = new Vector3i[SIZE];
+    this.buffer = Vector3iBuffer.create(SIZE);
+    this.other = Vector3iBuffer.create(SIZE);
+    for(int i = 0; i < SIZE; i++) {
+      this.vectors[i] = ImVector3i.of(random.nextInt(200) - 100, random.nextInt(200) - 100, random.nextInt(200) - 100);
+      this.others[i] = ImVector3i.of(random.nextInt(200) - 100, random.nextInt(200) - 100, random.nextInt(200) - 100);
+      this.buffer.set(i, this.vectors[i]);
+      this.other.set(i, this.others[i]);
+    }
+  }
+
+  private void assertBufferEquals(final UnaryOperator<Vector3i> expected) {
+    for(int i = 0; i < SIZE; i++) {
+      final Vector3i vector = i >= FROM && i < TO ? expected.apply(this.vectors[i]) : this.vectors[i];
+      assertVectorEquals(vector.x(), vector.y(), vector.z(), this.buffer.get(i));
+    }
+  }
+
+  private void assertBufferBinaryEquals(final BinaryOperator<Vector3i> expected) {
+    for(int i = 0; i < SIZE; i++) {
+      final Vector3i vector = i >= FROM && i < TO ? expected.apply(this.vectors[i], this.others[i]) : this.vectors[i];
+      assertVectorEquals(vector.x(), vector.y(), vector.z(), this.buffer.get(i));
+    }
+  }
+
+  @Test
+  void testCreate() {
+    final Vector3iBuffer buffer = Vector3iBuffer.create(4);
+    assertEquals(4, buffer.size());
+    assertVectorEquals(0, 0, 0, buffer.get(3));
+  }
+
+  @Test
+  void testWrap() {
+    final int[] x = {1, 2};
+    final Vector3iBuffer buffer = Vector3iBuffer.wrap(x, new int[]{3, 4}, new int[]{5, 6});
+    assertSame(x, buffer.xs());
+    assertVectorEquals(2, 4, 6, buffer.get(1));
+    assertThrows(IllegalArgumentException.class, () -> Vector3iBuffer.wrap(x, new int[1], new int[2]));
+  }
+
+  @Test
+  void testGetSet() {
+    this.buffer.set(0, 1, 2, 3);
+    assertEquals(1, this.buffer.x(0));
+    assertEquals(2, this.buffer.y(0));
+    assertEquals(3, this.buffer.z(0));
+    final MutVector3i dst = MutVector3i.zero();
+    assertSame(dst, this.buffer.get(0, dst));
+    assertVectorEquals(1, 2, 3, dst);
+  }
+
+  @Test
+  void testRange() {
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.add(-1, 2, 1, 1, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.add(2, 1, 1, 1, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.add(0, SIZE + 1, 1, 1, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.add(0, SIZE, Vector3iBuffer.create(SIZE - 1)));
+  }
+
+  @Test
+  void testRange_dst() {
+    assertThrows(IndexOutOfBoundsException.class, () -> this.buffer.lengthSquared(0, SIZE, new int[SIZE - 1]));
+  }
+
+  @Test
+  void testAdd() {
+    this.buffer.add(FROM, TO, 1, 2, 3);
+    this.assertBufferEquals(v0 -> v0.add(1, 2, 3));
+  }
+
+  @Test
+  void testAdd_buffer() {
+    this.buffer.add(FROM, TO, this.other);
+    this.assertBufferBinaryEquals(Vector3i::add);
+  }
+
+  @Test
+  void testSub() {
+    this.buffer.sub(FROM, TO, 1, 2, 3);
+    this.assertBufferEquals(v0 -> v0.sub(1, 2, 3));
+  }
+
+  @Test
+  void testSub_buffer() {
+    this.buffer.sub(FROM, TO, this.other);
+    this.assertBufferBinaryEquals(Vector3i::sub);
+  }
+
+  @Test
+  void testMul() {
+    this.buffer.mul(FROM, TO, 3, 2, -3);
+    this.assertBufferEquals(v0 -> v0.mul(3, 2, -3));
+    this.buffer.mul(FROM, TO, 2);
+    this.assertBufferEquals(v0 -> v0.mul(3, 2, -3).mul(2));
+  }
+
+  @Test
+  void testMul_buffer() {
+    this.buffer.mul(FROM, TO, this.other);
+    this.assertBufferBinaryEquals(Vector3i::mul);
+  }
+
+  @Test
+  void testLengthSquared() {
+    final int[] lengths = this.buffer.lengthSquared(FROM, TO, new int[SIZE]);
+    for(int i = 0; i < SIZE; i++) {
+      assertEquals(i >= FROM && i < TO ? this.vectors[i].lengthSquared() : 0, lengths[i]);
+    }
+  }
+
+  @Test
+  void testMinimum() {
+    this.buffer.minimum(FROM, TO, this.other);
+    this.assertBufferBinaryEquals(Vector3i::minimum);
+  }
+
+  @Test
+  void testMaximum() {
+    this.buffer.maximum(FROM, TO, this.other);
+    this.assertBufferBinaryEquals(Vector3i::maximum);
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Vector3iIntMapTest {
+  @Test
+  void testPutGet() {
+    final Vector3iIntMap map = new Vector3iIntMap(0, -1);
+    assertEquals(-1, map.defaultValue());
+    assertEquals(-1, map.put(1, 2, 3, 10));
+    assertEquals(10, map.put(ImVector3i.of(1, 2, 3), 20));
+    assertEquals(20, map.get(1, 2, 3));
+    assertEquals(-1, map.get(ImVector3i.of(3, 2, 1)));
+    assertTrue(map.containsKey(1, 2, 3));
+    assertFalse(map.containsKey(3, 2, 1));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  void testAddTo() {
+    final Vector3iIntMap map = new Vector3iIntMap();
+    assertEquals(5, map.addTo(1, 2, 3, 5));
+    assertEquals(8, map.addTo(1, 2, 3, 3));
+    assertEquals(8, map.get(1, 2, 3));
+  }
+
+  @Test
+  void testRemove() {
+    final Vector3iIntMap map = new Vector3iIntMap();
+    map.put(1, 2, 3, 7);
+    assertEquals(0, map.remove(3, 2, 1));
+    assertEquals(7, map.remove(ImVector3i.of(1, 2, 3)));
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  void testForEach() {
+    final Vector3iIntMap map = new Vector3iIntMap();
+    for(int i = 0; i < 100; i++) {
+      map.put(i, i, -i, i);
+    }
+    final int[] sum = new int[1];
+    map.forEach((x, y, z, value) -> {
+      assertEquals(x, value);
+      sum[0] += value;
+    });
+    assertEquals(4950, sum[0]);
+  }
+
+  @Test
+  void testRandom() {
+    final Random random = new Random(42L);
+    final Vector3iIntMap map = new Vector3iIntMap(4, 0);
+    final Map<Vector3i, Integer> expected = new HashMap<>();
+    for(int i = 0; i < 200000; i++) {
+      final int x = random.nextInt(32) - 16;
+      final int y = random.nextInt(16);
+      final int z = random.nextInt(32) - 16;
+      final Vector3i key = ImVector3i.of(x, y, z);
+      switch(random.nextInt(3)) {
+        case 0:
+          assertEquals((int) expected.getOrDefault(key, 0), map.put(x, y, z, i));
+          expected.put(key, i);
+          break;
+        case 1:
+          assertEquals((int) expected.getOrDefault(key, 0), map.remove(x, y, z));
+          expected.remove(key);
+          break;
+        default:
+          assertEquals((int) expected.getOrDefault(key, 0), map.get(x, y, z));
+          break;
+      }
+      assertEquals(expected.size(), map.size());
+    }
+  }
+}
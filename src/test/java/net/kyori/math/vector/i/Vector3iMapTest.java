@@ -0,0 +1,141 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Vector3iMapTest {
+  @Test
+  void testCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new Vector3iMap<>(-1));
+    assertThrows(IllegalStateException.class, () -> new Vector3iMap<>(1 << 29));
+    assertThrows(IllegalStateException.class, () -> new Vector3iMap<>(Integer.MAX_VALUE));
+  }
+
+  @Test
+  void testPutGet() {
+    final Vector3iMap<String> map = new Vector3iMap<>();
+    assertTrue(map.isEmpty());
+    assertNull(map.put(1, 2, 3, "a"));
+    assertEquals("a", map.put(ImVector3i.of(1, 2, 3), "b"));
+    assertNull(map.put(3, 2, 1, "c"));
+    assertEquals(2, map.size());
+    assertEquals("b", map.get(1, 2, 3));
+    assertEquals("c", map.get(ImVector3i.of(3, 2, 1)));
+    assertNull(map.get(0, 0, 0));
+    assertTrue(map.containsKey(1, 2, 3));
+    assertFalse(map.containsKey(ImVector3i.of(1, 2, 4)));
+  }
+
+  @Test
+  void testRemove() {
+    final Vector3iMap<String> map = new Vector3iMap<>();
+    map.put(1, 2, 3, "a");
+    assertNull(map.remove(3, 2, 1));
+    assertEquals("a", map.remove(ImVector3i.of(1, 2, 3)));
+    assertFalse(map.containsKey(1, 2, 3));
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  void testComputeIfAbsent() {
+    final Vector3iMap<Object> map = new Vector3iMap<>();
+    final Object value = map.computeIfAbsent(1, 2, 3, Object::new);
+    assertSame(value, map.computeIfAbsent(1, 2, 3, Object::new));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  void testComputeIfAbsent_throwing() {
+    final Vector3iMap<Object> map = new Vector3iMap<>();
+    assertThrows(IllegalStateException.class, () -> map.computeIfAbsent(1, 2, 3, () -> {
+      throw new IllegalStateException();
+    }));
+    assertFalse(map.containsKey(1, 2, 3));
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  void testClear() {
+    final Vector3iMap<String> map = new Vector3iMap<>();
+    map.put(1, 2, 3, "a");
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertNull(map.get(1, 2, 3));
+  }
+
+  @Test
+  void testForEach() {
+    final Vector3iMap<Integer> map = new Vector3iMap<>();
+    for(int i = 0; i < 100; i++) {
+      map.put(i, -i, i * 2, i);
+    }
+    final int[] sum = new int[1];
+    map.forEach((x, y, z, value) -> {
+      assertEquals(x, (int) value);
+      assertEquals(-x, y);
+      assertEquals(x * 2, z);
+      sum[0] += value;
+    });
+    assertEquals(4950, sum[0]);
+  }
+
+  @Test
+  void testRandom() {
+    final Random random = new Random(42L);
+    final Vector3iMap<Integer> map = new Vector3iMap<>();
+    final Map<Vector3i, Integer> expected = new HashMap<>();
+    for(int i = 0; i < 200000; i++) {
+      // a small key space, so that there are many collisions, overwrites and removals
+      final int x = random.nextInt(32) - 16;
+      final int y = random.nextInt(16);
+      final int z = random.nextInt(32) - 16;
+      final Vector3i key = ImVector3i.of(x, y, z);
+      switch(random.nextInt(3)) {
+        case 0:
+          assertEquals(expected.put(key, i), map.put(x, y, z, i));
+          break;
+        case 1:
+          assertEquals(expected.remove(key), map.remove(x, y, z));
+          break;
+        default:
+          assertEquals(expected.get(key), map.get(x, y, z));
+          break;
+      }
+      assertEquals(expected.size(), map.size());
+    }
+    expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+  }
+}
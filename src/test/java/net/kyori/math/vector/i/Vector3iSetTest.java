@@ -0,0 +1,102 @@
+/*
+ * This file is part of math, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.math.vector.i;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Vector3iSetTest {
+  @Test
+  void testAdd() {
+    final Vector3iSet set = new Vector3iSet();
+    assertTrue(set.add(1, 2, 3));
+    assertFalse(set.add(ImVector3i.of(1, 2, 3)));
+    assertTrue(set.contains(1, 2, 3));
+    assertFalse(set.contains(ImVector3i.of(1, 2, 4)));
+    assertEquals(1, set.size());
+  }
+
+  @Test
+  void testRemove() {
+    final Vector3iSet set = new Vector3iSet();
+    set.add(1, 2, 3);
+    assertFalse(set.remove(3, 2, 1));
+    assertTrue(set.remove(ImVector3i.of(1, 2, 3)));
+    assertTrue(set.isEmpty());
+  }
+
+  @Test
+  void testExtremes() {
+    final Vector3iSet set = new Vector3iSet();
+    set.add(Integer.MIN_VALUE, Integer.MAX_VALUE, 0);
+    set.add(Integer.MAX_VALUE, Integer.MIN_VALUE, 0);
+    assertTrue(set.contains(Integer.MIN_VALUE, Integer.MAX_VALUE, 0));
+    assertFalse(set.contains(Integer.MIN_VALUE, Integer.MIN_VALUE, 0));
+  }
+
+  @Test
+  void testForEach() {
+    final Vector3iSet set = new Vector3iSet();
+    final Set<Vector3i> expected = new HashSet<>();
+    for(int i = 0; i < 1000; i++) {
+      set.add(i, i % 7, -i);
+      expected.add(ImVector3i.of(i, i % 7, -i));
+    }
+    final Set<Vector3i> actual = new HashSet<>();
+    set.forEach((x, y, z) -> actual.add(ImVector3i.of(x, y, z)));
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void testRandom() {
+    final Random random = new Random(42L);
+    final Vector3iSet set = new Vector3iSet();
+    final Set<Vector3i> expected = new HashSet<>();
+    for(int i = 0; i < 200000; i++) {
+      final int x = random.nextInt(32) - 16;
+      final int y = random.nextInt(16);
+      final int z = random.nextInt(32) - 16;
+      final Vector3i key = ImVector3i.of(x, y, z);
+      switch(random.nextInt(3)) {
+        case 0:
+          assertEquals(expected.add(key), set.add(x, y, z));
+          break;
+        case 1:
+          assertEquals(expected.remove(key), set.remove(x, y, z));
+          break;
+        default:
+          assertEquals(expected.contains(key), set.contains(x, y, z));
+          break;
+      }
+      assertEquals(expected.size(), set.size());
+    }
+  }
+}